@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ * Batch requests of 10, 100 and 1000 calls, processed sequentially or with
+ * the parallel batch {@link ExecutorService}, buffered or streamed.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int batchSize;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    @Param({ "false", "true" })
+    public boolean streaming;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+
+    private JsonRpcMultiServer server;
+
+    private ExecutorService executorService;
+
+    private byte[] batch;
+
+    @Setup
+    public void setUp() {
+        this.server = Requests.server();
+        if (this.parallel) {
+            this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            this.server.setBatchExecutorService(this.executorService);
+        }
+        this.server.setStreamingBatchEnabled(this.streaming);
+        this.batch = Requests.batch(this.batchSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public int batch() throws IOException {
+        return Requests.handle(this.server, this.batch, this.output);
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.benchmark;
+
+import java.util.List;
+
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ * Service invoked by the benchmarks. The methods do as little work as
+ * possible so the dispatch path dominates.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public interface BenchmarkService {
+
+    int add(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+    List<String> echo(@JsonRpcParam("values") List<String> values);
+
+    class Impl implements BenchmarkService {
+
+        @Override
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public List<String> echo(List<String> values) {
+            return values;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.googlecode.jsonrpc4j.InvocationListener;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.googlecode.jsonrpc4j.RequestInterceptor;
+import com.youkol.support.jsonrpc4j.server.DelegatingInvocationListener;
+import com.youkol.support.jsonrpc4j.server.DelegatingRequestInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ * Single calls through {@link JsonRpcMultiServer#handleRequest}, with
+ * positional and named params, and with chains of no-op request interceptors,
+ * JSON interceptors and invocation listeners.
+ * <p>
+ * The <code>jsonrpc4j</code> implementation serves the same calls from
+ * jsonrpc4j's own multi-server, which resolves the service name, handler and
+ * interfaces of every call itself. Both select the overload and invoke it
+ * through jsonrpc4j, so the difference is what the precomputed dispatch table
+ * saves per call.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    /**
+     * Number of request interceptors, JSON interceptors and invocation
+     * listeners each.
+     */
+    @Param({ "0", "4" })
+    public int chainLength;
+
+    /**
+     * <code>youkol</code> for {@link JsonRpcMultiServer}, <code>jsonrpc4j</code>
+     * for {@link com.googlecode.jsonrpc4j.JsonRpcMultiServer}.
+     */
+    @Param({ "youkol", "jsonrpc4j" })
+    public String implementation;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+
+    private JsonRpcBasicServer server;
+
+    private byte[] positional;
+
+    private byte[] named;
+
+    @Setup
+    public void setUp() {
+        this.server = "jsonrpc4j".equals(this.implementation) ? Requests.jsonrpc4jServer() : Requests.server();
+        if (this.chainLength > 0) {
+            List<RequestInterceptor> requestInterceptors = new ArrayList<>();
+            List<JsonRpcInterceptor> interceptors = new ArrayList<>();
+            List<InvocationListener> listeners = new ArrayList<>();
+            for (int i = 0; i < this.chainLength; i++) {
+                requestInterceptors.add(request -> {
+                });
+                interceptors.add(new NoOpInterceptor());
+                listeners.add(new NoOpListener());
+            }
+            this.server.setRequestInterceptor(new DelegatingRequestInterceptor(requestInterceptors));
+            this.server.setInterceptorList(interceptors);
+            this.server.setInvocationListener(new DelegatingInvocationListener(listeners));
+        }
+        this.positional = Requests.positional(1);
+        this.named = Requests.named(1);
+    }
+
+    @Benchmark
+    public int positionalParams() throws IOException {
+        return Requests.handle(this.server, this.positional, this.output);
+    }
+
+    @Benchmark
+    public int namedParams() throws IOException {
+        return Requests.handle(this.server, this.named, this.output);
+    }
+
+    static class NoOpInterceptor implements JsonRpcInterceptor {
+
+        @Override
+        public void preHandleJson(JsonNode json) {
+        }
+
+        @Override
+        public void preHandle(Object target, Method method, List<JsonNode> params) {
+        }
+
+        @Override
+        public void postHandle(Object target, Method method, List<JsonNode> params, JsonNode result) {
+        }
+
+        @Override
+        public void postHandleJson(JsonNode json) {
+        }
+    }
+
+    static class NoOpListener implements InvocationListener {
+
+        @Override
+        public void willInvoke(Method method, List<JsonNode> arguments) {
+        }
+
+        @Override
+        public void didInvoke(Method method, List<JsonNode> arguments, Object result, Throwable t, long duration) {
+        }
+    }
+
+}
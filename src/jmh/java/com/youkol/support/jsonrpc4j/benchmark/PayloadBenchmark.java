@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ * Calls echoing large params, so parsing, parameter conversion and
+ * serialization of the result dominate.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBenchmark {
+
+    @Param({ "1024", "65536", "1048576" })
+    public int payloadSize;
+
+    private ByteArrayOutputStream output;
+
+    private JsonRpcMultiServer server;
+
+    private byte[] request;
+
+    @Setup
+    public void setUp() {
+        this.server = Requests.server();
+        this.request = Requests.echo(this.payloadSize);
+        this.output = new ByteArrayOutputStream(this.request.length + 256);
+    }
+
+    @Benchmark
+    public int echo() throws IOException {
+        return Requests.handle(this.server, this.request, this.output);
+    }
+
+}
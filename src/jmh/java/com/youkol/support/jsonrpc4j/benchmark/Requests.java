@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ * Builds the request payloads of the benchmarks.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class Requests {
+
+    static final String SERVICE = "Bench";
+
+    private Requests() {
+    }
+
+    static byte[] positional(int id) {
+        return bytes("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + SERVICE + ".add\",\"params\":[1,2]}");
+    }
+
+    static byte[] named(int id) {
+        return bytes("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + SERVICE
+                + ".add\",\"params\":{\"a\":1,\"b\":2}}");
+    }
+
+    static byte[] batch(int size) {
+        StringBuilder batch = new StringBuilder(size * 64).append('[');
+        for (int i = 0; i < size; i++) {
+            batch.append(i == 0 ? "" : ",").append(new String(positional(i), StandardCharsets.UTF_8));
+        }
+        return bytes(batch.append(']').toString());
+    }
+
+    /**
+     * An echo call whose params, and therefore result, are about the given
+     * number of bytes.
+     */
+    static byte[] echo(int payloadSize) {
+        StringBuilder values = new StringBuilder(payloadSize + 64);
+        String value = "\"abcdefghijklmnopqrstuvwxyz012345\"";
+        while (values.length() < payloadSize) {
+            values.append(values.length() == 0 ? "" : ",").append(value);
+        }
+        return bytes("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"" + SERVICE + ".echo\",\"params\":[[" + values
+                + "]]}");
+    }
+
+    static JsonRpcMultiServer server() {
+        JsonRpcMultiServer server = new JsonRpcMultiServer();
+        server.addService(SERVICE, new BenchmarkService.Impl(), BenchmarkService.class);
+        server.setShouldLogInvocationErrors(false);
+        return server;
+    }
+
+    /**
+     * The same service on jsonrpc4j's own multi-server, the baseline of the
+     * precomputed dispatch table.
+     */
+    static com.googlecode.jsonrpc4j.JsonRpcMultiServer jsonrpc4jServer() {
+        com.googlecode.jsonrpc4j.JsonRpcMultiServer server = new com.googlecode.jsonrpc4j.JsonRpcMultiServer();
+        server.addService(SERVICE, new BenchmarkService.Impl(), BenchmarkService.class);
+        server.setShouldLogInvocationErrors(false);
+        return server;
+    }
+
+    static int handle(JsonRpcBasicServer server, byte[] request, ByteArrayOutputStream output) throws IOException {
+        output.reset();
+        server.handleRequest(new ByteArrayInputStream(request), output);
+        return output.size();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
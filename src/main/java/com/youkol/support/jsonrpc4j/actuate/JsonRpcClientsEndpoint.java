@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.actuate;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import com.youkol.support.jsonrpc4j.client.JsonRpcCircuitBreaker;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientResilience;
+import com.youkol.support.jsonrpc4j.client.JsonRpcServiceGuard;
+
+/**
+ * Exposes the circuit breaker and bulkhead state of the remote JSON-RPC
+ * services as <code>jsonrpcclients</code> endpoint.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Endpoint(id = "jsonrpcclients")
+public class JsonRpcClientsEndpoint {
+
+    private final JsonRpcClientResilience resilience;
+
+    public JsonRpcClientsEndpoint(JsonRpcClientResilience resilience) {
+        this.resilience = resilience;
+    }
+
+    @ReadOperation
+    public Map<String, ServiceDescriptor> services() {
+        Map<String, ServiceDescriptor> services = new TreeMap<>();
+        for (JsonRpcServiceGuard guard : this.resilience.getGuards()) {
+            services.put(guard.getServiceName(), new ServiceDescriptor(guard));
+        }
+        return services;
+    }
+
+    /**
+     * The state of one service; service names being paths, the leading slash
+     * may be left out. Unknown services are <code>null</code>, answered with
+     * status 404.
+     */
+    @ReadOperation
+    public ServiceDescriptor service(@Selector(match = Selector.Match.ALL_REMAINING) String[] path) {
+        String name = String.join("/", path);
+        return this.resilience.getGuards().stream()
+                .filter(guard -> guard.getServiceName().equals(name)
+                        || guard.getServiceName().equals("/" + name))
+                .findFirst()
+                .map(ServiceDescriptor::new)
+                .orElse(null);
+    }
+
+    /**
+     * State of the guard of a remote service.
+     */
+    public static final class ServiceDescriptor {
+
+        private final JsonRpcCircuitBreaker.State state;
+
+        private final float failureRate;
+
+        private final int bufferedCalls;
+
+        private final int maxConcurrentCalls;
+
+        private final int availableConcurrentCalls;
+
+        ServiceDescriptor(JsonRpcServiceGuard guard) {
+            this.state = guard.getCircuitBreaker().getState();
+            this.failureRate = guard.getCircuitBreaker().getFailureRate();
+            this.bufferedCalls = guard.getCircuitBreaker().getBufferedCalls();
+            this.maxConcurrentCalls = guard.getBulkhead().getMaxConcurrentCalls();
+            this.availableConcurrentCalls = guard.getBulkhead().getAvailableConcurrentCalls();
+        }
+
+        public JsonRpcCircuitBreaker.State getState() {
+            return this.state;
+        }
+
+        public float getFailureRate() {
+            return this.failureRate;
+        }
+
+        public int getBufferedCalls() {
+            return this.bufferedCalls;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return this.maxConcurrentCalls;
+        }
+
+        public int getAvailableConcurrentCalls() {
+            return this.availableConcurrentCalls;
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,21 +18,33 @@ package com.youkol.support.jsonrpc4j.autoconfigure;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.googlecode.jsonrpc4j.ConvertedParameterTransformer;
@@ -43,6 +55,30 @@ import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
 import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
 import com.googlecode.jsonrpc4j.spring.AutoJsonRpcClientProxyCreator;
 import com.googlecode.jsonrpc4j.spring.AutoJsonRpcServiceImplExporter;
+import com.youkol.support.jsonrpc4j.actuate.JsonRpcClientsEndpoint;
+import com.youkol.support.jsonrpc4j.client.BatchingClientTransport;
+import com.youkol.support.jsonrpc4j.client.HttpClient5AsyncClientTransport;
+import com.youkol.support.jsonrpc4j.client.HttpClient5ClientTransport;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientProxyCreator;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientResilience;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientTransport;
+import com.youkol.support.jsonrpc4j.client.JsonRpcConnectionSettings;
+import com.youkol.support.jsonrpc4j.client.JsonRpcEndpointSelector;
+import com.youkol.support.jsonrpc4j.client.JsonRpcHedgingInvoker;
+import com.youkol.support.jsonrpc4j.client.JsonRpcResilienceSettings;
+import com.youkol.support.jsonrpc4j.client.JsonRpcRetryBudget;
+import com.youkol.support.jsonrpc4j.client.LeastOutstandingEndpointSelector;
+import com.youkol.support.jsonrpc4j.client.LoadBalancingClientTransport;
+import com.youkol.support.jsonrpc4j.client.PowerOfTwoChoicesEndpointSelector;
+import com.youkol.support.jsonrpc4j.client.RoundRobinEndpointSelector;
+import com.youkol.support.jsonrpc4j.client.UrlConnectionClientTransport;
+import com.youkol.support.jsonrpc4j.metrics.JsonRpcClientMetrics;
+import com.youkol.support.jsonrpc4j.server.DelegatingInvocationListener;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcServiceImplExporter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  *
@@ -59,8 +95,24 @@ public class JsonRpcAnnotationConfiguration {
     @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.enabled", matchIfMissing = true)
     static class JsonRpcAnnotationServerConfiguration {
 
+        /**
+         * Exports the annotated services as endpoints of the shared
+         * {@link JsonRpcMultiServer}, when opted in since it requires the
+         * <code>JsonRpcServer</code> bean to be a <code>JsonRpcMultiServer</code>
+         * and does not apply {@link AutoJsonRpcServiceImplExporterCustomizer}s.
+         */
+        @Bean
+        @ConditionalOnMissingBean(AutoJsonRpcServiceImplExporter.class)
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.shared-dispatch-enabled",
+                havingValue = "true")
+        public static JsonRpcServiceImplExporter jsonRpcServiceImplExporter() {
+            return new JsonRpcServiceImplExporter();
+        }
+
         @Bean
         @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.shared-dispatch-enabled",
+                havingValue = "false", matchIfMissing = true)
         public AutoJsonRpcServiceImplExporter autoJsonRpcServiceImplExporter(
                 ApplicationContext applicationContext,
                 ObjectProvider<ObjectMapper> objectMapper,
@@ -104,7 +156,13 @@ public class JsonRpcAnnotationConfiguration {
 
             serviceExporter.setObjectMapper(objectMapper.getIfAvailable(ObjectMapper::new));
             errorResolver.ifAvailable(serviceExporter::setErrorResolver);
-            invocationListener.ifAvailable(serviceExporter::setInvocationListener);
+            List<InvocationListener> invocationListeners = invocationListener.orderedStream()
+                    .collect(Collectors.toList());
+            if (invocationListeners.size() == 1) {
+                serviceExporter.setInvocationListener(invocationListeners.get(0));
+            } else if (invocationListeners.size() > 1) {
+                serviceExporter.setInvocationListener(new DelegatingInvocationListener(invocationListeners));
+            }
             convertedParameterTransformer.ifAvailable(serviceExporter::setConvertedParameterTransformer);
             httpStatusCodeProvider.ifAvailable(serviceExporter::setHttpStatusCodeProvider);
             batchExecutorService.ifAvailable(serviceExporter::setBatchExecutorService);
@@ -135,31 +193,63 @@ public class JsonRpcAnnotationConfiguration {
     static class JsonRpcAnnotationClientConfiguration {
 
         @Bean
-        @ConditionalOnMissingBean
-        public AutoJsonRpcClientProxyCreator autoJsonRpcClientProxyCreator(
+        @ConditionalOnMissingBean(AutoJsonRpcClientProxyCreator.class)
+        public static JsonRpcClientProxyCreator autoJsonRpcClientProxyCreator(
                 ApplicationContext applicationContext,
-                ObjectProvider<ObjectMapper> objectMapper) {
-            AutoJsonRpcClientProxyCreator autoJsonRpcClientProxyCreator = new AutoJsonRpcClientProxyCreator();
+                ObjectProvider<ObjectMapper> objectMapper,
+                ObjectProvider<JsonRpcCodec> codecs) {
+            JsonRpcClientProxyCreator autoJsonRpcClientProxyCreator = new JsonRpcClientProxyCreator();
 
             Environment environment = applicationContext.getEnvironment();
 
             String scanPackage = environment.getProperty(JsonRpcProperties.JSONRPC_PREFIX + ".client.scan-package");
             String baseUrl = environment.getProperty(JsonRpcProperties.JSONRPC_PREFIX + ".client.base-url");
+            if (!StringUtils.hasText(baseUrl)) {
+                // proxies address the first server, the load balancing transport spreads the requests
+                baseUrl = bindBaseUrls(environment).stream().findFirst().orElse(null);
+            }
             String contentType = environment.getProperty(JsonRpcProperties.JSONRPC_PREFIX + ".client.content-type");
+            String codecName = environment.getProperty(JsonRpcProperties.JSONRPC_PREFIX + ".client.codec");
 
             Assert.hasText(scanPackage, "JsonRpcClient scanPackage must not be null.");
             Assert.hasText(baseUrl, "JsonRpcClient baseUrl must not be null.");
 
             autoJsonRpcClientProxyCreator.setScanPackage(scanPackage);
-            autoJsonRpcClientProxyCreator.setBaseUrl(this.resolveBaseUrl(baseUrl));
-            autoJsonRpcClientProxyCreator.setContentType(contentType);
+            autoJsonRpcClientProxyCreator.setBaseUrl(resolveBaseUrl(baseUrl));
 
-            autoJsonRpcClientProxyCreator.setObjectMapper(objectMapper.getIfAvailable(ObjectMapper::new));
+            JsonRpcCodec codec = resolveCodec(codecName, codecs);
+            if (codec != null) {
+                autoJsonRpcClientProxyCreator.setContentType(StringUtils.hasText(contentType) ? contentType
+                        : codec.getContentType().toString());
+                autoJsonRpcClientProxyCreator.setObjectMapper(codec.getObjectMapper());
+            } else {
+                autoJsonRpcClientProxyCreator.setContentType(contentType);
+                autoJsonRpcClientProxyCreator.setObjectMapper(objectMapper.getIfAvailable(ObjectMapper::new));
+            }
 
             return autoJsonRpcClientProxyCreator;
         }
 
-        private URL resolveBaseUrl(String baseUrl) {
+        /**
+         * The codec named by <code>client.codec</code>, <code>null</code> for JSON.
+         */
+        private static JsonRpcCodec resolveCodec(String codecName, ObjectProvider<JsonRpcCodec> codecs) {
+            if (!StringUtils.hasText(codecName) || "json".equalsIgnoreCase(codecName)) {
+                return null;
+            }
+            return codecs.orderedStream()
+                    .filter(codec -> codec.getName().equalsIgnoreCase(codecName))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown JSON-RPC client codec: " + codecName));
+        }
+
+        private static List<String> bindBaseUrls(Environment environment) {
+            return Binder.get(environment)
+                    .bind(JsonRpcProperties.JSONRPC_PREFIX + ".client.base-urls", Bindable.listOf(String.class))
+                    .orElse(Collections.emptyList());
+        }
+
+        private static URL resolveBaseUrl(String baseUrl) {
             try {
                 return new URL(baseUrl);
             } catch (MalformedURLException ex) {
@@ -167,6 +257,163 @@ public class JsonRpcAnnotationConfiguration {
             }
         }
 
+        static JsonRpcConnectionSettings connectionSettings(JsonRpcProperties jsonRpcProperties) {
+            JsonRpcProperties.Client client = jsonRpcProperties.getClient();
+            JsonRpcConnectionSettings settings = new JsonRpcConnectionSettings();
+            settings.setMaxConnectionsPerRoute(client.getMaxConnectionsPerRoute());
+            settings.setMaxConnections(client.getMaxConnections());
+            settings.setConnectTimeout(client.getConnectTimeout());
+            settings.setReadTimeout(client.getReadTimeout());
+            settings.setIdleTimeout(client.getIdleTimeout());
+            settings.setIoThreads(client.getAsync().getIoThreads());
+            return settings;
+        }
+
+        /**
+         * Adds load balancing over <code>client.base-urls</code> and batching to the
+         * transport, batches being sent to one server.
+         */
+        static JsonRpcClientTransport decorate(JsonRpcProperties jsonRpcProperties,
+                JsonRpcClientTransport transport) {
+            JsonRpcProperties.Client client = jsonRpcProperties.getClient();
+            if (!StringUtils.hasText(client.getBaseUrl()) && client.getBaseUrls().size() > 1) {
+                transport = loadBalancing(client, transport);
+            }
+            JsonRpcProperties.Batching batching = client.getBatching();
+            if (batching.getEnabled()) {
+                transport = new BatchingClientTransport(transport, batching.getWindow(), batching.getMaxSize());
+            }
+            return transport;
+        }
+
+        private static LoadBalancingClientTransport loadBalancing(JsonRpcProperties.Client client,
+                JsonRpcClientTransport transport) {
+            JsonRpcProperties.LoadBalancer properties = client.getLoadBalancer();
+            List<URL> baseUrls = client.getBaseUrls().stream()
+                    .map(JsonRpcAnnotationClientConfiguration::resolveBaseUrl)
+                    .collect(Collectors.toList());
+            LoadBalancingClientTransport loadBalancing = new LoadBalancingClientTransport(transport, baseUrls,
+                    createSelector(properties.getStrategy()));
+            loadBalancing.setFailureThreshold(properties.getFailureThreshold());
+            loadBalancing.setEjectionTime(properties.getEjectionTime());
+            if (!properties.getHealthCheckInterval().isZero()) {
+                loadBalancing.startHealthChecks(properties.getHealthCheckInterval(),
+                        properties.getHealthCheckPath());
+            }
+            return loadBalancing;
+        }
+
+        private static JsonRpcEndpointSelector createSelector(JsonRpcProperties.LoadBalancer.Strategy strategy) {
+            switch (strategy) {
+                case LEAST_OUTSTANDING:
+                    return new LeastOutstandingEndpointSelector();
+                case POWER_OF_TWO_CHOICES:
+                    return new PowerOfTwoChoicesEndpointSelector();
+                default:
+                    return new RoundRobinEndpointSelector();
+            }
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "client.hedging.enabled")
+        public JsonRpcHedgingInvoker jsonRpcHedgingInvoker(JsonRpcProperties jsonRpcProperties) {
+            JsonRpcProperties.Hedging hedging = jsonRpcProperties.getClient().getHedging();
+            JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(hedging.getDelay(),
+                    hedging.getMaxAttempts(),
+                    new JsonRpcRetryBudget(hedging.getRetryRatio(), hedging.getMinRetriesPerSecond()));
+            hedgingInvoker.setDelayPercentile(hedging.getDelayPercentile());
+            return hedgingInvoker;
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "client.resilience.enabled")
+        static class ResilienceConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonRpcClientResilience jsonRpcClientResilience(JsonRpcProperties jsonRpcProperties) {
+                JsonRpcProperties.Resilience resilience = jsonRpcProperties.getClient().getResilience();
+                Map<String, JsonRpcResilienceSettings> services = new LinkedHashMap<>();
+                resilience.getServices().forEach((name, guard) -> services.put(name,
+                        resilienceSettings(resilience.getDefaults(), guard)));
+                return new JsonRpcClientResilience(resilienceSettings(resilience.getDefaults()), services);
+            }
+
+            private static JsonRpcResilienceSettings resilienceSettings(JsonRpcProperties.Guard... guards) {
+                JsonRpcResilienceSettings settings = new JsonRpcResilienceSettings();
+                PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+                for (JsonRpcProperties.Guard guard : guards) {
+                    map.from(guard::getFailureRateThreshold).to(settings::setFailureRateThreshold);
+                    map.from(guard::getSlidingWindowSize).to(settings::setSlidingWindowSize);
+                    map.from(guard::getMinimumNumberOfCalls).to(settings::setMinimumNumberOfCalls);
+                    map.from(guard::getWaitDurationInOpenState).to(settings::setWaitDurationInOpenState);
+                    map.from(guard::getPermittedCallsInHalfOpenState).to(settings::setPermittedCallsInHalfOpenState);
+                    map.from(guard::getMaxConcurrentCalls).to(settings::setMaxConcurrentCalls);
+                    map.from(guard::getMaxWaitDuration).to(settings::setMaxWaitDuration);
+                }
+                return settings;
+            }
+
+            @Configuration(proxyBeanMethods = false)
+            @ConditionalOnClass(MeterRegistry.class)
+            @ConditionalOnBean(MeterRegistry.class)
+            static class ResilienceMetricsConfiguration {
+
+                @Bean
+                @ConditionalOnMissingBean
+                public JsonRpcClientMetrics jsonRpcClientMetrics(MeterRegistry meterRegistry,
+                        JsonRpcClientResilience resilience) {
+                    JsonRpcClientMetrics metrics = new JsonRpcClientMetrics(meterRegistry);
+                    resilience.addListener(metrics);
+                    return metrics;
+                }
+
+            }
+
+            @Configuration(proxyBeanMethods = false)
+            @ConditionalOnClass(Endpoint.class)
+            static class ResilienceEndpointConfiguration {
+
+                @Bean
+                @ConditionalOnMissingBean
+                @ConditionalOnAvailableEndpoint
+                public JsonRpcClientsEndpoint jsonRpcClientsEndpoint(JsonRpcClientResilience resilience) {
+                    return new JsonRpcClientsEndpoint(resilience);
+                }
+
+            }
+
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(CloseableHttpClient.class)
+        static class HttpClient5TransportConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonRpcClientTransport jsonRpcClientTransport(JsonRpcProperties jsonRpcProperties) {
+                JsonRpcConnectionSettings settings = connectionSettings(jsonRpcProperties);
+                return decorate(jsonRpcProperties, jsonRpcProperties.getClient().getAsync().getEnabled()
+                        ? new HttpClient5AsyncClientTransport(settings)
+                        : new HttpClient5ClientTransport(settings));
+            }
+
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnMissingClass("org.apache.hc.client5.http.impl.classic.CloseableHttpClient")
+        static class UrlConnectionTransportConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonRpcClientTransport jsonRpcClientTransport(JsonRpcProperties jsonRpcProperties) {
+                return decorate(jsonRpcProperties,
+                        new UrlConnectionClientTransport(connectionSettings(jsonRpcProperties)));
+            }
+
+        }
+
     }
 
 }
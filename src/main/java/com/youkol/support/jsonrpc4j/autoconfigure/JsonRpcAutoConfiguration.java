@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,25 +15,33 @@
  */
 package com.youkol.support.jsonrpc4j.autoconfigure;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -45,11 +53,28 @@ import com.googlecode.jsonrpc4j.InvocationListener;
 import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
 import com.googlecode.jsonrpc4j.JsonRpcServer;
 import com.googlecode.jsonrpc4j.RequestInterceptor;
+import com.youkol.support.jsonrpc4j.metrics.JsonRpcBatchExecutorMetrics;
+import com.youkol.support.jsonrpc4j.server.DelegatingInvocationListener;
 import com.youkol.support.jsonrpc4j.server.DelegatingRequestInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBatchExecutor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBufferPool;
+import com.youkol.support.jsonrpc4j.server.JsonRpcClientIdentityResolver;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+import com.youkol.support.jsonrpc4j.server.JsonRpcConcurrencyLimiter;
+import com.youkol.support.jsonrpc4j.server.JsonRpcExchangeListener;
 import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
 import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimit;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimitInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimiter;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceDefinition;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceIndex;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceRegistry;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceRegistryListener;
 import com.youkol.support.jsonrpc4j.service.JsonRpcBaseService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Auto-configuration for the {@link JsonRpcServer}
  *
@@ -60,7 +85,14 @@ import com.youkol.support.jsonrpc4j.service.JsonRpcBaseService;
 @ConditionalOnClass({ JsonRpcServer.class, JsonRpcMultiServer.class, ObjectMapper.class })
 @EnableConfigurationProperties(JsonRpcProperties.class)
 @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "enabled", matchIfMissing = true)
-@Import({ WelcomeConfiguration.class, JsonRpcServerServletConfiguration.class, JsonRpcAnnotationConfiguration.class })
+// after the task executor, which backs off from the executor beans defined here
+@AutoConfigureAfter(name = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration" })
+@Import({ JsonRpcMetricsConfiguration.class, JsonRpcCodecConfiguration.class, WelcomeConfiguration.class,
+        JsonRpcCompressionConfiguration.class,
+        JsonRpcServerServletConfiguration.class, JsonRpcServerReactiveConfiguration.class,
+        JsonRpcAnnotationConfiguration.class })
 public class JsonRpcAutoConfiguration {
 
     @Configuration(proxyBeanMethods = false)
@@ -75,11 +107,19 @@ public class JsonRpcAutoConfiguration {
             return new DelegatingRequestInterceptor(interceptors);
         }
 
+        @Bean
+        @ConditionalOnMissingBean
+        public JsonRpcServiceRegistry jsonRpcServiceRegistry() {
+            return new JsonRpcServiceRegistry();
+        }
+
         @Bean
         @ConditionalOnMissingBean
         public JsonRpcServer jsonRpcServer(JsonRpcProperties jsonRpcProperties,
+                JsonRpcServiceRegistry registry,
                 ObjectProvider<ObjectMapper> objectMapper,
-                List<? extends JsonRpcBaseService> jsonRpcBaseService,
+                ObjectProvider<JsonRpcBaseService> jsonRpcBaseService,
+                ListableBeanFactory beanFactory,
                 ObjectProvider<DelegatingRequestInterceptor> requestInterceptor,
                 ObjectProvider<ErrorResolver> errorResolver,
                 ObjectProvider<JsonRpcInterceptor> jsonRpcInterceptor,
@@ -87,8 +127,12 @@ public class JsonRpcAutoConfiguration {
                 ObjectProvider<ConvertedParameterTransformer> convertedParameterTransformer,
                 ObjectProvider<HttpStatusCodeProvider> httpStatusCodeProvider,
                 ObjectProvider<ExecutorService> batchExecutorService,
+                ObjectProvider<JsonRpcServiceRegistryListener> registryListener,
+                ObjectProvider<JsonRpcExchangeListener> exchangeListener,
+                ObjectProvider<JsonRpcCodec> codec,
                 List<JsonRpcServerCustomizer> jsonRpcServerCustomizers) {
-            JsonRpcMultiServer jsonRpcServer = new JsonRpcMultiServer(objectMapper.getIfAvailable(ObjectMapper::new));
+            JsonRpcMultiServer jsonRpcServer = new JsonRpcMultiServer(
+                    objectMapper.getIfAvailable(ObjectMapper::new), registry);
 
             jsonRpcServer.setBackwardsCompatible(jsonRpcProperties.getServer().getBackwardsCompatible());
             jsonRpcServer.setAllowLessParams(jsonRpcProperties.getServer().getAllowLessParams());
@@ -105,47 +149,138 @@ public class JsonRpcAutoConfiguration {
                 jsonRpcServer.setInterceptorList(jsonRpcInterceptors);
             }
 
-            invocationListener.ifAvailable(jsonRpcServer::setInvocationListener);
+            List<InvocationListener> invocationListeners = invocationListener.orderedStream()
+                    .collect(Collectors.toList());
+            if (invocationListeners.size() == 1) {
+                jsonRpcServer.setInvocationListener(invocationListeners.get(0));
+            } else if (invocationListeners.size() > 1) {
+                jsonRpcServer.setInvocationListener(new DelegatingInvocationListener(invocationListeners));
+            }
             convertedParameterTransformer.ifAvailable(jsonRpcServer::setConvertedParameterTransformer);
             httpStatusCodeProvider.ifAvailable(jsonRpcServer::setHttpStatusCodeProvider);
 
             batchExecutorService.ifAvailable(jsonRpcServer::setBatchExecutorService);
             jsonRpcServer.setParallelBatchProcessingTimeout(
                     jsonRpcProperties.getServer().getParallelBatchProcessingTimeout().toMillis());
+            jsonRpcServer.setStreamingBatchEnabled(jsonRpcProperties.getServer().getStreamingBatchEnabled());
+            if (jsonRpcProperties.getServer().getMaxBatchLength() != null) {
+                jsonRpcServer.setMaxBatchLength(jsonRpcProperties.getServer().getMaxBatchLength());
+            }
+            jsonRpcServer.setCoalescedMethodPatterns(jsonRpcProperties.getServer().getCoalescedMethods());
+            jsonRpcServer.setMethodTimeouts(jsonRpcProperties.getServer().getMethodTimeouts());
+            jsonRpcServer.setDeadlineHeaderEnabled(jsonRpcProperties.getServer().getDeadlineHeaderEnabled());
+            JsonRpcProperties.BufferPool bufferPool = jsonRpcProperties.getServer().getBufferPool();
+            jsonRpcServer.setBufferPool(new JsonRpcBufferPool(bufferPool.getSize(),
+                    (int) bufferPool.getInitialBufferSize().toBytes(), (int) bufferPool.getMaxBufferSize().toBytes()));
+            if (jsonRpcProperties.getServer().getConcurrencyLimit().getEnabled()) {
+                jsonRpcServer.setConcurrencyLimiter(
+                        this.concurrencyLimiter(jsonRpcProperties.getServer().getConcurrencyLimit()));
+            }
 
             if (StringUtils.hasText(jsonRpcProperties.getServer().getContentType())) {
                 jsonRpcServer.setContentType(jsonRpcProperties.getServer().getContentType());
             }
 
-            this.addService(jsonRpcServer, jsonRpcBaseService);
+            registryListener.orderedStream().forEach(jsonRpcServer.getRegistry()::addListener);
+            exchangeListener.orderedStream().forEach(jsonRpcServer::addExchangeListener);
+            codec.orderedStream().forEach(jsonRpcServer::addCodec);
+            JsonRpcServiceIndex serviceIndex = jsonRpcProperties.getServer().getServiceIndexEnabled()
+                    ? JsonRpcServiceIndex.load(ClassUtils.getDefaultClassLoader())
+                    : JsonRpcServiceIndex.empty();
+            // registered at once, so the dispatch table is built a single time
+            List<JsonRpcServiceDefinition> services = new ArrayList<>();
+            if (jsonRpcProperties.getServer().getLazyServices()) {
+                this.addLazyServices(services, beanFactory, serviceIndex);
+            } else {
+                jsonRpcBaseService.orderedStream().forEach(service -> this.addService(services,
+                        service.getClass(), service, null, serviceIndex));
+            }
+            jsonRpcServer.addServices(services);
 
             this.customize(jsonRpcServer, jsonRpcServerCustomizers);
 
             return jsonRpcServer;
         }
 
-        private void addService(JsonRpcMultiServer jsonRpcMultiServer,
-                List<? extends JsonRpcBaseService> jsonRpcBaseService) {
-            jsonRpcBaseService.stream().forEach(service -> {
-                JsonRpcMultiServiceName serviceNameAnnotation = AnnotationUtils.findAnnotation(service.getClass(),
-                        JsonRpcMultiServiceName.class);
-                if (serviceNameAnnotation == null) {
-                    return;
-                }
+        private JsonRpcConcurrencyLimiter concurrencyLimiter(JsonRpcProperties.ConcurrencyLimit concurrencyLimit) {
+            JsonRpcConcurrencyLimiter limiter = new JsonRpcConcurrencyLimiter(concurrencyLimit.getInitialLimit(),
+                    concurrencyLimit.getMinLimit(), concurrencyLimit.getMaxLimit());
+            limiter.setTolerance(concurrencyLimit.getTolerance());
+            limiter.setSmoothing(concurrencyLimit.getSmoothing());
+            limiter.setLongWindow(concurrencyLimit.getLongWindow());
+            return limiter;
+        }
 
-                if (!StringUtils.hasText(serviceNameAnnotation.value())) {
-                    throw new IllegalArgumentException(
-                            "The value of JsonRpcMultiServiceNamed annotation must not be null");
+        /**
+         * Registers the services by their bean definitions, obtaining a bean on
+         * the first call of its service. Beans whose type is only known once
+         * created are created right away.
+         */
+        private void addLazyServices(List<JsonRpcServiceDefinition> services, ListableBeanFactory beanFactory,
+                JsonRpcServiceIndex serviceIndex) {
+            for (String beanName : beanFactory.getBeanNamesForType(JsonRpcBaseService.class, true, false)) {
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null && (serviceIndex.getEntry(beanType) != null
+                        || AnnotationUtils.findAnnotation(beanType, JsonRpcMultiServiceName.class) != null)) {
+                    this.addService(services, beanType, null, () -> beanFactory.getBean(beanName), serviceIndex);
+                } else {
+                    Object service = beanFactory.getBean(beanName);
+                    this.addService(services, service.getClass(), service, null, serviceIndex);
                 }
+            }
+        }
+
+        private void addService(List<JsonRpcServiceDefinition> services, Class<?> serviceClass, Object service,
+                ObjectFactory<?> serviceFactory, JsonRpcServiceIndex serviceIndex) {
+            JsonRpcServiceIndex.Entry entry = serviceIndex.getEntry(serviceClass);
+            if (entry != null && this.addIndexedService(services, serviceClass, service, serviceFactory, entry)) {
+                return;
+            }
 
-                Class<?> serviceInterface = Stream.of(service.getClass().getInterfaces())
-                        .filter(Objects::nonNull)
-                        .filter(t -> !Objects.equals(t.getCanonicalName(), JsonRpcBaseService.class.getCanonicalName()))
-                        .findFirst()
-                        .orElse(null);
+            JsonRpcMultiServiceName serviceNameAnnotation = AnnotationUtils.findAnnotation(serviceClass,
+                    JsonRpcMultiServiceName.class);
+            if (serviceNameAnnotation == null) {
+                return;
+            }
 
-                jsonRpcMultiServer.addService(serviceNameAnnotation.value(), service, serviceInterface);
-            });
+            if (!StringUtils.hasText(serviceNameAnnotation.value())) {
+                throw new IllegalArgumentException(
+                        "The value of JsonRpcMultiServiceNamed annotation must not be null");
+            }
+
+            Class<?> serviceInterface = Stream.of(serviceClass.getInterfaces())
+                    .filter(Objects::nonNull)
+                    .filter(t -> !Objects.equals(t.getCanonicalName(), JsonRpcBaseService.class.getCanonicalName()))
+                    .findFirst()
+                    .orElse(null);
+
+            services.add(this.createService(serviceNameAnnotation.value(), serviceClass, service, serviceFactory,
+                    serviceInterface, null));
+        }
+
+        /**
+         * Registers a service as listed in the index, returns <code>false</code>
+         * if the index does not match the class path.
+         */
+        private boolean addIndexedService(List<JsonRpcServiceDefinition> services, Class<?> serviceClass,
+                Object service, ObjectFactory<?> serviceFactory, JsonRpcServiceIndex.Entry entry) {
+            if (!StringUtils.hasText(entry.getServiceName())) {
+                return false;
+            }
+            Class<?> remoteInterface = entry.resolveRemoteInterface(serviceClass.getClassLoader());
+            if (remoteInterface == null && entry.getRemoteInterfaceName() != null) {
+                return false;
+            }
+            Map<String, List<Method>> methods = remoteInterface != null ? entry.resolveMethods(remoteInterface) : null;
+            services.add(this.createService(entry.getServiceName(), serviceClass, service, serviceFactory,
+                    remoteInterface, methods));
+            return true;
+        }
+
+        private JsonRpcServiceDefinition createService(String name, Class<?> serviceClass, Object service,
+                ObjectFactory<?> serviceFactory, Class<?> remoteInterface, Map<String, List<Method>> methods) {
+            return service != null ? new JsonRpcServiceDefinition(name, service, remoteInterface, methods)
+                    : new JsonRpcServiceDefinition(name, serviceClass, serviceFactory, remoteInterface, methods);
         }
 
         private void customize(JsonRpcServer jsonRpcServer, List<JsonRpcServerCustomizer> customizers) {
@@ -155,15 +290,94 @@ public class JsonRpcAutoConfiguration {
         }
 
         @Configuration(proxyBeanMethods = false)
-        @AutoConfigureAfter(TaskExecutionAutoConfiguration.class)
-        @ConditionalOnBean(ThreadPoolTaskExecutor.class)
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.rate-limit.enabled")
+        public static class JsonRpcServerRateLimitConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonRpcRateLimitInterceptor jsonRpcRateLimitInterceptor(JsonRpcProperties jsonRpcProperties,
+                    JsonRpcServiceRegistry registry,
+                    ObjectProvider<JsonRpcClientIdentityResolver> clientIdentityResolver) {
+                JsonRpcProperties.RateLimit rateLimit = jsonRpcProperties.getServer().getRateLimit();
+                Map<String, JsonRpcRateLimit> methodLimits = new LinkedHashMap<>();
+                rateLimit.getMethods().forEach((pattern, bucket) -> {
+                    JsonRpcRateLimit limit = createLimit(bucket);
+                    Assert.notNull(limit, "permits-per-second of rate limited method '" + pattern + "' must be set.");
+                    methodLimits.put(pattern, limit);
+                });
+                JsonRpcRateLimiter rateLimiter = new JsonRpcRateLimiter(createLimit(rateLimit.getDefaults()),
+                        methodLimits, rateLimit.getIdleTimeout(), rateLimit.getMaxBucketsPerMethod());
+                return new JsonRpcRateLimitInterceptor(rateLimiter,
+                        clientIdentityResolver.getIfAvailable(() -> createClientIdentityResolver(rateLimit)),
+                        registry);
+            }
+
+            private static JsonRpcRateLimit createLimit(JsonRpcProperties.RateLimit.Bucket bucket) {
+                if (bucket.getPermitsPerSecond() == null) {
+                    return null;
+                }
+                return bucket.getBurst() != null
+                        ? new JsonRpcRateLimit(bucket.getPermitsPerSecond(), bucket.getBurst())
+                        : new JsonRpcRateLimit(bucket.getPermitsPerSecond());
+            }
+
+            private static JsonRpcClientIdentityResolver createClientIdentityResolver(
+                    JsonRpcProperties.RateLimit rateLimit) {
+                switch (rateLimit.getClientIdentity()) {
+                    case HEADER:
+                        return JsonRpcClientIdentityResolver.header(rateLimit.getHeaderName());
+                    case PRINCIPAL:
+                        return JsonRpcClientIdentityResolver.principal();
+                    default:
+                        return JsonRpcClientIdentityResolver.remoteAddress();
+                }
+            }
+        }
+
+        /**
+         * A dedicated {@link JsonRpcBatchExecutor}, so large batches neither
+         * starve other batches nor the application's task executor. Its
+         * settings are bound from the environment since the annotation exporter
+         * requests it before {@link JsonRpcProperties} are bound.
+         */
+        @Configuration(proxyBeanMethods = false)
         @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.parallel-enabled", matchIfMissing = false)
         public static class JsonRpcServerParallelBatchConfiguration {
 
             @Bean
-            @ConditionalOnMissingBean
-            public ExecutorService executorService(ThreadPoolTaskExecutor taskExecutor) {
-                return taskExecutor.getThreadPoolExecutor();
+            @ConditionalOnMissingBean(ExecutorService.class)
+            public JsonRpcBatchExecutor jsonRpcBatchExecutor(Environment environment) {
+                JsonRpcProperties.BatchExecutor batchExecutor = Binder.get(environment)
+                        .bind(JsonRpcProperties.JSONRPC_PREFIX + ".server.batch-executor",
+                                JsonRpcProperties.BatchExecutor.class)
+                        .orElseGet(JsonRpcProperties.BatchExecutor::new);
+                ExecutorService workers;
+                switch (batchExecutor.getPoolType()) {
+                    case FORK_JOIN:
+                        workers = JsonRpcBatchExecutor.createForkJoinPool(batchExecutor.getThreads(),
+                                batchExecutor.getThreadNamePrefix());
+                        break;
+                    default:
+                        workers = JsonRpcBatchExecutor.createThreadPool(batchExecutor.getThreads(),
+                                batchExecutor.getThreadNamePrefix());
+                }
+                return new JsonRpcBatchExecutor(workers, batchExecutor.getMaxInFlightPerBatch());
+            }
+
+            /**
+             * Conditional on the same missing bean as the executor, since
+             * member classes are processed before the beans of their outer class.
+             */
+            @Configuration(proxyBeanMethods = false)
+            @ConditionalOnClass(MeterRegistry.class)
+            @ConditionalOnMissingBean(ExecutorService.class)
+            static class BatchExecutorMetricsConfiguration {
+
+                @Bean
+                @ConditionalOnMissingBean
+                public JsonRpcBatchExecutorMetrics jsonRpcBatchExecutorMetrics(JsonRpcBatchExecutor batchExecutor) {
+                    return new JsonRpcBatchExecutorMetrics(batchExecutor);
+                }
             }
         }
 
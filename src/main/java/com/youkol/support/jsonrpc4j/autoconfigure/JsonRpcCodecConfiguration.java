@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.autoconfigure;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+
+/**
+ * Binary {@link JsonRpcCodec}s for the Jackson data formats on the classpath.
+ * The mappers are built from the application's
+ * {@link Jackson2ObjectMapperBuilder}, so they share the modules and settings
+ * of the JSON mapper.
+ * <p>
+ * Every {@link JsonRpcCodec} bean, including user defined ones such as
+ * MessagePack, is registered with the server and may be selected by the
+ * client proxies.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Jackson2ObjectMapperBuilder.class)
+@EnableConfigurationProperties(JsonRpcProperties.class)
+public class JsonRpcCodecConfiguration {
+
+    public static final String SMILE_CODEC_BEAN_NAME = "jsonRpcSmileCodec";
+
+    public static final String CBOR_CODEC_BEAN_NAME = "jsonRpcCborCodec";
+
+    static ObjectMapper createObjectMapper(ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+            JsonFactory factory) {
+        return builder.getIfAvailable(Jackson2ObjectMapperBuilder::json).factory(factory).build();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "codecs.smile-enabled", matchIfMissing = true)
+    static class SmileCodecConfiguration {
+
+        @Bean(name = SMILE_CODEC_BEAN_NAME)
+        @ConditionalOnMissingBean(name = SMILE_CODEC_BEAN_NAME)
+        public JsonRpcCodec jsonRpcSmileCodec(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new JsonRpcCodec("smile", createObjectMapper(builder, new SmileFactory()),
+                    JsonRpcCodec.SMILE_MEDIA_TYPE);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "codecs.cbor-enabled", matchIfMissing = true)
+    static class CborCodecConfiguration {
+
+        @Bean(name = CBOR_CODEC_BEAN_NAME)
+        @ConditionalOnMissingBean(name = CBOR_CODEC_BEAN_NAME)
+        public JsonRpcCodec jsonRpcCborCodec(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new JsonRpcCodec("cbor", createObjectMapper(builder, new CBORFactory()),
+                    JsonRpcCodec.CBOR_MEDIA_TYPE);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.autoconfigure;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.googlecode.jsonrpc4j.spring.JsonServiceExporter;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcCompression;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcCompressionFilter;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcContentEncoding;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcServiceEndpoint;
+
+/**
+ * HTTP compression for the {@code JsonRpcServlet} and the path based endpoints
+ * of {@code JsonRpcServiceImplExporter} or {@code AutoJsonRpcServiceImplExporter}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnClass(FilterRegistrationBean.class)
+@ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.compression.enabled", matchIfMissing = false)
+@EnableConfigurationProperties(JsonRpcProperties.class)
+public class JsonRpcCompressionConfiguration {
+
+    public static final String DEFAULT_JSONRPC_COMPRESSION_FILTER_REGISTRATION_BEAN_NAME =
+            "jsonrpcCompressionFilterRegistration";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcCompression jsonRpcCompression(JsonRpcProperties jsonRpcProperties) {
+        JsonRpcProperties.Compression properties = jsonRpcProperties.getServer().getCompression();
+        JsonRpcCompression compression = new JsonRpcCompression();
+        compression.setEncodings(properties.getAlgorithms().stream()
+                .map(name -> {
+                    JsonRpcContentEncoding encoding = JsonRpcContentEncoding.forName(name);
+                    if (encoding == null) {
+                        throw new IllegalArgumentException("Unsupported JSON-RPC compression algorithm: " + name);
+                    }
+                    return encoding;
+                })
+                .collect(Collectors.toList()));
+        compression.setMinResponseSize((int) properties.getMinResponseSize().toBytes());
+        compression.setLevel(properties.getLevel());
+        compression.setMaxDecodedRequestSize(properties.getMaxDecodedRequestSize().toBytes());
+        return compression;
+    }
+
+    /**
+     * Maps the compression filter to the exporter paths, the bean names of the
+     * {@link JsonServiceExporter}s and {@link JsonRpcServiceEndpoint}s.
+     */
+    @Bean(name = DEFAULT_JSONRPC_COMPRESSION_FILTER_REGISTRATION_BEAN_NAME)
+    @ConditionalOnMissingBean(name = DEFAULT_JSONRPC_COMPRESSION_FILTER_REGISTRATION_BEAN_NAME)
+    @ConditionalOnClass(JsonServiceExporter.class)
+    public FilterRegistrationBean<JsonRpcCompressionFilter> jsonRpcCompressionFilterRegistration(
+            JsonRpcCompression jsonRpcCompression, ListableBeanFactory beanFactory) {
+        List<String> paths = Stream.of(JsonServiceExporter.class, JsonRpcServiceEndpoint.class)
+                .flatMap(type -> Arrays.stream(beanFactory.getBeanNamesForType(type, true, false)))
+                .filter(name -> name.startsWith("/"))
+                .collect(Collectors.toList());
+        FilterRegistrationBean<JsonRpcCompressionFilter> registration = new FilterRegistrationBean<>(
+                new JsonRpcCompressionFilter(jsonRpcCompression));
+        registration.setUrlPatterns(paths);
+        // without paths the registration would map to /*
+        registration.setEnabled(!paths.isEmpty());
+        return registration;
+    }
+
+}
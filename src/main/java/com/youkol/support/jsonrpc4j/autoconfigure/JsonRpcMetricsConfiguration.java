@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.autoconfigure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.youkol.support.jsonrpc4j.metrics.JsonRpcServerMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers {@link JsonRpcServerMetrics} when a {@link MeterRegistry} is
+ * available. The bean is picked up by the server as invocation listener,
+ * interceptor, registry listener and exchange listener.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.metrics.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(JsonRpcProperties.class)
+public class JsonRpcMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcServerMetrics jsonRpcServerMetrics(MeterRegistry meterRegistry,
+            JsonRpcProperties jsonRpcProperties) {
+        return new JsonRpcServerMetrics(meterRegistry,
+                jsonRpcProperties.getServer().getMetrics().getPercentileHistogram());
+    }
+
+}
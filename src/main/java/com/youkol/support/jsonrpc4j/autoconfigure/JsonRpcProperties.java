@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,24 @@
 package com.youkol.support.jsonrpc4j.autoconfigure;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
 
 import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.youkol.support.jsonrpc4j.client.BatchingClientTransport;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBatchExecutor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBufferPool;
+import com.youkol.support.jsonrpc4j.server.JsonRpcConcurrencyLimiter;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimiter;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcCompression;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcServlet;
 
 /**
  *
@@ -38,6 +51,8 @@ public class JsonRpcProperties {
 
     private final Client client = new Client();
 
+    private final Codecs codecs = new Codecs();
+
     public boolean getEnabled() {
         return this.enabled;
     }
@@ -54,6 +69,10 @@ public class JsonRpcProperties {
         return this.client;
     }
 
+    public Codecs getCodecs() {
+        return this.codecs;
+    }
+
     public static class Servlet {
 
         private boolean enabled = true;
@@ -68,6 +87,34 @@ public class JsonRpcProperties {
          */
         private int loadOnStartup = -1;
 
+        /**
+         * Whether to serve requests with Servlet 3.1 non-blocking I/O.
+         */
+        private boolean asyncEnabled = false;
+
+        /**
+         * Timeout of an async request, covering read, invocation and write.
+         */
+        private Duration asyncTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Maximum size of a request body read into memory, in async mode and on
+         * the reactive endpoint; larger requests are answered with 413.
+         */
+        private DataSize maxRequestSize = DataSize.ofBytes(JsonRpcServlet.DEFAULT_MAX_REQUEST_SIZE);
+
+        /**
+         * Number of threads of the dedicated async executor, by default twice
+         * the number of processors.
+         */
+        private int asyncThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * Number of async invocations waiting for a thread, further requests
+         * are answered with 503.
+         */
+        private int asyncQueueCapacity = 256;
+
         public boolean getEnabled() {
             return this.enabled;
         }
@@ -94,6 +141,75 @@ public class JsonRpcProperties {
             this.loadOnStartup = loadOnStartup;
         }
 
+        public boolean getAsyncEnabled() {
+            return this.asyncEnabled;
+        }
+
+        public void setAsyncEnabled(boolean asyncEnabled) {
+            this.asyncEnabled = asyncEnabled;
+        }
+
+        public Duration getAsyncTimeout() {
+            return this.asyncTimeout;
+        }
+
+        public void setAsyncTimeout(Duration asyncTimeout) {
+            this.asyncTimeout = asyncTimeout;
+        }
+
+        public DataSize getMaxRequestSize() {
+            return this.maxRequestSize;
+        }
+
+        public void setMaxRequestSize(DataSize maxRequestSize) {
+            this.maxRequestSize = maxRequestSize;
+        }
+
+        public int getAsyncThreads() {
+            return this.asyncThreads;
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getAsyncQueueCapacity() {
+            return this.asyncQueueCapacity;
+        }
+
+        public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+            this.asyncQueueCapacity = asyncQueueCapacity;
+        }
+
+    }
+
+    public static class Reactive {
+
+        private boolean enabled = true;
+
+        /**
+         * Path of the jsonrpc endpoint in a reactive web application.
+         */
+        private String path = "/jsonrpc";
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return this.path;
+        }
+
+        public void setPath(String path) {
+            Assert.notNull(path, "Path must not be null");
+            Assert.isTrue(!path.contains("*"), "Path must not contain wildcards");
+            this.path = path;
+        }
+
     }
 
     public static class Welcome {
@@ -109,29 +225,57 @@ public class JsonRpcProperties {
         }
     }
 
-    public static class Server {
+    public static class Metrics {
 
         private boolean enabled = true;
 
-        private final Servlet servlet = new Servlet();
+        /**
+         * Whether the invocation timers and the batch size summary publish a
+         * percentile histogram.
+         */
+        private boolean percentileHistogram = true;
 
-        private final Welcome welcome = new Welcome();
+        public boolean getEnabled() {
+            return this.enabled;
+        }
 
-        private boolean backwardsCompatible = true;
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
 
-        private boolean rethrowExceptions = false;
+        public boolean getPercentileHistogram() {
+            return this.percentileHistogram;
+        }
 
-        private boolean allowExtraParams = false;
+        public void setPercentileHistogram(boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+        }
+    }
 
-        private boolean allowLessParams = false;
+    public static class Compression {
 
-        private boolean shouldLogInvocationErrors = true;
+        private boolean enabled = false;
 
-        private boolean parallelEnabled = false;
+        /**
+         * Responses smaller than this are not compressed.
+         */
+        private DataSize minResponseSize = DataSize.ofKilobytes(2);
 
-        private Duration parallelBatchProcessingTimeout = Duration.ofSeconds(30);
+        /**
+         * Compression level, 0-9 or -1 for the default level.
+         */
+        private int level = -1;
 
-        private String contentType = JsonRpcBasicServer.JSONRPC_CONTENT_TYPE;
+        /**
+         * Supported content codings in order of preference.
+         */
+        private List<String> algorithms = new ArrayList<>(Arrays.asList("gzip", "deflate"));
+
+        /**
+         * Maximum size of a decoded request body, compressed requests inflating
+         * beyond it are answered with 413.
+         */
+        private DataSize maxDecodedRequestSize = DataSize.ofBytes(JsonRpcCompression.DEFAULT_MAX_DECODED_REQUEST_SIZE);
 
         public boolean getEnabled() {
             return this.enabled;
@@ -141,89 +285,208 @@ public class JsonRpcProperties {
             this.enabled = enabled;
         }
 
-        public Servlet getServlet() {
-            return this.servlet;
+        public DataSize getMinResponseSize() {
+            return this.minResponseSize;
         }
 
-        public Welcome getWelcome() {
-            return this.welcome;
+        public void setMinResponseSize(DataSize minResponseSize) {
+            this.minResponseSize = minResponseSize;
         }
 
-        public boolean getBackwardsCompatible() {
-            return this.backwardsCompatible;
+        public int getLevel() {
+            return this.level;
         }
 
-        public void setBackwardsCompatible(boolean backwardsCompatible) {
-            this.backwardsCompatible = backwardsCompatible;
+        public void setLevel(int level) {
+            this.level = level;
         }
 
-        public boolean getRethrowExceptions() {
-            return this.rethrowExceptions;
+        public List<String> getAlgorithms() {
+            return this.algorithms;
         }
 
-        public void setRethrowExceptions(boolean rethrowExceptions) {
-            this.rethrowExceptions = rethrowExceptions;
+        public void setAlgorithms(List<String> algorithms) {
+            this.algorithms = algorithms;
         }
 
-        public boolean getAllowExtraParams() {
-            return this.allowExtraParams;
+        public DataSize getMaxDecodedRequestSize() {
+            return this.maxDecodedRequestSize;
         }
 
-        public void setAllowExtraParams(boolean allowExtraParams) {
-            this.allowExtraParams = allowExtraParams;
+        public void setMaxDecodedRequestSize(DataSize maxDecodedRequestSize) {
+            this.maxDecodedRequestSize = maxDecodedRequestSize;
         }
+    }
 
-        public boolean getAllowLessParams() {
-            return this.allowLessParams;
+    public static class Codecs {
+
+        /**
+         * Whether the Smile codec is registered when jackson-dataformat-smile is
+         * on the classpath.
+         */
+        private boolean smileEnabled = true;
+
+        /**
+         * Whether the CBOR codec is registered when jackson-dataformat-cbor is on
+         * the classpath.
+         */
+        private boolean cborEnabled = true;
+
+        public boolean getSmileEnabled() {
+            return this.smileEnabled;
         }
 
-        public void setAllowLessParams(boolean allowLessParams) {
-            this.allowLessParams = allowLessParams;
+        public void setSmileEnabled(boolean smileEnabled) {
+            this.smileEnabled = smileEnabled;
         }
 
-        public boolean getShouldLogInvocationErrors() {
-            return this.shouldLogInvocationErrors;
+        public boolean getCborEnabled() {
+            return this.cborEnabled;
         }
 
-        public void setShouldLogInvocationErrors(boolean shouldLogInvocationErrors) {
-            this.shouldLogInvocationErrors = shouldLogInvocationErrors;
+        public void setCborEnabled(boolean cborEnabled) {
+            this.cborEnabled = cborEnabled;
         }
+    }
 
-        public boolean getParallelEnabled() {
-            return this.parallelEnabled;
+    public static class BufferPool {
+
+        /**
+         * Maximum number of idle response buffers kept for reuse.
+         */
+        private int size = JsonRpcBufferPool.DEFAULT_POOL_SIZE;
+
+        /**
+         * Initial capacity of a response buffer.
+         */
+        private DataSize initialBufferSize = DataSize.ofBytes(JsonRpcBufferPool.DEFAULT_INITIAL_BUFFER_SIZE);
+
+        /**
+         * Responses larger than this are streamed without Content-Length, and
+         * larger buffers are not reused.
+         */
+        private DataSize maxBufferSize = DataSize.ofBytes(JsonRpcBufferPool.DEFAULT_MAX_BUFFER_SIZE);
+
+        public int getSize() {
+            return this.size;
         }
 
-        public void setParallelEnabled(boolean parallelEnabled) {
-            this.parallelEnabled = parallelEnabled;
+        public void setSize(int size) {
+            this.size = size;
         }
 
-        public Duration getParallelBatchProcessingTimeout() {
-            return this.parallelBatchProcessingTimeout;
+        public DataSize getInitialBufferSize() {
+            return this.initialBufferSize;
         }
 
-        public void setParallelBatchProcessingTimeout(Duration parallelBatchProcessingTimeout) {
-            this.parallelBatchProcessingTimeout = parallelBatchProcessingTimeout;
+        public void setInitialBufferSize(DataSize initialBufferSize) {
+            this.initialBufferSize = initialBufferSize;
         }
 
-        public String getContentType() {
-            return this.contentType;
+        public DataSize getMaxBufferSize() {
+            return this.maxBufferSize;
         }
 
-        public void setContentType(String contentType) {
-            this.contentType = contentType;
+        public void setMaxBufferSize(DataSize maxBufferSize) {
+            this.maxBufferSize = maxBufferSize;
+        }
+    }
+
+    public static class BatchExecutor {
+
+        /**
+         * Kind of thread pool running the batch elements.
+         */
+        private PoolType poolType = PoolType.THREAD_POOL;
+
+        /**
+         * Number of threads, by default twice the number of processors.
+         */
+        private int threads = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * Number of elements of one batch processed at a time, the other
+         * batches taking turns for the remaining threads.
+         */
+        private int maxInFlightPerBatch = JsonRpcBatchExecutor.DEFAULT_MAX_IN_FLIGHT_PER_BATCH;
+
+        private String threadNamePrefix = JsonRpcBatchExecutor.DEFAULT_THREAD_NAME_PREFIX;
+
+        public PoolType getPoolType() {
+            return this.poolType;
+        }
+
+        public void setPoolType(PoolType poolType) {
+            this.poolType = poolType;
+        }
+
+        public int getThreads() {
+            return this.threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getMaxInFlightPerBatch() {
+            return this.maxInFlightPerBatch;
+        }
+
+        public void setMaxInFlightPerBatch(int maxInFlightPerBatch) {
+            this.maxInFlightPerBatch = maxInFlightPerBatch;
         }
 
+        public String getThreadNamePrefix() {
+            return this.threadNamePrefix;
+        }
+
+        public void setThreadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        public enum PoolType {
+
+            /**
+             * Fixed-size thread pool.
+             */
+            THREAD_POOL,
+
+            /**
+             * Work-stealing fork/join pool.
+             */
+            FORK_JOIN
+        }
     }
 
-    public static class Client {
+    public static class ConcurrencyLimit {
 
+        /**
+         * Whether invocations are limited per method to an adaptive number of
+         * concurrent calls.
+         */
         private boolean enabled = false;
 
-        private String baseUrl;
+        private int initialLimit = JsonRpcConcurrencyLimiter.DEFAULT_INITIAL_LIMIT;
 
-        private String scanPackage;
+        private int minLimit = JsonRpcConcurrencyLimiter.DEFAULT_MIN_LIMIT;
 
-        private String contentType;
+        private int maxLimit = JsonRpcConcurrencyLimiter.DEFAULT_MAX_LIMIT;
+
+        /**
+         * How much slower than their long term average calls may get before the
+         * limit shrinks, e.g. 1.5 for 50%.
+         */
+        private double tolerance = JsonRpcConcurrencyLimiter.DEFAULT_TOLERANCE;
+
+        /**
+         * Weight of a new limit estimate, 1 to apply it unsmoothed.
+         */
+        private double smoothing = JsonRpcConcurrencyLimiter.DEFAULT_SMOOTHING;
+
+        /**
+         * Number of calls the long term latency average spans.
+         */
+        private int longWindow = JsonRpcConcurrencyLimiter.DEFAULT_LONG_WINDOW;
 
         public boolean getEnabled() {
             return this.enabled;
@@ -233,28 +496,971 @@ public class JsonRpcProperties {
             this.enabled = enabled;
         }
 
-        public String getBaseUrl() {
-            return this.baseUrl;
+        public int getInitialLimit() {
+            return this.initialLimit;
         }
 
-        public void setBaseUrl(String baseUrl) {
-            this.baseUrl = baseUrl;
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
         }
 
-        public String getScanPackage() {
-            return this.scanPackage;
+        public int getMinLimit() {
+            return this.minLimit;
         }
 
-        public void setScanPackage(String scanPackage) {
-            this.scanPackage = scanPackage;
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
         }
 
-        public String getContentType() {
-            return this.contentType;
+        public int getMaxLimit() {
+            return this.maxLimit;
         }
 
-        public void setContentType(String contentType) {
-            this.contentType = contentType;
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return this.tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public double getSmoothing() {
+            return this.smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        public int getLongWindow() {
+            return this.longWindow;
+        }
+
+        public void setLongWindow(int longWindow) {
+            this.longWindow = longWindow;
+        }
+    }
+
+    public static class RateLimit {
+
+        /**
+         * Whether calls are limited per client and method by token buckets.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How clients are identified, unless a JsonRpcClientIdentityResolver bean
+         * is defined.
+         */
+        private ClientIdentity clientIdentity = ClientIdentity.REMOTE_ADDRESS;
+
+        /**
+         * Header identifying the client with client-identity HEADER.
+         */
+        private String headerName = "X-Client-Id";
+
+        /**
+         * How long the bucket of a client that stopped calling is kept.
+         */
+        private Duration idleTimeout = JsonRpcRateLimiter.DEFAULT_IDLE_TIMEOUT;
+
+        /**
+         * Number of clients with a bucket of their own per method, further
+         * clients share the bucket of the clients without identity.
+         */
+        private int maxBucketsPerMethod = JsonRpcRateLimiter.DEFAULT_MAX_BUCKETS_PER_METHOD;
+
+        /**
+         * Limit of the methods not matching any entry of methods, none if no
+         * permits-per-second are set.
+         */
+        private final Bucket defaults = new Bucket();
+
+        /**
+         * Limits by full method name, <code>*</code> wildcards allowed, matched
+         * in order.
+         */
+        private Map<String, Bucket> methods = new LinkedHashMap<>();
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public ClientIdentity getClientIdentity() {
+            return this.clientIdentity;
+        }
+
+        public void setClientIdentity(ClientIdentity clientIdentity) {
+            this.clientIdentity = clientIdentity;
+        }
+
+        public String getHeaderName() {
+            return this.headerName;
+        }
+
+        public void setHeaderName(String headerName) {
+            this.headerName = headerName;
+        }
+
+        public Duration getIdleTimeout() {
+            return this.idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public int getMaxBucketsPerMethod() {
+            return this.maxBucketsPerMethod;
+        }
+
+        public void setMaxBucketsPerMethod(int maxBucketsPerMethod) {
+            this.maxBucketsPerMethod = maxBucketsPerMethod;
+        }
+
+        public Bucket getDefaults() {
+            return this.defaults;
+        }
+
+        public Map<String, Bucket> getMethods() {
+            return this.methods;
+        }
+
+        public void setMethods(Map<String, Bucket> methods) {
+            this.methods = methods;
+        }
+
+        public enum ClientIdentity {
+            HEADER, REMOTE_ADDRESS, PRINCIPAL
+        }
+
+        public static class Bucket {
+
+            /**
+             * Rate at which tokens are refilled.
+             */
+            private Double permitsPerSecond;
+
+            /**
+             * Capacity of the bucket, by default one second worth of permits.
+             */
+            private Integer burst;
+
+            public Double getPermitsPerSecond() {
+                return this.permitsPerSecond;
+            }
+
+            public void setPermitsPerSecond(Double permitsPerSecond) {
+                this.permitsPerSecond = permitsPerSecond;
+            }
+
+            public Integer getBurst() {
+                return this.burst;
+            }
+
+            public void setBurst(Integer burst) {
+                this.burst = burst;
+            }
+        }
+    }
+
+    public static class Server {
+
+        private boolean enabled = true;
+
+        private final Servlet servlet = new Servlet();
+
+        private final Reactive reactive = new Reactive();
+
+        private final Welcome welcome = new Welcome();
+
+        private final Metrics metrics = new Metrics();
+
+        private final Compression compression = new Compression();
+
+        private final BufferPool bufferPool = new BufferPool();
+
+        private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+        private final BatchExecutor batchExecutor = new BatchExecutor();
+
+        private final RateLimit rateLimit = new RateLimit();
+
+        private boolean backwardsCompatible = true;
+
+        private boolean rethrowExceptions = false;
+
+        private boolean allowExtraParams = false;
+
+        private boolean allowLessParams = false;
+
+        private boolean shouldLogInvocationErrors = true;
+
+        private boolean parallelEnabled = false;
+
+        private Duration parallelBatchProcessingTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of elements of a batch request, unlimited if not set.
+         */
+        private Integer maxBatchLength;
+
+        /**
+         * Whether batches are processed while being read, writing each response
+         * as soon as it is available.
+         */
+        private boolean streamingBatchEnabled = false;
+
+        /**
+         * Full JSON-RPC method names (<code>*</code> wildcards allowed) whose
+         * identical concurrent calls share one invocation, in addition to the
+         * methods annotated with <code>@JsonRpcCoalesced</code>.
+         */
+        private List<String> coalescedMethods = new ArrayList<>();
+
+        /**
+         * Timeouts of full JSON-RPC method names (<code>*</code> wildcards
+         * allowed), taking precedence over <code>@JsonRpcTimeout</code>.
+         */
+        private Map<String, Duration> methodTimeouts = new LinkedHashMap<>();
+
+        /**
+         * Whether the deadline of the caller is read from the
+         * <code>X-JsonRpc-Timeout</code> header.
+         */
+        private boolean deadlineHeaderEnabled = true;
+
+        /**
+         * Whether services listed in the compile-time service index are
+         * registered without scanning their annotations and interfaces.
+         */
+        private boolean serviceIndexEnabled = true;
+
+        /**
+         * Whether service beans are created on the first call of their service
+         * instead of with the server.
+         */
+        private boolean lazyServices = false;
+
+        /**
+         * Whether the services exported at the paths of their
+         * <code>@JsonRpcService</code> interfaces are served by the shared server
+         * instead of a server each. Requires the server to be a
+         * <code>JsonRpcMultiServer</code>; exporter customizers are not applied.
+         */
+        private boolean sharedDispatchEnabled = false;
+
+        private String contentType = JsonRpcBasicServer.JSONRPC_CONTENT_TYPE;
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Servlet getServlet() {
+            return this.servlet;
+        }
+
+        public Reactive getReactive() {
+            return this.reactive;
+        }
+
+        public Welcome getWelcome() {
+            return this.welcome;
+        }
+
+        public Metrics getMetrics() {
+            return this.metrics;
+        }
+
+        public Compression getCompression() {
+            return this.compression;
+        }
+
+        public BufferPool getBufferPool() {
+            return this.bufferPool;
+        }
+
+        public ConcurrencyLimit getConcurrencyLimit() {
+            return this.concurrencyLimit;
+        }
+
+        public RateLimit getRateLimit() {
+            return this.rateLimit;
+        }
+
+        public BatchExecutor getBatchExecutor() {
+            return this.batchExecutor;
+        }
+
+        public boolean getBackwardsCompatible() {
+            return this.backwardsCompatible;
+        }
+
+        public void setBackwardsCompatible(boolean backwardsCompatible) {
+            this.backwardsCompatible = backwardsCompatible;
+        }
+
+        public boolean getRethrowExceptions() {
+            return this.rethrowExceptions;
+        }
+
+        public void setRethrowExceptions(boolean rethrowExceptions) {
+            this.rethrowExceptions = rethrowExceptions;
+        }
+
+        public boolean getAllowExtraParams() {
+            return this.allowExtraParams;
+        }
+
+        public void setAllowExtraParams(boolean allowExtraParams) {
+            this.allowExtraParams = allowExtraParams;
+        }
+
+        public boolean getAllowLessParams() {
+            return this.allowLessParams;
+        }
+
+        public void setAllowLessParams(boolean allowLessParams) {
+            this.allowLessParams = allowLessParams;
+        }
+
+        public boolean getShouldLogInvocationErrors() {
+            return this.shouldLogInvocationErrors;
+        }
+
+        public void setShouldLogInvocationErrors(boolean shouldLogInvocationErrors) {
+            this.shouldLogInvocationErrors = shouldLogInvocationErrors;
+        }
+
+        public boolean getParallelEnabled() {
+            return this.parallelEnabled;
+        }
+
+        public void setParallelEnabled(boolean parallelEnabled) {
+            this.parallelEnabled = parallelEnabled;
+        }
+
+        public Duration getParallelBatchProcessingTimeout() {
+            return this.parallelBatchProcessingTimeout;
+        }
+
+        public void setParallelBatchProcessingTimeout(Duration parallelBatchProcessingTimeout) {
+            this.parallelBatchProcessingTimeout = parallelBatchProcessingTimeout;
+        }
+
+        public Integer getMaxBatchLength() {
+            return this.maxBatchLength;
+        }
+
+        public void setMaxBatchLength(Integer maxBatchLength) {
+            this.maxBatchLength = maxBatchLength;
+        }
+
+        public boolean getStreamingBatchEnabled() {
+            return this.streamingBatchEnabled;
+        }
+
+        public void setStreamingBatchEnabled(boolean streamingBatchEnabled) {
+            this.streamingBatchEnabled = streamingBatchEnabled;
+        }
+
+        public List<String> getCoalescedMethods() {
+            return this.coalescedMethods;
+        }
+
+        public void setCoalescedMethods(List<String> coalescedMethods) {
+            this.coalescedMethods = coalescedMethods;
+        }
+
+        public Map<String, Duration> getMethodTimeouts() {
+            return this.methodTimeouts;
+        }
+
+        public void setMethodTimeouts(Map<String, Duration> methodTimeouts) {
+            this.methodTimeouts = methodTimeouts;
+        }
+
+        public boolean getDeadlineHeaderEnabled() {
+            return this.deadlineHeaderEnabled;
+        }
+
+        public void setDeadlineHeaderEnabled(boolean deadlineHeaderEnabled) {
+            this.deadlineHeaderEnabled = deadlineHeaderEnabled;
+        }
+
+        public boolean getServiceIndexEnabled() {
+            return this.serviceIndexEnabled;
+        }
+
+        public void setServiceIndexEnabled(boolean serviceIndexEnabled) {
+            this.serviceIndexEnabled = serviceIndexEnabled;
+        }
+
+        public boolean getLazyServices() {
+            return this.lazyServices;
+        }
+
+        public void setLazyServices(boolean lazyServices) {
+            this.lazyServices = lazyServices;
+        }
+
+        public boolean getSharedDispatchEnabled() {
+            return this.sharedDispatchEnabled;
+        }
+
+        public void setSharedDispatchEnabled(boolean sharedDispatchEnabled) {
+            this.sharedDispatchEnabled = sharedDispatchEnabled;
+        }
+
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+    }
+
+    public static class Batching {
+
+        private boolean enabled = false;
+
+        /**
+         * How long the first call of a batch waits for further calls.
+         */
+        private Duration window = BatchingClientTransport.DEFAULT_WINDOW;
+
+        /**
+         * Number of calls sending a batch before the window has passed.
+         */
+        private int maxSize = BatchingClientTransport.DEFAULT_MAX_BATCH_SIZE;
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return this.window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxSize() {
+            return this.maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+    }
+
+    public static class Async {
+
+        /**
+         * Whether client proxies use a non-blocking transport. Requires Apache
+         * HttpClient 5.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of event loop threads of the non-blocking transport.
+         */
+        private int ioThreads = Runtime.getRuntime().availableProcessors();
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIoThreads() {
+            return this.ioThreads;
+        }
+
+        public void setIoThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+        }
+
+    }
+
+    public static class Hedging {
+
+        /**
+         * Whether calls of methods annotated with <code>@JsonRpcIdempotent</code>
+         * are hedged and retried.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Delay after which an outstanding call is sent again.
+         */
+        private Duration delay = Duration.ofMillis(100);
+
+        /**
+         * Percentile of the recent latencies of a method used as delay instead,
+         * e.g. 0.95. Zero to always use the fixed delay.
+         */
+        private double delayPercentile = 0;
+
+        /**
+         * Maximum number of attempts of a call, including hedges and retries.
+         */
+        private int maxAttempts = 2;
+
+        /**
+         * Share of the calls that may be hedged or retried.
+         */
+        private double retryRatio = 0.1;
+
+        /**
+         * Hedges and retries allowed per second regardless of the ratio.
+         */
+        private int minRetriesPerSecond = 10;
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getDelay() {
+            return this.delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        public double getDelayPercentile() {
+            return this.delayPercentile;
+        }
+
+        public void setDelayPercentile(double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+        }
+
+        public int getMaxAttempts() {
+            return this.maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public double getRetryRatio() {
+            return this.retryRatio;
+        }
+
+        public void setRetryRatio(double retryRatio) {
+            this.retryRatio = retryRatio;
+        }
+
+        public int getMinRetriesPerSecond() {
+            return this.minRetriesPerSecond;
+        }
+
+        public void setMinRetriesPerSecond(int minRetriesPerSecond) {
+            this.minRetriesPerSecond = minRetriesPerSecond;
+        }
+
+    }
+
+    public static class Resilience {
+
+        /**
+         * Whether client proxies are guarded by circuit breakers and bulkheads
+         * per service.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Settings of every service.
+         */
+        private final Guard defaults = new Guard();
+
+        /**
+         * Settings per service name, the <code>@JsonRpcService</code> value,
+         * overriding the defaults.
+         */
+        private Map<String, Guard> services = new LinkedHashMap<>();
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Guard getDefaults() {
+            return this.defaults;
+        }
+
+        public Map<String, Guard> getServices() {
+            return this.services;
+        }
+
+        public void setServices(Map<String, Guard> services) {
+            this.services = services;
+        }
+
+    }
+
+    /**
+     * Circuit breaker and bulkhead settings, unset values are inherited.
+     */
+    public static class Guard {
+
+        /**
+         * Percentage of failed calls in the sliding window opening the circuit, 50 by
+         * default.
+         */
+        private Integer failureRateThreshold;
+
+        /**
+         * Number of most recent calls the failure rate is computed over, 20 by
+         * default.
+         */
+        private Integer slidingWindowSize;
+
+        /**
+         * Number of calls before the failure rate is evaluated, 10 by default.
+         */
+        private Integer minimumNumberOfCalls;
+
+        /**
+         * How long an open circuit rejects calls, 30s by default.
+         */
+        private Duration waitDurationInOpenState;
+
+        /**
+         * Number of trial calls of a half-open circuit, 3 by default.
+         */
+        private Integer permittedCallsInHalfOpenState;
+
+        /**
+         * Maximum number of calls in flight, 0 (no limit) by default.
+         */
+        private Integer maxConcurrentCalls;
+
+        /**
+         * How long a call waits for a free slot of a full bulkhead, 0 (fail at
+         * once) by default.
+         */
+        private Duration maxWaitDuration;
+
+        public Integer getFailureRateThreshold() {
+            return this.failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(Integer failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Integer getSlidingWindowSize() {
+            return this.slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(Integer slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public Integer getMinimumNumberOfCalls() {
+            return this.minimumNumberOfCalls;
+        }
+
+        public void setMinimumNumberOfCalls(Integer minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        public Duration getWaitDurationInOpenState() {
+            return this.waitDurationInOpenState;
+        }
+
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        public Integer getPermittedCallsInHalfOpenState() {
+            return this.permittedCallsInHalfOpenState;
+        }
+
+        public void setPermittedCallsInHalfOpenState(Integer permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        }
+
+        public Integer getMaxConcurrentCalls() {
+            return this.maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWaitDuration() {
+            return this.maxWaitDuration;
+        }
+
+        public void setMaxWaitDuration(Duration maxWaitDuration) {
+            this.maxWaitDuration = maxWaitDuration;
+        }
+
+    }
+
+    public static class LoadBalancer {
+
+        public enum Strategy {
+            ROUND_ROBIN, LEAST_OUTSTANDING, POWER_OF_TWO_CHOICES
+        }
+
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+
+        /**
+         * Number of I/O errors in a row ejecting a server.
+         */
+        private int failureThreshold = 3;
+
+        /**
+         * How long an ejected server receives no requests.
+         */
+        private Duration ejectionTime = Duration.ofSeconds(30);
+
+        /**
+         * Interval of the <code>Welcome.welcome</code> probes, zero to disable.
+         */
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+        /**
+         * Path of the welcome service relative to the base urls.
+         */
+        private String healthCheckPath = "/jsonrpc";
+
+        public Strategy getStrategy() {
+            return this.strategy;
+        }
+
+        public void setStrategy(Strategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public int getFailureThreshold() {
+            return this.failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getEjectionTime() {
+            return this.ejectionTime;
+        }
+
+        public void setEjectionTime(Duration ejectionTime) {
+            this.ejectionTime = ejectionTime;
+        }
+
+        public Duration getHealthCheckInterval() {
+            return this.healthCheckInterval;
+        }
+
+        public void setHealthCheckInterval(Duration healthCheckInterval) {
+            this.healthCheckInterval = healthCheckInterval;
+        }
+
+        public String getHealthCheckPath() {
+            return this.healthCheckPath;
+        }
+
+        public void setHealthCheckPath(String healthCheckPath) {
+            this.healthCheckPath = healthCheckPath;
+        }
+
+    }
+
+    public static class Client {
+
+        private boolean enabled = false;
+
+        private String baseUrl;
+
+        /**
+         * Base urls of several servers of the same services, the requests are
+         * balanced over. Used instead of <code>base-url</code>.
+         */
+        private List<String> baseUrls = new ArrayList<>();
+
+        private String scanPackage;
+
+        private String contentType;
+
+        /**
+         * Name of the codec used by the client proxies, e.g. <code>smile</code>
+         * or <code>cbor</code>. JSON when empty.
+         */
+        private String codec;
+
+        /**
+         * Maximum number of pooled connections per server.
+         */
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * Maximum number of pooled connections in total.
+         */
+        private int maxConnections = 200;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Maximum time waiting for response data, zero for no timeout.
+         */
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Pooled connections idle for longer are closed.
+         */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        private final Batching batching = new Batching();
+
+        private final Async async = new Async();
+
+        private final LoadBalancer loadBalancer = new LoadBalancer();
+
+        private final Hedging hedging = new Hedging();
+
+        private final Resilience resilience = new Resilience();
+
+        public boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getBaseUrl() {
+            return this.baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public List<String> getBaseUrls() {
+            return this.baseUrls;
+        }
+
+        public void setBaseUrls(List<String> baseUrls) {
+            this.baseUrls = baseUrls;
+        }
+
+        public String getScanPackage() {
+            return this.scanPackage;
+        }
+
+        public void setScanPackage(String scanPackage) {
+            this.scanPackage = scanPackage;
+        }
+
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getCodec() {
+            return this.codec;
+        }
+
+        public void setCodec(String codec) {
+            this.codec = codec;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return this.maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public int getMaxConnections() {
+            return this.maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getConnectTimeout() {
+            return this.connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return this.readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public Duration getIdleTimeout() {
+            return this.idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Batching getBatching() {
+            return this.batching;
+        }
+
+        public Async getAsync() {
+            return this.async;
+        }
+
+        public LoadBalancer getLoadBalancer() {
+            return this.loadBalancer;
+        }
+
+        public Hedging getHedging() {
+            return this.hedging;
+        }
+
+        public Resilience getResilience() {
+            return this.resilience;
         }
 
     }
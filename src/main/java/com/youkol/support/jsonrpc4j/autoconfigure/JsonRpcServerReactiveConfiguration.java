@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.autoconfigure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.googlecode.jsonrpc4j.JsonRpcServer;
+import com.youkol.support.jsonrpc4j.reactive.JsonRpcHandlerFunction;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+import reactor.core.publisher.Mono;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@ConditionalOnClass({ RouterFunction.class, Mono.class, JsonRpcServer.class })
+@ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.reactive.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(JsonRpcProperties.class)
+public class JsonRpcServerReactiveConfiguration {
+
+    public static final String DEFAULT_JSONRPC_HANDLER_FUNCTION_BEAN_NAME = "jsonrpcHandlerFunction";
+
+    public static final String DEFAULT_JSONRPC_ROUTER_FUNCTION_BEAN_NAME = "jsonrpcRouterFunction";
+
+    @Bean(name = DEFAULT_JSONRPC_HANDLER_FUNCTION_BEAN_NAME)
+    @ConditionalOnMissingBean(name = DEFAULT_JSONRPC_HANDLER_FUNCTION_BEAN_NAME)
+    @ConditionalOnBean(JsonRpcServer.class)
+    public JsonRpcHandlerFunction jsonRpcHandlerFunction(JsonRpcServer jsonRpcServer,
+            JsonRpcProperties jsonRpcProperties) {
+        if (!(jsonRpcServer instanceof JsonRpcMultiServer)) {
+            throw new IllegalStateException("The reactive JSON-RPC endpoint requires a JsonRpcMultiServer, but found "
+                    + jsonRpcServer.getClass().getName());
+        }
+        JsonRpcHandlerFunction handlerFunction = new JsonRpcHandlerFunction((JsonRpcMultiServer) jsonRpcServer);
+        if (StringUtils.hasText(jsonRpcProperties.getServer().getContentType())) {
+            handlerFunction.setContentType(MediaType.valueOf(jsonRpcProperties.getServer().getContentType()));
+        }
+        handlerFunction.setMaxInFlightPerBatch(
+                jsonRpcProperties.getServer().getBatchExecutor().getMaxInFlightPerBatch());
+        handlerFunction.setMaxRequestSize(jsonRpcProperties.getServer().getServlet().getMaxRequestSize().toBytes());
+
+        return handlerFunction;
+    }
+
+    @Bean(name = DEFAULT_JSONRPC_ROUTER_FUNCTION_BEAN_NAME)
+    @ConditionalOnMissingBean(name = DEFAULT_JSONRPC_ROUTER_FUNCTION_BEAN_NAME)
+    @ConditionalOnBean(name = DEFAULT_JSONRPC_HANDLER_FUNCTION_BEAN_NAME)
+    public RouterFunction<ServerResponse> jsonRpcRouterFunction(JsonRpcHandlerFunction jsonRpcHandlerFunction,
+            JsonRpcProperties jsonRpcProperties) {
+        return RouterFunctions.route(RequestPredicates.POST(jsonRpcProperties.getServer().getReactive().getPath()),
+                jsonRpcHandlerFunction);
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,12 @@
  */
 package com.youkol.support.jsonrpc4j.autoconfigure;
 
+import java.util.concurrent.Executor;
+
 import javax.servlet.ServletRegistration;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -28,8 +32,10 @@ import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.googlecode.jsonrpc4j.JsonRpcServer;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcCompression;
 import com.youkol.support.jsonrpc4j.servlet.JsonRpcServlet;
 
 /**
@@ -47,6 +53,8 @@ public class JsonRpcServerServletConfiguration {
 
     public static final String DEFAULT_JSONRPC_SERVLET_REGISTRATION_BEAN_NAME = "jsonrpcServletRegistration";
 
+    public static final String DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME = "jsonrpcAsyncExecutor";
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnClass(ServletRegistration.class)
     @EnableConfigurationProperties(JsonRpcProperties.class)
@@ -54,8 +62,40 @@ public class JsonRpcServerServletConfiguration {
 
         @Bean(name = DEFAULT_JSONRPC_SERVLET_BEAN_NAME)
         @ConditionalOnMissingBean(name = DEFAULT_JSONRPC_SERVLET_BEAN_NAME)
-        public JsonRpcServlet jsonRpcServlet(JsonRpcServer jsonRpcServer) {
-            return new JsonRpcServlet(jsonRpcServer);
+        public JsonRpcServlet jsonRpcServlet(JsonRpcServer jsonRpcServer, JsonRpcProperties jsonRpcProperties,
+                @Qualifier(DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> asyncExecutor,
+                ObjectProvider<JsonRpcCompression> compression) {
+            JsonRpcProperties.Servlet servlet = jsonRpcProperties.getServer().getServlet();
+            JsonRpcServlet jsonRpcServlet = new JsonRpcServlet(jsonRpcServer);
+            jsonRpcServlet.setAsyncEnabled(servlet.getAsyncEnabled());
+            jsonRpcServlet.setAsyncTimeout(servlet.getAsyncTimeout().toMillis());
+            jsonRpcServlet.setMaxRequestSize(servlet.getMaxRequestSize().toBytes());
+            if (servlet.getAsyncEnabled()) {
+                asyncExecutor.ifAvailable(jsonRpcServlet::setAsyncExecutor);
+            }
+            compression.ifAvailable(jsonRpcServlet::setCompression);
+
+            return jsonRpcServlet;
+        }
+
+        /**
+         * A dedicated bounded executor, so async invocations neither queue
+         * without limit nor take the threads of the application task executor.
+         * Rejected invocations are answered with 503.
+         */
+        @Bean(name = DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME)
+        @ConditionalOnMissingBean(name = DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME)
+        @ConditionalOnProperty(prefix = JsonRpcProperties.JSONRPC_PREFIX, name = "server.servlet.async-enabled",
+                havingValue = "true")
+        public ThreadPoolTaskExecutor jsonRpcAsyncExecutor(JsonRpcProperties jsonRpcProperties) {
+            JsonRpcProperties.Servlet servlet = jsonRpcProperties.getServer().getServlet();
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(servlet.getAsyncThreads());
+            executor.setMaxPoolSize(servlet.getAsyncThreads());
+            executor.setQueueCapacity(servlet.getAsyncQueueCapacity());
+            executor.setThreadNamePrefix("jsonrpc-async-");
+
+            return executor;
         }
     }
 
@@ -74,6 +114,7 @@ public class JsonRpcServerServletConfiguration {
                     jsonRpcServlet, jsonRpcProperties.getServer().getServlet().getPath());
             servletRegistrationBean.setLoadOnStartup(jsonRpcProperties.getServer().getServlet().getLoadOnStartup());
             servletRegistrationBean.setName(DEFAULT_JSONRPC_SERVLET_BEAN_NAME);
+            servletRegistrationBean.setAsyncSupported(true);
 
             return servletRegistrationBean;
         }
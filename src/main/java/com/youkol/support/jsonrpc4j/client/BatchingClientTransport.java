@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadline;
+
+/**
+ * {@link JsonRpcClientTransport} sending calls made to the same url within a
+ * short window as one JSON-RPC batch.
+ * <p>
+ * The first caller of a batch waits for the window to pass, or for the batch
+ * to reach its maximum size, then sends the batch through the delegate; every
+ * caller receives the response with its own id. Ids are replaced by their
+ * position in the batch while it is sent, so calls with the same id, e.g. fixed
+ * ids or colliding random ones, do not get each other's responses. No extra
+ * threads are used.
+ * Only JSON requests with an id are batched, everything else, including
+ * {@link #executeAsync(URL, byte[], Map) async calls}, is passed through.
+ * <p>
+ * Calls with different {@value JsonRpcDeadline#HEADER} headers share a batch,
+ * which is sent with the shortest of their remaining times.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class BatchingClientTransport implements JsonRpcClientTransport {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private static final String ID = "id";
+
+    private final JsonRpcClientTransport delegate;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final ConcurrentMap<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    public BatchingClientTransport(JsonRpcClientTransport delegate) {
+        this(delegate, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a batching transport.
+     *
+     * @param delegate     the transport sending the batches
+     * @param window       how long the first call of a batch waits for others
+     * @param maxBatchSize the number of calls sending a batch before the window
+     *                     has passed
+     */
+    public BatchingClientTransport(JsonRpcClientTransport delegate, Duration window, int maxBatchSize) {
+        Assert.notNull(delegate, "JsonRpcClientTransport must not be null.");
+        Assert.isTrue(!window.isNegative(), "Window must not be negative.");
+        Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0.");
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException {
+        ObjectNode tree = this.resolveTree(request, headers);
+        if (tree == null) {
+            return this.delegate.execute(url, request, headers);
+        }
+
+        Call call = new Call(tree, request, headers.get(JsonRpcDeadline.HEADER));
+        BatchKey key = new BatchKey(url, headers);
+        Batch batch;
+        int position;
+        do {
+            batch = this.batches.computeIfAbsent(key, k -> new Batch(this.maxBatchSize));
+            position = batch.add(call);
+            if (position < 0) {
+                this.batches.remove(key, batch);
+            }
+        } while (position < 0);
+
+        if (position == 0) {
+            batch.awaitClose(this.windowNanos);
+            this.batches.remove(key, batch);
+            this.send(url, resolveBatchHeaders(headers, batch.calls), batch.calls);
+        }
+        return call.await();
+    }
+
+    /**
+     * Async calls are not batched: the batch is sent by its first caller, which
+     * must not block.
+     */
+    @Override
+    public CompletableFuture<byte[]> executeAsync(URL url, byte[] request, Map<String, String> headers) {
+        return this.delegate.executeAsync(url, request, headers);
+    }
+
+    /**
+     * The parsed JSON request, <code>null</code> if it must not be batched.
+     */
+    private ObjectNode resolveTree(byte[] request, Map<String, String> headers) {
+        String contentType = headers.get(JsonRpcTransportClient.CONTENT_TYPE_HEADER);
+        if (contentType == null || !contentType.toLowerCase().contains("json")) {
+            return null;
+        }
+        try {
+            JsonNode tree = this.mapper.readTree(request);
+            if (!(tree instanceof ObjectNode)) {
+                return null;
+            }
+            JsonNode id = tree.get(ID);
+            return id == null || id.isNull() ? null : (ObjectNode) tree;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The headers of the batch, passing on the shortest deadline of its calls.
+     */
+    private static Map<String, String> resolveBatchHeaders(Map<String, String> headers, List<Call> calls) {
+        JsonRpcDeadline deadline = null;
+        for (Call call : calls) {
+            JsonRpcDeadline callDeadline = JsonRpcDeadline.parse(call.deadline);
+            deadline = deadline == null ? callDeadline : deadline.min(callDeadline);
+        }
+        if (deadline == null) {
+            return headers;
+        }
+        Map<String, String> resolved = new HashMap<>(headers);
+        resolved.put(JsonRpcDeadline.HEADER, deadline.toHeader());
+        return resolved;
+    }
+
+    private void send(URL url, Map<String, String> headers, List<Call> calls) {
+        if (calls.size() == 1) {
+            Call call = calls.get(0);
+            try {
+                call.result.complete(this.delegate.execute(url, call.request, headers));
+            } catch (IOException | RuntimeException ex) {
+                call.result.completeExceptionally(ex);
+            }
+            return;
+        }
+
+        try {
+            ArrayNode request = this.mapper.createArrayNode();
+            for (int i = 0; i < calls.size(); i++) {
+                // the position in the batch stands in for the id of the caller
+                request.add(calls.get(i).tree.deepCopy().put(ID, i));
+            }
+
+            byte[] response = this.delegate.execute(url, this.mapper.writeValueAsBytes(request), headers);
+            JsonNode responses = this.mapper.readTree(response);
+            if (responses == null || !responses.isArray()) {
+                // a single error for the whole batch, e.g. a parse error
+                calls.forEach(call -> call.result.complete(response));
+                return;
+            }
+            ObjectNode[] byPosition = new ObjectNode[calls.size()];
+            for (JsonNode node : responses) {
+                JsonNode id = node.get(ID);
+                if (node instanceof ObjectNode && id != null && id.canConvertToInt()
+                        && id.intValue() >= 0 && id.intValue() < byPosition.length) {
+                    byPosition[id.intValue()] = (ObjectNode) node;
+                }
+            }
+            for (int i = 0; i < calls.size(); i++) {
+                Call call = calls.get(i);
+                ObjectNode node = byPosition[i];
+                if (node != null) {
+                    node.set(ID, call.tree.get(ID));
+                    call.result.complete(this.mapper.writeValueAsBytes(node));
+                } else {
+                    call.result.completeExceptionally(new IOException("No response for JSON-RPC id "
+                            + call.tree.get(ID)));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            calls.forEach(call -> call.result.completeExceptionally(ex));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+
+    private static final class Call {
+
+        private final ObjectNode tree;
+
+        private final byte[] request;
+
+        private final String deadline;
+
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        Call(ObjectNode tree, byte[] request, String deadline) {
+            this.tree = tree;
+            this.request = request;
+            this.deadline = deadline;
+        }
+
+        byte[] await() throws IOException {
+            try {
+                return this.result.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for the JSON-RPC batch response");
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    private static final class Batch {
+
+        private final List<Call> calls = new ArrayList<>();
+
+        private final int maxSize;
+
+        private boolean closed;
+
+        Batch(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Adds a call and returns its position, -1 if the batch has been closed.
+         */
+        synchronized int add(Call call) {
+            if (this.closed) {
+                return -1;
+            }
+            this.calls.add(call);
+            if (this.calls.size() >= this.maxSize) {
+                this.closed = true;
+                this.notifyAll();
+            }
+            return this.calls.size() - 1;
+        }
+
+        /**
+         * Waits until the batch is full or the window has passed, then closes it.
+         */
+        synchronized void awaitClose(long windowNanos) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            try {
+                while (!this.closed && remaining > 0) {
+                    this.wait(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                    remaining = deadline - System.nanoTime();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            this.closed = true;
+        }
+    }
+
+    private static final class BatchKey {
+
+        private final String url;
+
+        private final Map<String, String> headers;
+
+        BatchKey(URL url, Map<String, String> headers) {
+            // URL.equals resolves host names
+            this.url = url.toExternalForm();
+            if (headers.containsKey(JsonRpcDeadline.HEADER)) {
+                headers = new HashMap<>(headers);
+                headers.remove(JsonRpcDeadline.HEADER);
+            }
+            this.headers = headers;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey other = (BatchKey) obj;
+            return this.url.equals(other.url) && this.headers.equals(other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.url.hashCode() * 31 + this.headers.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * The bounded thread pool running the async calls of blocking transports,
+ * shared by all of them and created on first use. Idle threads time out, and
+ * calls beyond the queue capacity are rejected rather than waiting.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class BlockingCallExecutor {
+
+    static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    static final int QUEUE_CAPACITY = 1024;
+
+    private BlockingCallExecutor() {
+    }
+
+    static Executor get() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            CustomizableThreadCreator threadCreator = new CustomizableThreadCreator("jsonrpc-client-blocking-");
+            threadCreator.setDaemon(true);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadCreator::createThread);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking {@link JsonRpcClientTransport} on a pooling Apache HttpClient 5
+ * async client.
+ * <p>
+ * All I/O runs on a fixed number of event loop threads, so outstanding calls do
+ * not hold a thread each. Futures are completed on those threads: dependent
+ * stages doing blocking work should use the <code>*Async</code> variants with
+ * their own executor. Blocking calls wait for the future.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class HttpClient5AsyncClientTransport implements JsonRpcClientTransport {
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    public HttpClient5AsyncClientTransport() {
+        this(new JsonRpcConnectionSettings());
+    }
+
+    public HttpClient5AsyncClientTransport(JsonRpcConnectionSettings settings) {
+        this(createHttpClient(settings));
+    }
+
+    /**
+     * Creates a transport on a client configured elsewhere. The client is
+     * started if necessary and closed with the transport.
+     *
+     * @param httpClient the client
+     */
+    public HttpClient5AsyncClientTransport(CloseableHttpAsyncClient httpClient) {
+        Assert.notNull(httpClient, "CloseableHttpAsyncClient must not be null.");
+        this.httpClient = httpClient;
+        this.httpClient.start();
+    }
+
+    private static CloseableHttpAsyncClient createHttpClient(JsonRpcConnectionSettings settings) {
+        Assert.notNull(settings, "JsonRpcConnectionSettings must not be null.");
+        Timeout readTimeout = Timeout.ofMilliseconds(settings.getReadTimeout().toMillis());
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(settings.getIoThreads())
+                .setSoTimeout(readTimeout)
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                .setResponseTimeout(readTimeout)
+                .build();
+        return HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+                        .setMaxConnTotal(settings.getMaxConnections())
+                        .build())
+                .setIOReactorConfig(ioReactorConfig)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(settings.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    @Override
+    public byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException {
+        try {
+            return this.executeAsync(url, request, headers).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for the JSON-RPC response");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> executeAsync(URL url, byte[] request, Map<String, String> headers) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        SimpleRequestBuilder builder;
+        try {
+            builder = SimpleRequestBuilder.post(url.toURI());
+        } catch (URISyntaxException ex) {
+            result.completeExceptionally(new IOException("Illegal JSON-RPC service url " + url, ex));
+            return result;
+        }
+        ContentType contentType = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (JsonRpcTransportClient.CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getKey())) {
+                contentType = ContentType.parse(header.getValue());
+            } else {
+                builder.setHeader(header.getKey(), header.getValue());
+            }
+        }
+        SimpleHttpRequest httpRequest = builder.setBody(request, contentType).build();
+
+        Future<SimpleHttpResponse> exchange = this.httpClient.execute(httpRequest,
+                new FutureCallback<SimpleHttpResponse>() {
+
+                    @Override
+                    public void completed(SimpleHttpResponse response) {
+                        byte[] body = response.getBodyBytes();
+                        if (body == null) {
+                            body = new byte[0];
+                        }
+                        if (response.getCode() >= 400 && body.length == 0) {
+                            result.completeExceptionally(new JsonRpcTransportException(response.getCode(),
+                                    "HTTP " + response.getCode() + " without response body from " + url));
+                        } else {
+                            result.complete(body);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        result.completeExceptionally(ex);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.completeExceptionally(new CancellationException("JSON-RPC request cancelled"));
+                    }
+                });
+        // cancelling the result aborts the exchange
+        result.whenComplete((body, ex) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close(CloseMode.GRACEFUL);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JsonRpcClientTransport} on a pooling Apache HttpClient 5.
+ * <p>
+ * Connections are kept alive and reused per route; connections idle for longer
+ * than the idle timeout are closed by a background evictor.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class HttpClient5ClientTransport implements JsonRpcClientTransport {
+
+    private final CloseableHttpClient httpClient;
+
+    public HttpClient5ClientTransport() {
+        this(new JsonRpcConnectionSettings());
+    }
+
+    public HttpClient5ClientTransport(JsonRpcConnectionSettings settings) {
+        this(createHttpClient(settings));
+    }
+
+    /**
+     * Creates a transport on a client configured elsewhere. The client is closed
+     * with the transport.
+     *
+     * @param httpClient the client
+     */
+    public HttpClient5ClientTransport(CloseableHttpClient httpClient) {
+        Assert.notNull(httpClient, "CloseableHttpClient must not be null.");
+        this.httpClient = httpClient;
+    }
+
+    private static CloseableHttpClient createHttpClient(JsonRpcConnectionSettings settings) {
+        Assert.notNull(settings, "JsonRpcConnectionSettings must not be null.");
+        Timeout readTimeout = Timeout.ofMilliseconds(settings.getReadTimeout().toMillis());
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(readTimeout).build())
+                .build();
+        // stale connections are checked before reuse once idle for a second
+        connectionManager.setValidateAfterInactivity(TimeValue.ofSeconds(1));
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                .setResponseTimeout(readTimeout)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(settings.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    @Override
+    public byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException {
+        HttpPost post;
+        try {
+            post = new HttpPost(url.toURI());
+        } catch (URISyntaxException ex) {
+            throw new IOException("Illegal JSON-RPC service url " + url, ex);
+        }
+        headers.forEach(post::setHeader);
+        post.setEntity(new ByteArrayEntity(request, null));
+
+        return this.httpClient.execute(post, response -> {
+            HttpEntity entity = response.getEntity();
+            byte[] body = entity != null ? EntityUtils.toByteArray(entity) : new byte[0];
+            if (response.getCode() >= 400 && body.length == 0) {
+                throw new JsonRpcTransportException(response.getCode(),
+                        "HTTP " + response.getCode() + " without response body from " + url);
+            }
+            return body;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+}
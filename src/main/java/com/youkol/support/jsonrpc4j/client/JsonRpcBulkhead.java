@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the calls of a remote service in flight, so a slow service cannot
+ * hold all client threads.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcBulkhead {
+
+    private final int maxConcurrentCalls;
+
+    private final long maxWaitNanos;
+
+    private final Semaphore semaphore;
+
+    public JsonRpcBulkhead(JsonRpcResilienceSettings settings) {
+        this.maxConcurrentCalls = settings.getMaxConcurrentCalls();
+        this.maxWaitNanos = settings.getMaxWaitDuration().toNanos();
+        this.semaphore = this.maxConcurrentCalls > 0 ? new Semaphore(this.maxConcurrentCalls, true) : null;
+    }
+
+    /**
+     * Takes a slot, waiting up to the max wait duration.
+     *
+     * @return <code>false</code> if the bulkhead stayed full
+     */
+    boolean tryAcquire() {
+        if (this.semaphore == null) {
+            return true;
+        }
+        if (this.maxWaitNanos <= 0) {
+            return this.semaphore.tryAcquire();
+        }
+        try {
+            return this.semaphore.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    void release() {
+        if (this.semaphore != null) {
+            this.semaphore.release();
+        }
+    }
+
+    /**
+     * The limit, zero if unlimited.
+     */
+    public int getMaxConcurrentCalls() {
+        return this.maxConcurrentCalls;
+    }
+
+    /**
+     * The free slots, <code>-1</code> if unlimited.
+     */
+    public int getAvailableConcurrentCalls() {
+        return this.semaphore == null ? -1 : this.semaphore.availablePermits();
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+/**
+ * Thrown by client proxies instead of calling a service whose circuit is open
+ * or whose bulkhead is full.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcCallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        CIRCUIT_OPEN, BULKHEAD_FULL
+    }
+
+    private final String serviceName;
+
+    private final Reason reason;
+
+    public JsonRpcCallNotPermittedException(String serviceName, Reason reason) {
+        super(reason == Reason.CIRCUIT_OPEN
+                ? "Circuit of JSON-RPC service '" + serviceName + "' is open"
+                : "Bulkhead of JSON-RPC service '" + serviceName + "' is full");
+        this.serviceName = serviceName;
+        this.reason = reason;
+    }
+
+    public String getServiceName() {
+        return this.serviceName;
+    }
+
+    public Reason getReason() {
+        return this.reason;
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Count based circuit breaker of a remote service.
+ * <p>
+ * While <em>closed</em> the outcomes of the last calls are kept in a sliding
+ * window; once the window holds the minimum number of calls and the failure
+ * rate reaches the threshold the circuit <em>opens</em> and rejects every call.
+ * After the wait duration it becomes <em>half-open</em> and lets a few trial
+ * calls through: if all succeed it closes, one failure opens it again.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final JsonRpcResilienceSettings settings;
+
+    private final long waitNanos;
+
+    private final BiConsumer<State, State> transitionListener;
+
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+
+    private int windowIndex;
+
+    private int windowCalls;
+
+    private int windowFailures;
+
+    private long openedAt;
+
+    private int trialsIssued;
+
+    private int trialsSucceeded;
+
+    public JsonRpcCircuitBreaker(JsonRpcResilienceSettings settings) {
+        this(settings, (from, to) -> {
+        });
+    }
+
+    JsonRpcCircuitBreaker(JsonRpcResilienceSettings settings, BiConsumer<State, State> transitionListener) {
+        this.settings = settings;
+        this.waitNanos = settings.getWaitDurationInOpenState().toNanos();
+        this.transitionListener = transitionListener;
+        this.window = new boolean[settings.getSlidingWindowSize()];
+    }
+
+    /**
+     * Whether a call may be made. A permitted call must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+     */
+    boolean tryAcquirePermission() {
+        State from;
+        synchronized (this) {
+            if (this.state == State.CLOSED) {
+                return true;
+            }
+            if (this.state == State.HALF_OPEN) {
+                if (this.trialsIssued < this.settings.getPermittedCallsInHalfOpenState()) {
+                    this.trialsIssued++;
+                    return true;
+                }
+                return false;
+            }
+            if (System.nanoTime() - this.openedAt < this.waitNanos) {
+                return false;
+            }
+            from = this.transition(State.HALF_OPEN);
+            this.trialsIssued = 1;
+        }
+        this.transitionListener.accept(from, State.HALF_OPEN);
+        return true;
+    }
+
+    void onSuccess() {
+        State from = null;
+        synchronized (this) {
+            if (this.state == State.HALF_OPEN) {
+                if (++this.trialsSucceeded >= this.settings.getPermittedCallsInHalfOpenState()) {
+                    from = this.transition(State.CLOSED);
+                }
+            } else if (this.state == State.CLOSED) {
+                this.record(false);
+            }
+        }
+        if (from != null) {
+            this.transitionListener.accept(from, State.CLOSED);
+        }
+    }
+
+    void onFailure() {
+        State from = null;
+        synchronized (this) {
+            if (this.state == State.HALF_OPEN) {
+                from = this.transition(State.OPEN);
+            } else if (this.state == State.CLOSED && this.record(true)) {
+                from = this.transition(State.OPEN);
+            }
+        }
+        if (from != null) {
+            this.transitionListener.accept(from, State.OPEN);
+        }
+    }
+
+    /**
+     * A permitted call ended without outcome, e.g. was cancelled.
+     */
+    synchronized void onIgnored() {
+        if (this.state == State.HALF_OPEN && this.trialsIssued > this.trialsSucceeded) {
+            this.trialsIssued--;
+        }
+    }
+
+    /**
+     * Adds an outcome to the window.
+     *
+     * @return whether the failure rate reached the threshold
+     */
+    private boolean record(boolean failure) {
+        if (this.windowCalls == this.window.length) {
+            if (this.window[this.windowIndex]) {
+                this.windowFailures--;
+            }
+        } else {
+            this.windowCalls++;
+        }
+        this.window[this.windowIndex] = failure;
+        if (failure) {
+            this.windowFailures++;
+        }
+        this.windowIndex = (this.windowIndex + 1) % this.window.length;
+        return this.windowCalls >= this.settings.getMinimumNumberOfCalls()
+                && this.windowFailures * 100 >= this.settings.getFailureRateThreshold() * this.windowCalls;
+    }
+
+    private State transition(State to) {
+        State from = this.state;
+        this.state = to;
+        this.windowIndex = 0;
+        this.windowCalls = 0;
+        this.windowFailures = 0;
+        this.trialsIssued = 0;
+        this.trialsSucceeded = 0;
+        if (to == State.OPEN) {
+            this.openedAt = System.nanoTime();
+        }
+        return from;
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    /**
+     * Percentage of failed calls in the sliding window, <code>-1</code> below the
+     * minimum number of calls.
+     */
+    public synchronized float getFailureRate() {
+        if (this.windowCalls < this.settings.getMinimumNumberOfCalls()) {
+            return -1;
+        }
+        return this.windowFailures * 100f / this.windowCalls;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return this.windowCalls;
+    }
+
+    public JsonRpcResilienceSettings getSettings() {
+        return this.settings;
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcService;
+import com.googlecode.jsonrpc4j.spring.AutoJsonRpcClientProxyCreator;
+
+/**
+ * {@link AutoJsonRpcClientProxyCreator} registering
+ * {@link JsonRpcClientProxyFactoryBean}s, so the proxies of the
+ * {@link JsonRpcService} interfaces in the scan package call their servers
+ * through the {@link JsonRpcClientTransport} bean instead of a new
+ * {@code HttpURLConnection} per call.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcClientProxyCreator extends AutoJsonRpcClientProxyCreator {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcClientProxyCreator.class);
+
+    private ApplicationContext applicationContext;
+
+    private Environment environment;
+
+    private String scanPackage;
+
+    private URL baseUrl;
+
+    private ObjectMapper objectMapper;
+
+    private String contentType;
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        Assert.isInstanceOf(BeanDefinitionRegistry.class, beanFactory, "BeanFactory must be a BeanDefinitionRegistry.");
+        Assert.notNull(this.scanPackage, "Scan package must not be null.");
+        Assert.notNull(this.baseUrl, "Base url must not be null.");
+        BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+        SimpleMetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(this.applicationContext);
+        String pattern = "classpath:" + ClassUtils.convertClassNameToResourcePath(this.scanPackage) + "/**/*.class";
+        logger.debug("Scanning '{}' for JSON-RPC service interfaces.", pattern);
+        try {
+            for (Resource resource : this.applicationContext.getResources(pattern)) {
+                if (!resource.isReadable()) {
+                    continue;
+                }
+                MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(resource);
+                AnnotationMetadata annotationMetadata = metadataReader.getAnnotationMetadata();
+                if (!annotationMetadata.isInterface()
+                        || !annotationMetadata.isAnnotated(JsonRpcService.class.getName())) {
+                    continue;
+                }
+                String className = annotationMetadata.getClassName();
+                String path = (String) annotationMetadata.getAnnotationAttributes(JsonRpcService.class.getName())
+                        .get("value");
+                path = this.environment.resolvePlaceholders(path);
+                logger.debug("Found JSON-RPC service to proxy [{}] on path '{}'.", className, path);
+                this.registerProxyBean(registry, className, path);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException(String.format("Cannot scan package '%s' for classes.", this.scanPackage),
+                    ex);
+        }
+    }
+
+    /**
+     * Registers the proxy of a service interface as
+     * <code>&lt;className&gt;-clientProxy</code>, the bean name jsonrpc4j uses.
+     *
+     * @param registry  the bean definition registry
+     * @param className the service interface
+     * @param path      the service path relative to the base url
+     */
+    protected void registerProxyBean(BeanDefinitionRegistry registry, String className, String path) {
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(JsonRpcClientProxyFactoryBean.class)
+                .addPropertyValue("serviceUrl", this.resolveServiceUrl(path))
+                .addPropertyValue("serviceInterface", className)
+                .addPropertyValue("serviceName", path);
+        if (this.objectMapper != null) {
+            builder.addPropertyValue("objectMapper", this.objectMapper);
+        }
+        if (this.contentType != null) {
+            builder.addPropertyValue("contentType", this.contentType);
+        }
+        AbstractBeanDefinition beanDefinition = builder.getBeanDefinition();
+        // lets type lookups, e.g. of AutoJsonRpcServiceImplExporter, skip creating the proxy
+        beanDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE,
+                ClassUtils.resolveClassName(className, this.applicationContext.getClassLoader()));
+        registry.registerBeanDefinition(className + "-clientProxy", beanDefinition);
+    }
+
+    private URL resolveServiceUrl(String path) {
+        try {
+            return new URL(this.baseUrl, path);
+        } catch (MalformedURLException ex) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot combine URLs '%s' and '%s' to valid URL.", this.baseUrl, path), ex);
+        }
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        super.setApplicationContext(applicationContext);
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        super.setEnvironment(environment);
+        this.environment = environment;
+    }
+
+    public String getScanPackage() {
+        return this.scanPackage;
+    }
+
+    @Override
+    public void setScanPackage(String scanPackage) {
+        super.setScanPackage(scanPackage);
+        this.scanPackage = scanPackage;
+    }
+
+    public URL getBaseUrl() {
+        return this.baseUrl;
+    }
+
+    @Override
+    public void setBaseUrl(URL baseUrl) {
+        super.setBaseUrl(baseUrl);
+        this.baseUrl = baseUrl;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        super.setObjectMapper(objectMapper);
+        this.objectMapper = objectMapper;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        super.setContentType(contentType);
+        this.contentType = contentType;
+    }
+
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcService;
+import com.googlecode.jsonrpc4j.ProxyUtil;
+import com.googlecode.jsonrpc4j.ReflectionUtil;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadline;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadlineExceededException;
+
+/**
+ * Creates a proxy of a JSON-RPC service interface calling the server through a
+ * {@link JsonRpcClientTransport}, the counterpart of jsonrpc4j's
+ * {@code JsonProxyFactoryBean}.
+ * <p>
+ * Without an explicit transport the {@link JsonRpcClientTransport} bean of the
+ * bean factory is used.
+ * <p>
+ * Methods returning {@link CompletableFuture} (or {@code CompletionStage},
+ * {@code Future}) are invoked through
+ * {@link JsonRpcClientTransport#executeAsync(URL, byte[], Map)}, the type
+ * argument being the result type.
+ * <p>
+ * Calls of {@link JsonRpcIdempotent} methods are hedged and retried by the
+ * {@link JsonRpcHedgingInvoker}, if set or available as bean.
+ * <p>
+ * With a {@link JsonRpcClientResilience}, set or available as bean, calls are
+ * admitted by the {@link JsonRpcServiceGuard} of the service name and fail
+ * fast with a {@link JsonRpcCallNotPermittedException} while its circuit is
+ * open or its bulkhead full. The service name defaults to the
+ * {@link JsonRpcService} value of the interface.
+ * <p>
+ * The {@link JsonRpcDeadline} bound to the calling thread, e.g. while serving
+ * a call, is passed on in the {@value JsonRpcDeadline#HEADER} header; calls
+ * made after it has expired fail with a
+ * {@link JsonRpcDeadlineExceededException} without being sent.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcClientProxyFactoryBean
+        implements FactoryBean<Object>, InitializingBean, BeanFactoryAware, BeanClassLoaderAware, MethodInterceptor {
+
+    private Class<?> serviceInterface;
+
+    private URL serviceUrl;
+
+    private ObjectMapper objectMapper;
+
+    private String contentType;
+
+    private Map<String, String> extraHttpHeaders;
+
+    private JsonRpcClientTransport transport;
+
+    private JsonRpcHedgingInvoker hedgingInvoker;
+
+    private String serviceName;
+
+    private JsonRpcClientResilience resilience;
+
+    private JsonRpcServiceGuard guard;
+
+    private BeanFactory beanFactory;
+
+    private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+
+    private JsonRpcTransportClient client;
+
+    private Object proxy;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(this.serviceInterface, "Service interface must not be null.");
+        Assert.isTrue(this.serviceInterface.isInterface(), "Service interface must be an interface.");
+        Assert.notNull(this.serviceUrl, "Service url must not be null.");
+        if (this.transport == null) {
+            Assert.notNull(this.beanFactory, "JsonRpcClientTransport or BeanFactory must be set.");
+            this.transport = this.beanFactory.getBean(JsonRpcClientTransport.class);
+        }
+        if (this.hedgingInvoker == null && this.beanFactory != null) {
+            this.hedgingInvoker = this.beanFactory.getBeanProvider(JsonRpcHedgingInvoker.class).getIfAvailable();
+        }
+        if (this.resilience == null && this.beanFactory != null) {
+            this.resilience = this.beanFactory.getBeanProvider(JsonRpcClientResilience.class).getIfAvailable();
+        }
+        if (!StringUtils.hasText(this.serviceName)) {
+            JsonRpcService service = this.serviceInterface.getAnnotation(JsonRpcService.class);
+            this.serviceName = service != null ? service.value() : this.serviceInterface.getName();
+        }
+        if (this.resilience != null) {
+            this.guard = this.resilience.getGuard(this.serviceName);
+        }
+        if (this.objectMapper == null) {
+            this.objectMapper = new ObjectMapper();
+        }
+
+        this.client = new JsonRpcTransportClient(this.objectMapper, this.transport, this.serviceUrl);
+        this.client.setHeaders(this.extraHttpHeaders);
+        if (StringUtils.hasText(this.contentType)) {
+            this.client.setContentType(this.contentType);
+        }
+        this.proxy = new ProxyFactory(this.serviceInterface, this).getProxy(this.beanClassLoader);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class && "toString".equals(method.getName())) {
+            return this.serviceInterface.getName() + "@" + this.serviceUrl;
+        }
+        JsonRpcDeadline deadline = JsonRpcDeadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            throw new JsonRpcDeadlineExceededException();
+        }
+        Object arguments = ReflectionUtil.parseArguments(method, invocation.getArguments());
+        if (this.guard == null) {
+            return this.invokeRemote(method, arguments);
+        }
+        JsonRpcServiceGuard guard = this.guard;
+        guard.acquire();
+        Object result;
+        try {
+            result = this.invokeRemote(method, arguments);
+        } catch (Throwable ex) {
+            guard.release(ex);
+            throw ex;
+        }
+        if (isAsync(method) && result instanceof CompletableFuture) {
+            ((CompletableFuture<?>) result).whenComplete((value, ex) -> {
+                if (ex instanceof CancellationException) {
+                    guard.releaseIgnored();
+                } else {
+                    guard.release(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+            });
+        } else {
+            guard.release(null);
+        }
+        return result;
+    }
+
+    private Object invokeRemote(Method method, Object arguments) throws Throwable {
+        if (this.hedgingInvoker != null && isIdempotent(method)) {
+            return this.invokeHedged(method, arguments);
+        }
+        if (isAsync(method)) {
+            return this.client.invokeAsync(ProxyUtil.getMethodName(method), arguments, resolveAsyncResultType(method),
+                    deadlineHeaders(JsonRpcDeadline.current()));
+        }
+        return this.client.invoke(ProxyUtil.getMethodName(method), arguments, method.getGenericReturnType(),
+                deadlineHeaders(JsonRpcDeadline.current()));
+    }
+
+    private Object invokeHedged(Method method, Object arguments) throws Throwable {
+        String methodName = ProxyUtil.getMethodName(method);
+        boolean async = isAsync(method);
+        Type resultType = async ? resolveAsyncResultType(method) : method.getGenericReturnType();
+        // attempts run on other threads, each passes on the time left when it is sent
+        JsonRpcDeadline deadline = JsonRpcDeadline.current();
+        CompletableFuture<Object> result = this.hedgingInvoker.invoke(method,
+                () -> this.client.invokeAsync(methodName, arguments, resultType, deadlineHeaders(deadline)));
+        if (async) {
+            return result;
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            throw ex;
+        }
+    }
+
+    private static Map<String, String> deadlineHeaders(JsonRpcDeadline deadline) {
+        return deadline != null ? Collections.singletonMap(JsonRpcDeadline.HEADER, deadline.toHeader()) : null;
+    }
+
+    static boolean isIdempotent(Method method) {
+        return method.isAnnotationPresent(JsonRpcIdempotent.class)
+                || method.getDeclaringClass().isAnnotationPresent(JsonRpcIdempotent.class);
+    }
+
+    /**
+     * Whether the method returns a {@link CompletableFuture}, or one of its
+     * interfaces, and is invoked without blocking.
+     */
+    static boolean isAsync(Method method) {
+        Class<?> returnType = method.getReturnType();
+        return returnType != Object.class && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    /**
+     * The type argument of the future, the type the result is read as.
+     */
+    static Type resolveAsyncResultType(Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) returnType).getActualTypeArguments();
+            if (arguments.length == 1 && !(arguments[0] instanceof WildcardType)) {
+                return arguments[0];
+            }
+        }
+        return Object.class;
+    }
+
+    @Override
+    public Object getObject() {
+        return this.proxy;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return this.serviceInterface;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.beanClassLoader = classLoader;
+    }
+
+    public JsonRpcTransportClient getClient() {
+        return this.client;
+    }
+
+    public Class<?> getServiceInterface() {
+        return this.serviceInterface;
+    }
+
+    public void setServiceInterface(Class<?> serviceInterface) {
+        this.serviceInterface = serviceInterface;
+    }
+
+    public URL getServiceUrl() {
+        return this.serviceUrl;
+    }
+
+    public void setServiceUrl(URL serviceUrl) {
+        this.serviceUrl = serviceUrl;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public void setExtraHttpHeaders(Map<String, String> extraHttpHeaders) {
+        this.extraHttpHeaders = extraHttpHeaders;
+    }
+
+    public JsonRpcClientTransport getTransport() {
+        return this.transport;
+    }
+
+    public void setTransport(JsonRpcClientTransport transport) {
+        this.transport = transport;
+    }
+
+    public String getServiceName() {
+        return this.serviceName;
+    }
+
+    /**
+     * Name of the remote service selecting its {@link JsonRpcServiceGuard}.
+     *
+     * @param serviceName the service name
+     */
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public JsonRpcClientResilience getResilience() {
+        return this.resilience;
+    }
+
+    public void setResilience(JsonRpcClientResilience resilience) {
+        this.resilience = resilience;
+    }
+
+    public JsonRpcHedgingInvoker getHedgingInvoker() {
+        return this.hedgingInvoker;
+    }
+
+    public void setHedgingInvoker(JsonRpcHedgingInvoker hedgingInvoker) {
+        this.hedgingInvoker = hedgingInvoker;
+    }
+
+}
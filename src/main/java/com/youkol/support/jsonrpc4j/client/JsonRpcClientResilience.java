@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link JsonRpcServiceGuard}s of the remote services, created
+ * on first use from the settings of the service or the default settings.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcClientResilience {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcClientResilience.class);
+
+    private final JsonRpcResilienceSettings defaultSettings;
+
+    private final Map<String, JsonRpcResilienceSettings> serviceSettings;
+
+    private final ConcurrentMap<String, JsonRpcServiceGuard> guards = new ConcurrentHashMap<>();
+
+    private final List<JsonRpcServiceGuardListener> listeners = new CopyOnWriteArrayList<>();
+
+    public JsonRpcClientResilience() {
+        this(new JsonRpcResilienceSettings(), Collections.emptyMap());
+    }
+
+    public JsonRpcClientResilience(JsonRpcResilienceSettings defaultSettings,
+            Map<String, JsonRpcResilienceSettings> serviceSettings) {
+        Assert.notNull(defaultSettings, "Default settings must not be null.");
+        Assert.notNull(serviceSettings, "Service settings must not be null.");
+        this.defaultSettings = defaultSettings;
+        this.serviceSettings = new LinkedHashMap<>(serviceSettings);
+        this.listeners.add(new JsonRpcServiceGuardListener() {
+            @Override
+            public void onStateTransition(JsonRpcServiceGuard guard, JsonRpcCircuitBreaker.State from,
+                    JsonRpcCircuitBreaker.State to) {
+                logger.warn("Circuit of JSON-RPC service '{}' changed from {} to {}", guard.getServiceName(), from,
+                        to);
+            }
+        });
+    }
+
+    public JsonRpcServiceGuard getGuard(String serviceName) {
+        JsonRpcServiceGuard guard = this.guards.get(serviceName);
+        if (guard != null) {
+            return guard;
+        }
+        JsonRpcServiceGuard created = new JsonRpcServiceGuard(serviceName,
+                this.serviceSettings.getOrDefault(serviceName, this.defaultSettings), this.listeners);
+        guard = this.guards.putIfAbsent(serviceName, created);
+        if (guard != null) {
+            return guard;
+        }
+        for (JsonRpcServiceGuardListener listener : this.listeners) {
+            listener.onGuardCreated(created);
+        }
+        return created;
+    }
+
+    public Collection<JsonRpcServiceGuard> getGuards() {
+        return Collections.unmodifiableCollection(this.guards.values());
+    }
+
+    public JsonRpcResilienceSettings getDefaultSettings() {
+        return this.defaultSettings;
+    }
+
+    public Map<String, JsonRpcResilienceSettings> getServiceSettings() {
+        return Collections.unmodifiableMap(this.serviceSettings);
+    }
+
+    /**
+     * Adds a listener, notified of the guards created so far right away.
+     *
+     * @param listener the listener
+     */
+    public void addListener(JsonRpcServiceGuardListener listener) {
+        this.listeners.add(listener);
+        this.guards.values().forEach(listener::onGuardCreated);
+    }
+
+    public void removeListener(JsonRpcServiceGuardListener listener) {
+        this.listeners.remove(listener);
+    }
+
+}
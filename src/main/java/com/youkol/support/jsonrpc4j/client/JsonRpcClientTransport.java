@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Sends serialized JSON-RPC requests to a server.
+ * <p>
+ * Implementations are shared by all client proxies and must be thread-safe.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public interface JsonRpcClientTransport extends Closeable {
+
+    /**
+     * Posts a request and returns the response body. The body of an error
+     * status is returned as well, since servers answer JSON-RPC errors with
+     * one.
+     *
+     * @param url     the service url
+     * @param request the serialized request
+     * @param headers the request headers, including <code>Content-Type</code>
+     * @return the response body, empty for notifications
+     * @throws JsonRpcTransportException if an error status comes without body
+     * @throws IOException               if the exchange fails
+     */
+    byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException;
+
+    /**
+     * Posts a request without blocking the caller. Failures complete the
+     * future with the exception {@link #execute(URL, byte[], Map)} would throw.
+     * <p>
+     * This default runs {@link #execute(URL, byte[], Map)} on a bounded thread
+     * pool shared by the blocking transports; the future fails with a
+     * {@link RejectedExecutionException} if the pool is saturated, and a call
+     * cancelled while queued is not sent. Non-blocking transports override it.
+     *
+     * @param url     the service url
+     * @param request the serialized request
+     * @param headers the request headers, including <code>Content-Type</code>
+     * @return the future response body
+     */
+    default CompletableFuture<byte[]> executeAsync(URL url, byte[] request, Map<String, String> headers) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        try {
+            BlockingCallExecutor.get().execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(this.execute(url, request, headers));
+                } catch (IOException | RuntimeException ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+
+}
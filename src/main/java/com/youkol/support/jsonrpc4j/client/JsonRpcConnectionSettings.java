@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Connection settings of a {@link JsonRpcClientTransport}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcConnectionSettings {
+
+    private int maxConnectionsPerRoute = 20;
+
+    private int maxConnections = 200;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    private int ioThreads = Runtime.getRuntime().availableProcessors();
+
+    public int getMaxConnectionsPerRoute() {
+        return this.maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        Assert.isTrue(maxConnectionsPerRoute > 0, "Max connections per route must be greater than 0.");
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public int getMaxConnections() {
+        return this.maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        Assert.isTrue(maxConnections > 0, "Max connections must be greater than 0.");
+        this.maxConnections = maxConnections;
+    }
+
+    public Duration getConnectTimeout() {
+        return this.connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        Assert.notNull(connectTimeout, "Connect timeout must not be null.");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return this.readTimeout;
+    }
+
+    /**
+     * Maximum time waiting for response data, zero for no timeout.
+     *
+     * @param readTimeout the timeout
+     */
+    public void setReadTimeout(Duration readTimeout) {
+        Assert.notNull(readTimeout, "Read timeout must not be null.");
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * Pooled connections idle for longer are closed by a background evictor.
+     *
+     * @param idleTimeout the idle timeout
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        Assert.notNull(idleTimeout, "Idle timeout must not be null.");
+        this.idleTimeout = idleTimeout;
+    }
+
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    /**
+     * Number of event loop threads of non-blocking transports.
+     *
+     * @param ioThreads the number of threads
+     */
+    public void setIoThreads(int ioThreads) {
+        Assert.isTrue(ioThreads > 0, "IO threads must be greater than 0.");
+        this.ioThreads = ioThreads;
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A server behind a {@link LoadBalancingClientTransport} and the statistics
+ * the {@link JsonRpcEndpointSelector}s choose by.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcEndpoint {
+
+    /**
+     * Weight of a new latency sample in the moving average.
+     */
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final URL baseUrl;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private final AtomicLong latencyBits = new AtomicLong(Double.doubleToLongBits(0.0));
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile long ejectedUntil;
+
+    private volatile boolean ejected;
+
+    public JsonRpcEndpoint(URL baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public URL getBaseUrl() {
+        return this.baseUrl;
+    }
+
+    /**
+     * Number of requests sent and not yet answered.
+     *
+     * @return the outstanding requests
+     */
+    public int getOutstanding() {
+        return this.outstanding.get();
+    }
+
+    /**
+     * Exponentially weighted moving average of the response time in
+     * nanoseconds, 0 before the first response.
+     *
+     * @return the average latency
+     */
+    public double getLatency() {
+        return Double.longBitsToDouble(this.latencyBits.get());
+    }
+
+    public int getConsecutiveFailures() {
+        return this.consecutiveFailures.get();
+    }
+
+    /**
+     * Whether the endpoint has been ejected and not been reinstated yet by a
+     * successful request or health check.
+     *
+     * @return <code>true</code> if ejected
+     */
+    public boolean isEjected() {
+        return this.ejected;
+    }
+
+    /**
+     * Whether the endpoint receives requests, that is it is not ejected or its
+     * ejection time has passed.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return <code>true</code> if available
+     */
+    public boolean isAvailable(long now) {
+        return !this.ejected || now - this.ejectedUntil >= 0;
+    }
+
+    void requestStarted() {
+        this.outstanding.incrementAndGet();
+    }
+
+    void requestSucceeded(long latencyNanos) {
+        this.outstanding.decrementAndGet();
+        this.reinstate();
+        this.recordLatency(latencyNanos);
+    }
+
+    /**
+     * Records a request ending neither with a response nor an I/O error, e.g.
+     * a cancelled one.
+     */
+    void requestAborted() {
+        this.outstanding.decrementAndGet();
+    }
+
+    /**
+     * Records a failed request and ejects the endpoint once the failures in a
+     * row reach the threshold.
+     *
+     * @return <code>true</code> if this failure ejected the endpoint
+     */
+    boolean requestFailed(int failureThreshold, long ejectionNanos) {
+        this.outstanding.decrementAndGet();
+        if (this.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            return this.eject(ejectionNanos);
+        }
+        return false;
+    }
+
+    /**
+     * @return <code>true</code> if the endpoint was not ejected before
+     */
+    boolean eject(long ejectionNanos) {
+        this.ejectedUntil = System.nanoTime() + ejectionNanos;
+        boolean wasEjected = this.ejected;
+        this.ejected = true;
+        return !wasEjected;
+    }
+
+    /**
+     * @return <code>true</code> if the endpoint was ejected before
+     */
+    boolean reinstate() {
+        this.consecutiveFailures.set(0);
+        boolean wasEjected = this.ejected;
+        this.ejected = false;
+        return wasEjected;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        long current;
+        double next;
+        do {
+            current = this.latencyBits.get();
+            double average = Double.longBitsToDouble(current);
+            next = average == 0.0 ? latencyNanos : average + EWMA_ALPHA * (latencyNanos - average);
+        } while (!this.latencyBits.compareAndSet(current, Double.doubleToLongBits(next)));
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcEndpoint [baseUrl=" + this.baseUrl + ", outstanding=" + this.outstanding
+                + ", consecutiveFailures=" + this.consecutiveFailures + "]";
+    }
+
+}
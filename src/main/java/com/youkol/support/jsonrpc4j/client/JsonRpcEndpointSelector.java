@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.List;
+
+/**
+ * Strategy choosing the server of a request from the available endpoints of a
+ * {@link LoadBalancingClientTransport}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface JsonRpcEndpointSelector {
+
+    /**
+     * Chooses an endpoint.
+     *
+     * @param endpoints the available endpoints, never empty
+     * @return the chosen endpoint
+     */
+    JsonRpcEndpoint select(List<JsonRpcEndpoint> endpoints);
+
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hedges and retries calls of {@link JsonRpcIdempotent} methods.
+ * <p>
+ * A call starts one attempt. While it is outstanding after the hedge delay a
+ * second attempt is started, and so on up to <code>maxAttempts</code>; the
+ * first successful attempt completes the call and the others are cancelled.
+ * An attempt failing with an {@link IOException} is retried at once, any other
+ * failure completes the call. Hedges and retries are taken from the
+ * {@link JsonRpcRetryBudget}, so they stop when the servers are failing for
+ * everyone.
+ * <p>
+ * The hedge delay is fixed, or with a {@link #setDelayPercentile(double)
+ * percentile} follows the latency of the recent calls of each method, e.g. the
+ * 95th percentile. Attempts are started on a bounded thread pool so blocking
+ * transports can be hedged; while all its threads are busy, hedges and retries
+ * are skipped and a first attempt runs on the calling thread. Only
+ * non-blocking transports abort the exchange of a cancelled attempt, blocking
+ * ones let it finish and drop the response.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcHedgingInvoker implements Closeable {
+
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 2;
+
+    public static final int DEFAULT_MAX_THREADS = 64;
+
+    private static final AtomicInteger poolNumber = new AtomicInteger();
+
+    private final long delayNanos;
+
+    private final int maxAttempts;
+
+    private final JsonRpcRetryBudget retryBudget;
+
+    private final ExecutorService attemptExecutor;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<Method, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    private double delayPercentile = 0;
+
+    public JsonRpcHedgingInvoker() {
+        this(DEFAULT_DELAY, DEFAULT_MAX_ATTEMPTS, new JsonRpcRetryBudget());
+    }
+
+    public JsonRpcHedgingInvoker(Duration delay, int maxAttempts, JsonRpcRetryBudget retryBudget) {
+        this(delay, maxAttempts, retryBudget, DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * Creates a hedging invoker.
+     *
+     * @param delay       how long an attempt is outstanding before the next
+     *                    one is started
+     * @param maxAttempts the maximum number of attempts of a call
+     * @param retryBudget the budget of the hedges and retries
+     * @param maxThreads  the maximum number of threads starting attempts
+     */
+    public JsonRpcHedgingInvoker(Duration delay, int maxAttempts, JsonRpcRetryBudget retryBudget,
+            int maxThreads) {
+        Assert.notNull(delay, "Hedge delay must not be null.");
+        Assert.isTrue(!delay.isNegative(), "Hedge delay must not be negative.");
+        Assert.isTrue(maxAttempts > 0, "Max attempts must be greater than 0.");
+        Assert.notNull(retryBudget, "JsonRpcRetryBudget must not be null.");
+        Assert.isTrue(maxThreads > 0, "Max threads must be greater than 0.");
+        this.delayNanos = delay.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.retryBudget = retryBudget;
+        String prefix = "jsonrpc-hedging-" + poolNumber.incrementAndGet();
+        // no queue: an attempt waiting for a thread would only be late
+        this.attemptExecutor = new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreads(prefix + "-attempt-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads(prefix + "-timer-"));
+    }
+
+    /**
+     * Runs the attempts of a call.
+     *
+     * @param method  the invoked method, keying the latency statistics
+     * @param attempt starts one attempt
+     * @param <T>     the result type
+     * @return the result of the first successful attempt; cancelling it cancels
+     *         all attempts
+     */
+    public <T> CompletableFuture<T> invoke(Method method, Supplier<CompletableFuture<T>> attempt) {
+        this.retryBudget.deposit();
+        HedgedCall<T> call = new HedgedCall<>(this.latencies.computeIfAbsent(method, key -> new LatencyWindow()),
+                attempt);
+        call.start(false);
+        return call.result;
+    }
+
+    private long getDelayNanos(LatencyWindow window) {
+        if (this.delayPercentile <= 0) {
+            return this.delayNanos;
+        }
+        long percentile = window.percentile(this.delayPercentile);
+        return percentile < 0 ? this.delayNanos : percentile;
+    }
+
+    public Duration getDelay() {
+        return Duration.ofNanos(this.delayNanos);
+    }
+
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    public JsonRpcRetryBudget getRetryBudget() {
+        return this.retryBudget;
+    }
+
+    public double getDelayPercentile() {
+        return this.delayPercentile;
+    }
+
+    /**
+     * Percentile of the recent latencies of a method used as hedge delay, e.g.
+     * <code>0.95</code>. The fixed delay applies until enough calls have been
+     * seen. <code>0</code> always uses the fixed delay.
+     *
+     * @param delayPercentile the percentile between 0 and 1
+     */
+    public void setDelayPercentile(double delayPercentile) {
+        Assert.isTrue(delayPercentile >= 0 && delayPercentile < 1, "Delay percentile must be in [0, 1).");
+        this.delayPercentile = delayPercentile;
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        this.attemptExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class HedgedCall<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private final LatencyWindow latency;
+
+        private final Supplier<CompletableFuture<T>> attempt;
+
+        private final List<CompletableFuture<T>> attempts = new ArrayList<>(JsonRpcHedgingInvoker.this.maxAttempts);
+
+        private int started;
+
+        private int failed;
+
+        private ScheduledFuture<?> hedge;
+
+        HedgedCall(LatencyWindow latency, Supplier<CompletableFuture<T>> attempt) {
+            this.latency = latency;
+            this.attempt = attempt;
+            this.result.whenComplete((value, ex) -> this.cancelAll());
+        }
+
+        /**
+         * Starts the next attempt unless the call is complete, out of attempts or
+         * out of budget.
+         */
+        void start(boolean additional) {
+            synchronized (this) {
+                if (this.result.isDone() || this.started >= JsonRpcHedgingInvoker.this.maxAttempts) {
+                    return;
+                }
+                if (additional && !JsonRpcHedgingInvoker.this.retryBudget.tryWithdraw()) {
+                    return;
+                }
+                this.started++;
+                this.scheduleHedge();
+            }
+            ExecutorService executor = JsonRpcHedgingInvoker.this.attemptExecutor;
+            try {
+                executor.execute(this::run);
+            } catch (RejectedExecutionException ex) {
+                if (executor.isShutdown()) {
+                    this.failed(ex);
+                } else if (!additional) {
+                    this.run();
+                } else {
+                    // all threads are busy, skip this hedge or retry
+                    synchronized (this) {
+                        this.started--;
+                    }
+                }
+            } catch (RuntimeException ex) {
+                this.failed(ex);
+            }
+        }
+
+        private void scheduleHedge() {
+            if (this.started >= JsonRpcHedgingInvoker.this.maxAttempts) {
+                return;
+            }
+            if (this.hedge != null) {
+                this.hedge.cancel(false);
+            }
+            this.hedge = JsonRpcHedgingInvoker.this.scheduler.schedule(() -> this.start(true),
+                    JsonRpcHedgingInvoker.this.getDelayNanos(this.latency), TimeUnit.NANOSECONDS);
+        }
+
+        private void run() {
+            long begin = System.nanoTime();
+            CompletableFuture<T> exchange;
+            try {
+                exchange = this.attempt.get();
+            } catch (RuntimeException ex) {
+                this.failed(ex);
+                return;
+            }
+            synchronized (this) {
+                this.attempts.add(exchange);
+            }
+            if (this.result.isDone()) {
+                exchange.cancel(true);
+                return;
+            }
+            exchange.whenComplete((value, ex) -> {
+                if (ex == null) {
+                    this.latency.record(System.nanoTime() - begin);
+                    this.result.complete(value);
+                } else if (!exchange.isCancelled()) {
+                    this.failed(ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause()
+                            : ex);
+                }
+            });
+        }
+
+        private void failed(Throwable ex) {
+            if (!(ex instanceof IOException)) {
+                this.result.completeExceptionally(ex);
+                return;
+            }
+            boolean last;
+            synchronized (this) {
+                this.failed++;
+                int before = this.started;
+                this.start(true);
+                last = this.started == before && this.failed == this.started;
+            }
+            if (last) {
+                this.result.completeExceptionally(ex);
+            }
+        }
+
+        private void cancelAll() {
+            List<CompletableFuture<T>> outstanding;
+            synchronized (this) {
+                if (this.hedge != null) {
+                    this.hedge.cancel(false);
+                }
+                outstanding = new ArrayList<>(this.attempts);
+            }
+            for (CompletableFuture<T> exchange : outstanding) {
+                exchange.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * The latencies of the last successful attempts of a method. The percentile
+     * is recomputed every {@link #REFRESH} samples.
+     */
+    private static final class LatencyWindow {
+
+        private static final int SIZE = 128;
+
+        private static final int REFRESH = 16;
+
+        private static final int MIN_SAMPLES = 32;
+
+        private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private volatile double cachedPercentile = -1;
+
+        private volatile long cachedValue = -1;
+
+        private volatile int cachedAt = -1;
+
+        void record(long nanos) {
+            int index = this.count.getAndIncrement();
+            this.samples.set(Math.floorMod(index, SIZE), nanos);
+        }
+
+        long percentile(double percentile) {
+            int count = this.count.get();
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            if (this.cachedPercentile == percentile && count - this.cachedAt < REFRESH) {
+                return this.cachedValue;
+            }
+            int size = Math.min(count, SIZE);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = this.samples.get(i);
+            }
+            Arrays.sort(sorted);
+            long value = sorted[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+            this.cachedValue = value;
+            this.cachedPercentile = percentile;
+            this.cachedAt = count;
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings of the {@link JsonRpcCircuitBreaker} and {@link JsonRpcBulkhead} of
+ * a remote service.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcResilienceSettings {
+
+    private int failureRateThreshold = 50;
+
+    private int slidingWindowSize = 20;
+
+    private int minimumNumberOfCalls = 10;
+
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    private int permittedCallsInHalfOpenState = 3;
+
+    private int maxConcurrentCalls = 0;
+
+    private Duration maxWaitDuration = Duration.ZERO;
+
+    public int getFailureRateThreshold() {
+        return this.failureRateThreshold;
+    }
+
+    /**
+     * Percentage of failed calls in the sliding window opening the circuit.
+     *
+     * @param failureRateThreshold the percentage between 1 and 100
+     */
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100,
+                "Failure rate threshold must be between 1 and 100.");
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return this.slidingWindowSize;
+    }
+
+    /**
+     * Number of most recent calls the failure rate is computed over.
+     *
+     * @param slidingWindowSize the number of calls
+     */
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        Assert.isTrue(slidingWindowSize > 0, "Sliding window size must be greater than 0.");
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return this.minimumNumberOfCalls;
+    }
+
+    /**
+     * Number of calls in the sliding window before the failure rate is
+     * evaluated.
+     *
+     * @param minimumNumberOfCalls the number of calls
+     */
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        Assert.isTrue(minimumNumberOfCalls > 0, "Minimum number of calls must be greater than 0.");
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    public Duration getWaitDurationInOpenState() {
+        return this.waitDurationInOpenState;
+    }
+
+    /**
+     * How long an open circuit rejects calls before letting trial calls through.
+     *
+     * @param waitDurationInOpenState the duration
+     */
+    public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+        Assert.notNull(waitDurationInOpenState, "Wait duration in open state must not be null.");
+        this.waitDurationInOpenState = waitDurationInOpenState;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return this.permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Number of trial calls of a half-open circuit; all of them must succeed to
+     * close it.
+     *
+     * @param permittedCallsInHalfOpenState the number of calls
+     */
+    public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        Assert.isTrue(permittedCallsInHalfOpenState > 0, "Permitted calls in half-open state must be greater than 0.");
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return this.maxConcurrentCalls;
+    }
+
+    /**
+     * Maximum number of calls in flight, zero for no limit.
+     *
+     * @param maxConcurrentCalls the number of calls
+     */
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        Assert.isTrue(maxConcurrentCalls >= 0, "Max concurrent calls must not be negative.");
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Duration getMaxWaitDuration() {
+        return this.maxWaitDuration;
+    }
+
+    /**
+     * How long a call waits for a free slot of a full bulkhead, zero to fail at
+     * once.
+     *
+     * @param maxWaitDuration the duration
+     */
+    public void setMaxWaitDuration(Duration maxWaitDuration) {
+        Assert.notNull(maxWaitDuration, "Max wait duration must not be null.");
+        this.maxWaitDuration = maxWaitDuration;
+    }
+
+}
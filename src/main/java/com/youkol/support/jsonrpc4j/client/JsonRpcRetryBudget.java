@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import org.springframework.util.Assert;
+
+/**
+ * Limits hedged and retried calls to a share of the calls made.
+ * <p>
+ * Every call deposits <code>ratio</code> tokens, every additional attempt
+ * withdraws one. A reserve of <code>minRetriesPerSecond</code> tokens per second
+ * keeps retries possible at low traffic. The balance is capped at ten seconds'
+ * worth of reserve (at least ten tokens), so an outage following a quiet
+ * period cannot draw on an unbounded balance.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcRetryBudget {
+
+    public static final double DEFAULT_RATIO = 0.1;
+
+    public static final int DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratio;
+
+    private final int minRetriesPerSecond;
+
+    private final double capacity;
+
+    private double balance;
+
+    private long lastRefill = System.nanoTime();
+
+    public JsonRpcRetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND);
+    }
+
+    public JsonRpcRetryBudget(double ratio, int minRetriesPerSecond) {
+        Assert.isTrue(ratio >= 0, "Retry ratio must not be negative.");
+        Assert.isTrue(minRetriesPerSecond >= 0, "Minimum retries per second must not be negative.");
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.capacity = Math.max(10, 10 * minRetriesPerSecond);
+        this.balance = minRetriesPerSecond;
+    }
+
+    /**
+     * Records a call.
+     */
+    public synchronized void deposit() {
+        this.refill();
+        this.balance = Math.min(this.capacity, this.balance + this.ratio);
+    }
+
+    /**
+     * Takes the token for an additional attempt.
+     *
+     * @return <code>false</code> if the budget is exhausted
+     */
+    public synchronized boolean tryWithdraw() {
+        this.refill();
+        if (this.balance < 1) {
+            return false;
+        }
+        this.balance -= 1;
+        return true;
+    }
+
+    public synchronized double getBalance() {
+        this.refill();
+        return this.balance;
+    }
+
+    public double getRatio() {
+        return this.ratio;
+    }
+
+    public int getMinRetriesPerSecond() {
+        return this.minRetriesPerSecond;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (this.minRetriesPerSecond > 0) {
+            double earned = (double) (now - this.lastRefill) * this.minRetriesPerSecond / NANOS_PER_SECOND;
+            this.balance = Math.min(this.capacity, this.balance + earned);
+        }
+        this.lastRefill = now;
+    }
+
+}
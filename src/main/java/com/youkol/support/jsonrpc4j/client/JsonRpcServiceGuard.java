@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The {@link JsonRpcCircuitBreaker} and {@link JsonRpcBulkhead} of a remote
+ * service.
+ * <p>
+ * Only {@link IOException}s count as failures: a JSON-RPC error response shows
+ * the service is reachable.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServiceGuard {
+
+    private final String serviceName;
+
+    private final JsonRpcCircuitBreaker circuitBreaker;
+
+    private final JsonRpcBulkhead bulkhead;
+
+    private final List<JsonRpcServiceGuardListener> listeners;
+
+    JsonRpcServiceGuard(String serviceName, JsonRpcResilienceSettings settings,
+            List<JsonRpcServiceGuardListener> listeners) {
+        this.serviceName = serviceName;
+        this.listeners = listeners;
+        this.circuitBreaker = new JsonRpcCircuitBreaker(settings, this::fireStateTransition);
+        this.bulkhead = new JsonRpcBulkhead(settings);
+    }
+
+    /**
+     * Admits a call, to be followed by {@link #release(Throwable)}.
+     *
+     * @throws JsonRpcCallNotPermittedException if the bulkhead is full or the
+     *                                          circuit open
+     */
+    public void acquire() {
+        if (!this.bulkhead.tryAcquire()) {
+            throw this.notPermitted(JsonRpcCallNotPermittedException.Reason.BULKHEAD_FULL);
+        }
+        if (!this.circuitBreaker.tryAcquirePermission()) {
+            this.bulkhead.release();
+            throw this.notPermitted(JsonRpcCallNotPermittedException.Reason.CIRCUIT_OPEN);
+        }
+    }
+
+    /**
+     * Records the outcome of an admitted call.
+     *
+     * @param failure the failure, <code>null</code> on success
+     */
+    public void release(Throwable failure) {
+        try {
+            if (failure instanceof IOException) {
+                this.circuitBreaker.onFailure();
+            } else {
+                this.circuitBreaker.onSuccess();
+            }
+        } finally {
+            this.bulkhead.release();
+        }
+    }
+
+    /**
+     * Releases an admitted call that ended without outcome, e.g. was cancelled.
+     */
+    public void releaseIgnored() {
+        try {
+            this.circuitBreaker.onIgnored();
+        } finally {
+            this.bulkhead.release();
+        }
+    }
+
+    private JsonRpcCallNotPermittedException notPermitted(JsonRpcCallNotPermittedException.Reason reason) {
+        JsonRpcCallNotPermittedException ex = new JsonRpcCallNotPermittedException(this.serviceName, reason);
+        for (JsonRpcServiceGuardListener listener : this.listeners) {
+            listener.onCallNotPermitted(this, ex);
+        }
+        return ex;
+    }
+
+    private void fireStateTransition(JsonRpcCircuitBreaker.State from, JsonRpcCircuitBreaker.State to) {
+        for (JsonRpcServiceGuardListener listener : this.listeners) {
+            listener.onStateTransition(this, from, to);
+        }
+    }
+
+    public String getServiceName() {
+        return this.serviceName;
+    }
+
+    public JsonRpcCircuitBreaker getCircuitBreaker() {
+        return this.circuitBreaker;
+    }
+
+    public JsonRpcBulkhead getBulkhead() {
+        return this.bulkhead;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcServiceGuard [serviceName=" + this.serviceName + ", state="
+                + this.circuitBreaker.getState() + "]";
+    }
+
+}
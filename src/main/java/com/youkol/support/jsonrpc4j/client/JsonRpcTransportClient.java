@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.IJsonRpcClient;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcClient;
+
+/**
+ * JSON-RPC client sending its requests through a {@link JsonRpcClientTransport}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcTransportClient extends JsonRpcClient implements IJsonRpcClient {
+
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+    private final JsonRpcClientTransport transport;
+
+    private final URL serviceUrl;
+
+    private Map<String, String> headers = Collections.emptyMap();
+
+    private String contentType = JsonRpcBasicServer.JSONRPC_CONTENT_TYPE;
+
+    public JsonRpcTransportClient(ObjectMapper mapper, JsonRpcClientTransport transport, URL serviceUrl) {
+        super(mapper);
+        Assert.notNull(transport, "JsonRpcClientTransport must not be null.");
+        Assert.notNull(serviceUrl, "Service url must not be null.");
+        this.transport = transport;
+        this.serviceUrl = serviceUrl;
+    }
+
+    @Override
+    public void invoke(String methodName, Object argument) throws Throwable {
+        this.invoke(methodName, argument, null, Collections.emptyMap());
+    }
+
+    @Override
+    public Object invoke(String methodName, Object argument, Type returnType) throws Throwable {
+        return this.invoke(methodName, argument, returnType, Collections.emptyMap());
+    }
+
+    @Override
+    public Object invoke(String methodName, Object argument, Type returnType, Map<String, String> extraHeaders)
+            throws Throwable {
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        super.invoke(methodName, argument, request);
+        byte[] response = this.transport.execute(this.serviceUrl, request.toByteArray(),
+                this.resolveHeaders(extraHeaders));
+        return super.readResponse(returnType, new ByteArrayInputStream(response));
+    }
+
+    /**
+     * Invokes a method without blocking the caller. The future fails with the
+     * exception {@link #invoke(String, Object, Type, Map)} would throw.
+     *
+     * @param methodName   the method name
+     * @param argument     the arguments
+     * @param returnType   the type of the result
+     * @param extraHeaders the headers of this call
+     * @return the future result
+     */
+    public CompletableFuture<Object> invokeAsync(String methodName, Object argument, Type returnType,
+            Map<String, String> extraHeaders) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<byte[]> exchange;
+        try {
+            ByteArrayOutputStream request = new ByteArrayOutputStream();
+            super.invoke(methodName, argument, request);
+            exchange = this.transport.executeAsync(this.serviceUrl, request.toByteArray(),
+                    this.resolveHeaders(extraHeaders));
+        } catch (IOException | RuntimeException ex) {
+            result.completeExceptionally(ex);
+            return result;
+        }
+        exchange.whenComplete((response, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause()
+                        : ex);
+                return;
+            }
+            try {
+                result.complete(super.readResponse(returnType, new ByteArrayInputStream(response)));
+            } catch (Throwable resolved) {
+                result.completeExceptionally(resolved);
+            }
+        });
+        // cancelling the result aborts the exchange
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(String methodName, Object argument, Class<T> clazz) throws Throwable {
+        return (T) this.invoke(methodName, argument, (Type) clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(String methodName, Object argument, Class<T> clazz, Map<String, String> extraHeaders)
+            throws Throwable {
+        return (T) this.invoke(methodName, argument, (Type) clazz, extraHeaders);
+    }
+
+    /**
+     * The request headers: the fixed headers, the content type and the extra
+     * headers of the call.
+     *
+     * @param extraHeaders the headers of a single call
+     * @return the headers to send
+     */
+    protected Map<String, String> resolveHeaders(Map<String, String> extraHeaders) {
+        Map<String, String> resolved = new HashMap<>(this.headers);
+        resolved.put(CONTENT_TYPE_HEADER, this.contentType);
+        if (extraHeaders != null) {
+            resolved.putAll(extraHeaders);
+        }
+        return resolved;
+    }
+
+    public JsonRpcClientTransport getTransport() {
+        return this.transport;
+    }
+
+    public URL getServiceUrl() {
+        return this.serviceUrl;
+    }
+
+    public Map<String, String> getHeaders() {
+        return this.headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers != null ? new HashMap<>(headers) : Collections.emptyMap();
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    public void setContentType(String contentType) {
+        Assert.hasText(contentType, "Content type must not be empty.");
+        this.contentType = contentType;
+    }
+
+}
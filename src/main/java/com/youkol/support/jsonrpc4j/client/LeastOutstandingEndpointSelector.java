@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the endpoint with the fewest outstanding requests, ties broken at
+ * random so idle clients do not all pick the first endpoint.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class LeastOutstandingEndpointSelector implements JsonRpcEndpointSelector {
+
+    @Override
+    public JsonRpcEndpoint select(List<JsonRpcEndpoint> endpoints) {
+        int offset = ThreadLocalRandom.current().nextInt(endpoints.size());
+        JsonRpcEndpoint selected = null;
+        for (int i = 0; i < endpoints.size(); i++) {
+            JsonRpcEndpoint endpoint = endpoints.get((offset + i) % endpoints.size());
+            if (selected == null || endpoint.getOutstanding() < selected.getOutstanding()) {
+                selected = endpoint;
+            }
+        }
+        return selected;
+    }
+
+}
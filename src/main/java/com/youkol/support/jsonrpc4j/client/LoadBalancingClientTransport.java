@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+
+/**
+ * {@link JsonRpcClientTransport} spreading the requests over several servers.
+ * <p>
+ * Client proxies address the first base url; each request is sent to the same
+ * path on the endpoint chosen by the {@link JsonRpcEndpointSelector}. Requests
+ * to other urls are passed through.
+ * <p>
+ * An endpoint failing {@link #setFailureThreshold(int) several times in a row}
+ * with an I/O error is ejected for the {@link #setEjectionTime(Duration)
+ * ejection time}. With {@link #startHealthChecks(Duration, String) health
+ * checks} every endpoint is probed with <code>Welcome.welcome</code>: a failed
+ * probe ejects it, a successful one reinstates it. When all endpoints are
+ * ejected requests are spread over all of them.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class LoadBalancingClientTransport implements JsonRpcClientTransport {
+
+    public static final String HEALTH_CHECK_METHOD = "Welcome.welcome";
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadBalancingClientTransport.class);
+
+    private static final byte[] HEALTH_CHECK_REQUEST = ("{\"jsonrpc\":\"2.0\",\"id\":\"health-check\",\"method\":\""
+            + HEALTH_CHECK_METHOD + "\",\"params\":[]}").getBytes(StandardCharsets.UTF_8);
+
+    private final JsonRpcClientTransport delegate;
+
+    private final List<JsonRpcEndpoint> endpoints;
+
+    private final JsonRpcEndpointSelector selector;
+
+    private final String primaryBaseUrl;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private int failureThreshold = 3;
+
+    private long ejectionNanos = TimeUnit.SECONDS.toNanos(30);
+
+    private ScheduledExecutorService healthChecker;
+
+    public LoadBalancingClientTransport(JsonRpcClientTransport delegate, List<URL> baseUrls,
+            JsonRpcEndpointSelector selector) {
+        Assert.notNull(delegate, "JsonRpcClientTransport must not be null.");
+        Assert.notEmpty(baseUrls, "Base urls must not be empty.");
+        Assert.notNull(selector, "JsonRpcEndpointSelector must not be null.");
+        this.delegate = delegate;
+        this.endpoints = Collections.unmodifiableList(baseUrls.stream()
+                .map(JsonRpcEndpoint::new)
+                .collect(Collectors.toList()));
+        this.selector = selector;
+        this.primaryBaseUrl = baseUrls.get(0).toExternalForm();
+    }
+
+    @Override
+    public byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException {
+        if (!this.isBalanced(url)) {
+            return this.delegate.execute(url, request, headers);
+        }
+        JsonRpcEndpoint endpoint = this.select();
+        URL target = this.resolve(endpoint, url);
+        long start = System.nanoTime();
+        endpoint.requestStarted();
+        try {
+            byte[] response = this.delegate.execute(target, request, headers);
+            endpoint.requestSucceeded(System.nanoTime() - start);
+            return response;
+        } catch (IOException ex) {
+            this.failed(endpoint, ex);
+            throw ex;
+        } catch (RuntimeException ex) {
+            endpoint.requestAborted();
+            throw ex;
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> executeAsync(URL url, byte[] request, Map<String, String> headers) {
+        if (!this.isBalanced(url)) {
+            return this.delegate.executeAsync(url, request, headers);
+        }
+        JsonRpcEndpoint endpoint = this.select();
+        URL target;
+        try {
+            target = this.resolve(endpoint, url);
+        } catch (IOException ex) {
+            CompletableFuture<byte[]> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
+        }
+        long start = System.nanoTime();
+        endpoint.requestStarted();
+        CompletableFuture<byte[]> exchange = this.delegate.executeAsync(target, request, headers);
+        exchange.whenComplete((response, ex) -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause == null) {
+                endpoint.requestSucceeded(System.nanoTime() - start);
+            } else if (cause instanceof IOException) {
+                this.failed(endpoint, cause);
+            } else {
+                endpoint.requestAborted();
+            }
+        });
+        return exchange;
+    }
+
+    private boolean isBalanced(URL url) {
+        return url.toExternalForm().startsWith(this.primaryBaseUrl);
+    }
+
+    private JsonRpcEndpoint select() {
+        long now = System.nanoTime();
+        List<JsonRpcEndpoint> available = new ArrayList<>(this.endpoints.size());
+        for (JsonRpcEndpoint endpoint : this.endpoints) {
+            if (endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        // with every endpoint ejected, ejection would turn a partial outage into a full one
+        return this.selector.select(available.isEmpty() ? this.endpoints : available);
+    }
+
+    private URL resolve(JsonRpcEndpoint endpoint, URL url) throws MalformedURLException {
+        String relative = url.toExternalForm().substring(this.primaryBaseUrl.length());
+        return new URL(endpoint.getBaseUrl().toExternalForm() + relative);
+    }
+
+    private void failed(JsonRpcEndpoint endpoint, Throwable ex) {
+        if (endpoint.requestFailed(this.failureThreshold, this.ejectionNanos)) {
+            logger.warn("Ejected JSON-RPC endpoint {} after {} consecutive failures: {}", endpoint.getBaseUrl(),
+                    endpoint.getConsecutiveFailures(), ex.toString());
+        }
+    }
+
+    /**
+     * Probes every endpoint with <code>Welcome.welcome</code> at a fixed rate.
+     *
+     * @param interval the interval between two probes of an endpoint
+     * @param path     the path of the welcome service relative to the base urls
+     */
+    public synchronized void startHealthChecks(Duration interval, String path) {
+        Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Health check interval must be positive.");
+        Assert.state(this.healthChecker == null, "Health checks already started.");
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jsonrpc-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(() -> this.endpoints.forEach(endpoint -> this.probe(endpoint,
+                relative)), 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void probe(JsonRpcEndpoint endpoint, String relative) {
+        try {
+            URL url = new URL(endpoint.getBaseUrl(), relative);
+            byte[] response = this.delegate.execute(url, HEALTH_CHECK_REQUEST, Collections.singletonMap(
+                    JsonRpcTransportClient.CONTENT_TYPE_HEADER, JsonRpcBasicServer.JSONRPC_CONTENT_TYPE));
+            JsonNode node = this.mapper.readTree(response);
+            if (node == null || !node.has("result")) {
+                throw new IOException("Unexpected health check response " + node);
+            }
+            if (endpoint.reinstate()) {
+                logger.info("Reinstated JSON-RPC endpoint {}", endpoint.getBaseUrl());
+            }
+        } catch (IOException | RuntimeException ex) {
+            if (endpoint.eject(this.ejectionNanos)) {
+                logger.warn("Ejected JSON-RPC endpoint {} after failed health check: {}", endpoint.getBaseUrl(),
+                        ex.toString());
+            }
+        }
+    }
+
+    public List<JsonRpcEndpoint> getEndpoints() {
+        return this.endpoints;
+    }
+
+    public int getFailureThreshold() {
+        return this.failureThreshold;
+    }
+
+    /**
+     * Number of I/O errors in a row ejecting an endpoint.
+     *
+     * @param failureThreshold the number of failures
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        Assert.isTrue(failureThreshold > 0, "Failure threshold must be greater than 0.");
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getEjectionTime() {
+        return Duration.ofNanos(this.ejectionNanos);
+    }
+
+    public void setEjectionTime(Duration ejectionTime) {
+        Assert.isTrue(!ejectionTime.isNegative(), "Ejection time must not be negative.");
+        this.ejectionNanos = ejectionTime.toNanos();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (this.healthChecker != null) {
+                this.healthChecker.shutdownNow();
+            }
+        }
+        this.delegate.close();
+    }
+
+}
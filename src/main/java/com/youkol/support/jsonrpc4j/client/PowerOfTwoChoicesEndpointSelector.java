@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two endpoints at random and chooses the one with the lower cost, the
+ * moving average latency weighted by the outstanding requests. Slow endpoints
+ * get less traffic without all clients herding onto the fastest one.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class PowerOfTwoChoicesEndpointSelector implements JsonRpcEndpointSelector {
+
+    @Override
+    public JsonRpcEndpoint select(List<JsonRpcEndpoint> endpoints) {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        JsonRpcEndpoint a = endpoints.get(first);
+        JsonRpcEndpoint b = endpoints.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private static double cost(JsonRpcEndpoint endpoint) {
+        return endpoint.getLatency() * (endpoint.getOutstanding() + 1);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link JsonRpcClientTransport} on {@link HttpURLConnection}, used when
+ * Apache HttpClient 5 is not on the classpath.
+ * <p>
+ * Connections are kept alive by the JDK cache, whose size and idle time are
+ * global (<code>http.maxConnections</code>); only the timeouts of the
+ * {@link JsonRpcConnectionSettings} apply.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class UrlConnectionClientTransport implements JsonRpcClientTransport {
+
+    private final int connectTimeout;
+
+    private final int readTimeout;
+
+    public UrlConnectionClientTransport() {
+        this(new JsonRpcConnectionSettings());
+    }
+
+    public UrlConnectionClientTransport(JsonRpcConnectionSettings settings) {
+        Assert.notNull(settings, "JsonRpcConnectionSettings must not be null.");
+        this.connectTimeout = (int) settings.getConnectTimeout().toMillis();
+        this.readTimeout = (int) settings.getReadTimeout().toMillis();
+    }
+
+    @Override
+    public byte[] execute(URL url, byte[] request, Map<String, String> headers) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(this.connectTimeout);
+        connection.setReadTimeout(this.readTimeout);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(request.length);
+        headers.forEach(connection::setRequestProperty);
+
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(request);
+        }
+
+        int status = connection.getResponseCode();
+        // reading the stream to its end returns the connection to the keep-alive cache
+        InputStream input = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        byte[] response = input != null ? readFully(input) : new byte[0];
+        if (status >= 400 && response.length == 0) {
+            throw new JsonRpcTransportException(status, "HTTP " + status + " without response body from " + url);
+        }
+        return response;
+    }
+
+    private static byte[] readFully(InputStream input) throws IOException {
+        try (InputStream in = input) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+
+}
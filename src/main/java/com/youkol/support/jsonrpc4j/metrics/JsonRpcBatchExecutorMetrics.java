@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.metrics;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcBatchExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer gauges of a {@link JsonRpcBatchExecutor}:
+ * <ul>
+ * <li>{@value #QUEUED_TASKS_METRIC_NAME}: the batch elements waiting for a
+ * thread</li>
+ * <li>{@value #RUNNING_TASKS_METRIC_NAME}: the batch elements being
+ * processed</li>
+ * <li>{@value #ACTIVE_BATCHES_METRIC_NAME}: the batches with waiting or running
+ * elements</li>
+ * </ul>
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcBatchExecutorMetrics implements MeterBinder {
+
+    public static final String QUEUED_TASKS_METRIC_NAME = "jsonrpc.server.batch.executor.queued";
+
+    public static final String RUNNING_TASKS_METRIC_NAME = "jsonrpc.server.batch.executor.running";
+
+    public static final String ACTIVE_BATCHES_METRIC_NAME = "jsonrpc.server.batch.executor.batches";
+
+    private final JsonRpcBatchExecutor executor;
+
+    public JsonRpcBatchExecutorMetrics(JsonRpcBatchExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUED_TASKS_METRIC_NAME, this.executor, JsonRpcBatchExecutor::getQueuedTaskCount)
+                .description("JSON-RPC batch elements waiting for a thread")
+                .register(registry);
+        Gauge.builder(RUNNING_TASKS_METRIC_NAME, this.executor, JsonRpcBatchExecutor::getRunningTaskCount)
+                .description("JSON-RPC batch elements being processed")
+                .register(registry);
+        Gauge.builder(ACTIVE_BATCHES_METRIC_NAME, this.executor, JsonRpcBatchExecutor::getActiveBatchCount)
+                .description("JSON-RPC batches with waiting or running elements")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.metrics;
+
+import com.youkol.support.jsonrpc4j.client.JsonRpcCallNotPermittedException;
+import com.youkol.support.jsonrpc4j.client.JsonRpcCircuitBreaker;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientResilience;
+import com.youkol.support.jsonrpc4j.client.JsonRpcServiceGuard;
+import com.youkol.support.jsonrpc4j.client.JsonRpcServiceGuardListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Micrometer instrumentation of the {@link JsonRpcServiceGuard}s of a
+ * {@link JsonRpcClientResilience}.
+ * <p>
+ * Records the following meters, tagged by service:
+ * <ul>
+ * <li>{@value #CIRCUIT_BREAKER_STATE_METRIC_NAME}: one gauge per state, 1 for
+ * the current state</li>
+ * <li>{@value #CIRCUIT_BREAKER_FAILURE_RATE_METRIC_NAME}: the failure rate in
+ * percent, -1 below the minimum number of calls</li>
+ * <li>{@value #BULKHEAD_AVAILABLE_CALLS_METRIC_NAME}: the free slots of limited
+ * bulkheads</li>
+ * <li>{@value #NOT_PERMITTED_CALLS_METRIC_NAME}: the rejected calls per
+ * reason</li>
+ * </ul>
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcClientMetrics implements JsonRpcServiceGuardListener {
+
+    public static final String CIRCUIT_BREAKER_STATE_METRIC_NAME = "jsonrpc.client.circuitbreaker.state";
+
+    public static final String CIRCUIT_BREAKER_FAILURE_RATE_METRIC_NAME = "jsonrpc.client.circuitbreaker.failure.rate";
+
+    public static final String BULKHEAD_AVAILABLE_CALLS_METRIC_NAME = "jsonrpc.client.bulkhead.available.calls";
+
+    public static final String NOT_PERMITTED_CALLS_METRIC_NAME = "jsonrpc.client.calls.not.permitted";
+
+    private static final String SERVICE_TAG = "service";
+
+    private final MeterRegistry registry;
+
+    public JsonRpcClientMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onGuardCreated(JsonRpcServiceGuard guard) {
+        JsonRpcCircuitBreaker circuitBreaker = guard.getCircuitBreaker();
+        for (JsonRpcCircuitBreaker.State state : JsonRpcCircuitBreaker.State.values()) {
+            Gauge.builder(CIRCUIT_BREAKER_STATE_METRIC_NAME, circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+                    .description("The state of the circuit breaker of a JSON-RPC service")
+                    .tag(SERVICE_TAG, guard.getServiceName())
+                    .tag("state", state.name().toLowerCase())
+                    .register(this.registry);
+        }
+        Gauge.builder(CIRCUIT_BREAKER_FAILURE_RATE_METRIC_NAME, circuitBreaker, JsonRpcCircuitBreaker::getFailureRate)
+                .description("The failure rate of a JSON-RPC service in percent")
+                .tag(SERVICE_TAG, guard.getServiceName())
+                .register(this.registry);
+        if (guard.getBulkhead().getMaxConcurrentCalls() > 0) {
+            Gauge.builder(BULKHEAD_AVAILABLE_CALLS_METRIC_NAME, guard.getBulkhead(),
+                    bulkhead -> bulkhead.getAvailableConcurrentCalls())
+                    .description("The free slots of the bulkhead of a JSON-RPC service")
+                    .tag(SERVICE_TAG, guard.getServiceName())
+                    .register(this.registry);
+        }
+    }
+
+    @Override
+    public void onCallNotPermitted(JsonRpcServiceGuard guard, JsonRpcCallNotPermittedException ex) {
+        Counter.builder(NOT_PERMITTED_CALLS_METRIC_NAME)
+                .description("The JSON-RPC client calls rejected by a circuit breaker or bulkhead")
+                .tag(SERVICE_TAG, guard.getServiceName())
+                .tag("reason", ex.getReason().name().toLowerCase())
+                .register(this.registry)
+                .increment();
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.metrics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.googlecode.jsonrpc4j.ErrorResolver.JsonError;
+import com.googlecode.jsonrpc4j.InvocationListener;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcExchangeListener;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMethodDefinition;
+import com.youkol.support.jsonrpc4j.server.JsonRpcResponseCache;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceDefinition;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceRegistryEvent;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceRegistryListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer instrumentation of JSON-RPC invocations.
+ * <p>
+ * Records the following meters:
+ * <ul>
+ * <li>{@value #INVOCATIONS_METRIC_NAME}: a timer per service, method and
+ * outcome</li>
+ * <li>{@value #ERRORS_METRIC_NAME}: a counter per JSON-RPC error code</li>
+ * <li>{@value #BATCH_SIZE_METRIC_NAME}: the number of elements of batch
+ * requests</li>
+ * <li>{@value #REQUEST_SIZE_METRIC_NAME} and {@value #RESPONSE_SIZE_METRIC_NAME}:
+ * the payload sizes in bytes</li>
+ * <li>{@value #CACHE_REQUESTS_METRIC_NAME}, {@value #CACHE_EVICTIONS_METRIC_NAME}
+ * and {@value #CACHE_SIZE_METRIC_NAME}: the statistics of the
+ * {@link JsonRpcResponseCache}s</li>
+ * </ul>
+ * Timers of registered services are created when the service is added to the
+ * registry and removed with it, error counters of the standard codes up front,
+ * so the invocation path only does map lookups. Timers are kept per service,
+ * services sharing an interface have their own.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServerMetrics implements InvocationListener, JsonRpcInterceptor, JsonRpcServiceRegistryListener,
+        JsonRpcExchangeListener {
+
+    public static final String INVOCATIONS_METRIC_NAME = "jsonrpc.server.invocations";
+
+    public static final String ERRORS_METRIC_NAME = "jsonrpc.server.errors";
+
+    public static final String BATCH_SIZE_METRIC_NAME = "jsonrpc.server.batch.size";
+
+    public static final String REQUEST_SIZE_METRIC_NAME = "jsonrpc.server.request.size";
+
+    public static final String RESPONSE_SIZE_METRIC_NAME = "jsonrpc.server.response.size";
+
+    public static final String CACHE_REQUESTS_METRIC_NAME = "jsonrpc.server.cache.requests";
+
+    public static final String CACHE_EVICTIONS_METRIC_NAME = "jsonrpc.server.cache.evictions";
+
+    public static final String CACHE_SIZE_METRIC_NAME = "jsonrpc.server.cache.size";
+
+    private static final JsonError[] STANDARD_ERRORS = { JsonError.PARSE_ERROR, JsonError.INVALID_REQUEST,
+            JsonError.METHOD_NOT_FOUND, JsonError.METHOD_PARAMS_INVALID, JsonError.INTERNAL_ERROR,
+            JsonError.ERROR_NOT_HANDLED };
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean percentileHistogram;
+
+    private final ConcurrentMap<String, Map<Method, MethodMeters>> methodMeters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Integer, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<JsonRpcServiceDefinition, List<Meter>> cacheMeters = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<long[]> invocationStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final DistributionSummary batchSize;
+
+    private final DistributionSummary requestSize;
+
+    private final DistributionSummary responseSize;
+
+    public JsonRpcServerMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, true);
+    }
+
+    public JsonRpcServerMetrics(MeterRegistry meterRegistry, boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC_NAME)
+                .description("Number of elements of JSON-RPC batch requests")
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+        this.requestSize = DistributionSummary.builder(REQUEST_SIZE_METRIC_NAME)
+                .description("Size of JSON-RPC request payloads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.responseSize = DistributionSummary.builder(RESPONSE_SIZE_METRIC_NAME)
+                .description("Size of JSON-RPC response payloads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        for (JsonError error : STANDARD_ERRORS) {
+            this.errorCounter(error.code);
+        }
+    }
+
+    @Override
+    public void onRegistryChanged(JsonRpcServiceRegistryEvent event) {
+        if (event.getPrevious() != null) {
+            this.unregister(event.getPrevious());
+        }
+        if (event.getCurrent() != null) {
+            this.register(event.getCurrent());
+        }
+    }
+
+    /**
+     * Creates the timers and binds the response caches of the given service.
+     *
+     * @param service the service
+     */
+    public void register(JsonRpcServiceDefinition service) {
+        Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+        for (Method method : service.getMethods()) {
+            meters.put(method, new MethodMeters(service.getName(), method.getName()));
+        }
+        this.methodMeters.put(service.getName(), meters);
+        if (!service.getResponseCaches().isEmpty()) {
+            List<Meter> cacheMeters = new ArrayList<>();
+            service.getResponseCaches().forEach((method, cache) -> this.bindCache(service.getName(), method, cache,
+                    cacheMeters));
+            this.cacheMeters.put(service, cacheMeters);
+        }
+    }
+
+    private void bindCache(String service, String method, JsonRpcResponseCache cache, List<Meter> meters) {
+        meters.add(FunctionCounter.builder(CACHE_REQUESTS_METRIC_NAME, cache, JsonRpcResponseCache::getHitCount)
+                .description("JSON-RPC response cache lookups")
+                .tags("service", service, "method", method, "result", "hit")
+                .register(this.meterRegistry));
+        meters.add(FunctionCounter.builder(CACHE_REQUESTS_METRIC_NAME, cache, JsonRpcResponseCache::getMissCount)
+                .description("JSON-RPC response cache lookups")
+                .tags("service", service, "method", method, "result", "miss")
+                .register(this.meterRegistry));
+        meters.add(FunctionCounter.builder(CACHE_EVICTIONS_METRIC_NAME, cache, JsonRpcResponseCache::getEvictionCount)
+                .description("JSON-RPC response cache evictions")
+                .tags("service", service, "method", method)
+                .register(this.meterRegistry));
+        meters.add(Gauge.builder(CACHE_SIZE_METRIC_NAME, cache, JsonRpcResponseCache::size)
+                .description("Number of cached JSON-RPC responses")
+                .tags("service", service, "method", method)
+                .register(this.meterRegistry));
+    }
+
+    private void unregister(JsonRpcServiceDefinition service) {
+        Map<Method, MethodMeters> methodMeters = this.methodMeters.remove(service.getName());
+        if (methodMeters != null) {
+            methodMeters.values().forEach(meters -> {
+                this.meterRegistry.remove(meters.success);
+                this.meterRegistry.remove(meters.error);
+            });
+        }
+        List<Meter> cacheMeters = this.cacheMeters.remove(service);
+        if (cacheMeters != null) {
+            // the meters are bound to the caches of the old definition
+            cacheMeters.forEach(this.meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public void willInvoke(Method method, List<JsonNode> arguments) {
+        this.invocationStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void didInvoke(Method method, List<JsonNode> arguments, Object result, Throwable t, long duration) {
+        long[] start = this.invocationStart.get();
+        long nanos = start[0] != 0 ? System.nanoTime() - start[0] : TimeUnit.MILLISECONDS.toNanos(duration);
+        start[0] = 0;
+
+        JsonRpcMethodDefinition definition = JsonRpcMethodDefinition.current();
+        // without a definition the call is not served by a registered service, e.g. a path based exporter
+        String service = definition != null ? definition.getServiceName()
+                : method.getDeclaringClass().getSimpleName();
+        Map<Method, MethodMeters> serviceMeters = this.methodMeters.get(service);
+        MethodMeters meters = serviceMeters != null ? serviceMeters.get(method) : null;
+        if (meters == null) {
+            meters = this.methodMeters.computeIfAbsent(service, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(method, key -> new MethodMeters(service, key.getName()));
+        }
+        (t == null ? meters.success : meters.error).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void preHandleJson(JsonNode json) {
+    }
+
+    @Override
+    public void preHandle(Object target, Method method, List<JsonNode> params) {
+    }
+
+    @Override
+    public void postHandle(Object target, Method method, List<JsonNode> params, JsonNode result) {
+    }
+
+    @Override
+    public void postHandleJson(JsonNode json) {
+        JsonNode error = json != null ? json.get(JsonRpcBasicServer.ERROR) : null;
+        if (error != null) {
+            this.errorCounter(error.path(JsonRpcBasicServer.ERROR_CODE).asInt()).increment();
+        }
+    }
+
+    @Override
+    public void onBatch(int size) {
+        this.batchSize.record(size);
+    }
+
+    @Override
+    public void onPayload(long requestSize, long responseSize) {
+        this.requestSize.record(requestSize);
+        this.responseSize.record(responseSize);
+    }
+
+    private Counter errorCounter(int code) {
+        Counter counter = this.errorCounters.get(code);
+        if (counter == null) {
+            counter = this.errorCounters.computeIfAbsent(code, key -> Counter.builder(ERRORS_METRIC_NAME)
+                    .description("JSON-RPC error responses")
+                    .tag("code", String.valueOf(key))
+                    .register(this.meterRegistry));
+        }
+        return counter;
+    }
+
+    private final class MethodMeters {
+
+        private final Timer success;
+
+        private final Timer error;
+
+        MethodMeters(String service, String method) {
+            this.success = this.timer(service, method, "SUCCESS");
+            this.error = this.timer(service, method, "ERROR");
+        }
+
+        private Timer timer(String service, String method, String outcome) {
+            return Timer.builder(INVOCATIONS_METRIC_NAME)
+                    .description("JSON-RPC method invocations")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram(JsonRpcServerMetrics.this.percentileHistogram)
+                    .register(JsonRpcServerMetrics.this.meterRegistry);
+        }
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceIndex;
+
+/**
+ * Writes the {@link JsonRpcServiceIndex} of the
+ * {@code @JsonRpcMultiServiceName} classes of a compilation: their service
+ * name, remote interface with its stamp and JSON-RPC methods, resolved with
+ * the same rules as at runtime. The remote interface is the first interface other than
+ * {@code JsonRpcBaseService}.
+ * <p>
+ * On incremental builds the entries of classes not compiled again are kept.
+ * The processor is registered as a service of this jar and runs whenever it is
+ * on the compile class path.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@SupportedAnnotationTypes(JsonRpcServiceIndexProcessor.SERVICE_NAME_ANNOTATION)
+public class JsonRpcServiceIndexProcessor extends AbstractProcessor {
+
+    static final String SERVICE_NAME_ANNOTATION = "com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName";
+
+    private static final String BASE_SERVICE = "com.youkol.support.jsonrpc4j.service.JsonRpcBaseService";
+
+    private static final String JSON_RPC_METHOD_ANNOTATION = "com.googlecode.jsonrpc4j.JsonRpcMethod";
+
+    private final Map<String, List<String>> entries = new LinkedHashMap<>();
+
+    private boolean previousEntriesRead;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!this.previousEntriesRead) {
+            this.previousEntriesRead = true;
+            this.readPreviousEntries();
+        }
+        TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(SERVICE_NAME_ANNOTATION);
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    TypeElement type = (TypeElement) element;
+                    this.entries.put(this.binaryName(type), this.createEntry(type));
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !this.entries.isEmpty()) {
+            this.writeIndex();
+        }
+        return false;
+    }
+
+    private List<String> createEntry(TypeElement type) {
+        TypeElement remoteInterface = this.findRemoteInterface(type);
+        if (remoteInterface == null) {
+            return Collections.singletonList(String.join(JsonRpcServiceIndex.SEPARATOR,
+                    JsonRpcServiceIndex.SERVICE_PREFIX, this.binaryName(type), this.findServiceName(type),
+                    JsonRpcServiceIndex.NO_INTERFACE));
+        }
+        List<String> methodLines = new ArrayList<>();
+        List<String> signatures = new ArrayList<>();
+        for (ExecutableElement method : this.collectMethods(remoteInterface)) {
+            String javaName = method.getSimpleName().toString();
+            String parameterTypes = method.getParameters().stream()
+                    .map(VariableElement::asType)
+                    .map(this::typeName)
+                    .collect(Collectors.joining(","));
+            signatures.add(JsonRpcServiceIndex.signature(javaName, parameterTypes));
+            for (String methodName : this.resolveMethodNames(method)) {
+                methodLines.add(String.join(JsonRpcServiceIndex.SEPARATOR, JsonRpcServiceIndex.METHOD_PREFIX,
+                        methodName, javaName, parameterTypes));
+            }
+        }
+        List<String> lines = new ArrayList<>(methodLines.size() + 1);
+        lines.add(String.join(JsonRpcServiceIndex.SEPARATOR, JsonRpcServiceIndex.SERVICE_PREFIX,
+                this.binaryName(type), this.findServiceName(type), this.binaryName(remoteInterface),
+                JsonRpcServiceIndex.stamp(signatures)));
+        lines.addAll(methodLines);
+        return lines;
+    }
+
+    /**
+     * The annotation may be inherited from a superclass.
+     */
+    private String findServiceName(TypeElement type) {
+        for (TypeElement current = type; current != null; current = this.superclass(current)) {
+            AnnotationMirror annotation = findAnnotation(current, SERVICE_NAME_ANNOTATION);
+            if (annotation != null) {
+                return String.valueOf(this.annotationValue(annotation, "value"));
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Same rule as the auto-configuration: the first direct interface other
+     * than {@code JsonRpcBaseService}.
+     */
+    private TypeElement findRemoteInterface(TypeElement type) {
+        for (TypeMirror candidate : type.getInterfaces()) {
+            TypeElement element = (TypeElement) ((DeclaredType) candidate).asElement();
+            if (!BASE_SERVICE.equals(element.getQualifiedName().toString())) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The methods {@link Class#getMethods()} returns for the interface: its
+     * own and inherited public methods, static ones only if declared by the
+     * interface itself.
+     */
+    private List<ExecutableElement> collectMethods(TypeElement remoteInterface) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter
+                .methodsIn(this.processingEnv.getElementUtils().getAllMembers(remoteInterface))) {
+            Element owner = method.getEnclosingElement();
+            if (owner.getKind() != ElementKind.INTERFACE
+                    || (method.getModifiers().contains(Modifier.STATIC) && owner != remoteInterface)) {
+                continue;
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    /**
+     * Same matching rules as jsonrpc4j: a required {@code JsonRpcMethod}
+     * replaces the java name, an optional one adds an alias.
+     */
+    private List<String> resolveMethodNames(ExecutableElement method) {
+        String javaName = method.getSimpleName().toString();
+        AnnotationMirror annotation = findAnnotation(method, JSON_RPC_METHOD_ANNOTATION);
+        if (annotation == null) {
+            return Collections.singletonList(javaName);
+        }
+        String value = String.valueOf(this.annotationValue(annotation, "value"));
+        boolean required = Boolean.TRUE.equals(this.annotationValue(annotation, "required"));
+        if (required || value.equals(javaName)) {
+            return Collections.singletonList(value);
+        }
+        List<String> names = new ArrayList<>(2);
+        names.add(value);
+        names.add(javaName);
+        return names;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv
+                .getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    /**
+     * The name of the erased type as understood by {@code ClassUtils.forName}.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return this.typeName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return this.binaryName((TypeElement) ((DeclaredType) erased).asElement());
+        }
+        return erased.toString();
+    }
+
+    private String binaryName(TypeElement type) {
+        return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Keeps the entries of an existing index whose classes are still
+     * annotated, they are not compiled again on incremental builds.
+     */
+    private void readPreviousEntries() {
+        try {
+            FileObject index = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    JsonRpcServiceIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(index.openInputStream(), StandardCharsets.UTF_8))) {
+                List<String> lines = null;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(JsonRpcServiceIndex.SEPARATOR, -1);
+                    if (JsonRpcServiceIndex.SERVICE_PREFIX.equals(fields[0]) && fields.length > 1) {
+                        lines = this.isStillAnnotated(fields[1]) ? new ArrayList<>() : null;
+                        if (lines != null) {
+                            this.entries.put(fields[1], lines);
+                        }
+                    }
+                    if (lines != null) {
+                        lines.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // no previous index
+        }
+    }
+
+    private boolean isStillAnnotated(String binaryName) {
+        TypeElement type = this.processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+        return type != null && this.findServiceName(type).length() > 0;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    JsonRpcServiceIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (List<String> lines : this.entries.values()) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write JSON-RPC service index: " + ex.getMessage());
+        }
+    }
+
+}
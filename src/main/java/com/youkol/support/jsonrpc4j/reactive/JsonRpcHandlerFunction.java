@@ -0,0 +1,383 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.reactive;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.googlecode.jsonrpc4j.AnnotationsErrorResolver;
+import com.googlecode.jsonrpc4j.DefaultErrorResolver;
+import com.googlecode.jsonrpc4j.ErrorResolver;
+import com.googlecode.jsonrpc4j.ErrorResolver.JsonError;
+import com.googlecode.jsonrpc4j.JsonResponse;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.googlecode.jsonrpc4j.MultipleErrorResolver;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBatchExecutor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadline;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadlineExceededException;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeferredResponse;
+import com.youkol.support.jsonrpc4j.server.JsonRpcErrorExceptionResolver;
+import com.youkol.support.jsonrpc4j.server.JsonRpcExchangeListener;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMethodDefinition;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux {@link HandlerFunction} serving the services of a
+ * {@link JsonRpcMultiServer}.
+ * <p>
+ * The request body is joined from {@link DataBuffer}s and parsed without
+ * blocking. Methods whose candidates all return an asynchronous type
+ * ({@code Mono}, {@code Flux}, {@code CompletableFuture}, ...) are invoked on the
+ * calling thread and their results are resolved reactively, a {@code Flux}
+ * being collected into a JSON array. Any other method may block and is invoked
+ * on the blocking scheduler ({@link Schedulers#boundedElastic()} by default).
+ * Deadlines of blocking methods interrupt the invoking thread; those of
+ * asynchronous methods time out the resolution of their result, so the calling
+ * thread, an event loop, is never interrupted.
+ * Batch elements are handled concurrently, at most
+ * {@link #setMaxInFlightPerBatch(int) maxInFlightPerBatch} at a time, and
+ * answered in request order. Batches longer than the server's max batch length
+ * are answered with an invalid request error.
+ * <p>
+ * Interceptors see each parsed request through
+ * {@link JsonRpcInterceptor#preHandleJson(JsonNode)} before it is dispatched,
+ * as on the servlet endpoint.
+ * <p>
+ * Requests and responses use the {@link JsonRpcCodec}s of the server as
+ * negotiated by <code>Content-Type</code> and <code>Accept</code>.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcHandlerFunction implements HandlerFunction<ServerResponse> {
+
+    public static final long DEFAULT_MAX_REQUEST_SIZE = 10 * 1024 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcHandlerFunction.class);
+
+    private static final ErrorResolver DEFAULT_ERROR_RESOLVER = new MultipleErrorResolver(
+            AnnotationsErrorResolver.INSTANCE, DefaultErrorResolver.INSTANCE);
+
+    private final JsonRpcMultiServer jsonRpcServer;
+
+    private final ObjectMapper mapper;
+
+    private final ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+
+    private MediaType contentType = MediaType.valueOf(JsonRpcBasicServer.JSONRPC_CONTENT_TYPE);
+
+    private Scheduler blockingScheduler = Schedulers.boundedElastic();
+
+    private int maxInFlightPerBatch = JsonRpcBatchExecutor.DEFAULT_MAX_IN_FLIGHT_PER_BATCH;
+
+    private long maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+
+    public JsonRpcHandlerFunction(JsonRpcMultiServer jsonRpcServer) {
+        Assert.notNull(jsonRpcServer, "JsonRpcMultiServer must not be null.");
+        this.jsonRpcServer = jsonRpcServer;
+        this.mapper = jsonRpcServer.getObjectMapper();
+    }
+
+    @Override
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        JsonRpcCodec requestCodec = this.jsonRpcServer.resolveRequestCodec(
+                request.headers().firstHeader(HttpHeaders.CONTENT_TYPE));
+        JsonRpcCodec responseCodec = this.jsonRpcServer.resolveResponseCodec(
+                request.headers().firstHeader(HttpHeaders.ACCEPT), requestCodec);
+        JsonRpcDeadline deadline = this.jsonRpcServer.getDeadlineHeaderEnabled()
+                ? JsonRpcDeadline.parse(request.headers().firstHeader(JsonRpcDeadline.HEADER))
+                : null;
+        return DataBufferUtils.join(request.body(BodyExtractors.toDataBuffers()),
+                (int) Math.min(this.maxRequestSize, Integer.MAX_VALUE))
+                .flatMap(dataBuffer -> {
+                    int requestSize = dataBuffer.readableByteCount();
+                    return this.handleNode(this.readTree(dataBuffer, requestCodec), requestSize, responseCodec,
+                            deadline);
+                })
+                .switchIfEmpty(Mono.defer(() -> this.write(this.createError(null, JsonError.PARSE_ERROR), 0,
+                        responseCodec)))
+                .onErrorResume(DataBufferLimitException.class, ex -> {
+                    logger.debug("JSON-RPC request body exceeds {} bytes", this.maxRequestSize);
+                    return ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                })
+                .onErrorResume(JsonProcessingException.class, ex -> {
+                    logger.debug("Failed to parse JSON-RPC request", ex);
+                    return this.write(this.createError(null, JsonError.PARSE_ERROR), 0, responseCodec);
+                });
+    }
+
+    private JsonNode readTree(DataBuffer dataBuffer, JsonRpcCodec codec) {
+        try {
+            return codec.getObjectMapper().readTree(dataBuffer.asInputStream(true));
+        } catch (IOException ex) {
+            throw Exceptions.propagate(ex);
+        }
+    }
+
+    private Mono<ServerResponse> handleNode(JsonNode node, int requestSize, JsonRpcCodec codec,
+            JsonRpcDeadline deadline) {
+        for (JsonRpcInterceptor interceptor : this.jsonRpcServer.getInterceptorList()) {
+            interceptor.preHandleJson(node);
+        }
+        if (node.isArray() && node.size() > 0) {
+            for (JsonRpcExchangeListener listener : this.jsonRpcServer.getExchangeListeners()) {
+                listener.onBatch(node.size());
+            }
+            int maxBatchLength = this.jsonRpcServer.getMaxBatchLength();
+            if (node.size() > maxBatchLength) {
+                return this.write(this.createError(null, new JsonError(JsonError.INVALID_REQUEST.code,
+                        "Batch exceeds " + maxBatchLength + " elements", null)), requestSize, codec);
+            }
+            return Flux.fromIterable(node)
+                    .flatMapSequential(element -> this.handleSingle(element, deadline), this.maxInFlightPerBatch)
+                    .collectList()
+                    .flatMap(responses -> this.writeBatch(responses, requestSize, codec));
+        } else if (node.isObject()) {
+            return this.handleSingle(node, deadline).flatMap(response -> this.write(response, requestSize, codec));
+        }
+        return this.write(this.createError(null, JsonError.INVALID_REQUEST), requestSize, codec);
+    }
+
+    /**
+     * Handles one request object. Never signals an error: failures become
+     * JSON-RPC error responses.
+     */
+    private Mono<JsonResponse> handleSingle(JsonNode node, JsonRpcDeadline deadline) {
+        if (!node.isObject()) {
+            return Mono.just(this.createError(null, JsonError.INVALID_REQUEST));
+        }
+        ObjectNode request = (ObjectNode) node;
+        Mono<JsonRpcDeferredResponse> invocation = Mono.fromCallable(() -> {
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline)) {
+                return this.jsonRpcServer.handleDeferred(request);
+            }
+        });
+        if (!this.isAsync(request)) {
+            invocation = invocation.subscribeOn(this.blockingScheduler);
+        }
+        return invocation.flatMap(this::resolve)
+                .onErrorResume(ex -> {
+                    logger.warn("JSON-RPC invocation of {} failed", request.get(JsonRpcBasicServer.METHOD), ex);
+                    return Mono.just(this.createError(request.get(JsonRpcBasicServer.ID), new JsonError(
+                            JsonError.INTERNAL_ERROR.code, ex.getMessage(), ex.getClass().getName())));
+                });
+    }
+
+    private boolean isAsync(ObjectNode request) {
+        JsonNode method = request.get(JsonRpcBasicServer.METHOD);
+        JsonRpcMethodDefinition definition = method != null && method.isTextual()
+                ? this.jsonRpcServer.getMethodDefinition(method.asText())
+                : null;
+        return definition != null && definition.isAsync();
+    }
+
+    private Mono<JsonResponse> resolve(JsonRpcDeferredResponse deferred) {
+        JsonResponse response = deferred.getResponse();
+        if (!deferred.isDeferred()) {
+            return Mono.just(response);
+        }
+
+        Object asyncResult = deferred.getAsyncResult();
+        ReactiveAdapter adapter = this.adapterRegistry.getAdapter(asyncResult.getClass());
+        Publisher<?> publisher = adapter.toPublisher(asyncResult);
+        Mono<?> value = adapter.isMultiValue() ? Flux.from(publisher).collectList() : Mono.from(publisher);
+        JsonRpcDeadline deadline = deferred.getDeadline();
+        if (deadline != null) {
+            value = value.timeout(Duration.ofNanos(Math.max(deadline.remainingNanos(), 0)),
+                    Mono.error(new JsonRpcDeadlineExceededException()));
+        }
+
+        if (response.getResponse() == null) {
+            // notification, nothing to answer but still run the invocation
+            return value.onErrorResume(ex -> Mono.empty()).then(Mono.just(response));
+        }
+        ObjectNode node = (ObjectNode) response.getResponse();
+        return value.<JsonNode>map(this.mapper::valueToTree)
+                .defaultIfEmpty(NullNode.getInstance())
+                .map(result -> {
+                    node.set(JsonRpcBasicServer.RESULT, result);
+                    return response;
+                })
+                .onErrorResume(ex -> Mono.just(this.resolveError(response, deferred.getMethod(), ex)));
+    }
+
+    private JsonResponse resolveError(JsonResponse response, Method method, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        ErrorResolver errorResolver = this.jsonRpcServer.getErrorResolver() != null
+                ? this.jsonRpcServer.getErrorResolver()
+                : DEFAULT_ERROR_RESOLVER;
+        List<JsonNode> arguments = Collections.emptyList();
+        JsonError error = JsonRpcErrorExceptionResolver.INSTANCE.resolveError(cause, method, arguments);
+        if (error == null) {
+            error = errorResolver.resolveError(cause, method, arguments);
+        }
+        if (error == null) {
+            error = new JsonError(JsonError.ERROR_NOT_HANDLED.code, cause.getMessage(), cause.getClass().getName());
+        }
+        logger.debug("JSON-RPC method {} completed with error", method, cause);
+
+        ObjectNode node = (ObjectNode) response.getResponse();
+        node.remove(JsonRpcBasicServer.RESULT);
+        node.set(JsonRpcBasicServer.ERROR, this.createErrorNode(error));
+        response.setCode(error.code);
+        return response;
+    }
+
+    private JsonResponse createError(JsonNode id, JsonError error) {
+        ObjectNode node = this.mapper.createObjectNode();
+        node.put(JsonRpcBasicServer.JSONRPC, JsonRpcBasicServer.VERSION);
+        node.set(JsonRpcBasicServer.ID, id != null ? id : NullNode.getInstance());
+        node.set(JsonRpcBasicServer.ERROR, this.createErrorNode(error));
+        return new JsonResponse(node, error.code);
+    }
+
+    private ObjectNode createErrorNode(JsonError error) {
+        ObjectNode errorNode = this.mapper.createObjectNode();
+        errorNode.put(JsonRpcBasicServer.ERROR_CODE, error.code);
+        errorNode.put(JsonRpcBasicServer.ERROR_MESSAGE, error.message);
+        if (error.data != null) {
+            errorNode.set(JsonRpcBasicServer.DATA, this.mapper.valueToTree(error.data));
+        }
+        return errorNode;
+    }
+
+    private Mono<ServerResponse> writeBatch(List<JsonResponse> responses, int requestSize, JsonRpcCodec codec) {
+        ArrayNode batch = this.mapper.createArrayNode();
+        int code = JsonError.OK.code;
+        for (JsonResponse response : responses) {
+            if (response.getResponse() == null) {
+                continue;
+            }
+            batch.add(response.getResponse());
+            if (response.getCode() != JsonError.OK.code) {
+                code = JsonError.BULK_ERROR.code;
+            }
+        }
+        return this.write(new JsonResponse(batch, code), requestSize, codec);
+    }
+
+    private Mono<ServerResponse> write(JsonResponse response, int requestSize, JsonRpcCodec codec) {
+        int status = this.jsonRpcServer.getHttpStatusCodeProvider().getHttpStatusCode(response.getCode());
+        if (response.getResponse() == null) {
+            this.firePayload(requestSize, 0);
+            return ServerResponse.status(status).build();
+        }
+        try {
+            byte[] body = codec.getObjectMapper().writeValueAsBytes(response.getResponse());
+            this.firePayload(requestSize, body.length);
+            MediaType contentType = codec == this.jsonRpcServer.getJsonCodec() ? this.contentType
+                    : MediaType.asMediaType(codec.getContentType());
+            return ServerResponse.status(status).contentType(contentType).bodyValue(body);
+        } catch (JsonProcessingException ex) {
+            return Mono.error(ex);
+        }
+    }
+
+    private void firePayload(long requestSize, long responseSize) {
+        for (JsonRpcExchangeListener listener : this.jsonRpcServer.getExchangeListeners()) {
+            listener.onPayload(requestSize, responseSize);
+        }
+    }
+
+    public MediaType getContentType() {
+        return this.contentType;
+    }
+
+    public void setContentType(MediaType contentType) {
+        Assert.notNull(contentType, "ContentType must not be null.");
+        this.contentType = contentType;
+    }
+
+    public Scheduler getBlockingScheduler() {
+        return this.blockingScheduler;
+    }
+
+    /**
+     * Scheduler running invocations of methods that may block.
+     *
+     * @param blockingScheduler the scheduler
+     */
+    public void setBlockingScheduler(Scheduler blockingScheduler) {
+        Assert.notNull(blockingScheduler, "Scheduler must not be null.");
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    public int getMaxInFlightPerBatch() {
+        return this.maxInFlightPerBatch;
+    }
+
+    /**
+     * Number of elements of one batch handled at a time.
+     *
+     * @param maxInFlightPerBatch the max number of concurrent elements
+     */
+    public void setMaxInFlightPerBatch(int maxInFlightPerBatch) {
+        Assert.isTrue(maxInFlightPerBatch > 0, "Max in-flight per batch must be greater than 0.");
+        this.maxInFlightPerBatch = maxInFlightPerBatch;
+    }
+
+    public long getMaxRequestSize() {
+        return this.maxRequestSize;
+    }
+
+    /**
+     * Maximum size of a request body in bytes, larger requests are answered
+     * with {@code 413 Payload Too Large}. Bodies are joined into one buffer
+     * before they are parsed, so this bounds the memory held per request.
+     *
+     * @param maxRequestSize the maximum size in bytes
+     */
+    public void setMaxRequestSize(long maxRequestSize) {
+        Assert.isTrue(maxRequestSize > 0, "Max request size must be positive.");
+        this.maxRequestSize = maxRequestSize;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Runs tasks with the {@link JsonRpcDeadline}, the endpoint service and the
+ * {@link RequestContextHolder} request of the submitting thread, so elements
+ * of parallel batches keep the deadline, the endpoint and the client of their
+ * request.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class CallContextPropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    CallContextPropagatingExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        JsonRpcDeadline deadline = JsonRpcDeadline.current();
+        String endpointService = EndpointService.current();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (deadline == null && endpointService == null && attributes == null) {
+            this.delegate.execute(command);
+            return;
+        }
+        this.delegate.execute(() -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline);
+                    EndpointService.Scope endpointScope = EndpointService.bind(endpointService)) {
+                command.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Captures asynchronous return values ({@code CompletionStage}, {@code Mono},
+ * {@code Flux}, ...) so they can be resolved by the transport instead of being
+ * serialized as plain beans.
+ * <p>
+ * A capture is bound to the calling thread for the duration of
+ * {@link JsonRpcMultiServer#handleDeferred}. The handler proxy stores the
+ * asynchronous value and returns <code>null</code> to jsonrpc4j, which then
+ * renders a response with a <code>null</code> result that is completed later.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class DeferredResults {
+
+    private static final ThreadLocal<Capture> CURRENT = new ThreadLocal<>();
+
+    private DeferredResults() {
+    }
+
+    static Capture begin() {
+        Capture capture = new Capture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    static boolean isCapturing() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Records the deadline within which the caller resolves the asynchronous
+     * value of the current capture.
+     */
+    static void setDeadline(JsonRpcDeadline deadline) {
+        Capture capture = CURRENT.get();
+        if (capture != null) {
+            capture.deadline = deadline;
+        }
+    }
+
+    /**
+     * Whether the current capture holds an asynchronous value, i.e. the
+     * response being built has a placeholder result.
+     */
+    static boolean hasDeferredResult() {
+        Capture capture = CURRENT.get();
+        return capture != null && capture.result != null;
+    }
+
+    /**
+     * Whether values of the given type are resolved asynchronously. Depends on
+     * the reactive libraries present, e.g. {@code CompletableFuture} is only
+     * adapted when Reactor is on the classpath.
+     *
+     * @param type the return type
+     * @return <code>true</code> for an asynchronous type
+     */
+    static boolean isAsyncType(Class<?> type) {
+        return type != null && !type.isPrimitive()
+                && ReactiveAdapterRegistry.getSharedInstance().getAdapter(type) != null;
+    }
+
+    /**
+     * Creates the handler used while capturing, or returns the handler itself
+     * when no candidate method is asynchronous or the handler is not invoked
+     * through interfaces.
+     */
+    static Object createDeferringHandler(JsonRpcServiceDefinition service) {
+        Object handler = service.getHandler();
+        Class<?>[] interfaces = service.getHandlerInterfaces();
+        boolean async = false;
+        for (Class<?> handlerInterface : interfaces) {
+            if (!handlerInterface.isInterface()) {
+                return handler;
+            }
+            for (Method method : handlerInterface.getMethods()) {
+                async |= isAsyncType(method.getReturnType());
+            }
+        }
+        if (!async) {
+            return handler;
+        }
+        return Proxy.newProxyInstance(ClassUtils.getDefaultClassLoader(), interfaces, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(handler, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            Capture capture = CURRENT.get();
+            if (capture != null && result != null && isAsyncType(result.getClass())) {
+                capture.method = method;
+                capture.result = result;
+                return null;
+            }
+            return result;
+        });
+    }
+
+    static final class Capture {
+
+        private final Capture previous;
+
+        private Method method;
+
+        private Object result;
+
+        private JsonRpcDeadline deadline;
+
+        private Capture(Capture previous) {
+            this.previous = previous;
+        }
+
+        Method getMethod() {
+            return this.method;
+        }
+
+        Object getResult() {
+            return this.result;
+        }
+
+        JsonRpcDeadline getDeadline() {
+            return this.deadline;
+        }
+
+        void end() {
+            if (this.previous != null) {
+                CURRENT.set(this.previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+}
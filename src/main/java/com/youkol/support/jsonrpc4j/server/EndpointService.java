@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * The service of the single-service endpoint serving the current request,
+ * bound by {@link JsonRpcMultiServer#handle(javax.servlet.http.HttpServletRequest,
+ * javax.servlet.http.HttpServletResponse, String)}. Method names of such
+ * requests carry no service name.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class EndpointService {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private EndpointService() {
+    }
+
+    /**
+     * The name of the endpoint service of the current thread.
+     *
+     * @return the service name, <code>null</code> on the multi-service endpoint
+     */
+    static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the endpoint service to the current thread until the scope is
+     * closed.
+     *
+     * @param serviceName the service name, may be <code>null</code>
+     * @return the scope restoring the previous service
+     */
+    static Scope bind(String serviceName) {
+        String previous = CURRENT.get();
+        CURRENT.set(serviceName);
+        return new Scope(previous);
+    }
+
+    /**
+     * An endpoint service bound to a thread.
+     */
+    static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous != null) {
+                CURRENT.set(this.previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+}
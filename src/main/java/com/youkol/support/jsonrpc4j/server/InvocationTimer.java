@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interrupts threads whose invocation outlives its deadline. A single daemon
+ * thread serves all servers; cancelled timeouts are removed from its queue
+ * right away.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class InvocationTimer {
+
+    private static final ScheduledThreadPoolExecutor TIMER;
+
+    static {
+        TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "jsonrpc-invocation-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    private InvocationTimer() {
+    }
+
+    /**
+     * Starts the timeout of an invocation made by the current thread.
+     *
+     * @param timeoutNanos the time after which the thread is interrupted
+     * @return the timeout, to be {@link Timeout#finish() finished} by the same
+     *         thread
+     */
+    static Timeout start(long timeoutNanos) {
+        Timeout timeout = new Timeout(Thread.currentThread());
+        timeout.future = TIMER.schedule(timeout::expire, timeoutNanos, TimeUnit.NANOSECONDS);
+        return timeout;
+    }
+
+    static final class Timeout {
+
+        private static final int RUNNING = 0;
+
+        private static final int FINISHED = 1;
+
+        private static final int EXPIRED = 2;
+
+        private final Thread thread;
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private ScheduledFuture<?> future;
+
+        private Timeout(Thread thread) {
+            this.thread = thread;
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (this.state.compareAndSet(RUNNING, EXPIRED)) {
+                    this.thread.interrupt();
+                }
+            }
+        }
+
+        /**
+         * Stops the timeout. If it expired, the interrupt it sent is cleared.
+         *
+         * @return <code>true</code> if the invocation timed out
+         */
+        boolean finish() {
+            if (this.state.compareAndSet(RUNNING, FINISHED)) {
+                this.future.cancel(false);
+                return false;
+            }
+            synchronized (this) {
+                // the interrupt has been sent once the lock is released
+                Thread.interrupted();
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * Dedicated executor of parallel and streamed batches sharing its threads
+ * fairly between the batches being processed.
+ * <p>
+ * The tasks submitted by one thread, the thread serving the batch request,
+ * form a batch. Each batch runs at most {@code maxInFlightPerBatch} tasks at a
+ * time, and batches with waiting tasks take turns for free threads, so a batch
+ * of thousands of calls does not delay the small batches arriving after it.
+ * <p>
+ * The threads are those of a fixed-size {@link ThreadPoolExecutor} or of a
+ * work-stealing {@link ForkJoinPool}, owned by this executor.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcBatchExecutor extends AbstractExecutorService {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_BATCH = 8;
+
+    public static final String DEFAULT_THREAD_NAME_PREFIX = "jsonrpc-batch-";
+
+    private final ExecutorService workers;
+
+    private final int maxInFlightPerBatch;
+
+    private final ConcurrentMap<Thread, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * The batches in turn for a free thread, once per task they may start.
+     */
+    private final Queue<Batch> turns = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final AtomicInteger runningTasks = new AtomicInteger();
+
+    private final Runnable worker = this::runNextTurn;
+
+    /**
+     * Creates an executor backed by a fixed-size thread pool.
+     *
+     * @param threads             the number of threads
+     * @param maxInFlightPerBatch the number of tasks of one batch running at
+     *                            a time
+     */
+    public JsonRpcBatchExecutor(int threads, int maxInFlightPerBatch) {
+        this(createThreadPool(threads, DEFAULT_THREAD_NAME_PREFIX), maxInFlightPerBatch);
+    }
+
+    /**
+     * Creates an executor running the tasks on the given workers, which are
+     * shut down with this executor.
+     *
+     * @param workers             the executor running the tasks
+     * @param maxInFlightPerBatch the number of tasks of one batch running at
+     *                            a time
+     */
+    public JsonRpcBatchExecutor(ExecutorService workers, int maxInFlightPerBatch) {
+        Assert.notNull(workers, "Workers must not be null.");
+        Assert.isTrue(maxInFlightPerBatch > 0, "Max in flight per batch must be greater than 0.");
+        this.workers = workers;
+        this.maxInFlightPerBatch = maxInFlightPerBatch;
+    }
+
+    /**
+     * Creates a fixed-size thread pool with daemon threads.
+     *
+     * @param threads          the number of threads
+     * @param threadNamePrefix the prefix of the thread names
+     * @return the thread pool
+     */
+    public static ExecutorService createThreadPool(int threads, String threadNamePrefix) {
+        Assert.isTrue(threads > 0, "Threads must be greater than 0.");
+        CustomizableThreadCreator threadCreator = new CustomizableThreadCreator(threadNamePrefix);
+        threadCreator.setDaemon(true);
+        ThreadFactory threadFactory = threadCreator::createThread;
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                threadFactory);
+    }
+
+    /**
+     * Creates a work-stealing fork/join pool.
+     *
+     * @param parallelism      the number of threads
+     * @param threadNamePrefix the prefix of the thread names
+     * @return the fork/join pool
+     */
+    public static ExecutorService createForkJoinPool(int parallelism, String threadNamePrefix) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0.");
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + threadCount.incrementAndGet());
+            return thread;
+        }, null, true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Assert.notNull(command, "Command must not be null.");
+        if (this.workers.isShutdown()) {
+            throw new RejectedExecutionException("JSON-RPC batch executor has been shut down");
+        }
+        Thread submitter = Thread.currentThread();
+        Batch batch;
+        int added;
+        do {
+            batch = this.batches.computeIfAbsent(submitter, Batch::new);
+            added = batch.add(command, this.maxInFlightPerBatch);
+        } while (added < 0);
+        this.queuedTasks.incrementAndGet();
+        if (added > 0) {
+            this.takeTurn(batch);
+        }
+    }
+
+    private void takeTurn(Batch batch) {
+        this.turns.add(batch);
+        try {
+            this.workers.execute(this.worker);
+        } catch (RejectedExecutionException ex) {
+            // shut down meanwhile, the waiting tasks of the batch are dropped
+            this.turns.remove(batch);
+            this.endTurn(batch, false);
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs a task of the batch whose turn it is, then puts the batch back at
+     * the end of the line if it has more tasks.
+     */
+    private void runNextTurn() {
+        Batch batch = this.turns.poll();
+        if (batch == null) {
+            return;
+        }
+        Runnable task = batch.poll();
+        if (task != null) {
+            this.queuedTasks.decrementAndGet();
+            this.runningTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                this.runningTasks.decrementAndGet();
+            }
+        }
+        if (this.endTurn(batch, true)) {
+            try {
+                this.takeTurn(batch);
+            } catch (RejectedExecutionException ex) {
+                // the submitters time out waiting for the dropped tasks
+            }
+        }
+    }
+
+    /**
+     * Ends a turn of the batch, returns whether it takes another one.
+     */
+    private boolean endTurn(Batch batch, boolean again) {
+        if (again && batch.continueTurn()) {
+            return true;
+        }
+        if (!again) {
+            this.queuedTasks.addAndGet(-batch.drop());
+        }
+        if (batch.endTurn()) {
+            this.batches.remove(batch.submitter, batch);
+        }
+        return false;
+    }
+
+    /**
+     * The number of tasks waiting for a thread.
+     *
+     * @return the queued tasks
+     */
+    public int getQueuedTaskCount() {
+        return this.queuedTasks.get();
+    }
+
+    /**
+     * The number of tasks being run.
+     *
+     * @return the running tasks
+     */
+    public int getRunningTaskCount() {
+        return this.runningTasks.get();
+    }
+
+    /**
+     * The number of batches with queued or running tasks.
+     *
+     * @return the active batches
+     */
+    public int getActiveBatchCount() {
+        return this.batches.size();
+    }
+
+    public int getMaxInFlightPerBatch() {
+        return this.maxInFlightPerBatch;
+    }
+
+    public ExecutorService getWorkers() {
+        return this.workers;
+    }
+
+    @Override
+    public void shutdown() {
+        this.workers.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (Batch batch : this.batches.values()) {
+            tasks.addAll(batch.drain());
+        }
+        this.queuedTasks.addAndGet(-tasks.size());
+        this.workers.shutdownNow();
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.workers.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * The tasks of one submitting thread, and the number of turns they hold.
+     */
+    private static final class Batch {
+
+        private final Thread submitter;
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        private int turns;
+
+        private boolean active = true;
+
+        Batch(Thread submitter) {
+            this.submitter = submitter;
+        }
+
+        /**
+         * Adds a task. Returns 1 if the batch takes a new turn for it, 0 if it
+         * waits for a turn of the batch, -1 if the batch has been retired.
+         */
+        synchronized int add(Runnable task, int maxTurns) {
+            if (!this.active) {
+                return -1;
+            }
+            this.tasks.add(task);
+            if (this.turns < maxTurns) {
+                this.turns++;
+                return 1;
+            }
+            return 0;
+        }
+
+        synchronized Runnable poll() {
+            return this.tasks.poll();
+        }
+
+        /**
+         * Keeps the turn if tasks are waiting.
+         */
+        synchronized boolean continueTurn() {
+            return !this.tasks.isEmpty();
+        }
+
+        /**
+         * Gives up a turn, returns whether the batch is done and retired.
+         */
+        synchronized boolean endTurn() {
+            this.turns--;
+            if (this.turns == 0 && this.tasks.isEmpty()) {
+                this.active = false;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized int drop() {
+            int dropped = this.tasks.size();
+            this.tasks.clear();
+            return dropped;
+        }
+
+        synchronized List<Runnable> drain() {
+            List<Runnable> drained = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            return drained;
+        }
+    }
+
+}
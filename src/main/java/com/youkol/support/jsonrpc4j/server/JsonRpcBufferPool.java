@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded pool of reusable response buffers.
+ * <p>
+ * At most <code>poolSize</code> idle buffers are kept. Buffers that grew beyond
+ * <code>maxBufferSize</code> are not returned to the pool, so the retained
+ * memory stays below <code>poolSize * maxBufferSize</code>. When the pool is
+ * empty a new buffer is allocated.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcBufferPool {
+
+    public static final int DEFAULT_POOL_SIZE = 64;
+
+    public static final int DEFAULT_INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 256 * 1024;
+
+    private final BlockingQueue<Buffer> buffers;
+
+    private final int initialBufferSize;
+
+    private final int maxBufferSize;
+
+    public JsonRpcBufferPool() {
+        this(DEFAULT_POOL_SIZE, DEFAULT_INITIAL_BUFFER_SIZE, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param poolSize          the maximum number of idle buffers, 0 disables
+     *                          pooling
+     * @param initialBufferSize the capacity of new buffers
+     * @param maxBufferSize     the largest capacity returned to the pool, also
+     *                          the size above which servlet responses are
+     *                          streamed
+     */
+    public JsonRpcBufferPool(int poolSize, int initialBufferSize, int maxBufferSize) {
+        Assert.isTrue(poolSize >= 0, "Pool size must not be negative.");
+        Assert.isTrue(initialBufferSize > 0, "Initial buffer size must be greater than 0.");
+        Assert.isTrue(maxBufferSize >= initialBufferSize, "Max buffer size must not be less than initial size.");
+        this.buffers = poolSize > 0 ? new ArrayBlockingQueue<>(poolSize) : null;
+        this.initialBufferSize = initialBufferSize;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Takes an empty buffer from the pool.
+     *
+     * @return the buffer, to be given back with {@link #release(Buffer)}
+     */
+    public Buffer acquire() {
+        Buffer buffer = this.buffers != null ? this.buffers.poll() : null;
+        return buffer != null ? buffer : new Buffer(this.initialBufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used afterwards.
+     *
+     * @param buffer the buffer
+     */
+    public void release(Buffer buffer) {
+        if (this.buffers == null || buffer.capacity() > this.maxBufferSize) {
+            return;
+        }
+        buffer.reset();
+        this.buffers.offer(buffer);
+    }
+
+    public int getMaxBufferSize() {
+        return this.maxBufferSize;
+    }
+
+    /**
+     * The number of idle buffers.
+     *
+     * @return the pool size
+     */
+    public int getIdleCount() {
+        return this.buffers != null ? this.buffers.size() : 0;
+    }
+
+    /**
+     * Growable byte buffer, an unsynchronized {@link java.io.ByteArrayOutputStream}
+     * giving access to its content without copying.
+     */
+    public static final class Buffer extends OutputStream {
+
+        private byte[] bytes;
+
+        private int count;
+
+        Buffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        @Override
+        public void write(int b) {
+            this.ensureCapacity(this.count + 1);
+            this.bytes[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.ensureCapacity(this.count + len);
+            System.arraycopy(b, off, this.bytes, this.count, len);
+            this.count += len;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length << 1, capacity));
+            }
+        }
+
+        public int size() {
+            return this.count;
+        }
+
+        public int capacity() {
+            return this.bytes.length;
+        }
+
+        /**
+         * The backing array, valid up to {@link #size()}.
+         *
+         * @return the content
+         */
+        public byte[] array() {
+            return this.bytes;
+        }
+
+        public void writeTo(OutputStream output) throws IOException {
+            output.write(this.bytes, 0, this.count);
+        }
+
+        public void reset() {
+            this.count = 0;
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks an idempotent service interface method whose results are cached by
+ * {@link JsonRpcMultiServer}. Calls are keyed on the full JSON-RPC method name
+ * and the <code>params</code>; a hit answers the call without invoking the
+ * handler. The request interceptor and
+ * {@link com.googlecode.jsonrpc4j.JsonRpcInterceptor#preHandle preHandle} of
+ * the server's interceptors still run for every call.
+ * <p>
+ * The key does not identify the caller: a cached result is served to every
+ * client, so methods whose result depends on the caller (e.g. the
+ * authenticated user) must not be cacheable.
+ * <p>
+ * Overloads are only cached when all of them are annotated; they share the
+ * settings of the first one.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ * @see JsonRpcResponseCache
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcCacheable {
+
+    /**
+     * Time to live of a cached result.
+     *
+     * @return the time to live, in {@link #timeUnit()}
+     */
+    long ttl() default 60;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * Maximum number of cached results, the least recently used are evicted
+     * first.
+     *
+     * @return the maximum number of entries
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Maximum total size of the cached results in bytes, as serialized JSON.
+     * Results larger than this are never cached. A value <code>&lt;= 0</code>
+     * only bounds the number of entries.
+     *
+     * @return the maximum size in bytes
+     */
+    long maxBytes() default -1;
+
+}
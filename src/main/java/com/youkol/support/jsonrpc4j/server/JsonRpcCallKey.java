@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * Identifies a call by its full JSON-RPC method name and params. Params are
+ * compared with {@link JsonNode#equals(Object)}, under which objects are equal
+ * regardless of the order of their fields.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+final class JsonRpcCallKey {
+
+    private final String method;
+
+    private final JsonNode params;
+
+    private final int hash;
+
+    JsonRpcCallKey(String method, JsonNode params) {
+        this.method = method;
+        this.params = params == null || params.isMissingNode() ? NullNode.getInstance() : params;
+        this.hash = 31 * method.hashCode() + this.params.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonRpcCallKey)) {
+            return false;
+        }
+        JsonRpcCallKey other = (JsonRpcCallKey) obj;
+        return this.hash == other.hash && this.method.equals(other.method) && this.params.equals(other.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.method + this.params;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.security.Principal;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the identity of the client sending an HTTP request, used to key
+ * per client limits such as {@link JsonRpcRateLimitInterceptor}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface JsonRpcClientIdentityResolver {
+
+    /**
+     * Resolves the client identity.
+     *
+     * @param request the HTTP request
+     * @return the identity, <code>null</code> if unknown
+     */
+    String resolveClientIdentity(HttpServletRequest request);
+
+    /**
+     * Identifies clients by the value of a request header, e.g. an API key.
+     * Clients choose the value freely: {@link JsonRpcRateLimiter} bounds the
+     * buckets held per method, so rotating values end up sharing one bucket.
+     *
+     * @param headerName the header name
+     * @return the resolver
+     */
+    static JsonRpcClientIdentityResolver header(String headerName) {
+        Assert.hasText(headerName, "Header name must not be empty.");
+        return request -> request.getHeader(headerName);
+    }
+
+    /**
+     * Identifies clients by their IP address.
+     *
+     * @return the resolver
+     */
+    static JsonRpcClientIdentityResolver remoteAddress() {
+        return HttpServletRequest::getRemoteAddr;
+    }
+
+    /**
+     * Identifies clients by the name of the authenticated user.
+     *
+     * @return the resolver
+     */
+    static JsonRpcClientIdentityResolver principal() {
+        return request -> {
+            Principal principal = request.getUserPrincipal();
+            return principal != null ? principal.getName() : null;
+        };
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an idempotent service interface method whose identical concurrent
+ * calls are coalesced by {@link JsonRpcMultiServer}: while one invocation for
+ * the same method and <code>params</code> is in flight, further calls wait for
+ * its response instead of invoking the handler again.
+ * <p>
+ * Overloads are only coalesced when all of them are annotated. Methods
+ * returning asynchronous types are never coalesced.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ * @see JsonRpcMultiServer#setCoalescedMethodPatterns(java.util.Collection)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcCoalesced {
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A wire format of JSON-RPC messages: an {@link ObjectMapper} for a Jackson
+ * data format (JSON, Smile, CBOR, MessagePack, ...) and the media types
+ * selecting it.
+ * <p>
+ * Requests are parsed into the format independent {@link com.fasterxml.jackson.databind.JsonNode}
+ * tree, so every codec dispatches to the same services.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcCodec {
+
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
+    public static final String CBOR_MEDIA_TYPE = "application/cbor";
+
+    private final String name;
+
+    private final ObjectMapper objectMapper;
+
+    private final List<MimeType> mediaTypes;
+
+    /**
+     * Creates a codec.
+     *
+     * @param name         the codec name, e.g. <code>smile</code>
+     * @param objectMapper the mapper reading and writing the format
+     * @param mediaTypes   the media types of the format, the first one is used
+     *                     as the response content type
+     */
+    public JsonRpcCodec(String name, ObjectMapper objectMapper, String... mediaTypes) {
+        Assert.hasText(name, "Name must not be empty.");
+        Assert.notNull(objectMapper, "ObjectMapper must not be null.");
+        Assert.notEmpty(mediaTypes, "MediaTypes must not be empty.");
+        this.name = name;
+        this.objectMapper = objectMapper;
+        List<MimeType> parsed = new ArrayList<>(mediaTypes.length);
+        for (String mediaType : mediaTypes) {
+            parsed.add(MimeTypeUtils.parseMimeType(mediaType));
+        }
+        this.mediaTypes = Collections.unmodifiableList(parsed);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    public List<MimeType> getMediaTypes() {
+        return this.mediaTypes;
+    }
+
+    /**
+     * The content type of messages written by this codec.
+     *
+     * @return the first media type
+     */
+    public MimeType getContentType() {
+        return this.mediaTypes.get(0);
+    }
+
+    /**
+     * Whether the given media type selects this codec. Parameters such as
+     * <code>charset</code> are ignored, wildcards are not matched.
+     *
+     * @param mediaType the media type
+     * @return <code>true</code> if one of the codec media types has the same
+     *         type and subtype
+     */
+    public boolean supports(MimeType mediaType) {
+        for (MimeType candidate : this.mediaTypes) {
+            if (candidate.equalsTypeAndSubtype(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcCodec [name=" + this.name + ", mediaTypes=" + this.mediaTypes + "]";
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive limit of the concurrent invocations of {@link JsonRpcMultiServer},
+ * partitioned per full JSON-RPC method name.
+ * <p>
+ * Each partition adjusts its limit with a gradient of the observed latency:
+ * a slowly moving average of the round trip time is compared with a fast one,
+ * and the limit shrinks as soon as calls get slower than
+ * {@link #setTolerance(double) tolerance} times the long term average, while
+ * it grows by its square root as long as latency stays flat. The limit does
+ * not grow while less than half of it is in use.
+ * <p>
+ * Calls over the limit are rejected right away with
+ * {@link #LIMIT_EXCEEDED_CODE}. Acquiring and releasing a permit only touches
+ * atomic counters of the partition; latency samples lost to a concurrent
+ * update are dropped instead of retried.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcConcurrencyLimiter {
+
+    /**
+     * JSON-RPC error code of calls rejected because their method is at its
+     * concurrency limit.
+     */
+    public static final int LIMIT_EXCEEDED_CODE = -32050;
+
+    public static final String LIMIT_EXCEEDED_MESSAGE = "Server overloaded";
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    public static final double DEFAULT_TOLERANCE = 1.5;
+
+    public static final double DEFAULT_SMOOTHING = 0.2;
+
+    public static final int DEFAULT_LONG_WINDOW = 600;
+
+    private static final int SHORT_WINDOW = 10;
+
+    private final ConcurrentMap<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final int initialLimit;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private volatile double tolerance = DEFAULT_TOLERANCE;
+
+    private volatile double smoothing = DEFAULT_SMOOTHING;
+
+    private volatile double longAlpha = 2.0 / (DEFAULT_LONG_WINDOW + 1);
+
+    public JsonRpcConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    public JsonRpcConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        Assert.isTrue(minLimit > 0, "Min limit must be greater than 0.");
+        Assert.isTrue(maxLimit >= minLimit, "Max limit must not be less than the min limit.");
+        Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+                "Initial limit must be between the min and max limit.");
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Returns the partition of a method, creating it on first use.
+     *
+     * @param fullMethodName the method name including the service name
+     * @return the partition
+     */
+    public Partition getPartition(String fullMethodName) {
+        Partition partition = this.partitions.get(fullMethodName);
+        if (partition != null) {
+            return partition;
+        }
+        return this.partitions.computeIfAbsent(fullMethodName, Partition::new);
+    }
+
+    public Collection<Partition> getPartitions() {
+        return Collections.unmodifiableCollection(this.partitions.values());
+    }
+
+    public int getInitialLimit() {
+        return this.initialLimit;
+    }
+
+    public int getMinLimit() {
+        return this.minLimit;
+    }
+
+    public int getMaxLimit() {
+        return this.maxLimit;
+    }
+
+    public double getTolerance() {
+        return this.tolerance;
+    }
+
+    /**
+     * How much slower than the long term average calls may get before the
+     * limit shrinks, e.g. <code>1.5</code> for 50%.
+     *
+     * @param tolerance the tolerance, at least <code>1</code>
+     */
+    public void setTolerance(double tolerance) {
+        Assert.isTrue(tolerance >= 1, "Tolerance must not be less than 1.");
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return this.smoothing;
+    }
+
+    /**
+     * Weight of a new limit estimate, <code>1</code> to apply it unsmoothed.
+     *
+     * @param smoothing the smoothing factor, greater than <code>0</code>
+     */
+    public void setSmoothing(double smoothing) {
+        Assert.isTrue(smoothing > 0 && smoothing <= 1, "Smoothing must be greater than 0 and at most 1.");
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Number of samples the long term latency average spans.
+     *
+     * @param longWindow the number of samples
+     */
+    public void setLongWindow(int longWindow) {
+        Assert.isTrue(longWindow > SHORT_WINDOW, "Long window must be greater than " + SHORT_WINDOW + ".");
+        this.longAlpha = 2.0 / (longWindow + 1);
+    }
+
+    private static double get(AtomicLong value) {
+        return Double.longBitsToDouble(value.get());
+    }
+
+    private static boolean compareAndSet(AtomicLong value, double expected, double update) {
+        return value.compareAndSet(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(update));
+    }
+
+    /**
+     * Concurrency limit of one method.
+     */
+    public final class Partition {
+
+        private final String name;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicLong limit;
+
+        private final AtomicLong shortRtt = new AtomicLong(Double.doubleToRawLongBits(0));
+
+        private final AtomicLong longRtt = new AtomicLong(Double.doubleToRawLongBits(0));
+
+        private final LongAdder rejected = new LongAdder();
+
+        private Partition(String name) {
+            this.name = name;
+            this.limit = new AtomicLong(Double.doubleToRawLongBits(JsonRpcConcurrencyLimiter.this.initialLimit));
+        }
+
+        /**
+         * Takes a permit if the method is below its limit.
+         *
+         * @return <code>true</code> if the call may proceed, in which case
+         *         {@link #release(long)} must be called once it completes
+         */
+        public boolean tryAcquire() {
+            int limit = this.getLimit();
+            for (;;) {
+                int current = this.inFlight.get();
+                if (current >= limit) {
+                    this.rejected.increment();
+                    return false;
+                }
+                if (this.inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Returns a permit and adjusts the limit to the latency of the call.
+         *
+         * @param rttNanos the duration of the call in nanoseconds
+         */
+        public void release(long rttNanos) {
+            int inFlight = this.inFlight.getAndDecrement();
+            if (rttNanos > 0) {
+                this.sample(rttNanos, inFlight);
+            }
+        }
+
+        private void sample(double rtt, int inFlight) {
+            JsonRpcConcurrencyLimiter limiter = JsonRpcConcurrencyLimiter.this;
+            double shortRtt = get(this.shortRtt);
+            shortRtt = shortRtt == 0 ? rtt : shortRtt + (rtt - shortRtt) * (2.0 / (SHORT_WINDOW + 1));
+            this.shortRtt.set(Double.doubleToRawLongBits(shortRtt));
+
+            double longRtt = get(this.longRtt);
+            double nextLongRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) * limiter.longAlpha;
+            if (nextLongRtt / shortRtt > 2) {
+                // latency dropped a lot, so the long term average catches up faster
+                nextLongRtt *= 0.95;
+            }
+            if (!compareAndSet(this.longRtt, longRtt, nextLongRtt)) {
+                return;
+            }
+
+            double limit = get(this.limit);
+            if (inFlight < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, limiter.tolerance * nextLongRtt / shortRtt));
+            double estimate = limit * gradient + Math.sqrt(limit);
+            double nextLimit = limit * (1 - limiter.smoothing) + estimate * limiter.smoothing;
+            nextLimit = Math.max(limiter.minLimit, Math.min(limiter.maxLimit, nextLimit));
+            compareAndSet(this.limit, limit, nextLimit);
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * The current limit, between the limiter's min and max limit.
+         *
+         * @return the limit
+         */
+        public int getLimit() {
+            return (int) get(this.limit);
+        }
+
+        public int getInFlight() {
+            return this.inFlight.get();
+        }
+
+        public long getRejectedCount() {
+            return this.rejected.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Partition [name=" + this.name + ", limit=" + this.getLimit() + ", inFlight="
+                    + this.getInFlight() + "]";
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which the caller of a JSON-RPC call stops waiting for
+ * its response.
+ * <p>
+ * Deadlines travel between processes as the remaining time in milliseconds in
+ * the {@value #HEADER} header, so the clocks of client and server need not be
+ * in sync. While a call is served its deadline is bound to the serving thread,
+ * where client proxies pick it up and pass the remaining time on to the calls
+ * they make.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public final class JsonRpcDeadline {
+
+    /**
+     * Header carrying the remaining time of the caller in milliseconds.
+     */
+    public static final String HEADER = "X-JsonRpc-Timeout";
+
+    private static final ThreadLocal<JsonRpcDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private JsonRpcDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline the given time from now.
+     *
+     * @param timeout the remaining time
+     * @return the deadline
+     */
+    public static JsonRpcDeadline after(Duration timeout) {
+        return afterNanos(timeout.toNanos());
+    }
+
+    static JsonRpcDeadline afterNanos(long timeoutNanos) {
+        return new JsonRpcDeadline(System.nanoTime() + timeoutNanos);
+    }
+
+    /**
+     * Parses the value of the {@value #HEADER} header.
+     *
+     * @param header the header value, may be <code>null</code>
+     * @return the deadline, <code>null</code> if the value is missing or
+     *         invalid
+     */
+    public static JsonRpcDeadline parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            return millis >= 0 ? afterNanos(TimeUnit.MILLISECONDS.toNanos(millis)) : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The deadline of the call served by the current thread.
+     *
+     * @return the deadline, <code>null</code> if there is none
+     */
+    public static JsonRpcDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a deadline to the current thread until the returned scope is
+     * closed, which restores the previous one.
+     *
+     * @param deadline the deadline, may be <code>null</code>
+     * @return the scope
+     */
+    public static Scope bind(JsonRpcDeadline deadline) {
+        JsonRpcDeadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns the earlier of this deadline and the given one.
+     *
+     * @param other the other deadline, may be <code>null</code>
+     * @return the earlier deadline
+     */
+    public JsonRpcDeadline min(JsonRpcDeadline other) {
+        return other != null && other.deadlineNanos - this.deadlineNanos < 0 ? other : this;
+    }
+
+    public long remainingNanos() {
+        return this.deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * The remaining time in milliseconds, rounded up, <code>0</code> once
+     * expired.
+     *
+     * @return the remaining milliseconds
+     */
+    public long remainingMillis() {
+        long remaining = this.remainingNanos();
+        return remaining > 0 ? (remaining + 999_999) / 1_000_000 : 0;
+    }
+
+    public boolean isExpired() {
+        return this.remainingNanos() <= 0;
+    }
+
+    /**
+     * The value of the {@value #HEADER} header passing this deadline on.
+     *
+     * @return the header value
+     */
+    public String toHeader() {
+        return String.valueOf(this.remainingMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcDeadline [remaining=" + this.remainingMillis() + "ms]";
+    }
+
+    /**
+     * A deadline bound to a thread.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final JsonRpcDeadline previous;
+
+        private Scope(JsonRpcDeadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous != null) {
+                CURRENT.set(this.previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * Thrown when a call is not made because its {@link JsonRpcDeadline} has
+ * passed; {@link JsonRpcMultiServer} answers calls exceeding their deadline
+ * with the same code.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcDeadlineExceededException extends JsonRpcErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * JSON-RPC error code of calls exceeding their timeout or the deadline of
+     * their caller.
+     */
+    public static final int CODE = -32052;
+
+    public static final String MESSAGE = "Deadline exceeded";
+
+    public JsonRpcDeadlineExceededException() {
+        super(CODE, MESSAGE);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.Method;
+
+import com.googlecode.jsonrpc4j.JsonResponse;
+
+/**
+ * Result of {@link JsonRpcMultiServer#handleDeferred}: the response rendered by
+ * jsonrpc4j and, when the invoked method returned an asynchronous value, that
+ * value. Its resolved result replaces the <code>null</code> result of the
+ * response.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcDeferredResponse {
+
+    private final JsonResponse response;
+
+    private final Method method;
+
+    private final Object asyncResult;
+
+    private final JsonRpcDeadline deadline;
+
+    public JsonRpcDeferredResponse(JsonResponse response, Method method, Object asyncResult) {
+        this(response, method, asyncResult, null);
+    }
+
+    public JsonRpcDeferredResponse(JsonResponse response, Method method, Object asyncResult,
+            JsonRpcDeadline deadline) {
+        this.response = response;
+        this.method = method;
+        this.asyncResult = asyncResult;
+        this.deadline = deadline;
+    }
+
+    public JsonResponse getResponse() {
+        return this.response;
+    }
+
+    /**
+     * The invoked method, <code>null</code> unless deferred.
+     *
+     * @return the method
+     */
+    public Method getMethod() {
+        return this.method;
+    }
+
+    /**
+     * The asynchronous return value, <code>null</code> unless deferred.
+     *
+     * @return the asynchronous value
+     */
+    public Object getAsyncResult() {
+        return this.asyncResult;
+    }
+
+    /**
+     * The deadline of the call, to be enforced while resolving the
+     * asynchronous value: the invocation that returned it is not interrupted.
+     *
+     * @return the deadline, <code>null</code> if there is none
+     */
+    public JsonRpcDeadline getDeadline() {
+        return this.deadline;
+    }
+
+    public boolean isDeferred() {
+        return this.asyncResult != null;
+    }
+
+}
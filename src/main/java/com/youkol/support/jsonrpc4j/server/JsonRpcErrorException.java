@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * Exception answered with its own JSON-RPC error code and message by
+ * {@link JsonRpcErrorExceptionResolver}, e.g. when a call is rejected before
+ * its handler is invoked.
+ * <p>
+ * No stack trace is filled in, so rejecting calls stays cheap.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcErrorException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int code;
+
+    private final transient Object data;
+
+    public JsonRpcErrorException(int code, String message) {
+        this(code, message, null);
+    }
+
+    public JsonRpcErrorException(int code, String message, Object data) {
+        super(message, null, false, false);
+        this.code = code;
+        this.data = data;
+    }
+
+    public int getCode() {
+        return this.code;
+    }
+
+    /**
+     * The <code>data</code> member of the error, may be <code>null</code>.
+     *
+     * @return the error data
+     */
+    public Object getData() {
+        return this.data;
+    }
+
+}
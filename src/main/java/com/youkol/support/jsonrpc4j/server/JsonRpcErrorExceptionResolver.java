@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.googlecode.jsonrpc4j.ErrorResolver;
+
+/**
+ * {@link ErrorResolver} answering a {@link JsonRpcErrorException} with its
+ * code, message and data. Other exceptions are left to the next resolver.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public enum JsonRpcErrorExceptionResolver implements ErrorResolver {
+
+    INSTANCE;
+
+    @Override
+    public JsonError resolveError(Throwable t, Method method, List<JsonNode> arguments) {
+        if (!(t instanceof JsonRpcErrorException)) {
+            return null;
+        }
+        JsonRpcErrorException ex = (JsonRpcErrorException) t;
+        return new JsonError(ex.getCode(), ex.getMessage(), ex.getData());
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * Callback for request level facts that are not visible to an
+ * {@link com.googlecode.jsonrpc4j.InvocationListener InvocationListener}, such
+ * as batch and payload sizes.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public interface JsonRpcExchangeListener {
+
+    /**
+     * Invoked once per batch request.
+     *
+     * @param size the number of batch elements
+     */
+    default void onBatch(int size) {
+    }
+
+    /**
+     * Invoked once per request after the response has been written.
+     *
+     * @param requestSize  the request body size in bytes
+     * @param responseSize the response body size in bytes
+     */
+    default void onPayload(long requestSize, long responseSize) {
+    }
+
+}
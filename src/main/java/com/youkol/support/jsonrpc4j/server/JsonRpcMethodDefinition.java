@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An entry of the {@link JsonRpcMultiServer} dispatch table, keyed by the full
+ * JSON-RPC method name (e.g. {@code Service.method}).
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcMethodDefinition {
+
+    private static final ThreadLocal<JsonRpcMethodDefinition> CURRENT = new ThreadLocal<>();
+
+    private final String fullName;
+
+    private final String methodName;
+
+    private final JsonRpcServiceDefinition service;
+
+    private final List<Method> candidateMethods;
+
+    private final boolean async;
+
+    private final JsonRpcResponseCache responseCache;
+
+    private final boolean coalesced;
+
+    private final long timeoutNanos;
+
+    public JsonRpcMethodDefinition(String fullName, String methodName, JsonRpcServiceDefinition service,
+            List<Method> candidateMethods) {
+        this.fullName = fullName;
+        this.methodName = methodName;
+        this.service = service;
+        this.candidateMethods = Collections.unmodifiableList(candidateMethods);
+        this.async = !candidateMethods.isEmpty()
+                && candidateMethods.stream().allMatch(method -> DeferredResults.isAsyncType(method.getReturnType()));
+        this.responseCache = !candidateMethods.isEmpty()
+                && candidateMethods.stream().allMatch(method -> method.isAnnotationPresent(JsonRpcCacheable.class))
+                        ? service.getResponseCaches().get(candidateMethods.get(0).getName())
+                        : null;
+        this.coalesced = !this.async && !candidateMethods.isEmpty()
+                && candidateMethods.stream().allMatch(method -> method.isAnnotationPresent(JsonRpcCoalesced.class));
+        this.timeoutNanos = candidateMethods.stream()
+                .mapToLong(JsonRpcMethodDefinition::resolveTimeoutNanos)
+                .filter(timeout -> timeout > 0)
+                .min()
+                .orElse(-1);
+    }
+
+    /**
+     * The method of the call served by the current thread, bound by the
+     * {@link JsonRpcMultiServer} while the handler is invoked.
+     *
+     * @return the method definition, <code>null</code> if the call is not
+     *         served from the registry
+     */
+    public static JsonRpcMethodDefinition current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a method definition to the current thread until the scope is
+     * closed.
+     *
+     * @param definition the method definition
+     * @return the scope restoring the previous definition
+     */
+    static Scope bind(JsonRpcMethodDefinition definition) {
+        JsonRpcMethodDefinition previous = CURRENT.get();
+        CURRENT.set(definition);
+        return new Scope(previous);
+    }
+
+    private static long resolveTimeoutNanos(Method method) {
+        JsonRpcTimeout timeout = method.getAnnotation(JsonRpcTimeout.class);
+        if (timeout == null) {
+            timeout = method.getDeclaringClass().getAnnotation(JsonRpcTimeout.class);
+        }
+        return timeout != null ? timeout.timeUnit().toNanos(timeout.value()) : -1;
+    }
+
+    /**
+     * The full JSON-RPC method name, including the service name.
+     *
+     * @return the full method name
+     */
+    public String getFullName() {
+        return this.fullName;
+    }
+
+    public String getServiceName() {
+        return this.service.getName();
+    }
+
+    /**
+     * The JSON-RPC method name without the service name.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    public JsonRpcServiceDefinition getService() {
+        return this.service;
+    }
+
+    /**
+     * The java methods (overloads) that may serve this JSON-RPC method. They
+     * drive the per-method features such as caching, coalescing and timeouts;
+     * the overload serving a call is still selected by jsonrpc4j.
+     *
+     * @return the candidate methods
+     */
+    public List<Method> getCandidateMethods() {
+        return this.candidateMethods;
+    }
+
+    /**
+     * Whether every candidate method returns an asynchronous type, so invoking
+     * it is not expected to block.
+     *
+     * @return <code>true</code> if all candidates are asynchronous
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * The cache of a {@link JsonRpcCacheable} method.
+     *
+     * @return the cache, or <code>null</code> if results are not cached
+     */
+    public JsonRpcResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    /**
+     * Whether every candidate method is annotated with {@link JsonRpcCoalesced}.
+     *
+     * @return <code>true</code> if identical concurrent calls are coalesced
+     */
+    public boolean isCoalesced() {
+        return this.coalesced;
+    }
+
+    /**
+     * The shortest {@link JsonRpcTimeout} of the candidate methods.
+     *
+     * @return the timeout in nanoseconds, <code>-1</code> if there is none
+     */
+    public long getTimeoutNanos() {
+        return this.timeoutNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcMethodDefinition [fullName=" + this.fullName + ", candidates=" + this.candidateMethods.size()
+                + "]";
+    }
+
+    /**
+     * A method definition bound to a thread.
+     */
+    static final class Scope implements AutoCloseable {
+
+        private final JsonRpcMethodDefinition previous;
+
+        private Scope(JsonRpcMethodDefinition previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous != null) {
+                CURRENT.set(this.previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+}
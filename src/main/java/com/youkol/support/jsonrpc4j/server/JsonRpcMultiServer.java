@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,65 @@
  */
 package com.youkol.support.jsonrpc4j.server;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.googlecode.jsonrpc4j.AnnotationsErrorResolver;
+import com.googlecode.jsonrpc4j.DefaultErrorResolver;
+import com.googlecode.jsonrpc4j.DefaultHttpStatusCodeProvider;
+import com.googlecode.jsonrpc4j.ErrorResolver;
+import com.googlecode.jsonrpc4j.HttpStatusCodeProvider;
+import com.googlecode.jsonrpc4j.JsonResponse;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
 import com.googlecode.jsonrpc4j.JsonRpcServer;
+import com.googlecode.jsonrpc4j.MultipleErrorResolver;
+import com.googlecode.jsonrpc4j.RequestInterceptor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-
-import java.lang.reflect.Proxy;
-import java.util.HashMap;
-import java.util.Map;
+import org.springframework.util.Assert;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * A multiple service dispatcher that supports JSON-RPC "method" names
@@ -56,16 +106,126 @@ import java.util.Map;
  *    "id": 1
  * }
  * </pre>
+ *
+ * Each registered service contributes entries to a dispatch table keyed by the
+ * full method name, so resolving the service name, method name, handler and
+ * handler interfaces of a call is a single map lookup without substring
+ * allocation. Only these lookups are precomputed: jsonrpc4j still searches the
+ * candidate methods, selects the overload and invokes it reflectively on every
+ * call.
+ * <p>
+ * Services are kept in a {@link JsonRpcServiceRegistry}, which may be changed
+ * at runtime and may be shared between several servers.
+ * <p>
+ * Non-blocking transports use {@link #handleDeferred(ObjectNode)}, which hands
+ * asynchronous return values back to the caller instead of serializing them.
+ * <p>
+ * Results of {@link JsonRpcCacheable} methods are served from a
+ * {@link JsonRpcResponseCache} without invoking the handler, and identical
+ * concurrent calls of {@link JsonRpcCoalesced} methods share one invocation.
+ * The {@link RequestInterceptor} and {@link JsonRpcInterceptor#preHandle} run
+ * for each of these calls before it is looked up or joins another one, so
+ * interceptors may reject them as they do any other call.
+ * <p>
+ * With {@link #setStreamingBatchEnabled(boolean) streaming batches} a batch is
+ * not read into a tree first: elements are parsed from the request stream one
+ * by one, dispatched right away and their responses written to the response
+ * stream as soon as they are available.
+ * <p>
+ * Besides JSON, {@link #addCodec(JsonRpcCodec) codecs} for binary Jackson data
+ * formats such as Smile or CBOR may be registered. The request format is chosen
+ * from its <code>Content-Type</code> and the response format from
+ * <code>Accept</code>, defaulting to the request format. All formats share the
+ * same services.
+ * <p>
+ * With a {@link JsonRpcConcurrencyLimiter} set, invocations over the adaptive
+ * limit of their method are rejected with
+ * {@link JsonRpcConcurrencyLimiter#LIMIT_EXCEEDED_CODE} before the handler is
+ * called. Cached responses and calls joining a coalesced invocation do not take
+ * a permit.
+ * <p>
+ * Calls are bounded by the {@link JsonRpcTimeout} or
+ * {@link #setMethodTimeouts configured timeout} of their method and the
+ * {@link JsonRpcDeadline} sent by the client, whichever ends first. The
+ * deadline is bound to the invoking thread, so client proxies called by the
+ * handler pass it on. A call exceeding it is interrupted and answered with
+ * {@link JsonRpcDeadlineExceededException#CODE}.
+ * <p>
+ * Besides the multi-service endpoint, the same server serves single-service
+ * endpoints such as the paths of {@code @JsonRpcService} interfaces through
+ * {@link #handle(HttpServletRequest, HttpServletResponse, String)}, so all
+ * endpoints share one dispatch table, configuration and set of listeners.
  */
 @SuppressWarnings({ "WeakerAccess", "unused" })
 public class JsonRpcMultiServer extends JsonRpcServer {
 
-    public static final char DEFAULT_SEPARATOR = '.';
+    public static final char DEFAULT_SEPARATOR = JsonRpcServiceRegistry.DEFAULT_SEPARATOR;
+
+    /**
+     * Request attribute telling {@link #handle(HttpServletRequest, HttpServletResponse)}
+     * that the caller collects the response body itself, so it is written to
+     * the response as it is serialized instead of into a pooled buffer.
+     */
+    public static final String RESPONSE_BUFFERED_ATTRIBUTE = JsonRpcMultiServer.class.getName()
+            + ".RESPONSE_BUFFERED";
+
     private static final Logger logger = LoggerFactory.getLogger(JsonRpcMultiServer.class);
 
-    private final Map<String, Object> handlerMap;
-    private final Map<String, Class<?>> interfaceMap;
-    private char separator = DEFAULT_SEPARATOR;
+    private static final String ACCEPT = "Accept";
+
+    private static final String JSON_MEDIA_TYPE = "application/json";
+
+    /** Package private in jsonrpc4j, thrown for an empty request body. */
+    private static final String STREAM_ENDED_EXCEPTION = "com.googlecode.jsonrpc4j.StreamEndedException";
+
+    /**
+     * Set while invoking a call whose interceptors already ran, so jsonrpc4j
+     * does not run them a second time.
+     */
+    private static final ThreadLocal<Boolean> INTERCEPTED = new ThreadLocal<>();
+
+    private final JsonRpcServiceRegistry registry;
+
+    private final ObjectMapper mapper;
+
+    private ErrorResolver errorResolver;
+
+    private String contentType = JsonRpcBasicServer.JSONRPC_CONTENT_TYPE;
+
+    private ExecutorService batchExecutorService;
+
+    private long parallelBatchProcessingTimeout = Long.MAX_VALUE;
+
+    private boolean streamingBatchEnabled = false;
+
+    private int streamingBatchWindow = 64;
+
+    private int maxBatchLength = Integer.MAX_VALUE;
+
+    private final List<JsonRpcExchangeListener> exchangeListeners = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<JsonRpcCallKey, CompletableFuture<JsonResponse>> inFlightCalls =
+            new ConcurrentHashMap<>();
+
+    private volatile String[] coalescedMethodPatterns = new String[0];
+
+    private volatile JsonRpcCodec jsonCodec;
+
+    private final List<JsonRpcCodec> codecs = new CopyOnWriteArrayList<>();
+
+    private volatile JsonRpcBufferPool bufferPool = new JsonRpcBufferPool();
+
+    private volatile JsonRpcConcurrencyLimiter concurrencyLimiter;
+
+    private volatile Map<String, Duration> methodTimeouts = Collections.emptyMap();
+
+    private final ConcurrentMap<String, Long> resolvedTimeouts = new ConcurrentHashMap<>();
+
+    private boolean deadlineHeaderEnabled = true;
+
+    private RequestInterceptor requestInterceptor;
+
+    private List<JsonRpcInterceptor> interceptorList = new ArrayList<>();
 
     public JsonRpcMultiServer() {
         this(new ObjectMapper());
@@ -73,9 +233,17 @@ public class JsonRpcMultiServer extends JsonRpcServer {
     }
 
     public JsonRpcMultiServer(ObjectMapper mapper) {
+        this(mapper, new JsonRpcServiceRegistry());
+    }
+
+    public JsonRpcMultiServer(ObjectMapper mapper, JsonRpcServiceRegistry registry) {
         super(mapper, mapper);
-        this.handlerMap = new HashMap<>();
-        this.interfaceMap = new HashMap<>();
+        Assert.notNull(registry, "JsonRpcServiceRegistry must not be null.");
+        this.registry = registry;
+        this.mapper = mapper;
+        this.jsonCodec = new JsonRpcCodec("json", mapper, this.contentType, JSON_MEDIA_TYPE);
+        super.setErrorResolver(createErrorResolver(null));
+        super.setInterceptorList(Collections.singletonList(new InterceptorChain()));
     }
 
     public JsonRpcMultiServer addService(String name, Object handler) {
@@ -84,19 +252,1076 @@ public class JsonRpcMultiServer extends JsonRpcServer {
 
     public JsonRpcMultiServer addService(String name, Object handler, Class<?> remoteInterface) {
         logger.debug("add service interface {} with handler {}", remoteInterface, handler);
-        this.handlerMap.put(name, handler);
-        if (remoteInterface != null) {
-            this.interfaceMap.put(name, remoteInterface);
-        }
+        this.registry.addService(name, handler, remoteInterface);
+        return this;
+    }
+
+    public JsonRpcMultiServer addService(JsonRpcServiceDefinition service) {
+        logger.debug("add service {}", service);
+        this.registry.addService(service);
         return this;
     }
 
+    /**
+     * Registers services at once, see {@link JsonRpcServiceRegistry#addServices(Collection)}.
+     *
+     * @param services the services
+     * @return this server
+     */
+    public JsonRpcMultiServer addServices(Collection<JsonRpcServiceDefinition> services) {
+        logger.debug("add {} services", services.size());
+        this.registry.addServices(services);
+        return this;
+    }
+
+    public JsonRpcMultiServer replaceService(String name, Object handler, Class<?> remoteInterface) {
+        logger.debug("replace service interface {} with handler {}", remoteInterface, handler);
+        this.registry.replaceService(name, handler, remoteInterface);
+        return this;
+    }
+
+    public JsonRpcMultiServer removeService(String name) {
+        logger.debug("remove service {}", name);
+        this.registry.removeService(name);
+        return this;
+    }
+
+    public JsonRpcServiceRegistry getRegistry() {
+        return this.registry;
+    }
+
+    /**
+     * Returns the dispatch table entry for the full JSON-RPC method name.
+     *
+     * @param fullMethodName the method name including the service name
+     * @return the method definition, or <code>null</code> if not registered
+     */
+    public JsonRpcMethodDefinition getMethodDefinition(String fullMethodName) {
+        return this.registry.getMethodDefinition(fullMethodName);
+    }
+
     public char getSeparator() {
-        return this.separator;
+        return this.registry.getSeparator();
     }
 
     public void setSeparator(char separator) {
-        this.separator = separator;
+        this.registry.setSeparator(separator);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return this.mapper;
+    }
+
+    /**
+     * Sets the error resolver. {@link JsonRpcErrorException}s are always
+     * answered with their own code by {@link JsonRpcErrorExceptionResolver}.
+     *
+     * @param errorResolver the error resolver, <code>null</code> for
+     *                      jsonrpc4j's default resolvers
+     */
+    @Override
+    public void setErrorResolver(ErrorResolver errorResolver) {
+        super.setErrorResolver(createErrorResolver(errorResolver));
+        this.errorResolver = errorResolver;
+    }
+
+    private static ErrorResolver createErrorResolver(ErrorResolver errorResolver) {
+        return new MultipleErrorResolver(JsonRpcErrorExceptionResolver.INSTANCE, errorResolver != null ? errorResolver
+                : new MultipleErrorResolver(AnnotationsErrorResolver.INSTANCE, DefaultErrorResolver.INSTANCE));
+    }
+
+    /**
+     * The configured error resolver, <code>null</code> when jsonrpc4j's default
+     * resolvers are used.
+     *
+     * @return the error resolver
+     */
+    public ErrorResolver getErrorResolver() {
+        return this.errorResolver;
+    }
+
+    @Override
+    public RequestInterceptor getRequestInterceptor() {
+        return this.requestInterceptor;
+    }
+
+    @Override
+    public void setRequestInterceptor(RequestInterceptor requestInterceptor) {
+        super.setRequestInterceptor(requestInterceptor != null ? request -> {
+            if (INTERCEPTED.get() == null) {
+                requestInterceptor.interceptRequest(request);
+            }
+        } : null);
+        this.requestInterceptor = requestInterceptor;
+    }
+
+    @Override
+    public List<JsonRpcInterceptor> getInterceptorList() {
+        return this.interceptorList;
+    }
+
+    @Override
+    public void setInterceptorList(List<JsonRpcInterceptor> interceptorList) {
+        Assert.notNull(interceptorList, "Interceptors list can't be null");
+        this.interceptorList = interceptorList;
+    }
+
+    public HttpStatusCodeProvider getHttpStatusCodeProvider() {
+        return this.httpStatusCodeProvider != null ? this.httpStatusCodeProvider
+                : DefaultHttpStatusCodeProvider.INSTANCE;
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        super.setContentType(contentType);
+        this.contentType = contentType;
+        this.jsonCodec = new JsonRpcCodec("json", this.mapper, contentType, JSON_MEDIA_TYPE);
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * Sets the executor of parallel and streamed batches. Its tasks run with
+     * the {@link JsonRpcDeadline}, endpoint and request attributes of the
+     * request.
+     *
+     * @param batchExecutorService the executor, <code>null</code> to handle
+     *                             batch elements sequentially
+     */
+    @Override
+    public void setBatchExecutorService(ExecutorService batchExecutorService) {
+        ExecutorService executor = batchExecutorService != null
+                && !(batchExecutorService instanceof CallContextPropagatingExecutorService)
+                        ? new CallContextPropagatingExecutorService(batchExecutorService)
+                        : batchExecutorService;
+        super.setBatchExecutorService(executor);
+        this.batchExecutorService = executor;
+    }
+
+    @Override
+    public void setParallelBatchProcessingTimeout(long parallelBatchProcessingTimeout) {
+        super.setParallelBatchProcessingTimeout(parallelBatchProcessingTimeout);
+        this.parallelBatchProcessingTimeout = parallelBatchProcessingTimeout;
+    }
+
+    public List<String> getCoalescedMethodPatterns() {
+        return Collections.unmodifiableList(Arrays.asList(this.coalescedMethodPatterns));
+    }
+
+    /**
+     * Full JSON-RPC method names whose identical concurrent calls are coalesced
+     * in addition to the methods annotated with {@link JsonRpcCoalesced}. The
+     * patterns support <code>*</code> wildcards, e.g. <code>Config.*</code>.
+     *
+     * @param coalescedMethodPatterns the method name patterns
+     */
+    public void setCoalescedMethodPatterns(Collection<String> coalescedMethodPatterns) {
+        this.coalescedMethodPatterns = coalescedMethodPatterns != null
+                ? coalescedMethodPatterns.toArray(new String[0])
+                : new String[0];
+    }
+
+    public boolean getStreamingBatchEnabled() {
+        return this.streamingBatchEnabled;
+    }
+
+    /**
+     * Whether batches are processed while being read. Streamed batches larger
+     * than the {@link #setBufferPool buffer pool}'s max buffer size are answered
+     * with HTTP status 200 since the status is sent before the last element
+     * completes, and {@link JsonRpcInterceptor#preHandleJson} is called for
+     * every element instead of once for the whole batch.
+     *
+     * @param streamingBatchEnabled <code>true</code> to stream batches
+     */
+    public void setStreamingBatchEnabled(boolean streamingBatchEnabled) {
+        this.streamingBatchEnabled = streamingBatchEnabled;
+    }
+
+    public int getStreamingBatchWindow() {
+        return this.streamingBatchWindow;
+    }
+
+    /**
+     * Maximum number of streamed batch elements processed concurrently when a
+     * batch executor service is set.
+     *
+     * @param streamingBatchWindow the number of elements in flight
+     */
+    public void setStreamingBatchWindow(int streamingBatchWindow) {
+        Assert.isTrue(streamingBatchWindow > 0, "Streaming batch window must be greater than 0.");
+        this.streamingBatchWindow = streamingBatchWindow;
+    }
+
+    public int getMaxBatchLength() {
+        return this.maxBatchLength;
+    }
+
+    /**
+     * Maximum number of elements of a batch. Longer batches are answered with
+     * an invalid request error; streamed batches are cut off at the limit.
+     *
+     * @param maxBatchLength the max number of elements
+     */
+    public void setMaxBatchLength(int maxBatchLength) {
+        Assert.isTrue(maxBatchLength > 0, "Max batch length must be greater than 0.");
+        this.maxBatchLength = maxBatchLength;
+    }
+
+    /**
+     * The JSON codec of this server, selected by the configured content type and
+     * <code>application/json</code>.
+     *
+     * @return the JSON codec
+     */
+    public JsonRpcCodec getJsonCodec() {
+        return this.jsonCodec;
+    }
+
+    /**
+     * Registers a codec for an additional wire format. A codec with the same
+     * name is replaced.
+     *
+     * @param codec the codec
+     */
+    public void addCodec(JsonRpcCodec codec) {
+        Assert.notNull(codec, "JsonRpcCodec must not be null.");
+        this.codecs.removeIf(existing -> existing.getName().equals(codec.getName()));
+        this.codecs.add(codec);
+    }
+
+    public List<JsonRpcCodec> getCodecs() {
+        return Collections.unmodifiableList(this.codecs);
+    }
+
+    public JsonRpcBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+
+    /**
+     * Pool of the buffers servlet responses are serialized into.
+     *
+     * @param bufferPool the buffer pool
+     */
+    public void setBufferPool(JsonRpcBufferPool bufferPool) {
+        Assert.notNull(bufferPool, "JsonRpcBufferPool must not be null.");
+        this.bufferPool = bufferPool;
+    }
+
+    public JsonRpcConcurrencyLimiter getConcurrencyLimiter() {
+        return this.concurrencyLimiter;
+    }
+
+    /**
+     * Adaptive per method limit of concurrent invocations, <code>null</code>
+     * to accept every call. The permit of an asynchronous method is returned
+     * once the method returns its value, not when the value completes.
+     *
+     * @param concurrencyLimiter the concurrency limiter
+     */
+    public void setConcurrencyLimiter(JsonRpcConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public Map<String, Duration> getMethodTimeouts() {
+        return this.methodTimeouts;
+    }
+
+    /**
+     * Timeouts by full JSON-RPC method name (<code>*</code> wildcards allowed,
+     * matched in order), taking precedence over {@link JsonRpcTimeout}.
+     *
+     * @param methodTimeouts the timeouts by method name pattern
+     */
+    public void setMethodTimeouts(Map<String, Duration> methodTimeouts) {
+        this.methodTimeouts = methodTimeouts != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(methodTimeouts))
+                : Collections.emptyMap();
+        this.resolvedTimeouts.clear();
+    }
+
+    public boolean getDeadlineHeaderEnabled() {
+        return this.deadlineHeaderEnabled;
+    }
+
+    /**
+     * Whether the {@value JsonRpcDeadline#HEADER} header of HTTP requests bounds
+     * their calls.
+     *
+     * @param deadlineHeaderEnabled <code>true</code> to accept client deadlines
+     */
+    public void setDeadlineHeaderEnabled(boolean deadlineHeaderEnabled) {
+        this.deadlineHeaderEnabled = deadlineHeaderEnabled;
+    }
+
+    /**
+     * Selects the codec reading a request.
+     *
+     * @param contentType the <code>Content-Type</code> of the request, may be
+     *                    <code>null</code>
+     * @return the matching codec, the JSON codec if none matches
+     */
+    public JsonRpcCodec resolveRequestCodec(String contentType) {
+        if (this.codecs.isEmpty() || !StringUtils.hasText(contentType)) {
+            return this.jsonCodec;
+        }
+        try {
+            JsonRpcCodec codec = this.findCodec(MimeTypeUtils.parseMimeType(contentType));
+            return codec != null ? codec : this.jsonCodec;
+        } catch (InvalidMimeTypeException ex) {
+            return this.jsonCodec;
+        }
+    }
+
+    /**
+     * Selects the codec writing a response: the most preferred acceptable
+     * codec, the request codec if the client accepts it or accepts any type.
+     *
+     * @param accept       the <code>Accept</code> header of the request, may be
+     *                     <code>null</code>
+     * @param requestCodec the codec of the request
+     * @return the response codec
+     */
+    public JsonRpcCodec resolveResponseCodec(String accept, JsonRpcCodec requestCodec) {
+        if (this.codecs.isEmpty() || !StringUtils.hasText(accept)) {
+            return requestCodec;
+        }
+        List<MimeType> accepted;
+        try {
+            accepted = MimeTypeUtils.parseMimeTypes(accept);
+        } catch (InvalidMimeTypeException ex) {
+            return requestCodec;
+        }
+        accepted.sort(Comparator.comparingDouble(JsonRpcMultiServer::quality).reversed());
+        for (MimeType mediaType : accepted) {
+            if (quality(mediaType) <= 0) {
+                break;
+            }
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                if (mediaType.includes(requestCodec.getContentType())) {
+                    return requestCodec;
+                }
+                continue;
+            }
+            if (requestCodec.supports(mediaType)) {
+                return requestCodec;
+            }
+            JsonRpcCodec codec = this.findCodec(mediaType);
+            if (codec != null) {
+                return codec;
+            }
+        }
+        return requestCodec;
+    }
+
+    private JsonRpcCodec findCodec(MimeType mediaType) {
+        if (this.jsonCodec.supports(mediaType)) {
+            return this.jsonCodec;
+        }
+        for (JsonRpcCodec codec : this.codecs) {
+            if (codec.supports(mediaType)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private static double quality(MimeType mediaType) {
+        String quality = mediaType.getParameter("q");
+        if (quality == null) {
+            return 1.0;
+        }
+        try {
+            return Double.parseDouble(quality);
+        } catch (NumberFormatException ex) {
+            return 1.0;
+        }
+    }
+
+    /**
+     * Handles POST requests like jsonrpc4j does, but serializes the response into
+     * a pooled buffer sent with its <code>Content-Length</code> in one write.
+     * Responses larger than the pool's max buffer size are streamed. Requests
+     * with the {@link #RESPONSE_BUFFERED_ATTRIBUTE} are answered without a
+     * buffer of their own. GET requests are left to jsonrpc4j.
+     */
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!"POST".equals(request.getMethod())) {
+            super.handle(request, response);
+            return;
+        }
+        JsonRpcCodec requestCodec = this.resolveRequestCodec(request.getContentType());
+        JsonRpcCodec responseCodec = this.resolveResponseCodec(request.getHeader(ACCEPT), requestCodec);
+        response.setContentType(responseCodec == this.jsonCodec ? this.contentType
+                : responseCodec.getContentType().toString());
+
+        JsonRpcDeadline deadline = this.deadlineHeaderEnabled
+                ? JsonRpcDeadline.parse(request.getHeader(JsonRpcDeadline.HEADER))
+                : null;
+        if (Boolean.TRUE.equals(request.getAttribute(RESPONSE_BUFFERED_ATTRIBUTE))) {
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline)) {
+                // the status is not sent before the caller writes the collected body
+                OutputStream output = response.getOutputStream();
+                int code = this.handleRequestQuietly(request, output, requestCodec, responseCodec);
+                response.setStatus(this.getHttpStatusCodeProvider().getHttpStatusCode(code));
+                output.flush();
+            }
+            return;
+        }
+        JsonRpcBufferPool bufferPool = this.bufferPool;
+        JsonRpcBufferPool.Buffer buffer = bufferPool.acquire();
+        try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline)) {
+            SpillingResponseOutputStream output = new SpillingResponseOutputStream(response, buffer,
+                    bufferPool.getMaxBufferSize());
+            int code = ErrorResolver.JsonError.PARSE_ERROR.code;
+            try {
+                code = this.handleRequest(request.getInputStream(), output, requestCodec, responseCodec);
+            } catch (IOException | RuntimeException ex) {
+                if (output.isSpilled()) {
+                    throw ex;
+                }
+                logHandlingFailure(ex);
+            }
+            output.finish(this.getHttpStatusCodeProvider().getHttpStatusCode(code));
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private int handleRequestQuietly(HttpServletRequest request, OutputStream output, JsonRpcCodec requestCodec,
+            JsonRpcCodec responseCodec) throws IOException {
+        try {
+            return this.handleRequest(request.getInputStream(), output, requestCodec, responseCodec);
+        } catch (IOException | RuntimeException ex) {
+            logHandlingFailure(ex);
+            return ErrorResolver.JsonError.PARSE_ERROR.code;
+        }
+    }
+
+    private static void logHandlingFailure(Exception ex) {
+        if (STREAM_ENDED_EXCEPTION.equals(ex.getClass().getName())) {
+            logger.debug("Bad request: empty contents!");
+        } else {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Handles a request of an endpoint serving a single service. Method names
+     * are those of the service, without service name and separator.
+     *
+     * @param request     the request
+     * @param response    the response
+     * @param serviceName the name of the registered service
+     * @throws IOException if the request cannot be read or the response written
+     */
+    public void handle(HttpServletRequest request, HttpServletResponse response, String serviceName)
+            throws IOException {
+        Assert.hasText(serviceName, "Service name must not be empty.");
+        try (EndpointService.Scope scope = EndpointService.bind(serviceName)) {
+            this.handle(request, response);
+        }
+    }
+
+    @Override
+    public int handleRequest(InputStream input, OutputStream output) throws IOException {
+        return this.handleRequest(input, output, this.jsonCodec, this.jsonCodec);
+    }
+
+    /**
+     * Handles a request read with one codec and answered with another.
+     *
+     * @param input         the request stream
+     * @param output        the response stream
+     * @param requestCodec  the codec of the request
+     * @param responseCodec the codec of the response
+     * @return the JSON-RPC error code, {@link ErrorResolver.JsonError#OK}'s on success
+     * @throws IOException if the request cannot be read or the response written
+     */
+    public int handleRequest(InputStream input, OutputStream output, JsonRpcCodec requestCodec,
+            JsonRpcCodec responseCodec) throws IOException {
+        if (this.exchangeListeners.isEmpty()) {
+            return this.handleRequestInternal(input, output, requestCodec, responseCodec);
+        }
+        CountingInputStream countingInput = new CountingInputStream(input);
+        CountingOutputStream countingOutput = new CountingOutputStream(output);
+        try {
+            return this.handleRequestInternal(countingInput, countingOutput, requestCodec, responseCodec);
+        } finally {
+            for (JsonRpcExchangeListener listener : this.exchangeListeners) {
+                listener.onPayload(countingInput.getCount(), countingOutput.getCount());
+            }
+        }
+    }
+
+    private int handleRequestInternal(InputStream input, OutputStream output, JsonRpcCodec requestCodec,
+            JsonRpcCodec responseCodec) throws IOException {
+        if (requestCodec != this.jsonCodec || responseCodec != this.jsonCodec) {
+            return this.handleEncodedRequest(input, output, requestCodec, responseCodec);
+        }
+        if (!this.streamingBatchEnabled) {
+            return super.handleRequest(input, output);
+        }
+        PushbackInputStream pushbackInput = new PushbackInputStream(input, 1);
+        if (peek(pushbackInput) != '[') {
+            return super.handleRequest(pushbackInput, output);
+        }
+        try (JsonParser parser = this.mapper.getFactory().createParser(pushbackInput)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parser.nextToken();
+            return this.handleStreamingBatch(parser, output, this.mapper);
+        }
+    }
+
+    /**
+     * Same steps as jsonrpc4j's <code>handleRequest</code>, with the request
+     * parsed and the response written by the given codecs.
+     */
+    private int handleEncodedRequest(InputStream input, OutputStream output, JsonRpcCodec requestCodec,
+            JsonRpcCodec responseCodec) throws IOException {
+        ObjectMapper writer = responseCodec.getObjectMapper();
+        try (JsonParser parser = requestCodec.getObjectMapper().getFactory().createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonNode node = null;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY && this.streamingBatchEnabled) {
+                    return this.handleStreamingBatch(parser, output, writer);
+                }
+                if (token != null) {
+                    node = parser.readValueAsTree();
+                }
+            } catch (JsonParseException | JsonMappingException ex) {
+                logger.debug("Failed to parse {} JSON-RPC request", requestCodec.getName(), ex);
+            }
+            if (node == null) {
+                JsonResponse error = StreamingBatchProcessor.createError(null, ErrorResolver.JsonError.PARSE_ERROR);
+                writeTree(writer, output, error.getResponse());
+                return error.getCode();
+            }
+            for (JsonRpcInterceptor interceptor : this.getInterceptorList()) {
+                interceptor.preHandleJson(node);
+            }
+            JsonResponse response = this.handleJsonNodeRequest(node);
+            writeTree(writer, output, response.getResponse());
+            if (response.getExceptionToRethrow() != null) {
+                throw response.getExceptionToRethrow();
+            }
+            return response.getCode();
+        }
+    }
+
+    private static void writeTree(ObjectMapper writer, OutputStream output, JsonNode response) throws IOException {
+        if (response == null) {
+            return;
+        }
+        try (JsonGenerator generator = writer.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeTree(generator, response);
+        }
+    }
+
+    /**
+     * Processes a batch, the parser being positioned on its start.
+     */
+    private int handleStreamingBatch(JsonParser parser, OutputStream output, ObjectMapper writer) throws IOException {
+        StreamingBatchProcessor processor = new StreamingBatchProcessor(writer, this::handleBatchElement,
+                this.batchExecutorService, this.parallelBatchProcessingTimeout, this.streamingBatchWindow,
+                this.maxBatchLength);
+        try {
+            return processor.process(parser, output);
+        } finally {
+            this.fireBatch(processor.getElements());
+        }
+    }
+
+    @Override
+    protected JsonResponse handleJsonNodeRequest(JsonNode node) throws JsonParseException, JsonMappingException {
+        if (node.isArray()) {
+            this.fireBatch(node.size());
+            if (node.size() > this.maxBatchLength) {
+                return StreamingBatchProcessor.createBatchTooLongError(this.maxBatchLength);
+            }
+        } else if (node.isObject()) {
+            JsonRpcMethodDefinition definition = this.resolveMethodDefinition(node.path(METHOD).textValue());
+            if (definition != null && node.hasNonNull(ID)
+                    && (definition.getResponseCache() != null || this.isCoalesced(definition))) {
+                return this.handleShared((ObjectNode) node, definition);
+            }
+            if (definition != null) {
+                return this.invoke((ObjectNode) node, definition);
+            }
+        }
+        return super.handleJsonNodeRequest(node);
+    }
+
+    /**
+     * Invokes the handler with its method definition bound to the thread.
+     */
+    private JsonResponse invoke(ObjectNode request, JsonRpcMethodDefinition definition)
+            throws JsonParseException, JsonMappingException {
+        try (JsonRpcMethodDefinition.Scope scope = JsonRpcMethodDefinition.bind(definition)) {
+            return this.invokeTimed(request, definition);
+        }
+    }
+
+    /**
+     * Invokes the handler within the deadline of the call.
+     */
+    private JsonResponse invokeTimed(ObjectNode request, JsonRpcMethodDefinition definition)
+            throws JsonParseException, JsonMappingException {
+        JsonRpcDeadline deadline = this.getDeadline(definition);
+        if (deadline == null) {
+            return this.invokeLimited(request, definition);
+        }
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            return this.createErrorResponse(request, JsonRpcDeadlineExceededException.CODE,
+                    JsonRpcDeadlineExceededException.MESSAGE);
+        }
+        if (definition.isAsync() && DeferredResults.isCapturing()) {
+            DeferredResults.setDeadline(deadline);
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline)) {
+                return this.invokeLimited(request, definition);
+            }
+        }
+        InvocationTimer.Timeout timeout = InvocationTimer.start(remainingNanos);
+        JsonResponse response;
+        try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(deadline)) {
+            response = this.invokeLimited(request, definition);
+        } finally {
+            if (timeout.finish()) {
+                logger.debug("Call of {} exceeded its deadline", definition.getFullName());
+                response = null;
+            }
+        }
+        return response != null ? response : this.createErrorResponse(request,
+                JsonRpcDeadlineExceededException.CODE, JsonRpcDeadlineExceededException.MESSAGE);
+    }
+
+    /**
+     * The deadline of a call, the earlier of the caller's and the method's
+     * timeout.
+     */
+    private JsonRpcDeadline getDeadline(JsonRpcMethodDefinition definition) {
+        long timeoutNanos = this.getTimeoutNanos(definition);
+        JsonRpcDeadline deadline = JsonRpcDeadline.current();
+        if (timeoutNanos > 0) {
+            deadline = JsonRpcDeadline.afterNanos(timeoutNanos).min(deadline);
+        }
+        return deadline;
+    }
+
+    /**
+     * Invokes the handler within the concurrency limit of the method.
+     */
+    private JsonResponse invokeLimited(ObjectNode request, JsonRpcMethodDefinition definition)
+            throws JsonParseException, JsonMappingException {
+        JsonRpcConcurrencyLimiter limiter = this.concurrencyLimiter;
+        if (limiter == null) {
+            return super.handleJsonNodeRequest(request);
+        }
+        JsonRpcConcurrencyLimiter.Partition partition = limiter.getPartition(definition.getFullName());
+        if (!partition.tryAcquire()) {
+            logger.debug("Rejected call of {} over its concurrency limit {}", definition.getFullName(),
+                    partition.getLimit());
+            return this.createErrorResponse(request, JsonRpcConcurrencyLimiter.LIMIT_EXCEEDED_CODE,
+                    JsonRpcConcurrencyLimiter.LIMIT_EXCEEDED_MESSAGE);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.handleJsonNodeRequest(request);
+        } finally {
+            partition.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The timeout of a method, <code>-1</code> if it has none.
+     */
+    private long getTimeoutNanos(JsonRpcMethodDefinition definition) {
+        Map<String, Duration> timeouts = this.methodTimeouts;
+        if (timeouts.isEmpty()) {
+            return definition.getTimeoutNanos();
+        }
+        Long timeout = this.resolvedTimeouts.get(definition.getFullName());
+        if (timeout == null) {
+            timeout = this.resolvedTimeouts.computeIfAbsent(definition.getFullName(),
+                    name -> resolveTimeout(timeouts, name));
+        }
+        return timeout >= 0 ? timeout : definition.getTimeoutNanos();
+    }
+
+    private static long resolveTimeout(Map<String, Duration> timeouts, String fullMethodName) {
+        for (Map.Entry<String, Duration> entry : timeouts.entrySet()) {
+            if (PatternMatchUtils.simpleMatch(entry.getKey(), fullMethodName)) {
+                return entry.getValue().toNanos();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Answers a call rejected before invoking its handler.
+     */
+    private JsonResponse createErrorResponse(ObjectNode request, int code, String message) {
+        if (!request.hasNonNull(ID)) {
+            return new JsonResponse(null, code);
+        }
+        ObjectNode error = this.mapper.createObjectNode();
+        error.put(ERROR_CODE, code);
+        error.put(ERROR_MESSAGE, message);
+        return this.createSharedResponse(request, ERROR, error, code);
+    }
+
+    /**
+     * Handles a call whose response may be shared with other identical calls,
+     * through the response cache or by joining an in-flight invocation.
+     * Results are shared by all callers: the interceptors of every call run
+     * before, but the response does not depend on who is calling.
+     */
+    private JsonResponse handleShared(ObjectNode request, JsonRpcMethodDefinition definition)
+            throws JsonParseException, JsonMappingException {
+        JsonResponse rejected = this.intercept(request, definition);
+        if (rejected != null) {
+            return rejected;
+        }
+        JsonRpcResponseCache cache = definition.getResponseCache();
+        JsonNode params = request.get(PARAMS);
+        INTERCEPTED.set(Boolean.TRUE);
+        try {
+            if (cache != null) {
+                JsonNode result = cache.get(definition.getFullName(), params);
+                if (result != null) {
+                    return this.createSharedResponse(request, RESULT, result, ErrorResolver.JsonError.OK.code);
+                }
+            }
+
+            JsonResponse response = this.isCoalesced(definition) ? this.handleCoalesced(request, definition, params)
+                    : this.invoke(request, definition);
+
+            JsonNode result = response.getResponse() != null ? response.getResponse().get(RESULT) : null;
+            if (cache != null && response.getCode() == ErrorResolver.JsonError.OK.code && result != null
+                    && !DeferredResults.hasDeferredResult()) {
+                cache.put(definition.getFullName(), params, this.serialize(result));
+            }
+            return response;
+        } finally {
+            INTERCEPTED.remove();
+        }
+    }
+
+    /**
+     * Runs the request interceptor and {@link JsonRpcInterceptor#preHandle} of
+     * a call that may be answered without invoking its handler, as jsonrpc4j
+     * does before an invocation.
+     *
+     * @return the error response if an interceptor rejected the call,
+     *         <code>null</code> otherwise
+     */
+    private JsonResponse intercept(ObjectNode request, JsonRpcMethodDefinition definition) {
+        RequestInterceptor interceptor = this.requestInterceptor;
+        List<JsonRpcInterceptor> interceptors = this.interceptorList;
+        if (interceptor == null && interceptors.isEmpty()) {
+            return null;
+        }
+        JsonNode params = request.get(PARAMS);
+        Method method = selectMethod(definition, params);
+        List<JsonNode> arguments = toArguments(method, params);
+        try {
+            if (interceptor != null) {
+                interceptor.interceptRequest(request);
+            }
+            if (!interceptors.isEmpty()) {
+                Object target = this.getHandler(definition.getServiceName());
+                for (JsonRpcInterceptor jsonRpcInterceptor : interceptors) {
+                    jsonRpcInterceptor.preHandle(target, method, arguments);
+                }
+            }
+            return null;
+        } catch (Throwable ex) {
+            Throwable cause = ex instanceof InvocationTargetException
+                    ? ((InvocationTargetException) ex).getTargetException()
+                    : ex;
+            logger.debug("Call of {} rejected by an interceptor", definition.getFullName(), cause);
+            ErrorResolver.JsonError error = createErrorResolver(this.errorResolver).resolveError(cause, method,
+                    arguments);
+            if (error == null) {
+                error = new ErrorResolver.JsonError(ErrorResolver.JsonError.ERROR_NOT_HANDLED.code,
+                        cause.getMessage(), cause.getClass().getName());
+            }
+            ObjectNode errorNode = this.mapper.createObjectNode();
+            errorNode.put(ERROR_CODE, error.code);
+            errorNode.put(ERROR_MESSAGE, error.message);
+            if (error.data != null) {
+                errorNode.set(DATA, this.mapper.valueToTree(error.data));
+            }
+            return this.createSharedResponse(request, ERROR, errorNode, error.code);
+        }
+    }
+
+    /**
+     * The candidate method taking as many parameters as the call passes, the
+     * first candidate if none does.
+     */
+    private static Method selectMethod(JsonRpcMethodDefinition definition, JsonNode params) {
+        List<Method> candidates = definition.getCandidateMethods();
+        int count = params == null || params.isNull() ? 0 : params.isContainerNode() ? params.size() : 1;
+        for (Method candidate : candidates) {
+            if (candidate.getParameterCount() == count) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * The parameters of a call in the order of the method's parameters.
+     */
+    private static List<JsonNode> toArguments(Method method, JsonNode params) {
+        if (params == null || params.isNull()) {
+            return Collections.emptyList();
+        }
+        if (params.isArray()) {
+            List<JsonNode> arguments = new ArrayList<>(params.size());
+            params.forEach(arguments::add);
+            return arguments;
+        }
+        if (!params.isObject()) {
+            return Collections.singletonList(params);
+        }
+        Annotation[][] annotations = method.getParameterAnnotations();
+        List<JsonNode> arguments = new ArrayList<>(annotations.length);
+        for (Annotation[] parameterAnnotations : annotations) {
+            JsonNode argument = null;
+            for (Annotation annotation : parameterAnnotations) {
+                if (annotation instanceof JsonRpcParam) {
+                    argument = params.get(((JsonRpcParam) annotation).value());
+                }
+            }
+            arguments.add(argument != null ? argument : NullNode.getInstance());
+        }
+        return arguments;
+    }
+
+    /**
+     * Joins an identical in-flight call or invokes the handler. Only the
+     * invocation is shared: the interceptors of each call have run before.
+     */
+    private JsonResponse handleCoalesced(ObjectNode request, JsonRpcMethodDefinition definition, JsonNode params)
+            throws JsonParseException, JsonMappingException {
+        JsonRpcCallKey key = new JsonRpcCallKey(definition.getFullName(), params);
+        CompletableFuture<JsonResponse> flight = new CompletableFuture<>();
+        CompletableFuture<JsonResponse> inFlight = this.inFlightCalls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            JsonResponse shared;
+            try {
+                shared = this.await(inFlight, this.getDeadline(definition));
+            } catch (TimeoutException ex) {
+                logger.debug("Call of {} exceeded its deadline waiting for an identical call",
+                        definition.getFullName());
+                return this.createErrorResponse(request, JsonRpcDeadlineExceededException.CODE,
+                        JsonRpcDeadlineExceededException.MESSAGE);
+            }
+            if (shared == null) {
+                return this.invoke(request, definition);
+            }
+            JsonNode sharedResponse = shared.getResponse();
+            return sharedResponse.has(ERROR)
+                    ? this.createSharedResponse(request, ERROR, sharedResponse.get(ERROR), shared.getCode())
+                    : this.createSharedResponse(request, RESULT, sharedResponse.get(RESULT), shared.getCode());
+        }
+
+        JsonResponse response = null;
+        try {
+            response = this.invoke(request, definition);
+            return response;
+        } finally {
+            this.inFlightCalls.remove(key, flight);
+            // waiting calls invoke the handler themselves when there is nothing to share
+            flight.complete(this.isShareable(response) ? response : null);
+        }
+    }
+
+    /**
+     * Whether waiting calls may answer with the response of a coalesced call.
+     * Rejections by the deadline or the concurrency limit of the invoking call
+     * are not, the waiting calls have their own.
+     */
+    private boolean isShareable(JsonResponse response) {
+        return response != null && response.getResponse() != null && response.getExceptionToRethrow() == null
+                && response.getCode() != JsonRpcDeadlineExceededException.CODE
+                && response.getCode() != JsonRpcConcurrencyLimiter.LIMIT_EXCEEDED_CODE
+                && !DeferredResults.hasDeferredResult();
+    }
+
+    /**
+     * Waits for an in-flight call until the deadline of the waiting call.
+     *
+     * @return the shared response, <code>null</code> if there is none
+     * @throws TimeoutException if the deadline expires first
+     */
+    private JsonResponse await(CompletableFuture<JsonResponse> flight, JsonRpcDeadline deadline)
+            throws TimeoutException {
+        try {
+            if (deadline == null) {
+                return flight.get();
+            }
+            return flight.get(Math.max(deadline.remainingNanos(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    private boolean isCoalesced(JsonRpcMethodDefinition definition) {
+        if (definition.isCoalesced()) {
+            return true;
+        }
+        String[] patterns = this.coalescedMethodPatterns;
+        return patterns.length > 0 && !definition.isAsync()
+                && PatternMatchUtils.simpleMatch(patterns, definition.getFullName());
+    }
+
+    private JsonResponse createSharedResponse(ObjectNode request, String field, JsonNode value, int code) {
+        ObjectNode response = this.mapper.createObjectNode();
+        response.put(JSONRPC, request.path(JSONRPC).asText(VERSION));
+        response.set(ID, request.get(ID));
+        response.set(field, value);
+        for (JsonRpcInterceptor interceptor : this.getInterceptorList()) {
+            interceptor.postHandleJson(response);
+        }
+        return new JsonResponse(response, code);
+    }
+
+    private byte[] serialize(JsonNode result) {
+        try {
+            return this.mapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize cached result", ex);
+        }
+    }
+
+    /**
+     * The interceptor given to jsonrpc4j, delegating to the
+     * {@link #getInterceptorList() interceptors} of this server, except for
+     * {@link JsonRpcInterceptor#preHandle} of calls intercepted before.
+     */
+    private final class InterceptorChain implements JsonRpcInterceptor {
+
+        @Override
+        public void preHandleJson(JsonNode json) {
+            for (JsonRpcInterceptor interceptor : JsonRpcMultiServer.this.interceptorList) {
+                interceptor.preHandleJson(json);
+            }
+        }
+
+        @Override
+        public void preHandle(Object target, Method method, List<JsonNode> params) {
+            if (INTERCEPTED.get() != null) {
+                return;
+            }
+            for (JsonRpcInterceptor interceptor : JsonRpcMultiServer.this.interceptorList) {
+                interceptor.preHandle(target, method, params);
+            }
+        }
+
+        @Override
+        public void postHandle(Object target, Method method, List<JsonNode> params, JsonNode result) {
+            for (JsonRpcInterceptor interceptor : JsonRpcMultiServer.this.interceptorList) {
+                interceptor.postHandle(target, method, params, result);
+            }
+        }
+
+        @Override
+        public void postHandleJson(JsonNode json) {
+            for (JsonRpcInterceptor interceptor : JsonRpcMultiServer.this.interceptorList) {
+                interceptor.postHandleJson(json);
+            }
+        }
+    }
+
+    private void fireBatch(int size) {
+        for (JsonRpcExchangeListener listener : this.exchangeListeners) {
+            listener.onBatch(size);
+        }
+    }
+
+    public void addExchangeListener(JsonRpcExchangeListener listener) {
+        Assert.notNull(listener, "JsonRpcExchangeListener must not be null.");
+        this.exchangeListeners.add(listener);
+    }
+
+    public void removeExchangeListener(JsonRpcExchangeListener listener) {
+        this.exchangeListeners.remove(listener);
+    }
+
+    /**
+     * The listeners notified of batch and payload sizes. Transports that do
+     * not go through {@link #handleRequest(InputStream, OutputStream)} notify
+     * them themselves.
+     *
+     * @return the exchange listeners
+     */
+    public List<JsonRpcExchangeListener> getExchangeListeners() {
+        return Collections.unmodifiableList(this.exchangeListeners);
+    }
+
+    private JsonResponse handleBatchElement(JsonNode element) throws IOException {
+        for (JsonRpcInterceptor interceptor : this.getInterceptorList()) {
+            interceptor.preHandleJson(element);
+        }
+        return this.handleJsonNodeRequest(element);
+    }
+
+    /**
+     * Returns the first significant byte without consuming it, -1 at the end of
+     * the stream. Leading whitespace is skipped.
+     */
+    private static int peek(PushbackInputStream input) throws IOException {
+        int b;
+        do {
+            b = input.read();
+        } while (b == ' ' || b == '\t' || b == '\r' || b == '\n');
+        if (b >= 0) {
+            input.unread(b);
+        }
+        return b;
+    }
+
+    /**
+     * Handles a single JSON-RPC request object. When the invoked method returns
+     * an asynchronous value ({@code CompletionStage}, {@code Mono},
+     * {@code Flux}, ...) the value is returned with the response instead of
+     * being serialized; the caller resolves it and fills in the result.
+     * <p>
+     * {@link com.googlecode.jsonrpc4j.JsonRpcInterceptor JsonRpcInterceptor}s and
+     * the {@link com.googlecode.jsonrpc4j.InvocationListener InvocationListener}
+     * see a <code>null</code> result for deferred invocations.
+     * <p>
+     * Asynchronous methods are invoked without a timer interrupting the calling
+     * thread, which may be an event loop; the caller enforces the
+     * {@link JsonRpcDeferredResponse#getDeadline() deadline} of the call while
+     * resolving the value.
+     *
+     * @param request the request object
+     * @return the response, possibly deferred
+     * @throws IOException if the request cannot be processed
+     */
+    public JsonRpcDeferredResponse handleDeferred(ObjectNode request) throws IOException {
+        DeferredResults.Capture capture = DeferredResults.begin();
+        try {
+            JsonResponse response = this.handleJsonNodeRequest(request);
+            return new JsonRpcDeferredResponse(response, capture.getMethod(), capture.getResult(),
+                    capture.getDeadline());
+        } finally {
+            capture.end();
+        }
     }
 
     /**
@@ -108,14 +1333,7 @@ public class JsonRpcMultiServer extends JsonRpcServer {
      */
     @Override
     protected Class<?>[] getHandlerInterfaces(String serviceName) {
-        Class<?> remoteInterface = this.interfaceMap.get(serviceName);
-        if (remoteInterface != null) {
-            return new Class<?>[] { remoteInterface };
-        } else if (Proxy.isProxyClass(this.getHandler(serviceName).getClass())) {
-            return this.getHandler(serviceName).getClass().getInterfaces();
-        } else {
-            return new Class<?>[] { this.getHandler(serviceName).getClass() };
-        }
+        return this.getServiceDefinition(serviceName).getHandlerInterfaces();
     }
 
     /**
@@ -127,8 +1345,16 @@ public class JsonRpcMultiServer extends JsonRpcServer {
      */
     @Override
     protected String getServiceName(final String methodName) {
+        String endpointService = EndpointService.current();
+        if (endpointService != null) {
+            return endpointService;
+        }
+        JsonRpcMethodDefinition definition = this.resolveMethodDefinition(methodName);
+        if (definition != null) {
+            return definition.getServiceName();
+        }
         if (methodName != null) {
-            int ndx = methodName.indexOf(this.separator);
+            int ndx = methodName.indexOf(this.registry.getSeparator());
             if (ndx > 0) {
                 return methodName.substring(0, ndx);
             }
@@ -144,8 +1370,15 @@ public class JsonRpcMultiServer extends JsonRpcServer {
      */
     @Override
     protected String getMethodName(final String methodName) {
+        if (EndpointService.current() != null) {
+            return methodName;
+        }
+        JsonRpcMethodDefinition definition = this.resolveMethodDefinition(methodName);
+        if (definition != null) {
+            return definition.getMethodName();
+        }
         if (methodName != null) {
-            int ndx = methodName.indexOf(this.separator);
+            int ndx = methodName.indexOf(this.registry.getSeparator());
             if (ndx > 0) {
                 return methodName.substring(ndx + 1);
             }
@@ -162,11 +1395,36 @@ public class JsonRpcMultiServer extends JsonRpcServer {
      */
     @Override
     protected Object getHandler(String serviceName) {
-        Object handler = this.handlerMap.get(serviceName);
-        if (handler == null) {
+        JsonRpcServiceDefinition service = this.getServiceDefinition(serviceName);
+        return DeferredResults.isCapturing() ? service.getDeferringHandler() : service.getHandler();
+    }
+
+    /**
+     * Looks up the method of a call, qualified with the endpoint service if
+     * there is one. Endpoint-only services are not found from other endpoints.
+     */
+    private JsonRpcMethodDefinition resolveMethodDefinition(String methodName) {
+        if (methodName == null) {
+            return null;
+        }
+        String endpointService = EndpointService.current();
+        if (endpointService != null) {
+            return this.registry.getMethodDefinition(endpointService + this.registry.getSeparator() + methodName);
+        }
+        JsonRpcMethodDefinition definition = this.registry.getMethodDefinition(methodName);
+        return definition != null && !definition.getService().getEndpointOnly() ? definition : null;
+    }
+
+    private JsonRpcServiceDefinition getServiceDefinition(String serviceName) {
+        JsonRpcServiceDefinition service = this.registry.getService(serviceName);
+        if (service != null && service.getEndpointOnly() && !serviceName.equals(EndpointService.current())) {
+            service = null;
+        }
+        if (service == null) {
             logger.error("Service '{}' is not registered in this multi-server", serviceName);
             throw new RuntimeException("Service '" + serviceName + "' does not exist");
         }
-        return handler;
+        return service;
     }
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import org.springframework.util.Assert;
+
+/**
+ * A token bucket: up to <code>burst</code> calls at once, refilled at
+ * <code>permitsPerSecond</code>.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public final class JsonRpcRateLimit {
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private final long intervalNanos;
+
+    public JsonRpcRateLimit(double permitsPerSecond) {
+        this(permitsPerSecond, (int) Math.max(1, Math.ceil(permitsPerSecond)));
+    }
+
+    public JsonRpcRateLimit(double permitsPerSecond, int burst) {
+        Assert.isTrue(permitsPerSecond > 0, "Permits per second must be greater than 0.");
+        Assert.isTrue(burst > 0, "Burst must be greater than 0.");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+    }
+
+    public double getPermitsPerSecond() {
+        return this.permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return this.burst;
+    }
+
+    /**
+     * Time it takes to refill one token.
+     *
+     * @return the interval in nanoseconds
+     */
+    long getIntervalNanos() {
+        return this.intervalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcRateLimit [permitsPerSecond=" + this.permitsPerSecond + ", burst=" + this.burst + "]";
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * Thrown by {@link JsonRpcRateLimitInterceptor} when a client exceeds the rate
+ * limit of a method.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcRateLimitExceededException extends JsonRpcErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * JSON-RPC error code of calls rejected by the rate limit.
+     */
+    public static final int CODE = -32051;
+
+    public static final String MESSAGE = "Rate limit exceeded";
+
+    private final String clientIdentity;
+
+    private final String method;
+
+    public JsonRpcRateLimitExceededException(String clientIdentity, String method) {
+        super(CODE, MESSAGE);
+        this.clientIdentity = clientIdentity;
+        this.method = method;
+    }
+
+    /**
+     * The identity of the rejected client, <code>null</code> if unknown.
+     *
+     * @return the client identity
+     */
+    public String getClientIdentity() {
+        return this.clientIdentity;
+    }
+
+    public String getMethod() {
+        return this.method;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.RequestInterceptor;
+
+/**
+ * {@link RequestInterceptor} rejecting calls over the {@link JsonRpcRateLimiter}
+ * limit of their client and method with a
+ * {@link JsonRpcRateLimitExceededException}.
+ * <p>
+ * The client is identified from the servlet request bound to the current
+ * thread through {@link RequestContextHolder}. Without one, e.g. on the
+ * reactive endpoint, all clients share the limit of a method. Every element of
+ * a batch is counted.
+ * <p>
+ * Calls are counted under the full name of the method they resolve to in the
+ * {@link JsonRpcServiceRegistry}, qualified with the endpoint service on path
+ * based endpoints (e.g. {@code /calc.add}); calls of methods that are not
+ * registered share one limit per client, so clients cannot add buckets by
+ * sending arbitrary method names.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcRateLimitInterceptor implements RequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcRateLimitInterceptor.class);
+
+    private final JsonRpcRateLimiter rateLimiter;
+
+    private final JsonRpcClientIdentityResolver clientIdentityResolver;
+
+    private final JsonRpcServiceRegistry registry;
+
+    public JsonRpcRateLimitInterceptor(JsonRpcRateLimiter rateLimiter,
+            JsonRpcClientIdentityResolver clientIdentityResolver, JsonRpcServiceRegistry registry) {
+        Assert.notNull(rateLimiter, "JsonRpcRateLimiter must not be null.");
+        Assert.notNull(clientIdentityResolver, "JsonRpcClientIdentityResolver must not be null.");
+        Assert.notNull(registry, "JsonRpcServiceRegistry must not be null.");
+        this.rateLimiter = rateLimiter;
+        this.clientIdentityResolver = clientIdentityResolver;
+        this.registry = registry;
+    }
+
+    @Override
+    public void interceptRequest(JsonNode request) {
+        String method = request.path(JsonRpcBasicServer.METHOD).textValue();
+        String clientIdentity = this.resolveClientIdentity();
+        if (!this.rateLimiter.tryAcquire(clientIdentity, this.resolveMethod(method))) {
+            logger.debug("Client {} exceeded the rate limit of {}", clientIdentity, method);
+            throw new JsonRpcRateLimitExceededException(clientIdentity, method);
+        }
+    }
+
+    /**
+     * The full name of the registered method, <code>null</code> if unknown.
+     */
+    private String resolveMethod(String methodName) {
+        if (methodName == null) {
+            return null;
+        }
+        String endpointService = EndpointService.current();
+        if (endpointService != null) {
+            methodName = endpointService + this.registry.getSeparator() + methodName;
+        }
+        JsonRpcMethodDefinition definition = this.registry.getMethodDefinition(methodName);
+        if (definition == null || endpointService == null && definition.getService().getEndpointOnly()) {
+            return null;
+        }
+        return definition.getFullName();
+    }
+
+    private String resolveClientIdentity() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        return this.clientIdentityResolver.resolveClientIdentity(request);
+    }
+
+    public JsonRpcRateLimiter getRateLimiter() {
+        return this.rateLimiter;
+    }
+
+    public JsonRpcClientIdentityResolver getClientIdentityResolver() {
+        return this.clientIdentityResolver;
+    }
+
+    public JsonRpcServiceRegistry getRegistry() {
+        return this.registry;
+    }
+
+}
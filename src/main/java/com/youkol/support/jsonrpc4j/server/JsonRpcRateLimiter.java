@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Token buckets per client identity and JSON-RPC method.
+ * <p>
+ * The limit of a method is the first {@link JsonRpcRateLimit} whose pattern
+ * (<code>*</code> wildcards allowed) matches the method name, else the default
+ * limit; methods without a limit are not counted. Each bucket is a single
+ * atomic timestamp, the time at which it will be full again, advanced by one
+ * refill interval per call as long as it stays within the burst (the generic
+ * cell rate algorithm), so taking a token is one compare-and-set.
+ * <p>
+ * Buckets that have been full for the idle timeout are evicted; since a full
+ * bucket behaves like a new one, eviction does not change the limits. A bucket
+ * is marked evicted with the same compare-and-set, so a call racing with the
+ * eviction either takes its token first, keeping the bucket, or moves on to a
+ * new bucket. Clients without an identity share one bucket per method, and so
+ * do the clients beyond the maximum number of buckets of a method, e.g. made
+ * up by rotating a client identity header. Calls of unknown methods (a
+ * <code>null</code> method) share one bucket per client limited by the
+ * default limit, so memory is bounded by the registered methods rather than by
+ * the names clients send.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcRateLimiter {
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    public static final int DEFAULT_MAX_BUCKETS_PER_METHOD = 10_000;
+
+    private static final String ANONYMOUS = "";
+
+    private static final String UNKNOWN_METHOD = "";
+
+    private static final JsonRpcRateLimit UNLIMITED = new JsonRpcRateLimit(1);
+
+    /**
+     * The value of an evicted bucket, no longer taking tokens.
+     */
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final JsonRpcRateLimit defaultLimit;
+
+    private final Map<String, JsonRpcRateLimit> methodLimits;
+
+    private final ConcurrentMap<String, JsonRpcRateLimit> resolvedLimits = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicLong>> buckets = new ConcurrentHashMap<>();
+
+    private final long idleTimeoutNanos;
+
+    private final int maxBucketsPerMethod;
+
+    private final AtomicLong nextEviction;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param defaultLimit the limit of methods not matching any pattern,
+     *                     <code>null</code> for no limit
+     * @param methodLimits the limits by method name pattern, in matching order
+     * @param idleTimeout  how long full buckets are kept
+     */
+    public JsonRpcRateLimiter(JsonRpcRateLimit defaultLimit, Map<String, JsonRpcRateLimit> methodLimits,
+            Duration idleTimeout) {
+        this(defaultLimit, methodLimits, idleTimeout, DEFAULT_MAX_BUCKETS_PER_METHOD);
+    }
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param defaultLimit        the limit of methods not matching any
+     *                            pattern, <code>null</code> for no limit
+     * @param methodLimits        the limits by method name pattern, in
+     *                            matching order
+     * @param idleTimeout         how long full buckets are kept
+     * @param maxBucketsPerMethod the number of clients with a bucket of their
+     *                            own per method
+     */
+    public JsonRpcRateLimiter(JsonRpcRateLimit defaultLimit, Map<String, JsonRpcRateLimit> methodLimits,
+            Duration idleTimeout, int maxBucketsPerMethod) {
+        Assert.notNull(idleTimeout, "Idle timeout must not be null.");
+        Assert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "Idle timeout must be positive.");
+        Assert.isTrue(maxBucketsPerMethod > 0, "Max buckets per method must be greater than 0.");
+        this.defaultLimit = defaultLimit;
+        this.methodLimits = methodLimits != null ? Collections.unmodifiableMap(new LinkedHashMap<>(methodLimits))
+                : Collections.emptyMap();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxBucketsPerMethod = maxBucketsPerMethod;
+        this.nextEviction = new AtomicLong(System.nanoTime() + this.idleTimeoutNanos);
+    }
+
+    /**
+     * Takes a token of the client's bucket of the method.
+     *
+     * @param clientIdentity the client, may be <code>null</code>
+     * @param method         the full name of a registered method,
+     *                       <code>null</code> for an unknown method
+     * @return <code>true</code> if the call is within the limit
+     */
+    public boolean tryAcquire(String clientIdentity, String method) {
+        return this.tryAcquire(clientIdentity, method, System.nanoTime());
+    }
+
+    boolean tryAcquire(String clientIdentity, String method, long now) {
+        JsonRpcRateLimit limit = this.getLimit(method);
+        if (limit == null) {
+            return true;
+        }
+        long next = this.nextEviction.get();
+        if (now - next >= 0 && this.nextEviction.compareAndSet(next, now + this.idleTimeoutNanos)) {
+            this.evictIdle(now);
+        }
+
+        String methodKey = method != null ? method : UNKNOWN_METHOD;
+        String key = clientIdentity != null ? clientIdentity : ANONYMOUS;
+        ConcurrentMap<String, AtomicLong> methodBuckets = this.buckets.get(methodKey);
+        AtomicLong bucket = methodBuckets != null ? methodBuckets.get(key) : null;
+        if (bucket == null) {
+            bucket = this.getOrCreateBucket(methodKey, key, now);
+        }
+
+        long interval = limit.getIntervalNanos();
+        long tolerance = interval * limit.getBurst();
+        boolean clockRead = false;
+        for (;;) {
+            long fullAt = bucket.get();
+            if (fullAt == EVICTED) {
+                bucket = this.getOrCreateBucket(methodKey, key, now);
+                continue;
+            }
+            long nextFullAt = (fullAt - now > 0 ? fullAt : now) + interval;
+            if (nextFullAt - now > tolerance && clockRead) {
+                return false;
+            }
+            if (nextFullAt - now <= tolerance && bucket.compareAndSet(fullAt, nextFullAt)) {
+                return true;
+            }
+            // a concurrent call may have taken a token after the clock was
+            // read, so measure the bucket again at a moment later than that
+            long current = System.nanoTime();
+            now = current - now > 0 ? current : now;
+            clockRead = true;
+        }
+    }
+
+    /**
+     * Returns the live bucket of a client, creating it if necessary. The map of
+     * the method is looked up and dropped under the same lock, so a bucket is
+     * never added to a map being removed. Clients beyond the maximum number of
+     * buckets share the bucket of the clients without identity.
+     */
+    private AtomicLong getOrCreateBucket(String methodKey, String key, long now) {
+        AtomicLong[] bucket = new AtomicLong[1];
+        this.buckets.compute(methodKey, (k, methodBuckets) -> {
+            if (methodBuckets == null) {
+                methodBuckets = new ConcurrentHashMap<>();
+            }
+            String bucketKey = methodBuckets.size() >= this.maxBucketsPerMethod && !methodBuckets.containsKey(key)
+                    ? ANONYMOUS
+                    : key;
+            AtomicLong existing = methodBuckets.get(bucketKey);
+            if (existing == null || existing.get() == EVICTED) {
+                existing = new AtomicLong(now);
+                methodBuckets.put(bucketKey, existing);
+            }
+            bucket[0] = existing;
+            return methodBuckets;
+        });
+        return bucket[0];
+    }
+
+    /**
+     * Returns the limit of a method.
+     *
+     * @param method the full name of a registered method, <code>null</code>
+     *               for an unknown method
+     * @return the limit, <code>null</code> if the method is not limited
+     */
+    public JsonRpcRateLimit getLimit(String method) {
+        if (method == null) {
+            return this.defaultLimit;
+        }
+        JsonRpcRateLimit limit = this.resolvedLimits.get(method);
+        if (limit == null) {
+            limit = this.resolvedLimits.computeIfAbsent(method, this::resolveLimit);
+        }
+        return limit != UNLIMITED ? limit : null;
+    }
+
+    private JsonRpcRateLimit resolveLimit(String method) {
+        for (Map.Entry<String, JsonRpcRateLimit> entry : this.methodLimits.entrySet()) {
+            if (PatternMatchUtils.simpleMatch(entry.getKey(), method)) {
+                return entry.getValue();
+            }
+        }
+        return this.defaultLimit != null ? this.defaultLimit : UNLIMITED;
+    }
+
+    /**
+     * Removes the buckets that have been full for the idle timeout, and the
+     * methods left without buckets.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    void evictIdle(long now) {
+        for (String methodKey : this.buckets.keySet()) {
+            this.buckets.computeIfPresent(methodKey, (k, methodBuckets) -> {
+                methodBuckets.entrySet().removeIf(entry -> {
+                    AtomicLong bucket = entry.getValue();
+                    long fullAt = bucket.get();
+                    // fails if a call took a token in the meantime
+                    return fullAt == EVICTED
+                            || (now - fullAt >= this.idleTimeoutNanos && bucket.compareAndSet(fullAt, EVICTED));
+                });
+                return methodBuckets.isEmpty() ? null : methodBuckets;
+            });
+        }
+    }
+
+    /**
+     * The number of buckets currently held.
+     *
+     * @return the number of buckets
+     */
+    public int getBucketCount() {
+        return this.buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * The number of methods buckets are currently held for.
+     *
+     * @return the number of methods
+     */
+    int getMethodCount() {
+        return this.buckets.size();
+    }
+
+    public int getMaxBucketsPerMethod() {
+        return this.maxBucketsPerMethod;
+    }
+
+    public JsonRpcRateLimit getDefaultLimit() {
+        return this.defaultLimit;
+    }
+
+    public Map<String, JsonRpcRateLimit> getMethodLimits() {
+        return this.methodLimits;
+    }
+
+}
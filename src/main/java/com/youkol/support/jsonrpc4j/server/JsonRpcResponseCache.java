@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * Bounded, size-aware cache of the results of a {@link JsonRpcCacheable}
+ * method, evicting the least recently used entries.
+ * <p>
+ * Results are kept as the serialized JSON of the tree jsonrpc4j produced from
+ * the return value, so a hit skips the invocation, the conversion of the
+ * returned bean and its serialization. A hit returns a raw value node, which
+ * is written as is and cannot be modified by the callers sharing it.
+ * Params are compared with {@link JsonNode#equals(Object)}, under which
+ * objects are equal regardless of the order of their fields.
+ * <p>
+ * Lookups do not lock: a hit only records its time on the entry. Once a bound
+ * is exceeded, one thread evicts the least recently used entries until the
+ * cache is a tenth below its bounds, so the cost of sorting the entries is
+ * spread over the puts which follow.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcResponseCache {
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final ConcurrentMap<JsonRpcCallKey, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public JsonRpcResponseCache(JsonRpcCacheable cacheable) {
+        this(cacheable.timeUnit().toNanos(cacheable.ttl()), cacheable.maxEntries(), cacheable.maxBytes());
+    }
+
+    public JsonRpcResponseCache(long ttlNanos, int maxEntries, long maxBytes) {
+        Assert.isTrue(ttlNanos > 0, "Cache ttl must be greater than 0.");
+        Assert.isTrue(maxEntries > 0, "Cache maxEntries must be greater than 0.");
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached result of a call.
+     *
+     * @param fullMethodName the full JSON-RPC method name
+     * @param params         the params of the call, may be <code>null</code>
+     * @return the result as a raw value node, or <code>null</code> if not
+     *         cached or expired
+     */
+    public JsonNode get(String fullMethodName, JsonNode params) {
+        JsonRpcCallKey key = new JsonRpcCallKey(fullMethodName, params);
+        CacheEntry entry = this.entries.get(key);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (entry.expiresAt - now > 0) {
+                entry.accessedAt = now;
+                this.hits.increment();
+                return entry.result;
+            }
+            this.remove(key, entry);
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the result of a call.
+     *
+     * @param fullMethodName the full JSON-RPC method name
+     * @param params         the params of the call, may be <code>null</code>
+     * @param result         the result serialized as UTF-8 JSON
+     */
+    public void put(String fullMethodName, JsonNode params, byte[] result) {
+        if (this.maxBytes > 0 && result.length > this.maxBytes) {
+            return;
+        }
+        JsonRpcCallKey key = new JsonRpcCallKey(fullMethodName, params);
+        CacheEntry entry = new CacheEntry(result, System.nanoTime(), this.ttlNanos);
+        CacheEntry previous = this.entries.put(key, entry);
+        this.bytes.addAndGet(previous != null ? entry.size - previous.size : entry.size);
+        if (this.isOverBounds(this.maxEntries, this.maxBytes)) {
+            this.evict();
+        }
+    }
+
+    public void clear() {
+        this.entries.forEach((key, entry) -> {
+            if (this.entries.remove(key, entry)) {
+                this.bytes.addAndGet(-entry.size);
+            }
+        });
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * The total size of the cached results in bytes.
+     *
+     * @return the size in bytes
+     */
+    public long getBytes() {
+        return this.bytes.get();
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * The number of entries removed because of the size bounds or because they
+     * expired.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    private boolean isOverBounds(int entryLimit, long byteLimit) {
+        return this.entries.size() > entryLimit || (this.maxBytes > 0 && this.bytes.get() > byteLimit);
+    }
+
+    /**
+     * Removes expired entries, then the least recently used ones until the
+     * cache is a tenth below its bounds. Threads finding another one evicting
+     * do not wait for it.
+     */
+    private void evict() {
+        if (!this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int entryLimit = this.maxEntries - this.maxEntries / 10;
+            long byteLimit = this.maxBytes - this.maxBytes / 10;
+            long now = System.nanoTime();
+            List<Candidate> candidates = new ArrayList<>(this.entries.size());
+            for (Map.Entry<JsonRpcCallKey, CacheEntry> entry : this.entries.entrySet()) {
+                CacheEntry value = entry.getValue();
+                if (value.expiresAt - now <= 0) {
+                    this.remove(entry.getKey(), value);
+                } else {
+                    candidates.add(new Candidate(entry.getKey(), value));
+                }
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.accessedAt - now));
+            for (int i = 0; i < candidates.size() && this.isOverBounds(entryLimit, byteLimit); i++) {
+                this.remove(candidates.get(i).key, candidates.get(i).entry);
+            }
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    private void remove(JsonRpcCallKey key, CacheEntry entry) {
+        if (this.entries.remove(key, entry)) {
+            this.bytes.addAndGet(-entry.size);
+            this.evictions.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcResponseCache [size=" + this.size() + ", hits=" + this.getHitCount() + ", misses="
+                + this.getMissCount() + ", evictions=" + this.getEvictionCount() + "]";
+    }
+
+    private static final class CacheEntry {
+
+        private final JsonNode result;
+
+        private final long size;
+
+        private final long expiresAt;
+
+        /**
+         * The time of the last hit, written without synchronization: a lost
+         * update only makes the entry look a little older.
+         */
+        private volatile long accessedAt;
+
+        CacheEntry(byte[] result, long now, long ttlNanos) {
+            SerializedString serialized = new SerializedString(new String(result, StandardCharsets.UTF_8));
+            // encodes once, the UTF-8 bytes are kept for every response written
+            serialized.asUnquotedUTF8();
+            this.result = JsonNodeFactory.instance.rawValueNode(new RawValue(serialized));
+            this.size = result.length;
+            this.expiresAt = now + ttlNanos;
+            this.accessedAt = now;
+        }
+    }
+
+    /**
+     * An entry with its access time read once, so the order does not change
+     * while sorting.
+     */
+    private static final class Candidate {
+
+        private final JsonRpcCallKey key;
+
+        private final CacheEntry entry;
+
+        private final long accessedAt;
+
+        Candidate(JsonRpcCallKey key, CacheEntry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.accessedAt = entry.accessedAt;
+        }
+    }
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A service registered in {@link JsonRpcMultiServer}, with the handler
+ * interfaces resolved once at registration time.
+ * <p>
+ * The handler may be given as an {@link ObjectFactory}, in which case it is
+ * obtained on the first invocation only and the interfaces are resolved from
+ * the declared handler type.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServiceDefinition {
+
+    private final String name;
+
+    private final ObjectFactory<?> handlerFactory;
+
+    private volatile Object handler;
+
+    private final Class<?> remoteInterface;
+
+    private final Class<?>[] handlerInterfaces;
+
+    private final Map<String, JsonRpcResponseCache> responseCaches;
+
+    private final Map<String, List<Method>> indexedMethods;
+
+    private final List<Method> methods;
+
+    private final boolean endpointOnly;
+
+    private volatile Object deferringHandler;
+
+    public JsonRpcServiceDefinition(String name, Object handler, Class<?> remoteInterface) {
+        this(name, handler, remoteInterface, null);
+    }
+
+    /**
+     * Creates a definition whose methods are known up front, e.g. from the
+     * {@link JsonRpcServiceIndex}, so the dispatch table is built without
+     * scanning the remote interface.
+     *
+     * @param name            the service name
+     * @param handler         the handler
+     * @param remoteInterface the remote interface, may be <code>null</code>
+     * @param indexedMethods  the methods of the remote interface keyed by
+     *                        JSON-RPC method name, <code>null</code> to scan
+     *                        the handler interfaces
+     */
+    public JsonRpcServiceDefinition(String name, Object handler, Class<?> remoteInterface,
+            Map<String, List<Method>> indexedMethods) {
+        this(name, handler, handler != null ? handler.getClass() : null, null, remoteInterface, indexedMethods);
+    }
+
+    /**
+     * Creates a definition whose handler is obtained on first invocation.
+     *
+     * @param name            the service name
+     * @param handlerType     the type of the handler
+     * @param handlerFactory  the factory of the handler
+     * @param remoteInterface the remote interface, may be <code>null</code>
+     * @param indexedMethods  the methods of the remote interface keyed by
+     *                        JSON-RPC method name, <code>null</code> to scan
+     *                        the handler interfaces
+     */
+    public JsonRpcServiceDefinition(String name, Class<?> handlerType, ObjectFactory<?> handlerFactory,
+            Class<?> remoteInterface, Map<String, List<Method>> indexedMethods) {
+        this(name, null, handlerType, handlerFactory, remoteInterface, indexedMethods);
+    }
+
+    private JsonRpcServiceDefinition(String name, Object handler, Class<?> handlerType,
+            ObjectFactory<?> handlerFactory, Class<?> remoteInterface, Map<String, List<Method>> indexedMethods) {
+        Assert.hasText(name, "Service name must not be empty.");
+        Assert.isTrue(handler != null || handlerFactory != null, "Service handler must not be null.");
+        Assert.notNull(handlerType, "Service handler type must not be null.");
+        Assert.isTrue(indexedMethods == null || remoteInterface != null,
+                "Indexed methods require a remote interface.");
+        this.name = name;
+        this.handler = handler;
+        this.handlerFactory = handlerFactory;
+        this.remoteInterface = remoteInterface;
+        this.handlerInterfaces = resolveHandlerInterfaces(handlerType, remoteInterface);
+        this.indexedMethods = indexedMethods != null ? Collections.unmodifiableMap(indexedMethods) : null;
+        this.methods = resolveMethods(this.handlerInterfaces, this.indexedMethods);
+        this.responseCaches = createResponseCaches(this.methods);
+        this.endpointOnly = false;
+    }
+
+    private JsonRpcServiceDefinition(JsonRpcServiceDefinition service, boolean endpointOnly) {
+        this.name = service.name;
+        this.handler = service.handler;
+        this.handlerFactory = service.handlerFactory;
+        this.remoteInterface = service.remoteInterface;
+        this.handlerInterfaces = service.handlerInterfaces;
+        this.responseCaches = service.responseCaches;
+        this.indexedMethods = service.indexedMethods;
+        this.methods = service.methods;
+        this.endpointOnly = endpointOnly;
+    }
+
+    /**
+     * Returns a definition of the same service served only by single-service
+     * endpoints, see {@link JsonRpcMultiServer#handle(javax.servlet.http.HttpServletRequest,
+     * javax.servlet.http.HttpServletResponse, String)}. Calls naming the
+     * service on the multi-service endpoint are answered as if it did not
+     * exist.
+     *
+     * @return the endpoint-only definition
+     */
+    public JsonRpcServiceDefinition endpointOnly() {
+        return this.endpointOnly ? this : new JsonRpcServiceDefinition(this, true);
+    }
+
+    public boolean getEndpointOnly() {
+        return this.endpointOnly;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the handler, obtaining it from the handler factory on first use.
+     *
+     * @return the handler
+     */
+    public Object getHandler() {
+        Object resolved = this.handler;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = this.handler;
+                if (resolved == null) {
+                    resolved = this.handlerFactory.getObject();
+                    Assert.state(resolved != null, () -> "Handler of service '" + this.name + "' is null.");
+                    this.handler = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Whether the handler has been obtained, always <code>true</code> unless
+     * it is created by a handler factory.
+     *
+     * @return <code>true</code> if the handler is available
+     */
+    public boolean getHandlerResolved() {
+        return this.handler != null;
+    }
+
+    public Class<?> getRemoteInterface() {
+        return this.remoteInterface;
+    }
+
+    /**
+     * Returns the classes searched for candidate methods. The returned array is
+     * shared and must not be modified.
+     *
+     * @return the handler interfaces
+     */
+    public Class<?>[] getHandlerInterfaces() {
+        return this.handlerInterfaces;
+    }
+
+    /**
+     * The caches of the {@link JsonRpcCacheable} methods, keyed by java method
+     * name. They live as long as this definition, so replacing a service
+     * drops its cached results.
+     *
+     * @return the response caches
+     */
+    public Map<String, JsonRpcResponseCache> getResponseCaches() {
+        return this.responseCaches;
+    }
+
+    /**
+     * The java methods served, taken from the indexed methods or scanned once
+     * from the handler interfaces, {@link Object} methods excluded.
+     *
+     * @return the methods
+     */
+    public List<Method> getMethods() {
+        return this.methods;
+    }
+
+    /**
+     * The methods keyed by JSON-RPC method name, <code>null</code> if the
+     * handler interfaces are scanned.
+     */
+    Map<String, List<Method>> getIndexedMethods() {
+        return this.indexedMethods;
+    }
+
+    /**
+     * The handler invoked while asynchronous results are captured, created on
+     * first use.
+     */
+    Object getDeferringHandler() {
+        Object deferring = this.deferringHandler;
+        if (deferring == null) {
+            deferring = DeferredResults.createDeferringHandler(this);
+            this.deferringHandler = deferring;
+        }
+        return deferring;
+    }
+
+    private static Class<?>[] resolveHandlerInterfaces(Class<?> handlerClass, Class<?> remoteInterface) {
+        if (remoteInterface != null) {
+            return new Class<?>[] { remoteInterface };
+        } else if (Proxy.isProxyClass(handlerClass)) {
+            return handlerClass.getInterfaces();
+        } else {
+            return new Class<?>[] { handlerClass };
+        }
+    }
+
+    private static List<Method> resolveMethods(Class<?>[] handlerInterfaces,
+            Map<String, List<Method>> indexedMethods) {
+        Set<Method> methods = new LinkedHashSet<>();
+        if (indexedMethods != null) {
+            indexedMethods.values().forEach(methods::addAll);
+        } else {
+            for (Class<?> handlerInterface : handlerInterfaces) {
+                for (Method method : handlerInterface.getMethods()) {
+                    if (method.getDeclaringClass() != Object.class) {
+                        methods.add(method);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(methods));
+    }
+
+    private static Map<String, JsonRpcResponseCache> createResponseCaches(List<Method> methods) {
+        Map<String, JsonRpcResponseCache> caches = new LinkedHashMap<>();
+        for (Method method : methods) {
+            JsonRpcCacheable cacheable = method.getAnnotation(JsonRpcCacheable.class);
+            if (cacheable != null) {
+                caches.computeIfAbsent(method.getName(), key -> new JsonRpcResponseCache(cacheable));
+            }
+        }
+        return caches.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(caches);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcServiceDefinition [name=" + this.name + ", remoteInterface=" + this.remoteInterface
+                + (this.endpointOnly ? ", endpointOnly" : "") + "]";
+    }
+
+}
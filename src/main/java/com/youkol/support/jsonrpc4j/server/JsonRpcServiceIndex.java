@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link JsonRpcMultiServiceName} services listed at compile time by the
+ * service index annotation processor, read from every
+ * {@value #LOCATION} on the class path.
+ * <p>
+ * Each service line lists the handler class, the service name, the remote
+ * interface and its {@link #stamp(Collection) stamp}, followed by a line per
+ * JSON-RPC method name with the java method and its parameter types:
+ *
+ * <pre>
+ * S  com.example.UserServiceImpl  User  com.example.UserService  3f2a91c
+ * M  create  createUser  java.lang.String,int
+ * </pre>
+ *
+ * Fields are separated by tabs. Services without a remote interface have no
+ * method lines and are scanned at registration as usual. The stamp tells
+ * whether the remote interface changed since the index was written.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public final class JsonRpcServiceIndex {
+
+    public static final String LOCATION = "META-INF/jsonrpc4j/services.index";
+
+    public static final String SERVICE_PREFIX = "S";
+
+    public static final String METHOD_PREFIX = "M";
+
+    public static final String SEPARATOR = "\t";
+
+    public static final String NO_INTERFACE = "-";
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcServiceIndex.class);
+
+    private static final JsonRpcServiceIndex EMPTY = new JsonRpcServiceIndex(Collections.emptyMap());
+
+    private final Map<String, Entry> entries;
+
+    private JsonRpcServiceIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static JsonRpcServiceIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Reads the indexes on the class path of the class loader.
+     *
+     * @param classLoader the class loader, may be <code>null</code>
+     * @return the index, empty if there is none
+     */
+    public static JsonRpcServiceIndex load(ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+        Map<String, Entry> entries = new HashMap<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (InputStream input = url.openStream()) {
+                    read(input, entries);
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            logger.warn("Ignoring unreadable JSON-RPC service index", ex);
+            return EMPTY;
+        }
+        return entries.isEmpty() ? EMPTY : new JsonRpcServiceIndex(Collections.unmodifiableMap(entries));
+    }
+
+    private static void read(InputStream input, Map<String, Entry> entries) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Entry entry = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] fields = line.split(SEPARATOR, -1);
+            if (SERVICE_PREFIX.equals(fields[0]) && (fields.length == 4 || fields.length == 5)) {
+                entry = new Entry(fields[1], fields[2], NO_INTERFACE.equals(fields[3]) ? null : fields[3],
+                        fields.length == 5 ? fields[4] : null);
+                entries.put(entry.handlerClassName, entry);
+            } else if (METHOD_PREFIX.equals(fields[0]) && fields.length == 4 && entry != null) {
+                entry.methods.add(new MethodEntry(fields[1], signature(fields[2], fields[3])));
+            } else if (StringUtils.hasText(line) && !line.startsWith("#")) {
+                throw new IllegalArgumentException("Malformed JSON-RPC service index line: " + line);
+            }
+        }
+    }
+
+    /**
+     * The entry of a handler class, also found for subclasses generated by
+     * proxies.
+     *
+     * @param handlerClass the handler class
+     * @return the entry, <code>null</code> if the class is not indexed
+     */
+    public Entry getEntry(Class<?> handlerClass) {
+        if (this.entries.isEmpty()) {
+            return null;
+        }
+        return this.entries.get(ClassUtils.getUserClass(handlerClass).getName());
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * The signature of a method as used by the index: its name and the
+     * comma separated names of its erased parameter types, arrays written
+     * as <code>int[]</code>.
+     *
+     * @param javaName       the method name
+     * @param parameterTypes the parameter type names
+     * @return the signature
+     */
+    public static String signature(String javaName, String parameterTypes) {
+        return javaName + "(" + parameterTypes + ")";
+    }
+
+    /**
+     * The stamp of a remote interface, a hash of the signatures of the
+     * methods {@link Class#getMethods()} returns for it, bridge methods
+     * excluded.
+     *
+     * @param signatures the method signatures
+     * @return the stamp
+     */
+    public static String stamp(Collection<String> signatures) {
+        return Integer.toHexString(String.join(";", new TreeSet<>(signatures)).hashCode());
+    }
+
+    private static String typeName(Class<?> type) {
+        return type.isArray() ? typeName(type.getComponentType()) + "[]" : type.getName();
+    }
+
+    /**
+     * An indexed service.
+     */
+    public static final class Entry {
+
+        private final String handlerClassName;
+
+        private final String serviceName;
+
+        private final String remoteInterfaceName;
+
+        private final String stamp;
+
+        private final List<MethodEntry> methods = new ArrayList<>();
+
+        Entry(String handlerClassName, String serviceName, String remoteInterfaceName, String stamp) {
+            this.handlerClassName = handlerClassName;
+            this.serviceName = serviceName;
+            this.remoteInterfaceName = remoteInterfaceName;
+            this.stamp = stamp;
+        }
+
+        public String getServiceName() {
+            return this.serviceName;
+        }
+
+        public String getRemoteInterfaceName() {
+            return this.remoteInterfaceName;
+        }
+
+        /**
+         * Loads the remote interface.
+         *
+         * @param classLoader the class loader of the handler
+         * @return the remote interface, <code>null</code> if there is none or
+         *         it cannot be loaded
+         */
+        public Class<?> resolveRemoteInterface(ClassLoader classLoader) {
+            if (this.remoteInterfaceName == null) {
+                return null;
+            }
+            try {
+                return ClassUtils.forName(this.remoteInterfaceName, classLoader);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                logger.debug("Indexed remote interface {} not found", this.remoteInterfaceName, ex);
+                return null;
+            }
+        }
+
+        /**
+         * Looks up the indexed methods of the remote interface by their
+         * signatures, keyed by JSON-RPC method name. The methods of the
+         * interface are listed once, without loading parameter types.
+         *
+         * @param remoteInterface the remote interface
+         * @return the methods, <code>null</code> if the index is out of date
+         */
+        public Map<String, List<Method>> resolveMethods(Class<?> remoteInterface) {
+            if (this.methods.isEmpty()) {
+                return null;
+            }
+            Map<String, Method> bySignature = new HashMap<>();
+            for (Method method : remoteInterface.getMethods()) {
+                if (!method.isBridge()) {
+                    StringJoiner parameterTypes = new StringJoiner(",");
+                    for (Class<?> parameterType : method.getParameterTypes()) {
+                        parameterTypes.add(typeName(parameterType));
+                    }
+                    bySignature.putIfAbsent(signature(method.getName(), parameterTypes.toString()), method);
+                }
+            }
+            if (this.stamp == null || !this.stamp.equals(stamp(bySignature.keySet()))) {
+                // the interface changed since the index was written, or it has no stamp
+                logger.debug("JSON-RPC service index of {} is out of date", this.handlerClassName);
+                return null;
+            }
+            Map<String, List<Method>> resolved = new LinkedHashMap<>();
+            for (MethodEntry method : this.methods) {
+                Method resolvedMethod = bySignature.get(method.signature);
+                if (resolvedMethod == null) {
+                    logger.debug("JSON-RPC service index of {} is out of date", this.handlerClassName);
+                    return null;
+                }
+                resolved.computeIfAbsent(method.jsonRpcName, key -> new ArrayList<>(1)).add(resolvedMethod);
+            }
+            return resolved;
+        }
+    }
+
+    private static final class MethodEntry {
+
+        private final String jsonRpcName;
+
+        private final String signature;
+
+        MethodEntry(String jsonRpcName, String signature) {
+            this.jsonRpcName = jsonRpcName;
+            this.signature = signature;
+        }
+    }
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.googlecode.jsonrpc4j.JsonRpcMethod;
+
+/**
+ * Copy-on-write registry of the services served by {@link JsonRpcMultiServer}.
+ * <p>
+ * Every change builds a new immutable snapshot (services and dispatch table)
+ * and publishes it through a single volatile write, so services can be added,
+ * removed or replaced while requests are being served. Readers never lock.
+ * A snapshot is derived from the previous one: only the methods of the changed
+ * services are resolved, the entries of the others are reused.
+ * <p>
+ * Listeners receive the events in the order the snapshots were published,
+ * outside the write lock. The thread making a change returns once its events
+ * have been delivered, unless it is a listener making the change.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServiceRegistry {
+
+    public static final char DEFAULT_SEPARATOR = '.';
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcServiceRegistry.class);
+
+    private final Object writeLock = new Object();
+
+    private final Object eventLock = new Object();
+
+    private final List<JsonRpcServiceRegistryListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Queue<JsonRpcServiceRegistryEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Registers a service, replacing any service with the same name.
+     *
+     * @param name            the service name
+     * @param handler         the handler
+     * @param remoteInterface the remote interface, may be <code>null</code>
+     * @return the registered definition
+     */
+    public JsonRpcServiceDefinition addService(String name, Object handler, Class<?> remoteInterface) {
+        return this.addService(new JsonRpcServiceDefinition(name, handler, remoteInterface));
+    }
+
+    public JsonRpcServiceDefinition addService(JsonRpcServiceDefinition service) {
+        this.addServices(Collections.singletonList(service));
+        return service;
+    }
+
+    /**
+     * Registers services with a single snapshot, replacing any services with
+     * the same names. Listeners receive an event per service, in order.
+     *
+     * @param services the services
+     */
+    public void addServices(Collection<JsonRpcServiceDefinition> services) {
+        Assert.notNull(services, "Services must not be null.");
+        if (services.isEmpty()) {
+            return;
+        }
+        Map<String, JsonRpcServiceDefinition> changes = new LinkedHashMap<>();
+        for (JsonRpcServiceDefinition service : services) {
+            Assert.notNull(service, "Service must not be null.");
+            changes.put(service.getName(), service);
+        }
+        synchronized (this.writeLock) {
+            Snapshot previous = this.snapshot;
+            this.snapshot = previous.update(changes);
+            for (JsonRpcServiceDefinition service : changes.values()) {
+                JsonRpcServiceDefinition replaced = previous.services.get(service.getName());
+                logger.debug("{} service {}", replaced == null ? "Added" : "Replaced", service);
+                this.enqueueEvent(replaced == null ? JsonRpcServiceRegistryEvent.Type.ADDED
+                        : JsonRpcServiceRegistryEvent.Type.REPLACED, service.getName(), replaced, service);
+            }
+        }
+        this.deliverEvents();
+    }
+
+    /**
+     * Replaces an already registered service.
+     *
+     * @param name            the service name
+     * @param handler         the new handler
+     * @param remoteInterface the remote interface, may be <code>null</code>
+     * @return the new definition
+     * @throws IllegalStateException if no service with that name is registered
+     */
+    public JsonRpcServiceDefinition replaceService(String name, Object handler, Class<?> remoteInterface) {
+        JsonRpcServiceDefinition service = new JsonRpcServiceDefinition(name, handler, remoteInterface);
+        synchronized (this.writeLock) {
+            Snapshot previous = this.snapshot;
+            JsonRpcServiceDefinition replaced = previous.services.get(name);
+            if (replaced == null) {
+                throw new IllegalStateException("Service '" + name + "' is not registered");
+            }
+            this.snapshot = previous.update(Collections.singletonMap(name, service));
+            logger.debug("Replaced service {}", service);
+            this.enqueueEvent(JsonRpcServiceRegistryEvent.Type.REPLACED, name, replaced, service);
+        }
+        this.deliverEvents();
+        return service;
+    }
+
+    /**
+     * Removes a service.
+     *
+     * @param name the service name
+     * @return the removed definition, or <code>null</code> if not registered
+     */
+    public JsonRpcServiceDefinition removeService(String name) {
+        JsonRpcServiceDefinition removed;
+        synchronized (this.writeLock) {
+            Snapshot previous = this.snapshot;
+            removed = previous.services.get(name);
+            if (removed == null) {
+                return null;
+            }
+            this.snapshot = previous.update(Collections.singletonMap(name, null));
+            logger.debug("Removed service {}", removed);
+            this.enqueueEvent(JsonRpcServiceRegistryEvent.Type.REMOVED, name, removed, null);
+        }
+        this.deliverEvents();
+        return removed;
+    }
+
+    public JsonRpcServiceDefinition getService(String name) {
+        return this.snapshot.services.get(name);
+    }
+
+    public Collection<JsonRpcServiceDefinition> getServices() {
+        return this.snapshot.services.values();
+    }
+
+    /**
+     * Returns the dispatch table entry for the full JSON-RPC method name.
+     *
+     * @param fullMethodName the method name including the service name
+     * @return the method definition, or <code>null</code> if not registered
+     */
+    public JsonRpcMethodDefinition getMethodDefinition(String fullMethodName) {
+        if (fullMethodName == null) {
+            return null;
+        }
+        return this.snapshot.dispatchTable.get(fullMethodName);
+    }
+
+    public Collection<JsonRpcMethodDefinition> getMethodDefinitions() {
+        return this.snapshot.dispatchTable.values();
+    }
+
+    public char getSeparator() {
+        return this.snapshot.separator;
+    }
+
+    public void setSeparator(char separator) {
+        synchronized (this.writeLock) {
+            this.snapshot = Snapshot.EMPTY.withSeparator(separator).update(this.snapshot.services);
+        }
+    }
+
+    public void addListener(JsonRpcServiceRegistryListener listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(JsonRpcServiceRegistryListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void enqueueEvent(JsonRpcServiceRegistryEvent.Type type, String name,
+            JsonRpcServiceDefinition previous, JsonRpcServiceDefinition current) {
+        if (!this.listeners.isEmpty()) {
+            this.pendingEvents.add(new JsonRpcServiceRegistryEvent(type, name, previous, current));
+        }
+    }
+
+    /**
+     * Delivers the pending events in the order they were enqueued, which is
+     * the order of the snapshots. Events enqueued by other threads meanwhile
+     * are delivered as well.
+     */
+    private void deliverEvents() {
+        if (this.pendingEvents.isEmpty() || Thread.holdsLock(this.eventLock)) {
+            // changes made by listeners are delivered by the loop running them
+            return;
+        }
+        synchronized (this.eventLock) {
+            JsonRpcServiceRegistryEvent event;
+            while ((event = this.pendingEvents.poll()) != null) {
+                for (JsonRpcServiceRegistryListener listener : this.listeners) {
+                    try {
+                        listener.onRegistryChanged(event);
+                    } catch (RuntimeException ex) {
+                        logger.warn("Registry listener {} failed for {}", listener, event, ex);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), DEFAULT_SEPARATOR);
+
+        private final Map<String, JsonRpcServiceDefinition> services;
+
+        private final Map<String, JsonRpcMethodDefinition> dispatchTable;
+
+        /**
+         * The dispatch table entries of each service, removed with it.
+         */
+        private final Map<String, List<JsonRpcMethodDefinition>> serviceMethods;
+
+        private final char separator;
+
+        private Snapshot(Map<String, JsonRpcServiceDefinition> services,
+                Map<String, JsonRpcMethodDefinition> dispatchTable,
+                Map<String, List<JsonRpcMethodDefinition>> serviceMethods, char separator) {
+            this.services = services;
+            this.dispatchTable = dispatchTable;
+            this.serviceMethods = serviceMethods;
+            this.separator = separator;
+        }
+
+        Snapshot withSeparator(char separator) {
+            return new Snapshot(this.services, this.dispatchTable, this.serviceMethods, separator);
+        }
+
+        /**
+         * Derives a snapshot with the given services added or replaced, or
+         * removed where mapped to <code>null</code>. Only the methods of these
+         * services are resolved.
+         */
+        Snapshot update(Map<String, JsonRpcServiceDefinition> changes) {
+            Map<String, JsonRpcServiceDefinition> services = new LinkedHashMap<>(this.services);
+            Map<String, JsonRpcMethodDefinition> table = new HashMap<>(this.dispatchTable);
+            Map<String, List<JsonRpcMethodDefinition>> serviceMethods = new HashMap<>(this.serviceMethods);
+            changes.forEach((name, service) -> {
+                List<JsonRpcMethodDefinition> previousMethods = serviceMethods.remove(name);
+                if (previousMethods != null) {
+                    previousMethods.forEach(method -> table.remove(method.getFullName(), method));
+                }
+                if (service == null) {
+                    services.remove(name);
+                    return;
+                }
+                services.put(name, service);
+                List<JsonRpcMethodDefinition> methods = resolveMethods(service, this.separator);
+                methods.forEach(method -> table.put(method.getFullName(), method));
+                serviceMethods.put(name, methods);
+            });
+            return new Snapshot(Collections.unmodifiableMap(services), Collections.unmodifiableMap(table),
+                    serviceMethods, this.separator);
+        }
+
+        private static List<JsonRpcMethodDefinition> resolveMethods(JsonRpcServiceDefinition service,
+                char separator) {
+            Map<String, List<Method>> candidates = new LinkedHashMap<>();
+            if (service.getIndexedMethods() != null) {
+                service.getIndexedMethods().forEach((methodName, methods) -> candidates
+                        .computeIfAbsent(methodName, key -> new ArrayList<>()).addAll(methods));
+            } else {
+                for (Class<?> handlerInterface : service.getHandlerInterfaces()) {
+                    for (Method method : handlerInterface.getMethods()) {
+                        for (String methodName : resolveMethodNames(method)) {
+                            candidates.computeIfAbsent(methodName, key -> new ArrayList<>()).add(method);
+                        }
+                    }
+                }
+            }
+
+            List<JsonRpcMethodDefinition> methods = new ArrayList<>(candidates.size());
+            candidates.forEach((methodName, candidateMethods) -> methods.add(new JsonRpcMethodDefinition(
+                    service.getName() + separator + methodName, methodName, service, candidateMethods)));
+            return methods;
+        }
+
+        /**
+         * Same matching rules as jsonrpc4j uses when searching candidate methods:
+         * a required {@link JsonRpcMethod} replaces the java name, an optional one
+         * adds an alias.
+         */
+        private static List<String> resolveMethodNames(Method method) {
+            List<String> names = new ArrayList<>(2);
+            JsonRpcMethod annotation = method.getAnnotation(JsonRpcMethod.class);
+            if (annotation != null) {
+                names.add(annotation.value());
+                if (annotation.required() || annotation.value().equals(method.getName())) {
+                    return names;
+                }
+            }
+            names.add(method.getName());
+            return names;
+        }
+    }
+
+}
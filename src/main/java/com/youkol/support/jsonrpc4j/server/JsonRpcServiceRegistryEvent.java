@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+/**
+ * Describes a change of the {@link JsonRpcServiceRegistry}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServiceRegistryEvent {
+
+    public enum Type {
+        ADDED, REMOVED, REPLACED
+    }
+
+    private final Type type;
+
+    private final String serviceName;
+
+    private final JsonRpcServiceDefinition previous;
+
+    private final JsonRpcServiceDefinition current;
+
+    public JsonRpcServiceRegistryEvent(Type type, String serviceName, JsonRpcServiceDefinition previous,
+            JsonRpcServiceDefinition current) {
+        this.type = type;
+        this.serviceName = serviceName;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    public String getServiceName() {
+        return this.serviceName;
+    }
+
+    /**
+     * The definition before the change, <code>null</code> for {@link Type#ADDED}.
+     *
+     * @return the previous definition
+     */
+    public JsonRpcServiceDefinition getPrevious() {
+        return this.previous;
+    }
+
+    /**
+     * The definition after the change, <code>null</code> for {@link Type#REMOVED}.
+     *
+     * @return the current definition
+     */
+    public JsonRpcServiceDefinition getCurrent() {
+        return this.current;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRpcServiceRegistryEvent [type=" + this.type + ", serviceName=" + this.serviceName + "]";
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the time {@link JsonRpcMultiServer} lets a service interface method,
+ * or every method of an interface, run. When a call exceeds it, or the
+ * earlier {@link JsonRpcDeadline} of the caller, the invoking thread is
+ * interrupted and the call answered with
+ * {@link JsonRpcDeadlineExceededException#CODE}.
+ * <p>
+ * Of annotated overloads the shortest timeout applies.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcTimeout {
+
+    /**
+     * The timeout.
+     *
+     * @return the timeout, in {@link #timeUnit()}
+     */
+    long value();
+
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+}
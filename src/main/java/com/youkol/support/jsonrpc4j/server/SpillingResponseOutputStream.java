@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Collects a response body in a pooled buffer so it can be sent with its
+ * <code>Content-Length</code> in a single write. Once the body would exceed the
+ * spill threshold, the buffered bytes are sent with status 200 and the rest is
+ * streamed to the servlet response.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class SpillingResponseOutputStream extends OutputStream {
+
+    private final HttpServletResponse response;
+
+    private final JsonRpcBufferPool.Buffer buffer;
+
+    private final int threshold;
+
+    private OutputStream output;
+
+    SpillingResponseOutputStream(HttpServletResponse response, JsonRpcBufferPool.Buffer buffer, int threshold) {
+        this.response = response;
+        this.buffer = buffer;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (this.output == null && this.buffer.size() + 1 > this.threshold) {
+            this.spill();
+        }
+        if (this.output != null) {
+            this.output.write(b);
+        } else {
+            this.buffer.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (this.output == null && this.buffer.size() + len > this.threshold) {
+            this.spill();
+        }
+        if (this.output != null) {
+            this.output.write(b, off, len);
+        } else {
+            this.buffer.write(b, off, len);
+        }
+    }
+
+    /**
+     * Flushes spilled responses only, buffered bytes are kept until
+     * {@link #finish(int)}.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (this.output != null) {
+            this.output.flush();
+        }
+    }
+
+    boolean isSpilled() {
+        return this.output != null;
+    }
+
+    private void spill() throws IOException {
+        this.response.setStatus(HttpServletResponse.SC_OK);
+        this.output = this.response.getOutputStream();
+        this.buffer.writeTo(this.output);
+        this.buffer.reset();
+    }
+
+    /**
+     * Sends a buffered response with the given status and its length, or
+     * flushes a spilled one.
+     *
+     * @param status the HTTP status of a buffered response
+     * @throws IOException if the response cannot be written
+     */
+    void finish(int status) throws IOException {
+        if (this.output == null) {
+            this.response.setStatus(status);
+            this.response.setContentLength(this.buffer.size());
+            this.output = this.response.getOutputStream();
+            this.buffer.writeTo(this.output);
+        }
+        this.output.flush();
+    }
+
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.googlecode.jsonrpc4j.ErrorResolver.JsonError;
+import com.googlecode.jsonrpc4j.JsonResponse;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+
+/**
+ * Processes a JSON-RPC batch while it is being read: each element is parsed
+ * from the stream, dispatched, and its response written to the output array as
+ * soon as it is available. Only the elements in flight are held in memory.
+ * <p>
+ * Without an executor the elements are handled one after the other in request
+ * order. With an executor up to {@code window} elements run concurrently and
+ * responses are written in completion order, which JSON-RPC allows since
+ * responses are matched by id. If no element completes within the timeout,
+ * the elements in flight are cancelled and they, as well as the elements not
+ * read yet, are answered with a {@link JsonRpcDeadlineExceededException#CODE}
+ * error, so the response array is always complete.
+ * <p>
+ * The output is flushed once {@value #FLUSH_THRESHOLD} bytes are pending, or
+ * when responses have waited for {@value #FLUSH_INTERVAL_MILLIS}ms, rather
+ * than after every element.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class StreamingBatchProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingBatchProcessor.class);
+
+    static final int FLUSH_THRESHOLD = 16 * 1024;
+
+    static final long FLUSH_INTERVAL_MILLIS = 50;
+
+    private final ObjectMapper mapper;
+
+    private final RequestHandler requestHandler;
+
+    private final ExecutorService executor;
+
+    private final long timeout;
+
+    private final int window;
+
+    private final int maxLength;
+
+    private int elements;
+
+    StreamingBatchProcessor(ObjectMapper mapper, RequestHandler requestHandler, ExecutorService executor,
+            long timeout, int window, int maxLength) {
+        this.mapper = mapper;
+        this.requestHandler = requestHandler;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.window = Math.max(1, window);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Processes the batch. The parser must be positioned on the
+     * {@link JsonToken#START_ARRAY} of the batch.
+     *
+     * @param parser the request parser
+     * @param output the response stream, not closed
+     * @return {@link JsonError#OK}'s code, or {@link JsonError#BULK_ERROR}'s code
+     *         if any element failed
+     * @throws IOException if the response cannot be written
+     */
+    int process(JsonParser parser, OutputStream output) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(output);
+        try (JsonGenerator generator = this.mapper.getFactory().createGenerator(counting)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            BatchWriter writer = new BatchWriter(generator, counting);
+            if (this.executor == null) {
+                this.processSequentially(parser, writer);
+            } else {
+                this.processConcurrently(parser, writer);
+            }
+            return writer.finish();
+        }
+    }
+
+    /**
+     * The number of batch elements read by {@link #process}.
+     */
+    int getElements() {
+        return this.elements;
+    }
+
+    private void processSequentially(JsonParser parser, BatchWriter writer) throws IOException {
+        JsonNode element;
+        while ((element = this.nextElement(parser, writer)) != null) {
+            writer.write(this.handle(element));
+        }
+    }
+
+    private void processConcurrently(JsonParser parser, BatchWriter writer) throws IOException {
+        CompletionService<JsonResponse> completionService = new ExecutorCompletionService<>(this.executor);
+        Map<Future<JsonResponse>, JsonNode> inFlight = new LinkedHashMap<>();
+        try {
+            JsonNode element;
+            while ((element = this.nextElement(parser, writer)) != null) {
+                JsonNode request = element;
+                inFlight.put(completionService.submit(() -> this.handle(request)), request);
+                if (inFlight.size() >= this.window && !this.writeNext(completionService, inFlight, writer)) {
+                    this.timeOut(parser, inFlight, writer);
+                    return;
+                }
+                Future<JsonResponse> done;
+                while ((done = completionService.poll()) != null) {
+                    inFlight.remove(done);
+                    writer.write(this.get(done));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                if (!this.writeNext(completionService, inFlight, writer)) {
+                    this.timeOut(parser, inFlight, writer);
+                    return;
+                }
+            }
+        } finally {
+            // e.g. the client went away while the response was written
+            inFlight.keySet().forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Waits for the next element to complete and writes its response, flushing
+     * the responses written so far while waiting.
+     *
+     * @return <code>false</code> if no element completed within the timeout
+     */
+    private boolean writeNext(CompletionService<JsonResponse> completionService,
+            Map<Future<JsonResponse>, JsonNode> inFlight, BatchWriter writer) throws IOException {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        long deadline = System.nanoTime() + timeoutNanos;
+        long remaining = timeoutNanos;
+        try {
+            while (remaining > 0) {
+                Future<JsonResponse> future = completionService.poll(
+                        Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS)),
+                        TimeUnit.NANOSECONDS);
+                if (future != null) {
+                    inFlight.remove(future);
+                    writer.write(this.get(future));
+                    return true;
+                }
+                writer.flush();
+                remaining = deadline - System.nanoTime();
+            }
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing JSON-RPC batch", ex);
+        }
+    }
+
+    /**
+     * Cancels the elements in flight and answers them, and the elements not
+     * read yet, with a timeout error.
+     */
+    private void timeOut(JsonParser parser, Map<Future<JsonResponse>, JsonNode> inFlight, BatchWriter writer)
+            throws IOException {
+        logger.warn("Timed out waiting for {} JSON-RPC batch elements after {}ms", inFlight.size(), this.timeout);
+        JsonError error = new JsonError(JsonRpcDeadlineExceededException.CODE,
+                "Timed out waiting for JSON-RPC batch element after " + this.timeout + "ms", null);
+        for (Map.Entry<Future<JsonResponse>, JsonNode> entry : inFlight.entrySet()) {
+            Future<JsonResponse> future = entry.getKey();
+            if (!future.cancel(true) && !future.isCancelled()) {
+                // completed in the meantime
+                writer.write(this.get(future));
+            } else {
+                writer.write(createElementError(entry.getValue(), error));
+            }
+        }
+        inFlight.clear();
+        JsonNode element;
+        while ((element = this.nextElement(parser, writer)) != null) {
+            writer.write(createElementError(element, error));
+        }
+    }
+
+    /**
+     * Handles one element, turning unexpected failures into an error response
+     * so the response array stays well-formed.
+     */
+    private JsonResponse handle(JsonNode element) throws IOException {
+        try {
+            return this.requestHandler.handle(element);
+        } catch (RuntimeException ex) {
+            logger.error("JSON-RPC batch element failed", ex);
+            return createElementError(element, new JsonError(JsonError.INTERNAL_ERROR.code, ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * Reads the next batch element, <code>null</code> at the end of the batch.
+     * A malformed element ends the batch with a parse error response, an
+     * element beyond the max length with an invalid request response.
+     */
+    private JsonNode nextElement(JsonParser parser, BatchWriter writer) throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (this.elements >= this.maxLength) {
+                writer.write(createBatchTooLongError(this.maxLength));
+                return null;
+            }
+            this.elements++;
+            return parser.readValueAsTree();
+        } catch (JsonProcessingException ex) {
+            logger.debug("Malformed JSON-RPC batch element", ex);
+            writer.write(createError(null, JsonError.PARSE_ERROR));
+            return null;
+        }
+    }
+
+    private JsonResponse get(Future<JsonResponse> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing JSON-RPC batch", ex);
+        } catch (ExecutionException ex) {
+            logger.error("JSON-RPC batch element failed", ex.getCause());
+            return createError(null,
+                    new JsonError(JsonError.INTERNAL_ERROR.code, ex.getCause().getMessage(), null));
+        }
+    }
+
+    static JsonResponse createBatchTooLongError(int maxLength) {
+        return createError(null,
+                new JsonError(JsonError.INVALID_REQUEST.code, "Batch exceeds " + maxLength + " elements", null));
+    }
+
+    /**
+     * The error response for a batch element, no response for a notification.
+     */
+    private static JsonResponse createElementError(JsonNode element, JsonError error) {
+        if (!element.has(JsonRpcBasicServer.ID)) {
+            return new JsonResponse(null, error.code);
+        }
+        return createError(element.get(JsonRpcBasicServer.ID), error);
+    }
+
+    static JsonResponse createError(JsonNode id, JsonError error) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        node.put(JsonRpcBasicServer.JSONRPC, JsonRpcBasicServer.VERSION);
+        node.set(JsonRpcBasicServer.ID, id != null ? id : NullNode.getInstance());
+        ObjectNode errorNode = node.putObject(JsonRpcBasicServer.ERROR);
+        errorNode.put(JsonRpcBasicServer.ERROR_CODE, error.code);
+        errorNode.put(JsonRpcBasicServer.ERROR_MESSAGE, error.message);
+        return new JsonResponse(node, error.code);
+    }
+
+    @FunctionalInterface
+    interface RequestHandler {
+
+        JsonResponse handle(JsonNode request) throws IOException;
+    }
+
+    private final class BatchWriter {
+
+        private final JsonGenerator generator;
+
+        private final CountingOutputStream output;
+
+        private long flushedCount;
+
+        private long flushedAt = System.nanoTime();
+
+        private boolean started;
+
+        private int code = JsonError.OK.code;
+
+        private RuntimeException exceptionToRethrow;
+
+        BatchWriter(JsonGenerator generator, CountingOutputStream output) {
+            this.generator = generator;
+            this.output = output;
+        }
+
+        void write(JsonResponse response) throws IOException {
+            if (response.getCode() != JsonError.OK.code) {
+                this.code = JsonError.BULK_ERROR.code;
+            }
+            if (this.exceptionToRethrow == null) {
+                this.exceptionToRethrow = response.getExceptionToRethrow();
+            }
+            if (response.getResponse() == null || response.getResponse().isNull()) {
+                // notification
+                return;
+            }
+            if (!this.started) {
+                this.generator.writeStartArray();
+                this.started = true;
+            }
+            this.generator.writeTree(response.getResponse());
+            if (this.getPending() >= FLUSH_THRESHOLD
+                    || System.nanoTime() - this.flushedAt >= TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS)) {
+                this.flush();
+            }
+        }
+
+        /**
+         * Flushes the responses written since the last flush, if any.
+         */
+        void flush() throws IOException {
+            if (this.getPending() > 0) {
+                this.generator.flush();
+                this.flushedCount = this.output.getCount();
+            }
+            this.flushedAt = System.nanoTime();
+        }
+
+        private long getPending() {
+            return this.output.getCount() - this.flushedCount + Math.max(0, this.generator.getOutputBuffered());
+        }
+
+        int finish() throws IOException {
+            if (StreamingBatchProcessor.this.elements == 0 && !this.started) {
+                JsonResponse invalid = createError(null, JsonError.INVALID_REQUEST);
+                this.generator.writeTree(invalid.getResponse());
+                this.code = invalid.getCode();
+            } else if (this.started) {
+                this.generator.writeEndArray();
+            }
+            this.generator.flush();
+            if (this.exceptionToRethrow != null) {
+                throw this.exceptionToRethrow;
+            }
+            return this.code;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a request body without blocking and hands it over once complete.
+ * <p>
+ * The body buffer starts small whatever <code>Content-Length</code> the
+ * client declares and grows as data arrives. Bodies exceeding the maximum
+ * size are answered with {@code 413 Payload Too Large} without reading the
+ * rest.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class AsyncRequestReader implements ReadListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncRequestReader.class);
+
+    private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+
+    private final ServletInputStream inputStream;
+
+    private final AsyncContext asyncContext;
+
+    private final AsyncTimeoutListener timeoutListener;
+
+    private final BiConsumer<AsyncContext, byte[]> onComplete;
+
+    private final ByteArrayOutputStream body;
+
+    private final byte[] buffer = new byte[8192];
+
+    private final long maxRequestSize;
+
+    private boolean rejected;
+
+    AsyncRequestReader(ServletInputStream inputStream, AsyncContext asyncContext,
+            AsyncTimeoutListener timeoutListener, long maxRequestSize, BiConsumer<AsyncContext, byte[]> onComplete) {
+        this.inputStream = inputStream;
+        this.asyncContext = asyncContext;
+        this.timeoutListener = timeoutListener;
+        this.maxRequestSize = maxRequestSize;
+        this.onComplete = onComplete;
+        long contentLength = asyncContext.getRequest().getContentLengthLong();
+        this.body = new ByteArrayOutputStream(contentLength > 0
+                ? (int) Math.min(contentLength, MAX_INITIAL_CAPACITY)
+                : this.buffer.length);
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        while (!this.rejected && this.inputStream.isReady() && !this.inputStream.isFinished()) {
+            int read = this.inputStream.read(this.buffer);
+            if (read < 0) {
+                break;
+            }
+            if (this.body.size() + (long) read > this.maxRequestSize) {
+                logger.debug("JSON-RPC request body exceeds {} bytes", this.maxRequestSize);
+                this.rejected = true;
+                if (this.timeoutListener.claim()) {
+                    AsyncResponseWriter.sendError(this.asyncContext, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                }
+                return;
+            }
+            this.body.write(this.buffer, 0, read);
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        if (!this.rejected) {
+            this.onComplete.accept(this.asyncContext, this.body.toByteArray());
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (this.rejected) {
+            return;
+        }
+        logger.debug("Failed to read JSON-RPC request body", t);
+        if (this.timeoutListener.claim()) {
+            AsyncResponseWriter.sendError(this.asyncContext, HttpServletResponse.SC_BAD_REQUEST);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a buffered response body without blocking and completes the
+ * {@link AsyncContext} afterwards. The completion callback runs once, when the
+ * body is no longer needed.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class AsyncResponseWriter implements WriteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncResponseWriter.class);
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ServletOutputStream outputStream;
+
+    private final AsyncContext asyncContext;
+
+    private final byte[] body;
+
+    private final int length;
+
+    private final Runnable callback;
+
+    private int position;
+
+    private boolean completed;
+
+    private AsyncResponseWriter(ServletOutputStream outputStream, AsyncContext asyncContext, byte[] body,
+            int length, Runnable callback) {
+        this.outputStream = outputStream;
+        this.asyncContext = asyncContext;
+        this.body = body;
+        this.length = length;
+        this.callback = callback;
+    }
+
+    static void write(AsyncContext asyncContext, byte[] body, int length, Runnable callback) {
+        try {
+            ServletOutputStream outputStream = asyncContext.getResponse().getOutputStream();
+            outputStream.setWriteListener(new AsyncResponseWriter(outputStream, asyncContext, body, length,
+                    callback));
+        } catch (IOException | IllegalStateException ex) {
+            logger.debug("Failed to write JSON-RPC response", ex);
+            complete(asyncContext);
+            callback.run();
+        }
+    }
+
+    static void sendError(AsyncContext asyncContext, int status) {
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        if (!response.isCommitted()) {
+            response.setStatus(status);
+            response.setContentLength(0);
+        }
+        complete(asyncContext);
+    }
+
+    static void complete(AsyncContext asyncContext) {
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException ex) {
+            logger.trace("Async context already completed", ex);
+        }
+    }
+
+    private void finish() {
+        if (!this.completed) {
+            this.completed = true;
+            complete(this.asyncContext);
+            this.callback.run();
+        }
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        while (this.outputStream.isReady()) {
+            if (this.position >= this.length) {
+                this.finish();
+                return;
+            }
+            int length = Math.min(CHUNK_SIZE, this.length - this.position);
+            this.outputStream.write(this.body, this.position, length);
+            this.position += length;
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        logger.debug("Failed to write JSON-RPC response", t);
+        this.finish();
+    }
+
+}
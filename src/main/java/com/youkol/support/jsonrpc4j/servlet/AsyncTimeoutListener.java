@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Answers timed out async requests with {@code 503 Service Unavailable}.
+ * <p>
+ * Also tracks whether the request is done, so an invocation still queued or
+ * running when the request timed out neither touches the recycled request
+ * nor writes its response. Whoever {@link #claim() claims} the request first,
+ * the invocation or the timeout, answers it.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class AsyncTimeoutListener implements AsyncListener {
+
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    /**
+     * Whether the request timed out, failed or completed.
+     */
+    boolean isDone() {
+        return this.done.get();
+    }
+
+    /**
+     * Claims the response of a request that is not done yet.
+     *
+     * @return <code>false</code> if the request is done or already claimed
+     */
+    boolean claim() {
+        return !this.done.get() && this.claimed.compareAndSet(false, true);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        this.done.set(true);
+        if (this.claimed.compareAndSet(false, true)) {
+            AsyncResponseWriter.sendError(event.getAsyncContext(), HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } else {
+            // the response is being written, the container requires completion anyway
+            AsyncResponseWriter.complete(event.getAsyncContext());
+        }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        this.done.set(true);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        // handled by the read and write listeners
+        this.done.set(true);
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // not re-registered on nested async cycles
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcBufferPool;
+
+/**
+ * Response capturing the body in a pooled buffer. Status and headers go
+ * straight to the wrapped response until the request is done, e.g. timed out,
+ * after which they are dropped since the container may have recycled it.
+ * <p>
+ * Once the body would exceed the spill threshold, the request is claimed and
+ * the buffered bytes and the rest of the body are written to the wrapped
+ * response with blocking I/O, so a large response does not grow the buffer
+ * without bound. If the request is done before, the body is discarded.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class BufferedResponseWrapper extends HttpServletResponseWrapper {
+
+    private final JsonRpcBufferPool.Buffer body;
+
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+            BufferedResponseWrapper.this.resolveOutput(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            BufferedResponseWrapper.this.resolveOutput(len).write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (BufferedResponseWrapper.this.spilledOutput != null) {
+                BufferedResponseWrapper.this.spilledOutput.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Response body is buffered");
+        }
+    };
+
+    private final int spillThreshold;
+
+    private final BooleanSupplier done;
+
+    private final BooleanSupplier claim;
+
+    private OutputStream spilledOutput;
+
+    private PrintWriter writer;
+
+    /**
+     * Creates a wrapper.
+     *
+     * @param response       the response
+     * @param body           the buffer collecting the body
+     * @param spillThreshold the size above which the body is streamed
+     * @param done           whether the request is done
+     * @param claim          claims the response before it is streamed
+     */
+    BufferedResponseWrapper(HttpServletResponse response, JsonRpcBufferPool.Buffer body, int spillThreshold,
+            BooleanSupplier done, BooleanSupplier claim) {
+        super(response);
+        this.body = body;
+        this.spillThreshold = spillThreshold;
+        this.done = done;
+        this.claim = claim;
+    }
+
+    /**
+     * Whether the body has been streamed to the wrapped response, which then
+     * has been claimed.
+     */
+    boolean isSpilled() {
+        return this.spilledOutput != null;
+    }
+
+    private OutputStream resolveOutput(int length) throws IOException {
+        if (this.spilledOutput == null && this.body.size() + (long) length > this.spillThreshold) {
+            if (!this.claim.getAsBoolean()) {
+                throw new IOException("JSON-RPC request is done, discarding its response");
+            }
+            OutputStream output = this.getResponse().getOutputStream();
+            this.body.writeTo(output);
+            this.body.reset();
+            this.spilledOutput = output;
+        }
+        return this.spilledOutput != null ? this.spilledOutput : this.body;
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!this.done.getAsBoolean()) {
+            super.setStatus(sc);
+        }
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (!this.done.getAsBoolean()) {
+            super.setContentType(type);
+        }
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (!this.done.getAsBoolean()) {
+            super.setCharacterEncoding(charset);
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        if (!this.done.getAsBoolean()) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (!this.done.getAsBoolean()) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!this.done.getAsBoolean()) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!this.done.getAsBoolean()) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (!this.done.getAsBoolean()) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (!this.done.getAsBoolean()) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        if (!this.done.getAsBoolean()) {
+            super.setDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        if (!this.done.getAsBoolean()) {
+            super.addDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return this.outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (this.writer == null) {
+            this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, StandardCharsets.UTF_8));
+        }
+        return this.writer;
+    }
+
+    /**
+     * Flushes the writer, and the wrapped response once the body is streamed.
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+        this.outputStream.flush();
+    }
+
+}
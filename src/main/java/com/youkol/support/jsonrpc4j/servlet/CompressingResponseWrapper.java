@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response compressing its body once it reaches the minimum size.
+ * <p>
+ * A <code>Content-Length</code> set before the body is written decides right
+ * away; otherwise up to the minimum size is held back until the decision can
+ * be made. Once compressing, the body streams through the encoder into the
+ * wrapped response.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final JsonRpcContentEncoding encoding;
+
+    private final int level;
+
+    private final int minResponseSize;
+
+    private ByteArrayOutputStream pending;
+
+    private OutputStream target;
+
+    private DeflaterOutputStream encoder;
+
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletResponse response, JsonRpcContentEncoding encoding, int level,
+            int minResponseSize) {
+        super(response);
+        this.encoding = encoding;
+        this.level = level;
+        this.minResponseSize = minResponseSize;
+        response.addHeader("Vary", JsonRpcCompression.ACCEPT_ENCODING);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (this.outputStream == null) {
+            this.outputStream = new ServletOutputStream() {
+
+                @Override
+                public void write(int b) throws IOException {
+                    CompressingResponseWrapper.this.write(new byte[] { (byte) b }, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    CompressingResponseWrapper.this.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    CompressingResponseWrapper.this.flush();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException("Compressed response is written with blocking writes");
+                }
+            };
+        }
+        return this.outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (this.writer == null) {
+            String characterEncoding = this.getCharacterEncoding();
+            this.writer = new PrintWriter(new OutputStreamWriter(this.getOutputStream(),
+                    characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.UTF_8));
+        }
+        return this.writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        this.setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (this.target == null) {
+            try {
+                this.decide(len >= this.minResponseSize);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Cannot open response stream", ex);
+            }
+        }
+        if (this.encoder == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if ("Content-Length".equalsIgnoreCase(name)) {
+            this.setContentLengthLong(Long.parseLong(value));
+            return;
+        }
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        this.flush();
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if (this.target != null) {
+            this.target.write(b, off, len);
+            return;
+        }
+        if (this.pending == null) {
+            this.pending = new ByteArrayOutputStream(Math.max(this.minResponseSize, 256));
+        }
+        this.pending.write(b, off, len);
+        if (this.pending.size() >= this.minResponseSize) {
+            this.decide(true);
+        }
+    }
+
+    /**
+     * Flushes the written data unless the decision to compress is still
+     * pending, so small responses are not committed without a length.
+     */
+    private void flush() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+        if (this.target != null) {
+            this.target.flush();
+        }
+    }
+
+    private void decide(boolean compress) throws IOException {
+        OutputStream output = super.getOutputStream();
+        if (compress && !this.isCommitted()) {
+            super.setHeader(JsonRpcCompression.CONTENT_ENCODING, this.encoding.getName());
+            this.encoder = this.encoding.encode(output, this.level);
+            this.target = this.encoder;
+        } else {
+            this.target = output;
+        }
+        if (this.pending != null) {
+            this.pending.writeTo(this.target);
+            this.pending = null;
+        }
+    }
+
+    /**
+     * Completes the body: writes a held back small body uncompressed with its
+     * length, or finishes the encoder.
+     *
+     * @throws IOException if the body cannot be written
+     */
+    void finish() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+        if (this.target == null) {
+            int size = this.pending != null ? this.pending.size() : 0;
+            if (!this.isCommitted()) {
+                super.setContentLengthLong(size);
+            }
+            if (size > 0) {
+                this.decide(false);
+            }
+        }
+        if (this.encoder != null) {
+            this.encoder.finish();
+        }
+        if (this.target != null) {
+            this.target.flush();
+        }
+    }
+
+}
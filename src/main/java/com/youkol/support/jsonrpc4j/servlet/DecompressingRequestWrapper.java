@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Request whose body has been decoded into memory, up to a maximum decoded
+ * size so a small compressed body cannot inflate without bound.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class DecompressingRequestWrapper extends BufferedRequestWrapper {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private DecompressingRequestWrapper(HttpServletRequest request, byte[] body) {
+        super(request, body);
+    }
+
+    /**
+     * Decodes the body of a request.
+     *
+     * @param request        the request
+     * @param encoding       the coding of the body
+     * @param maxDecodedSize the maximum size of the decoded body in bytes
+     * @return the request with the decoded body, <code>null</code> if the
+     *         decoded body is larger than the maximum size
+     * @throws IOException if the body cannot be read or decoded
+     */
+    static DecompressingRequestWrapper decode(HttpServletRequest request, JsonRpcContentEncoding encoding,
+            long maxDecodedSize) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream decoded = encoding.decode(request.getInputStream())) {
+            int read;
+            while ((read = decoded.read(buffer)) != -1) {
+                if (body.size() + (long) read > maxDecodedSize) {
+                    return null;
+                }
+                body.write(buffer, 0, read);
+            }
+        }
+        return new DecompressingRequestWrapper(request, body.toByteArray());
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return JsonRpcCompression.CONTENT_ENCODING.equalsIgnoreCase(name) ? null : super.getHeader(name);
+    }
+
+}
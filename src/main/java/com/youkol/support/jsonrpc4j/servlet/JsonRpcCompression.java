@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * HTTP compression of JSON-RPC exchanges: decodes requests according to
+ * <code>Content-Encoding</code> and compresses responses with the first
+ * supported coding the client accepts. Request bodies are decoded into memory
+ * before they are handled, up to the {@link #setMaxDecodedRequestSize max
+ * decoded size}; response bodies stream through the codec.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcCompression {
+
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcCompression.class);
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    public static final int DEFAULT_MIN_RESPONSE_SIZE = 2048;
+
+    public static final long DEFAULT_MAX_DECODED_REQUEST_SIZE = 64 * 1024 * 1024;
+
+    private List<JsonRpcContentEncoding> encodings = Collections
+            .unmodifiableList(Arrays.asList(JsonRpcContentEncoding.GZIP, JsonRpcContentEncoding.DEFLATE));
+
+    private int minResponseSize = DEFAULT_MIN_RESPONSE_SIZE;
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+
+    private long maxDecodedRequestSize = DEFAULT_MAX_DECODED_REQUEST_SIZE;
+
+    /**
+     * Handles an exchange, decoding the request body and compressing the
+     * response body as negotiated. A request in an unsupported coding is
+     * answered with <code>415 Unsupported Media Type</code>.
+     *
+     * @param request  the request
+     * @param response the response
+     * @param exchange the actual handling
+     * @throws IOException      in case of I/O errors
+     * @throws ServletException in case of servlet errors
+     */
+    public void execute(HttpServletRequest request, HttpServletResponse response, Exchange exchange)
+            throws IOException, ServletException {
+        String contentEncoding = request.getHeader(CONTENT_ENCODING);
+        if (StringUtils.hasText(contentEncoding) && !"identity".equalsIgnoreCase(contentEncoding.trim())) {
+            JsonRpcContentEncoding encoding = JsonRpcContentEncoding.forName(contentEncoding.trim());
+            if (encoding == null || !this.encodings.contains(encoding)) {
+                response.setStatus(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+                response.setContentLength(0);
+                return;
+            }
+            DecompressingRequestWrapper decoded;
+            try {
+                decoded = DecompressingRequestWrapper.decode(request, encoding, this.maxDecodedRequestSize);
+            } catch (ZipException | EOFException ex) {
+                logger.debug("Failed to decode {} JSON-RPC request body", encoding.getName(), ex);
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                response.setContentLength(0);
+                return;
+            }
+            if (decoded == null) {
+                logger.debug("Decoded JSON-RPC request body exceeds {} bytes", this.maxDecodedRequestSize);
+                response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                response.setContentLength(0);
+                return;
+            }
+            request = decoded;
+        }
+
+        JsonRpcContentEncoding encoding = this.negotiate(request.getHeader(ACCEPT_ENCODING));
+        if (encoding == null) {
+            exchange.handle(request, response);
+            return;
+        }
+        CompressingResponseWrapper responseWrapper = new CompressingResponseWrapper(response, encoding, this.level,
+                this.minResponseSize);
+        exchange.handle(request, responseWrapper);
+        responseWrapper.finish();
+    }
+
+    /**
+     * Selects the response coding: the first configured coding the
+     * <code>Accept-Encoding</code> header accepts with a non-zero quality.
+     *
+     * @param acceptEncoding the header value, may be <code>null</code>
+     * @return the coding, or <code>null</code> to answer uncompressed
+     */
+    public JsonRpcContentEncoding negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        String[] accepted = StringUtils.tokenizeToStringArray(acceptEncoding, ",");
+        for (JsonRpcContentEncoding encoding : this.encodings) {
+            Float quality = null;
+            for (String value : accepted) {
+                int separator = value.indexOf(';');
+                String name = (separator >= 0 ? value.substring(0, separator) : value).trim();
+                if (encoding.getName().equalsIgnoreCase(name) || ("*".equals(name) && quality == null)) {
+                    quality = quality(separator >= 0 ? value.substring(separator + 1) : null);
+                }
+            }
+            if (quality != null && quality > 0) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static float quality(String parameters) {
+        if (parameters != null) {
+            for (String parameter : StringUtils.tokenizeToStringArray(parameters, ";")) {
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Float.parseFloat(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        return 0f;
+                    }
+                }
+            }
+        }
+        return 1f;
+    }
+
+    public List<JsonRpcContentEncoding> getEncodings() {
+        return this.encodings;
+    }
+
+    /**
+     * The supported codings in order of preference.
+     *
+     * @param encodings the codings
+     */
+    public void setEncodings(List<JsonRpcContentEncoding> encodings) {
+        Assert.notEmpty(encodings, "Encodings must not be empty.");
+        this.encodings = Collections.unmodifiableList(new ArrayList<>(encodings));
+    }
+
+    public int getMinResponseSize() {
+        return this.minResponseSize;
+    }
+
+    /**
+     * Responses smaller than this number of bytes are not compressed.
+     *
+     * @param minResponseSize the minimum size in bytes
+     */
+    public void setMinResponseSize(int minResponseSize) {
+        Assert.isTrue(minResponseSize >= 0, "Minimum response size must not be negative.");
+        this.minResponseSize = minResponseSize;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * The compression level, 0-9 or {@link Deflater#DEFAULT_COMPRESSION}.
+     *
+     * @param level the compression level
+     */
+    public void setLevel(int level) {
+        Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= 0 && level <= 9),
+                "Compression level must be between 0 and 9.");
+        this.level = level;
+    }
+
+    public long getMaxDecodedRequestSize() {
+        return this.maxDecodedRequestSize;
+    }
+
+    /**
+     * Maximum size of a decoded request body in bytes.
+     *
+     * @param maxDecodedRequestSize the maximum size in bytes
+     */
+    public void setMaxDecodedRequestSize(long maxDecodedRequestSize) {
+        Assert.isTrue(maxDecodedRequestSize > 0, "Max decoded request size must be positive.");
+        this.maxDecodedRequestSize = maxDecodedRequestSize;
+    }
+
+    /**
+     * The handling of an exchange with decoded request and encoding response.
+     */
+    @FunctionalInterface
+    public interface Exchange {
+
+        void handle(HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException;
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link JsonRpcCompression} to JSON-RPC endpoints not served by
+ * {@link JsonRpcServlet}, e.g. the exporters registered by
+ * {@code AutoJsonRpcServiceImplExporter}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcCompressionFilter extends OncePerRequestFilter {
+
+    private final JsonRpcCompression compression;
+
+    public JsonRpcCompressionFilter(JsonRpcCompression compression) {
+        Assert.notNull(compression, "JsonRpcCompression must not be null.");
+        this.compression = compression;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        this.compression.execute(request, response, filterChain::doFilter);
+    }
+
+}
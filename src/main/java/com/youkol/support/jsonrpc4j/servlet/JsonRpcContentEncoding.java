@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content codings supported by {@link JsonRpcCompression}.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public enum JsonRpcContentEncoding {
+
+    GZIP("gzip") {
+
+        @Override
+        public InputStream decode(InputStream input) throws IOException {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+
+        @Override
+        public DeflaterOutputStream encode(OutputStream output, int level) throws IOException {
+            return new GZIPOutputStream(output, BUFFER_SIZE) {
+
+                {
+                    this.def.setLevel(level);
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    try {
+                        super.finish();
+                    } finally {
+                        this.def.end();
+                    }
+                }
+            };
+        }
+    },
+
+    /**
+     * The zlib format, as HTTP defines <code>deflate</code>.
+     */
+    DEFLATE("deflate") {
+
+        @Override
+        public InputStream decode(InputStream input) {
+            return new InflaterInputStream(input);
+        }
+
+        @Override
+        public DeflaterOutputStream encode(OutputStream output, int level) {
+            return new DeflaterOutputStream(output, new Deflater(level), BUFFER_SIZE) {
+
+                @Override
+                public void finish() throws IOException {
+                    try {
+                        super.finish();
+                    } finally {
+                        this.def.end();
+                    }
+                }
+            };
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String name;
+
+    JsonRpcContentEncoding(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The coding name as used in <code>Content-Encoding</code> and
+     * <code>Accept-Encoding</code>.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    public abstract InputStream decode(InputStream input) throws IOException;
+
+    /**
+     * Returns a stream encoding into the given output. {@code finish()} must be
+     * called once all data is written; it releases the native compressor.
+     *
+     * @param output the target
+     * @param level  the compression level, see {@link Deflater}
+     * @return the encoding stream
+     * @throws IOException if the stream cannot be created
+     */
+    public abstract DeflaterOutputStream encode(OutputStream output, int level) throws IOException;
+
+    /**
+     * Looks up a coding by name, ignoring case.
+     *
+     * @param name the coding name
+     * @return the coding, or <code>null</code> if not supported
+     */
+    public static JsonRpcContentEncoding forName(String name) {
+        for (JsonRpcContentEncoding encoding : values()) {
+            if (encoding.name.equalsIgnoreCase(name)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+}
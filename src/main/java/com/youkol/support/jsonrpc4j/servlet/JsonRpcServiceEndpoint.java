@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
+import org.springframework.web.HttpRequestHandler;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceDefinition;
+
+/**
+ * Path-based endpoint of a single service, served by the shared
+ * {@link JsonRpcMultiServer} instead of a server of its own.
+ * <p>
+ * A service bean also registered under its {@link JsonRpcMultiServiceName}
+ * with the same remote interface is served from that registration. Otherwise
+ * the bean is registered as an endpoint-only service, named after its
+ * primary path, and obtained on its first call.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ * @see JsonRpcServiceImplExporter
+ */
+public class JsonRpcServiceEndpoint implements HttpRequestHandler, BeanFactoryAware, InitializingBean {
+
+    private final String serviceBeanName;
+
+    private final String serviceName;
+
+    private Class<?> serviceInterface;
+
+    private ListableBeanFactory beanFactory;
+
+    private JsonRpcMultiServer jsonRpcServer;
+
+    private String registeredServiceName;
+
+    public JsonRpcServiceEndpoint(String serviceBeanName, String serviceName) {
+        Assert.hasText(serviceBeanName, "Service bean name must not be empty.");
+        Assert.hasText(serviceName, "Service name must not be empty.");
+        this.serviceBeanName = serviceBeanName;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        Assert.isInstanceOf(ListableBeanFactory.class, beanFactory, "A ListableBeanFactory is required.");
+        this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (this.jsonRpcServer == null) {
+            this.jsonRpcServer = this.beanFactory.getBeanProvider(JsonRpcMultiServer.class).getIfUnique();
+        }
+        Assert.state(this.jsonRpcServer != null, () -> "JSON-RPC endpoint of bean '" + this.serviceBeanName
+                + "' requires a single JsonRpcMultiServer bean.");
+        this.registeredServiceName = this.registerService();
+    }
+
+    private String registerService() {
+        Class<?> beanType = this.beanFactory.getType(this.serviceBeanName, false);
+        JsonRpcMultiServiceName multiServiceName = beanType != null
+                ? AnnotationUtils.findAnnotation(beanType, JsonRpcMultiServiceName.class)
+                : null;
+        if (multiServiceName != null) {
+            JsonRpcServiceDefinition shared = this.jsonRpcServer.getRegistry().getService(multiServiceName.value());
+            if (shared != null && shared.getRemoteInterface() == this.serviceInterface) {
+                return multiServiceName.value();
+            }
+        }
+
+        if (this.jsonRpcServer.getRegistry().getService(this.serviceName) == null) {
+            ListableBeanFactory factory = this.beanFactory;
+            String beanName = this.serviceBeanName;
+            Class<?> handlerType = beanType != null ? beanType : this.serviceInterface;
+            Assert.state(handlerType != null, () -> "Type of JSON-RPC service bean '" + beanName + "' is unknown.");
+            this.jsonRpcServer.addService(new JsonRpcServiceDefinition(this.serviceName, handlerType,
+                    () -> factory.getBean(beanName), this.serviceInterface, null).endpointOnly());
+        }
+        return this.serviceName;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        this.jsonRpcServer.handle(request, response, this.registeredServiceName);
+    }
+
+    public String getServiceBeanName() {
+        return this.serviceBeanName;
+    }
+
+    /**
+     * The name the service is served under, known once the endpoint is
+     * initialized.
+     *
+     * @return the service name
+     */
+    public String getServiceName() {
+        return this.registeredServiceName != null ? this.registeredServiceName : this.serviceName;
+    }
+
+    public Class<?> getServiceInterface() {
+        return this.serviceInterface;
+    }
+
+    /**
+     * The interface whose methods are served, by default those of the bean
+     * class.
+     *
+     * @param serviceInterface the service interface
+     */
+    public void setServiceInterface(Class<?> serviceInterface) {
+        this.serviceInterface = serviceInterface;
+    }
+
+    public JsonRpcMultiServer getJsonRpcServer() {
+        return this.jsonRpcServer;
+    }
+
+    /**
+     * The server dispatching the calls, by default the single
+     * {@link JsonRpcMultiServer} bean.
+     *
+     * @param jsonRpcServer the server
+     */
+    public void setJsonRpcServer(JsonRpcMultiServer jsonRpcServer) {
+        this.jsonRpcServer = jsonRpcServer;
+    }
+
+}
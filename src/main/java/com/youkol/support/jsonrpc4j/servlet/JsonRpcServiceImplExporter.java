@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.googlecode.jsonrpc4j.JsonRpcService;
+import com.googlecode.jsonrpc4j.spring.AutoJsonRpcServiceImpl;
+import com.googlecode.jsonrpc4j.spring.AutoJsonRpcServiceImplExporter;
+
+/**
+ * Exports {@link AutoJsonRpcServiceImpl} beans at the paths of their
+ * {@link JsonRpcService} interfaces like {@link AutoJsonRpcServiceImplExporter},
+ * but as {@link JsonRpcServiceEndpoint}s of the shared
+ * {@link com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer} instead of a
+ * <code>JsonServiceExporter</code> with its own server per bean.
+ * <p>
+ * The endpoints are configured by the shared server, the settings of the
+ * inherited setters are not used.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+public class JsonRpcServiceImplExporter extends AutoJsonRpcServiceImplExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcServiceImplExporter.class);
+
+    private static final String PATH_PREFIX = "/";
+
+    private static final Pattern PATTERN_JSONRPC_PATH = Pattern.compile("^/?[A-Za-z0-9._~-]+(/[A-Za-z0-9._~-]+)*$");
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        Assert.isInstanceOf(BeanDefinitionRegistry.class, beanFactory, "A BeanDefinitionRegistry is required.");
+        BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+        Map<String, String> exportedPaths = new HashMap<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            AutoJsonRpcServiceImpl autoService = beanFactory.findAnnotationOnBean(beanName,
+                    AutoJsonRpcServiceImpl.class);
+            if (autoService == null) {
+                continue;
+            }
+            JsonRpcService jsonRpcService = beanFactory.findAnnotationOnBean(beanName, JsonRpcService.class);
+            if (jsonRpcService == null) {
+                throw new IllegalStateException("on the bean [" + beanName + "], @"
+                        + AutoJsonRpcServiceImpl.class.getSimpleName() + " was found, but not @"
+                        + JsonRpcService.class.getSimpleName() + " -- both are required");
+            }
+
+            String serviceName = makeUrlPath(jsonRpcService.value());
+            Class<?> serviceInterface = findServiceInterface(beanFactory.getType(beanName, false));
+            List<String> paths = new ArrayList<>();
+            Collections.addAll(paths, autoService.additionalPaths());
+            paths.add(jsonRpcService.value());
+            for (String path : paths) {
+                if (!PATTERN_JSONRPC_PATH.matcher(path).matches()) {
+                    throw new IllegalStateException(
+                            "the path [" + path + "] for the bean [" + beanName + "] is not valid");
+                }
+                String urlPath = makeUrlPath(path);
+                String previous = exportedPaths.putIfAbsent(urlPath, beanName);
+                if (previous != null) {
+                    logger.warn("Duplicate JSON-RPC path specification: found {} on both [{}] and [{}].",
+                            urlPath, previous, beanName);
+                    continue;
+                }
+                logger.debug("exporting bean [{}] ---> [{}]", beanName, urlPath);
+                BeanDefinitionBuilder endpoint = BeanDefinitionBuilder
+                        .rootBeanDefinition(JsonRpcServiceEndpoint.class)
+                        .addConstructorArgValue(beanName)
+                        .addConstructorArgValue(serviceName);
+                if (serviceInterface != null) {
+                    endpoint.addPropertyValue("serviceInterface", serviceInterface);
+                }
+                registry.registerBeanDefinition(urlPath, endpoint.getBeanDefinition());
+            }
+        }
+    }
+
+    private static String makeUrlPath(String servicePath) {
+        Assert.hasText(servicePath, "the service path must be provided");
+        return servicePath.startsWith(PATH_PREFIX) ? servicePath : PATH_PREFIX + servicePath;
+    }
+
+    /**
+     * The first interface of the bean annotated with {@link JsonRpcService}.
+     */
+    private static Class<?> findServiceInterface(Class<?> beanType) {
+        if (beanType == null) {
+            return null;
+        }
+        for (Class<?> beanInterface : ClassUtils.getAllInterfacesForClassAsSet(beanType)) {
+            if (AnnotationUtils.isAnnotationDeclaredLocally(JsonRpcService.class, beanInterface)) {
+                return beanInterface;
+            }
+        }
+        return null;
+    }
+
+}
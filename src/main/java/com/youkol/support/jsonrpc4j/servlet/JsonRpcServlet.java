@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,33 +16,272 @@
 package com.youkol.support.jsonrpc4j.servlet;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.googlecode.jsonrpc4j.JsonRpcServer;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBufferPool;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
 
 /**
+ * Servlet exposing a {@link JsonRpcServer}.
+ * <p>
+ * With async enabled, POST requests are served through Servlet 3.1 async I/O:
+ * the body is read with a {@link javax.servlet.ReadListener}, the invocation
+ * runs on the async executor (or {@link AsyncContext#start(Runnable)} when none
+ * is set), and the response is written with a {@link javax.servlet.WriteListener}.
+ * No container thread waits for slow clients.
+ * <p>
+ * With a {@link JsonRpcCompression} set, compressed requests are decoded and
+ * responses compressed as negotiated with the client.
+ * <p>
+ * Async responses are collected in buffers of a {@link JsonRpcBufferPool}
+ * which are returned to the pool once written. A {@link JsonRpcMultiServer}
+ * serializes into that buffer directly instead of taking one of its own.
+ * Responses larger than the pool's max buffer size are streamed from the
+ * invoking thread instead.
+ * <p>
+ * In async mode the body is read into memory, so requests larger than the
+ * max request size, as declared or as read, are answered with
+ * {@code 413 Payload Too Large}. Blocking requests are streamed to the server
+ * and not limited.
  *
  * @author jackiea
  * @since 1.0.0
  */
 public class JsonRpcServlet extends HttpServlet {
 
+    public static final long DEFAULT_MAX_REQUEST_SIZE = 10 * 1024 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcServlet.class);
+
     private final JsonRpcServer jsonRpcServer;
 
+    private boolean asyncEnabled = false;
+
+    private Executor asyncExecutor;
+
+    private long asyncTimeout = 30_000L;
+
+    private long maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+
+    private JsonRpcCompression compression;
+
+    private JsonRpcBufferPool bufferPool;
+
     public JsonRpcServlet(JsonRpcServer jsonRpcServer) {
         Assert.notNull(jsonRpcServer, "JsonRpcServer must not be null.");
         this.jsonRpcServer = jsonRpcServer;
+        this.bufferPool = jsonRpcServer instanceof JsonRpcMultiServer
+                ? ((JsonRpcMultiServer) jsonRpcServer).getBufferPool()
+                : new JsonRpcBufferPool();
     }
 
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        this.jsonRpcServer.handle(req, resp);
+        if (this.asyncEnabled && req.isAsyncSupported() && "POST".equals(req.getMethod())) {
+            if (req.getContentLengthLong() > this.maxRequestSize) {
+                logger.debug("JSON-RPC request body of {} bytes exceeds {} bytes", req.getContentLengthLong(),
+                        this.maxRequestSize);
+                resp.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                resp.setContentLength(0);
+                return;
+            }
+            this.serviceAsync(req, resp);
+            return;
+        }
+        this.handle(req, resp);
+    }
+
+    /**
+     * Handles the request with it bound to the {@link RequestContextHolder}, on
+     * the container thread as well as on the async executor.
+     */
+    private void handle(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(req, resp);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            if (this.compression != null) {
+                this.compression.execute(req, resp, this.jsonRpcServer::handle);
+            } else {
+                this.jsonRpcServer.handle(req, resp);
+            }
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+            attributes.requestCompleted();
+        }
+    }
+
+    private void serviceAsync(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        AsyncContext asyncContext = req.startAsync(req, resp);
+        asyncContext.setTimeout(this.asyncTimeout);
+        AsyncTimeoutListener timeoutListener = new AsyncTimeoutListener();
+        asyncContext.addListener(timeoutListener);
+
+        ServletInputStream inputStream = req.getInputStream();
+        inputStream.setReadListener(new AsyncRequestReader(inputStream, asyncContext, timeoutListener,
+                this.maxRequestSize, (context, body) -> this.dispatch(context, timeoutListener, body)));
+    }
+
+    private void dispatch(AsyncContext asyncContext, AsyncTimeoutListener timeoutListener, byte[] body) {
+        if (timeoutListener.isDone()) {
+            return;
+        }
+        Runnable task = () -> this.invoke(asyncContext, timeoutListener, body);
+        try {
+            if (this.asyncExecutor != null) {
+                this.asyncExecutor.execute(task);
+            } else {
+                asyncContext.start(task);
+            }
+        } catch (RejectedExecutionException ex) {
+            logger.warn("JSON-RPC async executor rejected the request", ex);
+            if (timeoutListener.claim()) {
+                AsyncResponseWriter.sendError(asyncContext, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+        }
+    }
+
+    /**
+     * Invokes the request unless it timed out while queued. A response is
+     * only written if the invocation claims the request before the timeout
+     * does, otherwise it is dropped without touching the response.
+     */
+    private void invoke(AsyncContext asyncContext, AsyncTimeoutListener timeoutListener, byte[] body) {
+        if (timeoutListener.isDone()) {
+            logger.debug("Skipped JSON-RPC request timed out before its invocation");
+            return;
+        }
+        JsonRpcBufferPool bufferPool = this.bufferPool;
+        JsonRpcBufferPool.Buffer buffer = bufferPool.acquire();
+        BufferedResponseWrapper responseWrapper = null;
+        try {
+            HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            responseWrapper = new BufferedResponseWrapper(response, buffer, bufferPool.getMaxBufferSize(),
+                    timeoutListener::isDone, timeoutListener::claim);
+            BufferedRequestWrapper requestWrapper = new BufferedRequestWrapper(request, body);
+            requestWrapper.setAttribute(JsonRpcMultiServer.RESPONSE_BUFFERED_ATTRIBUTE, Boolean.TRUE);
+            this.handle(requestWrapper, responseWrapper);
+            responseWrapper.flushBuffer();
+        } catch (IOException | ServletException | RuntimeException ex) {
+            bufferPool.release(buffer);
+            if (responseWrapper != null && responseWrapper.isSpilled()) {
+                logger.error("JSON-RPC async invocation failed while streaming its response", ex);
+                AsyncResponseWriter.complete(asyncContext);
+            } else if (timeoutListener.claim()) {
+                logger.error("JSON-RPC async invocation failed", ex);
+                AsyncResponseWriter.sendError(asyncContext, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            } else {
+                logger.debug("JSON-RPC async invocation failed after its request timed out", ex);
+            }
+            return;
+        }
+        if (responseWrapper.isSpilled()) {
+            bufferPool.release(buffer);
+            AsyncResponseWriter.complete(asyncContext);
+            return;
+        }
+        if (!timeoutListener.claim()) {
+            logger.debug("Dropped the response of a JSON-RPC request that timed out");
+            bufferPool.release(buffer);
+            return;
+        }
+        responseWrapper.setContentLength(buffer.size());
+        AsyncResponseWriter.write(asyncContext, buffer.array(), buffer.size(), () -> bufferPool.release(buffer));
+    }
+
+    public boolean getAsyncEnabled() {
+        return this.asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public Executor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Executor running the invocations in async mode. When <code>null</code>
+     * the container executor is used through {@link AsyncContext#start(Runnable)}.
+     *
+     * @param asyncExecutor the executor
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public JsonRpcCompression getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * HTTP compression of requests and responses, <code>null</code> to disable.
+     *
+     * @param compression the compression settings
+     */
+    public void setCompression(JsonRpcCompression compression) {
+        this.compression = compression;
+    }
+
+    public JsonRpcBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+
+    /**
+     * Pool of the buffers async responses are collected in, by default the pool
+     * of a {@link JsonRpcMultiServer}.
+     *
+     * @param bufferPool the buffer pool
+     */
+    public void setBufferPool(JsonRpcBufferPool bufferPool) {
+        Assert.notNull(bufferPool, "JsonRpcBufferPool must not be null.");
+        this.bufferPool = bufferPool;
+    }
+
+    public long getAsyncTimeout() {
+        return this.asyncTimeout;
+    }
+
+    /**
+     * Timeout of an async request in milliseconds, covering read, invocation and
+     * write.
+     *
+     * @param asyncTimeout the timeout in milliseconds
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    public long getMaxRequestSize() {
+        return this.maxRequestSize;
+    }
+
+    /**
+     * Maximum size of a request body in bytes read in async mode.
+     *
+     * @param maxRequestSize the maximum size in bytes
+     */
+    public void setMaxRequestSize(long maxRequestSize) {
+        Assert.isTrue(maxRequestSize > 0, "Max request size must be positive.");
+        this.maxRequestSize = maxRequestSize;
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 the original author or authors.
+ * Copyright (C) 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,28 +17,79 @@ package com.youkol.support.jsonrpc4j.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.googlecode.jsonrpc4j.JsonRpcServer;
+import com.googlecode.jsonrpc4j.JsonRpcService;
 import com.googlecode.jsonrpc4j.RequestInterceptor;
 import com.googlecode.jsonrpc4j.spring.AutoJsonRpcClientProxyCreator;
+import com.googlecode.jsonrpc4j.spring.AutoJsonRpcServiceImpl;
 import com.googlecode.jsonrpc4j.spring.AutoJsonRpcServiceImplExporter;
 import com.googlecode.jsonrpc4j.spring.JsonServiceExporter;
+import com.youkol.support.jsonrpc4j.actuate.JsonRpcClientsEndpoint;
+import com.youkol.support.jsonrpc4j.client.BatchingClientTransport;
+import com.youkol.support.jsonrpc4j.client.HttpClient5AsyncClientTransport;
+import com.youkol.support.jsonrpc4j.client.HttpClient5ClientTransport;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientProxyFactoryBean;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientResilience;
+import com.youkol.support.jsonrpc4j.client.JsonRpcClientTransport;
+import com.youkol.support.jsonrpc4j.client.JsonRpcHedgingInvoker;
+import com.youkol.support.jsonrpc4j.client.JsonRpcResilienceSettings;
+import com.youkol.support.jsonrpc4j.client.LoadBalancingClientTransport;
+import com.youkol.support.jsonrpc4j.client.UrlConnectionClientTransport;
+import com.youkol.support.jsonrpc4j.metrics.JsonRpcClientMetrics;
+import com.youkol.support.jsonrpc4j.metrics.JsonRpcServerMetrics;
+import com.youkol.support.jsonrpc4j.reactive.JsonRpcHandlerFunction;
 import com.youkol.support.jsonrpc4j.server.DelegatingRequestInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBatchExecutor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+import com.youkol.support.jsonrpc4j.server.JsonRpcConcurrencyLimiter;
 import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimitInterceptor;
+import com.youkol.support.jsonrpc4j.server.JsonRpcRateLimiter;
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceDefinition;
+import com.youkol.support.jsonrpc4j.service.JsonRpcBaseService;
 import com.youkol.support.jsonrpc4j.service.welcome.WelcomeService;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcCompression;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcContentEncoding;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcServiceEndpoint;
+import com.youkol.support.jsonrpc4j.servlet.JsonRpcServiceImplExporter;
 import com.youkol.support.jsonrpc4j.servlet.JsonRpcServlet;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  *
  * @author jackiea
@@ -80,9 +131,192 @@ class JsonRpcAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void jsonRpcClientTransport() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.max-connections-per-route=5",
+                "youkol.jsonrpc4j.client.read-timeout=2s")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JsonRpcClientTransport.class);
+                    assertThat(context.getBean(JsonRpcClientTransport.class))
+                            .isInstanceOf(HttpClient5ClientTransport.class);
+                    JsonRpcClientProxyFactoryBean factoryBean = context.getBean(
+                            "&" + WelcomeService.class.getName() + "-clientProxy", JsonRpcClientProxyFactoryBean.class);
+                    assertThat(factoryBean.getServiceUrl()).hasToString("http://127.0.0.1:8080/jsonrpc/welcome");
+                    assertThat(factoryBean.getTransport()).isSameAs(context.getBean(JsonRpcClientTransport.class));
+                });
+    }
+
+    @Test
+    void jsonRpcClientTransportBatching() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.batching.enabled=true",
+                "youkol.jsonrpc4j.client.batching.window=5ms")
+                .run(context -> assertThat(context.getBean(JsonRpcClientTransport.class))
+                        .isInstanceOf(BatchingClientTransport.class));
+    }
+
+    @Test
+    void jsonRpcClientTransportAsync() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.async.enabled=true",
+                "youkol.jsonrpc4j.client.async.io-threads=2")
+                .run(context -> assertThat(context.getBean(JsonRpcClientTransport.class))
+                        .isInstanceOf(HttpClient5AsyncClientTransport.class));
+    }
+
+    @Test
+    void jsonRpcClientTransportLoadBalancing() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-urls[0]=http://127.0.0.1:8080/",
+                "youkol.jsonrpc4j.client.base-urls[1]=http://127.0.0.1:8081/",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.load-balancer.strategy=least-outstanding",
+                "youkol.jsonrpc4j.client.load-balancer.health-check-interval=0")
+                .run(context -> {
+                    assertThat(context.getBean(JsonRpcClientTransport.class))
+                            .isInstanceOf(LoadBalancingClientTransport.class);
+                    assertThat(((LoadBalancingClientTransport) context.getBean(JsonRpcClientTransport.class))
+                            .getEndpoints()).hasSize(2);
+                });
+    }
+
+    @Test
+    void jsonRpcHedgingInvoker() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.hedging.enabled=true",
+                "youkol.jsonrpc4j.client.hedging.delay=20ms",
+                "youkol.jsonrpc4j.client.hedging.delay-percentile=0.95",
+                "youkol.jsonrpc4j.client.hedging.max-attempts=3")
+                .run(context -> {
+                    JsonRpcHedgingInvoker hedgingInvoker = context.getBean(JsonRpcHedgingInvoker.class);
+                    assertThat(hedgingInvoker.getDelay()).isEqualTo(Duration.ofMillis(20));
+                    assertThat(hedgingInvoker.getDelayPercentile()).isEqualTo(0.95);
+                    assertThat(hedgingInvoker.getMaxAttempts()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void jsonRpcClientResilience() {
+        this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                        "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                        "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                        "youkol.jsonrpc4j.server.metrics.enabled=false",
+                        "youkol.jsonrpc4j.client.resilience.enabled=true",
+                        "youkol.jsonrpc4j.client.resilience.defaults.failure-rate-threshold=30",
+                        "youkol.jsonrpc4j.client.resilience.services.[/jsonrpc/welcome].max-concurrent-calls=5",
+                        "management.endpoints.web.exposure.include=jsonrpcclients")
+                .run(context -> {
+                    JsonRpcClientResilience resilience = context.getBean(JsonRpcClientResilience.class);
+                    assertThat(resilience.getDefaultSettings().getFailureRateThreshold()).isEqualTo(30);
+                    JsonRpcResilienceSettings welcome = resilience.getServiceSettings().get("/jsonrpc/welcome");
+                    assertThat(welcome.getFailureRateThreshold()).isEqualTo(30);
+                    assertThat(welcome.getMaxConcurrentCalls()).isEqualTo(5);
+
+                    context.getBean(WelcomeService.class.getName() + "-clientProxy");
+                    assertThat(context).hasSingleBean(JsonRpcClientMetrics.class);
+                    assertThat(context.getBean(MeterRegistry.class)
+                            .find(JsonRpcClientMetrics.BULKHEAD_AVAILABLE_CALLS_METRIC_NAME)
+                            .tag("service", "/jsonrpc/welcome").gauge().value()).isEqualTo(5);
+                    assertThat(context.getBean(JsonRpcClientsEndpoint.class).services())
+                            .containsOnlyKeys("/jsonrpc/welcome");
+                });
+    }
+
+    @Test
+    void jsonRpcClientTransportWithoutHttpClient5() {
+        this.contextRunner.withClassLoader(new FilteredClassLoader(CloseableHttpClient.class))
+                .withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                        "youkol.jsonrpc4j.client.base-url=http://127.0.0.1:8080/",
+                        "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service")
+                .run(context -> assertThat(context.getBean(JsonRpcClientTransport.class))
+                        .isInstanceOf(UrlConnectionClientTransport.class));
+    }
+
+    @Test
+    void jsonRpcCodecsRegistered() {
+        this.contextRunner.withUserConfiguration(JacksonAutoConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.codecs.cbor-enabled=false")
+                .run(context -> {
+                    assertThat(context).hasBean(JsonRpcCodecConfiguration.SMILE_CODEC_BEAN_NAME)
+                            .doesNotHaveBean(JsonRpcCodecConfiguration.CBOR_CODEC_BEAN_NAME);
+                    JsonRpcMultiServer server = context.getBean(JsonRpcMultiServer.class);
+                    assertThat(server.getCodecs()).extracting(JsonRpcCodec::getName).containsExactly("smile");
+                });
+    }
+
+    @Test
+    void autoJsonRpcClientProxyCreatorWithCodec() {
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.client.enabled=true",
+                "youkol.jsonrpc4j.client.base-url=https://github.com/youkol/jsonrpc4j-spring-boot-starter",
+                "youkol.jsonrpc4j.client.scan-package=com.youkol.support.jsonrpc4j.service",
+                "youkol.jsonrpc4j.client.codec=cbor")
+                .run(context -> {
+                    AutoJsonRpcClientProxyCreator creator = context.getBean(AutoJsonRpcClientProxyCreator.class);
+                    assertThat(ReflectionTestUtils.getField(creator, "contentType"))
+                            .isEqualTo(JsonRpcCodec.CBOR_MEDIA_TYPE);
+                    assertThat(((ObjectMapper) ReflectionTestUtils.getField(creator, "objectMapper")).getFactory())
+                            .isInstanceOf(CBORFactory.class);
+                });
+    }
+
+    @Test
+    void jsonRpcServiceImplExporterSharesServer() {
+        this.contextRunner
+                .withUserConfiguration(GreetingServiceConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.server.shared-dispatch-enabled=true")
+                .run(context -> {
+                    assertThat(context.getBean(AutoJsonRpcServiceImplExporter.class))
+                            .isInstanceOf(JsonRpcServiceImplExporter.class);
+                    assertThat(context).doesNotHaveBean(JsonServiceExporter.class);
+                    JsonRpcMultiServer jsonRpcServer = context.getBean(JsonRpcMultiServer.class);
+
+                    JsonRpcServiceEndpoint welcome = context.getBean("/jsonrpc/welcome", JsonRpcServiceEndpoint.class);
+                    assertThat(welcome.getServiceName()).isEqualTo("Welcome");
+                    assertThat(welcome.getJsonRpcServer()).isSameAs(jsonRpcServer);
+
+                    JsonRpcServiceEndpoint greeting = context.getBean("/greeting", JsonRpcServiceEndpoint.class);
+                    assertThat(context.getBean("/hello", JsonRpcServiceEndpoint.class).getServiceName())
+                            .isEqualTo("/greeting");
+                    JsonRpcServiceDefinition service = jsonRpcServer.getRegistry().getService("/greeting");
+                    assertThat(service.getEndpointOnly()).isTrue();
+                    assertThat(service.getRemoteInterface()).isEqualTo(GreetingService.class);
+
+                    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/hello");
+                    request.setContent("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"greet\",\"params\":[\"bob\"]}"
+                            .getBytes(StandardCharsets.UTF_8));
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    greeting.handleRequest(request, response);
+                    assertThat(response.getContentAsString()).contains("\"result\":\"Hello bob\"");
+                });
+    }
+
+    @Test
+    void autoJsonRpcServiceImplExporterIsDefault() {
+        this.contextRunner
+                .withBean(AutoJsonRpcServiceImplExporterCustomizer.class,
+                        () -> exporter -> exporter.setContentType("application/json"))
+                .run(context -> {
+                    AutoJsonRpcServiceImplExporter exporter = context.getBean(AutoJsonRpcServiceImplExporter.class);
+                    assertThat(exporter).isNotInstanceOf(JsonRpcServiceImplExporter.class);
+                    assertThat(ReflectionTestUtils.getField(exporter, "contentType")).isEqualTo("application/json");
+                    assertThat(context).doesNotHaveBean(JsonRpcServiceEndpoint.class);
+                });
+    }
+
     @Test
     void autoJsonRpcServiceImplExporterEnabled() {
-        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.server.rethrow-exceptions=true",
+        this.contextRunner.withPropertyValues("youkol.jsonrpc4j.server.shared-dispatch-enabled=false",
+                "youkol.jsonrpc4j.server.rethrow-exceptions=true",
                 "youkol.jsonrpc4j.server.allow-extra-params=true",
                 "youkol.jsonrpc4j.server.allow-less-params=true")
                 .run(context -> {
@@ -93,11 +327,111 @@ class JsonRpcAutoConfigurationTests {
 
     @Test
     void jsonRpcServerParallelBatchEnabled() {
-        this.contextRunner.withUserConfiguration(TaskExecutionAutoConfiguration.class)
-                .withPropertyValues("youkol.jsonrpc4j.server.parallel-enabled=true")
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.parallel-enabled=true",
+                        "youkol.jsonrpc4j.server.batch-executor.threads=3",
+                        "youkol.jsonrpc4j.server.batch-executor.max-in-flight-per-batch=4",
+                        "youkol.jsonrpc4j.server.max-batch-length=100")
+                .run(context -> {
+                    JsonRpcBatchExecutor executor = context.getBean(JsonRpcBatchExecutor.class);
+                    assertThat(context.getBean(ExecutorService.class)).isSameAs(executor);
+                    assertThat(executor.getMaxInFlightPerBatch()).isEqualTo(4);
+                    assertThat(((ThreadPoolExecutor) executor.getWorkers()).getCorePoolSize()).isEqualTo(3);
+                    assertThat(context.getBean(JsonRpcMultiServer.class).getMaxBatchLength()).isEqualTo(100);
+                });
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.parallel-enabled=true",
+                        "youkol.jsonrpc4j.server.batch-executor.pool-type=fork-join")
+                .run(context -> assertThat(context.getBean(JsonRpcBatchExecutor.class).getWorkers())
+                        .isInstanceOf(ForkJoinPool.class));
+    }
+
+    @Test
+    void jsonRpcServerBufferPool() {
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.buffer-pool.max-buffer-size=64KB")
                 .run(context -> {
-                    assertThat(context.getBean(ExecutorService.class)).isNotNull();
-                    assertThat(context.getBean(ExecutorService.class)).isInstanceOf(ThreadPoolExecutor.class);
+                    JsonRpcMultiServer server = context.getBean(JsonRpcMultiServer.class);
+                    assertThat(server.getBufferPool().getMaxBufferSize()).isEqualTo(64 * 1024);
+                });
+    }
+
+    @Test
+    void jsonRpcServerConcurrencyLimit() {
+        this.contextRunner.run(context -> assertThat(context.getBean(JsonRpcMultiServer.class)
+                .getConcurrencyLimiter()).isNull());
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.concurrency-limit.enabled=true",
+                        "youkol.jsonrpc4j.server.concurrency-limit.max-limit=50",
+                        "youkol.jsonrpc4j.server.concurrency-limit.tolerance=2")
+                .run(context -> {
+                    JsonRpcConcurrencyLimiter limiter = context.getBean(JsonRpcMultiServer.class)
+                            .getConcurrencyLimiter();
+                    assertThat(limiter).isNotNull();
+                    assertThat(limiter.getMaxLimit()).isEqualTo(50);
+                    assertThat(limiter.getTolerance()).isEqualTo(2.0);
+                });
+    }
+
+    @Test
+    void jsonRpcServerRateLimit() {
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.rate-limit.enabled=true",
+                        "youkol.jsonrpc4j.server.rate-limit.client-identity=header",
+                        "youkol.jsonrpc4j.server.rate-limit.methods.[Calc.*].permits-per-second=5",
+                        "youkol.jsonrpc4j.server.rate-limit.methods.[Calc.*].burst=10")
+                .run(context -> {
+                    JsonRpcRateLimitInterceptor interceptor = context.getBean(JsonRpcRateLimitInterceptor.class);
+                    JsonRpcRateLimiter rateLimiter = interceptor.getRateLimiter();
+                    assertThat(rateLimiter.getLimit("Calc.add").getBurst()).isEqualTo(10);
+                    assertThat(rateLimiter.getDefaultLimit()).isNull();
+                    assertThat(interceptor.getRegistry())
+                            .isSameAs(context.getBean(JsonRpcMultiServer.class).getRegistry());
+                    assertThat(context.getBean(DelegatingRequestInterceptor.class)).isNotNull();
+                });
+    }
+
+    @Test
+    void jsonRpcServerMethodTimeouts() {
+        this.contextRunner
+                .withPropertyValues("youkol.jsonrpc4j.server.method-timeouts.[Calc.*]=2s",
+                        "youkol.jsonrpc4j.server.deadline-header-enabled=false")
+                .run(context -> {
+                    JsonRpcMultiServer jsonRpcServer = context.getBean(JsonRpcMultiServer.class);
+                    assertThat(jsonRpcServer.getMethodTimeouts()).containsEntry("Calc.*", Duration.ofSeconds(2));
+                    assertThat(jsonRpcServer.getDeadlineHeaderEnabled()).isFalse();
+                });
+    }
+
+    @Test
+    void jsonRpcServerLazyServices() {
+        this.contextRunner
+                .withUserConfiguration(LazyServiceConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.server.lazy-services=true")
+                .run(context -> {
+                    JsonRpcMultiServer jsonRpcServer = context.getBean(JsonRpcMultiServer.class);
+                    JsonRpcServiceDefinition echo = jsonRpcServer.getRegistry().getService("Echo");
+                    assertThat(echo.getRemoteInterface()).isEqualTo(EchoService.class);
+                    assertThat(echo.getHandlerResolved()).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("echoService")).isFalse();
+
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    jsonRpcServer.handleRequest(new ByteArrayInputStream(
+                            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.echo\",\"params\":[\"hi\"]}"
+                                    .getBytes(StandardCharsets.UTF_8)), output);
+                    assertThat(output.toString("UTF-8")).contains("\"result\":\"hi\"");
+                    assertThat(echo.getHandler()).isSameAs(context.getBean("echoService"));
+                });
+    }
+
+    @Test
+    void jsonRpcServerEagerServices() {
+        this.contextRunner
+                .withUserConfiguration(LazyServiceConfiguration.class)
+                .run(context -> {
+                    JsonRpcMultiServer jsonRpcServer = context.getBean(JsonRpcMultiServer.class);
+                    assertThat(jsonRpcServer.getRegistry().getService("Echo").getHandlerResolved()).isTrue();
+                    assertThat(context.getBeanFactory().containsSingleton("echoService")).isTrue();
                 });
     }
 
@@ -111,6 +445,47 @@ class JsonRpcAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void jsonRpcServerServletAsyncEnabled() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class,
+                        TaskExecutionAutoConfiguration.class))
+                .withPropertyValues("youkol.jsonrpc4j.server.servlet.async-enabled=true",
+                        "youkol.jsonrpc4j.server.servlet.async-timeout=5s",
+                        "youkol.jsonrpc4j.server.servlet.max-request-size=1MB",
+                        "youkol.jsonrpc4j.server.servlet.async-threads=3",
+                        "youkol.jsonrpc4j.server.servlet.async-queue-capacity=7")
+                .run(context -> {
+                    JsonRpcServlet servlet = context.getBean(JsonRpcServlet.class);
+                    assertThat(servlet.getAsyncEnabled()).isTrue();
+                    assertThat(servlet.getAsyncTimeout()).isEqualTo(5000L);
+                    assertThat(servlet.getMaxRequestSize()).isEqualTo(1024 * 1024);
+                    // dedicated, not the application task executor
+                    ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) servlet.getAsyncExecutor();
+                    assertThat(executor).isSameAs(context.getBean(
+                            JsonRpcServerServletConfiguration.DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME));
+                    assertThat(executor.getMaxPoolSize()).isEqualTo(3);
+                    assertThat(executor.getThreadPoolExecutor().getQueue().remainingCapacity()).isEqualTo(7);
+                    assertThat(context).hasBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+                    ServletRegistrationBean<?> registration = context.getBean(ServletRegistrationBean.class);
+                    assertThat(registration.isAsyncSupported()).isTrue();
+                });
+    }
+
+    @Test
+    void jsonRpcServerServletAsyncExecutor() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class,
+                        TaskExecutionAutoConfiguration.class))
+                .withUserConfiguration(AsyncExecutorConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.server.servlet.async-enabled=true")
+                .run(context -> {
+                    JsonRpcServlet servlet = context.getBean(JsonRpcServlet.class);
+                    assertThat(servlet.getAsyncExecutor()).isSameAs(context.getBean(
+                            JsonRpcServerServletConfiguration.DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME));
+                });
+    }
+
     @Test
     void jsonRpcServerServletDisabled() {
         new WebApplicationContextRunner()
@@ -123,6 +498,91 @@ class JsonRpcAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void jsonRpcServerCompressionEnabled() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class))
+                .withPropertyValues("youkol.jsonrpc4j.server.compression.enabled=true",
+                        "youkol.jsonrpc4j.server.compression.min-response-size=1KB",
+                        "youkol.jsonrpc4j.server.compression.algorithms=deflate")
+                .run(context -> {
+                    JsonRpcCompression compression = context.getBean(JsonRpcCompression.class);
+                    assertThat(compression.getMinResponseSize()).isEqualTo(1024);
+                    assertThat(compression.getEncodings()).containsExactly(JsonRpcContentEncoding.DEFLATE);
+                    assertThat(context.getBean(JsonRpcServlet.class).getCompression()).isSameAs(compression);
+                    FilterRegistrationBean<?> registration = context.getBean(
+                            JsonRpcCompressionConfiguration.DEFAULT_JSONRPC_COMPRESSION_FILTER_REGISTRATION_BEAN_NAME,
+                            FilterRegistrationBean.class);
+                    assertThat(registration.getUrlPatterns()).contains("/jsonrpc/welcome");
+                });
+    }
+
+    @Test
+    void jsonRpcServerCompressionDisabled() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(JsonRpcCompression.class);
+                    assertThat(context.getBean(JsonRpcServlet.class).getCompression()).isNull();
+                });
+    }
+
+    @Test
+    void jsonRpcServerReactiveEnabled() {
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class,
+                        JacksonAutoConfiguration.class))
+                .withPropertyValues("youkol.jsonrpc4j.server.reactive.path=/rpc",
+                        "youkol.jsonrpc4j.server.batch-executor.max-in-flight-per-batch=3")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JsonRpcHandlerFunction.class)
+                            .hasBean(JsonRpcServerReactiveConfiguration.DEFAULT_JSONRPC_ROUTER_FUNCTION_BEAN_NAME)
+                            .doesNotHaveBean(JsonRpcServlet.class);
+                    assertThat(context.getBean(JsonRpcHandlerFunction.class).getMaxInFlightPerBatch()).isEqualTo(3);
+                    RouterFunction<?> routerFunction = context.getBean(
+                            JsonRpcServerReactiveConfiguration.DEFAULT_JSONRPC_ROUTER_FUNCTION_BEAN_NAME,
+                            RouterFunction.class);
+                    WebTestClient.bindToRouterFunction(routerFunction).build()
+                            .post().uri("/rpc")
+                            .bodyValue("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Welcome.welcome\",\"params\":[]}")
+                            .exchange()
+                            .expectStatus().isOk()
+                            .expectBody().jsonPath("$.result.code").exists();
+                });
+    }
+
+    @Test
+    void jsonRpcServerReactiveDisabled() {
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JsonRpcAutoConfiguration.class))
+                .withPropertyValues("youkol.jsonrpc4j.server.reactive.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(JsonRpcHandlerFunction.class));
+    }
+
+    @Test
+    void jsonRpcServerMetricsEnabled() {
+        this.contextRunner
+                .withUserConfiguration(MeterRegistryConfiguration.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JsonRpcServerMetrics.class);
+                    JsonRpcMultiServer jsonRpcServer = (JsonRpcMultiServer) context.getBean(JsonRpcServer.class);
+                    assertThat(jsonRpcServer.getExchangeListeners()).containsExactly(
+                            context.getBean(JsonRpcServerMetrics.class));
+                    assertThat(context.getBean(MeterRegistry.class).find(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                            .tag("service", "Welcome").timers()).isNotEmpty();
+                });
+    }
+
+    @Test
+    void jsonRpcServerMetricsDisabled() {
+        this.contextRunner
+                .withUserConfiguration(MeterRegistryConfiguration.class)
+                .withPropertyValues("youkol.jsonrpc4j.server.metrics.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(JsonRpcServerMetrics.class));
+        this.contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(JsonRpcServerMetrics.class));
+    }
+
     @Test
     void jsonRpcServerWithRequestInterceptor() {
         this.contextRunner
@@ -147,6 +607,72 @@ class JsonRpcAutoConfigurationTests {
                 });
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class AsyncExecutorConfiguration {
+
+        @Bean(JsonRpcServerServletConfiguration.DEFAULT_JSONRPC_ASYNC_EXECUTOR_BEAN_NAME)
+        public Executor jsonrpcAsyncExecutor() {
+            return Runnable::run;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class LazyServiceConfiguration {
+
+        @Bean
+        @Lazy
+        public EchoServiceImpl echoService() {
+            return new EchoServiceImpl();
+        }
+    }
+
+    public interface EchoService extends JsonRpcBaseService {
+
+        String echo(String value);
+    }
+
+    @JsonRpcMultiServiceName("Echo")
+    static class EchoServiceImpl implements EchoService {
+
+        @Override
+        public String echo(String value) {
+            return value;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class GreetingServiceConfiguration {
+
+        @Bean
+        public GreetingServiceImpl greetingService() {
+            return new GreetingServiceImpl();
+        }
+    }
+
+    @JsonRpcService("greeting")
+    public interface GreetingService {
+
+        String greet(String name);
+    }
+
+    @AutoJsonRpcServiceImpl(additionalPaths = "/hello")
+    static class GreetingServiceImpl implements GreetingService {
+
+        @Override
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class RequestInterceptorConfiguration {
 
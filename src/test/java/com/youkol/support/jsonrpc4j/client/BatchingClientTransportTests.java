@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class BatchingClientTransportTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private JsonRpcTestServer server;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = new JsonRpcTestServer();
+        this.executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+        this.server.close();
+    }
+
+    @Test
+    void concurrentCallsAreSentAsOneBatch() throws Exception {
+        try (BatchingClientTransport transport = new BatchingClientTransport(new HttpClient5ClientTransport(),
+                Duration.ofSeconds(5), 16)) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                int value = i;
+                results.add(this.executor.submit(() -> {
+                    start.await();
+                    return calc.add(value, 100);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < 16; i++) {
+                assertThat(results.get(i).get()).isEqualTo(i + 100);
+            }
+            assertThat(this.server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void windowSendsIncompleteBatch() throws IOException {
+        try (BatchingClientTransport transport = new BatchingClientTransport(new HttpClient5ClientTransport(),
+                Duration.ofMillis(10), 16)) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+
+            assertThat(calc.add(1, 2)).isEqualTo(3);
+            assertThat(calc.add(3, 4)).isEqualTo(7);
+            assertThat(this.server.getRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void errorsAreReturnedToTheirCaller() throws Exception {
+        try (BatchingClientTransport transport = new BatchingClientTransport(new HttpClient5ClientTransport(),
+                Duration.ofSeconds(5), 2)) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Integer> sum = this.executor.submit(() -> {
+                start.await();
+                return calc.add(1, 1);
+            });
+            Future<?> failure = this.executor.submit(() -> {
+                start.await();
+                calc.fail("boom");
+                return null;
+            });
+            start.countDown();
+
+            assertThat(sum.get()).isEqualTo(2);
+            assertThatThrownBy(failure::get).hasRootCauseMessage("boom");
+            assertThat(this.server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void callsWithTheSameIdGetTheirOwnResponse() throws Exception {
+        try (BatchingClientTransport transport = new BatchingClientTransport(new HttpClient5ClientTransport(),
+                Duration.ofSeconds(5), 2)) {
+            Map<String, String> headers = Collections.singletonMap(JsonRpcTransportClient.CONTENT_TYPE_HEADER,
+                    "application/json-rpc");
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<JsonNode>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                byte[] request = ("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"add\",\"params\":[" + i
+                        + ",100]}").getBytes(StandardCharsets.UTF_8);
+                results.add(this.executor.submit(() -> {
+                    start.await();
+                    return this.mapper.readTree(transport.execute(this.server.getServiceUrl(), request, headers));
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < 2; i++) {
+                JsonNode response = results.get(i).get();
+                assertThat(response.get("id").asText()).isEqualTo("1");
+                assertThat(response.get("result").asInt()).isEqualTo(i + 100);
+            }
+            assertThat(this.server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+}
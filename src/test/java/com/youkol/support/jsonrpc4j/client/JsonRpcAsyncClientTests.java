@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcAsyncClientTests {
+
+    private JsonRpcTestServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = new JsonRpcTestServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.close();
+    }
+
+    @Test
+    void outstandingCallsDoNotHoldThreads() throws Exception {
+        JsonRpcConnectionSettings settings = new JsonRpcConnectionSettings();
+        settings.setIoThreads(1);
+        try (HttpClient5AsyncClientTransport transport = new HttpClient5AsyncClientTransport(settings)) {
+            JsonRpcTestServer.AsyncCalcService calc = this.server.createProxy(
+                    JsonRpcTestServer.AsyncCalcService.class, transport);
+
+            long start = System.nanoTime();
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(calc.sleep(300));
+            }
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(300));
+
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(2, TimeUnit.SECONDS);
+            assertThat(results).allSatisfy(result -> assertThat(result.join()).isEqualTo("awake"));
+            assertThat(calc.add(2, 3).get()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void asyncFailureMatchesBlockingFailure() throws IOException {
+        try (HttpClient5AsyncClientTransport transport = new HttpClient5AsyncClientTransport()) {
+            JsonRpcTestServer.CalcService blocking = this.server.createProxy(transport);
+            JsonRpcTestServer.AsyncCalcService async = this.server.createProxy(
+                    JsonRpcTestServer.AsyncCalcService.class, transport);
+
+            Throwable expected = catchFailure(() -> blocking.fail("boom"));
+            assertThatThrownBy(() -> async.fail("boom").get()).isInstanceOf(ExecutionException.class)
+                    .hasCauseExactlyInstanceOf(expected.getClass())
+                    .satisfies(ex -> assertThat(ex.getCause()).hasMessage(expected.getMessage()));
+        }
+    }
+
+    @Test
+    void blockingTransportCompletesFutures() throws Exception {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport()) {
+            JsonRpcTestServer.AsyncCalcService calc = this.server.createProxy(
+                    JsonRpcTestServer.AsyncCalcService.class, transport);
+
+            assertThat(calc.add(1, 2).get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void blockingTransportDoesNotBlockCaller() throws Exception {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport()) {
+            JsonRpcTestServer.AsyncCalcService calc = this.server.createProxy(
+                    JsonRpcTestServer.AsyncCalcService.class, transport);
+
+            long start = System.nanoTime();
+            CompletableFuture<String> result = calc.sleep(300);
+
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(300));
+            assertThat(result).isNotDone();
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("awake");
+        }
+    }
+
+    private static Throwable catchFailure(Runnable call) {
+        try {
+            call.run();
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+        throw new AssertionError("Call did not fail");
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcClientResilienceTests {
+
+    private JsonRpcTestServer server;
+
+    private HttpClient5ClientTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = new JsonRpcTestServer();
+        this.transport = new HttpClient5ClientTransport();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.transport.close();
+        this.server.close();
+    }
+
+    @Test
+    void circuitOpensAfterFailuresAndFailsFast() {
+        JsonRpcResilienceSettings settings = new JsonRpcResilienceSettings();
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumNumberOfCalls(4);
+        settings.setWaitDurationInOpenState(Duration.ofMinutes(1));
+        JsonRpcClientResilience resilience = new JsonRpcClientResilience(settings, Collections.emptyMap());
+        JsonRpcTestServer.CalcService calc = this.createProxy(resilience);
+
+        assertThat(calc.add(1, 1)).isEqualTo(2);
+        assertThatThrownBy(() -> calc.fail("boom")).isInstanceOf(IllegalStateException.class);
+        this.server.setAvailable(false);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> calc.add(1, 1)).isInstanceOf(UndeclaredThrowableException.class);
+        }
+
+        assertThat(resilience.getGuard("calc").getCircuitBreaker().getState())
+                .isEqualTo(JsonRpcCircuitBreaker.State.OPEN);
+        this.server.setAvailable(true);
+        int requests = this.server.getRequestCount();
+        assertThatThrownBy(() -> calc.add(1, 1)).isInstanceOf(JsonRpcCallNotPermittedException.class)
+                .satisfies(ex -> assertThat(((JsonRpcCallNotPermittedException) ex).getReason())
+                        .isEqualTo(JsonRpcCallNotPermittedException.Reason.CIRCUIT_OPEN));
+        assertThat(this.server.getRequestCount()).isEqualTo(requests);
+    }
+
+    @Test
+    void halfOpenCircuitClosesAfterTrialCalls() throws Exception {
+        JsonRpcResilienceSettings settings = new JsonRpcResilienceSettings();
+        settings.setSlidingWindowSize(2);
+        settings.setMinimumNumberOfCalls(2);
+        settings.setWaitDurationInOpenState(Duration.ofMillis(50));
+        settings.setPermittedCallsInHalfOpenState(2);
+        JsonRpcCircuitBreaker circuitBreaker = new JsonRpcCircuitBreaker(settings);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        Thread.sleep(60);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(JsonRpcCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(JsonRpcCircuitBreaker.State.OPEN);
+
+        Thread.sleep(60);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(JsonRpcCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void fullBulkheadRejectsCalls() throws Exception {
+        JsonRpcResilienceSettings settings = new JsonRpcResilienceSettings();
+        settings.setMaxConcurrentCalls(1);
+        JsonRpcClientResilience resilience = new JsonRpcClientResilience(settings, Collections.emptyMap());
+        JsonRpcTestServer.CalcService calc = this.createProxy(resilience);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> calc.sleep(500));
+        JsonRpcBulkhead bulkhead = resilience.getGuard("calc").getBulkhead();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getAvailableConcurrentCalls() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> calc.add(1, 1)).isInstanceOf(JsonRpcCallNotPermittedException.class)
+                .satisfies(ex -> assertThat(((JsonRpcCallNotPermittedException) ex).getReason())
+                        .isEqualTo(JsonRpcCallNotPermittedException.Reason.BULKHEAD_FULL));
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("awake");
+        assertThat(calc.add(1, 1)).isEqualTo(2);
+        assertThat(bulkhead.getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    private JsonRpcTestServer.CalcService createProxy(JsonRpcClientResilience resilience) {
+        JsonRpcClientProxyFactoryBean factoryBean = new JsonRpcClientProxyFactoryBean();
+        factoryBean.setServiceInterface(JsonRpcTestServer.CalcService.class);
+        factoryBean.setServiceUrl(this.server.getServiceUrl());
+        factoryBean.setTransport(this.transport);
+        factoryBean.setResilience(resilience);
+        factoryBean.afterPropertiesSet();
+        return (JsonRpcTestServer.CalcService) factoryBean.getObject();
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadline;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadlineExceededException;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcClientTransportTests {
+
+    private JsonRpcTestServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = new JsonRpcTestServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.close();
+    }
+
+    @Test
+    void httpClient5TransportReusesPooledConnection() throws IOException {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport()) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+
+            for (int i = 0; i < 20; i++) {
+                assertThat(calc.add(i, 1)).isEqualTo(i + 1);
+            }
+
+            assertThat(this.server.getRequestCount()).isEqualTo(20);
+            assertThat(this.server.getConnectionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void urlConnectionTransportInvokes() throws IOException {
+        try (UrlConnectionClientTransport transport = new UrlConnectionClientTransport()) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+
+            assertThat(calc.add(2, 3)).isEqualTo(5);
+            assertThat(calc.sleep(0)).isEqualTo("awake");
+        }
+    }
+
+    @Test
+    void serverErrorIsThrown() throws IOException {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport()) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+
+            assertThatThrownBy(() -> calc.fail("boom")).hasMessageContaining("boom");
+        }
+    }
+
+    @Test
+    void readTimeoutFailsCall() throws IOException {
+        JsonRpcConnectionSettings settings = new JsonRpcConnectionSettings();
+        settings.setReadTimeout(Duration.ofMillis(100));
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport(settings)) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy(transport);
+
+            assertThatThrownBy(() -> calc.sleep(2000)).isInstanceOf(UndeclaredThrowableException.class)
+                    .hasCauseInstanceOf(SocketTimeoutException.class);
+        }
+    }
+
+    @Test
+    void deadlineIsPassedOn() throws IOException {
+        List<String> deadlines = new ArrayList<>();
+        try (HttpClient5ClientTransport delegate = new HttpClient5ClientTransport()) {
+            JsonRpcTestServer.CalcService calc = this.server.createProxy((url, request, headers) -> {
+                deadlines.add(headers.get(JsonRpcDeadline.HEADER));
+                return delegate.execute(url, request, headers);
+            });
+
+            assertThat(calc.add(1, 2)).isEqualTo(3);
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(JsonRpcDeadline.after(Duration.ofMinutes(1)))) {
+                assertThat(calc.add(1, 2)).isEqualTo(3);
+            }
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(JsonRpcDeadline.after(Duration.ZERO))) {
+                assertThatThrownBy(() -> calc.add(1, 2)).isInstanceOf(JsonRpcDeadlineExceededException.class);
+            }
+
+            assertThat(deadlines).hasSize(2);
+            assertThat(deadlines.get(0)).isNull();
+            assertThat(Long.parseLong(deadlines.get(1))).isBetween(50_000L, 60_000L);
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcHedgingInvokerTests {
+
+    private JsonRpcTestServer first;
+
+    private JsonRpcTestServer second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.first = new JsonRpcTestServer();
+        this.second = new JsonRpcTestServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.first.close();
+        this.second.close();
+    }
+
+    @Test
+    void hedgeWinsOverSlowServer() throws IOException {
+        this.first.setResponseDelay(2000);
+        try (LoadBalancingClientTransport transport = this.createTransport();
+                JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofMillis(50), 2,
+                        new JsonRpcRetryBudget())) {
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(JsonRpcTestServer.CalcService.class,
+                    transport, hedgingInvoker);
+
+            long start = System.nanoTime();
+            assertThat(calc.add(1, 2)).isEqualTo(3);
+
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(1000));
+            assertThat(this.first.getRequestCount()).isEqualTo(1);
+            assertThat(this.second.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void failedAttemptIsRetried() throws IOException {
+        this.first.setAvailable(false);
+        try (LoadBalancingClientTransport transport = this.createTransport();
+                JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofSeconds(10), 2,
+                        new JsonRpcRetryBudget())) {
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(JsonRpcTestServer.CalcService.class,
+                    transport, hedgingInvoker);
+
+            assertThat(calc.add(2, 2)).isEqualTo(4);
+            assertThat(this.second.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void exhaustedBudgetStopsRetries() throws IOException {
+        this.first.setAvailable(false);
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport();
+                JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofSeconds(10), 3,
+                        new JsonRpcRetryBudget(0, 0))) {
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(JsonRpcTestServer.CalcService.class,
+                    transport, hedgingInvoker);
+
+            assertThatThrownBy(() -> calc.add(1, 1)).isInstanceOf(UndeclaredThrowableException.class)
+                    .hasCauseInstanceOf(JsonRpcTransportException.class);
+        }
+    }
+
+    @Test
+    void serverErrorsAreNotRetried() throws IOException {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport();
+                JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofSeconds(10), 3,
+                        new JsonRpcRetryBudget())) {
+            IdempotentCalcService calc = this.first.createProxy(IdempotentCalcService.class, transport,
+                    hedgingInvoker);
+
+            assertThatThrownBy(() -> calc.fail("boom")).hasMessageContaining("boom");
+            assertThat(this.first.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void nonIdempotentMethodsAreNotHedged() throws IOException {
+        try (HttpClient5ClientTransport transport = new HttpClient5ClientTransport();
+                JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofMillis(10), 2,
+                        new JsonRpcRetryBudget())) {
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(JsonRpcTestServer.CalcService.class,
+                    transport, hedgingInvoker);
+
+            assertThat(calc.sleep(200)).isEqualTo("awake");
+            assertThat(this.first.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void hedgeIsSkippedWhileThreadsAreBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        try (JsonRpcHedgingInvoker hedgingInvoker = new JsonRpcHedgingInvoker(Duration.ofMillis(10), 2,
+                new JsonRpcRetryBudget(), 1)) {
+            CompletableFuture<String> result = hedgingInvoker.invoke(Object.class.getMethod("toString"), () -> {
+                attempts.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return CompletableFuture.completedFuture("first");
+            });
+
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(attempts).hasValue(1);
+        }
+    }
+
+    @Test
+    void retryBudgetFollowsCalls() {
+        JsonRpcRetryBudget budget = new JsonRpcRetryBudget(0.5, 0);
+
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.deposit();
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    private LoadBalancingClientTransport createTransport() {
+        return new LoadBalancingClientTransport(new HttpClient5ClientTransport(),
+                Arrays.asList(this.first.getBaseUrl(), this.second.getBaseUrl()), new RoundRobinEndpointSelector());
+    }
+
+    @JsonRpcIdempotent
+    public interface IdempotentCalcService {
+
+        void fail(String message);
+    }
+
+}
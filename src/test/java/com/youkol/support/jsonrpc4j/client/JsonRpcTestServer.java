@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcBasicServer;
+import com.googlecode.jsonrpc4j.JsonRpcMethod;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+import com.googlecode.jsonrpc4j.JsonRpcService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+import com.youkol.support.jsonrpc4j.service.welcome.WelcomeService;
+import com.youkol.support.jsonrpc4j.service.welcome.WelcomeServiceImpl;
+
+/**
+ * Embedded HTTP server serving {@link CalcService} on <code>/calc</code> and
+ * the welcome service on <code>/jsonrpc</code>.
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcTestServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final JsonRpcBasicServer jsonRpcServer;
+
+    private final JsonRpcMultiServer welcomeServer;
+
+    private volatile boolean available = true;
+
+    private volatile long responseDelay;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    JsonRpcTestServer() throws IOException {
+        this.jsonRpcServer = new JsonRpcBasicServer(new ObjectMapper(), new CalcServiceImpl(), CalcService.class);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.welcomeServer = new JsonRpcMultiServer(new ObjectMapper().findAndRegisterModules());
+        this.welcomeServer.addService("Welcome", new WelcomeServiceImpl(), WelcomeService.class);
+        this.server.createContext("/calc", exchange -> this.handle(exchange, this.jsonRpcServer));
+        this.server.createContext("/jsonrpc", exchange -> this.handle(exchange, this.welcomeServer));
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    private void handle(HttpExchange exchange, JsonRpcBasicServer jsonRpcServer) throws IOException {
+        if (!this.available) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        this.clientPorts.add(exchange.getRemoteAddress().getPort());
+        this.requests.incrementAndGet();
+        if (this.responseDelay > 0) {
+            try {
+                Thread.sleep(this.responseDelay);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try (InputStream input = exchange.getRequestBody()) {
+            jsonRpcServer.handleRequest(input, response);
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json-rpc");
+        exchange.sendResponseHeaders(200, response.size() == 0 ? -1 : response.size());
+        try (OutputStream output = exchange.getResponseBody()) {
+            response.writeTo(output);
+        }
+    }
+
+    URL getBaseUrl() {
+        try {
+            return new URL("http://127.0.0.1:" + this.server.getAddress().getPort() + "/");
+        } catch (MalformedURLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    URL getServiceUrl() {
+        try {
+            return new URL(this.getBaseUrl(), "calc");
+        } catch (MalformedURLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    CalcService createProxy(JsonRpcClientTransport transport) {
+        return this.createProxy(CalcService.class, transport);
+    }
+
+    <T> T createProxy(Class<T> serviceInterface, JsonRpcClientTransport transport) {
+        return this.createProxy(serviceInterface, transport, null);
+    }
+
+    <T> T createProxy(Class<T> serviceInterface, JsonRpcClientTransport transport,
+            JsonRpcHedgingInvoker hedgingInvoker) {
+        JsonRpcClientProxyFactoryBean factoryBean = new JsonRpcClientProxyFactoryBean();
+        factoryBean.setServiceInterface(serviceInterface);
+        factoryBean.setServiceUrl(this.getServiceUrl());
+        factoryBean.setTransport(transport);
+        factoryBean.setHedgingInvoker(hedgingInvoker);
+        factoryBean.afterPropertiesSet();
+        return serviceInterface.cast(factoryBean.getObject());
+    }
+
+    /**
+     * Number of distinct client connections seen.
+     */
+    int getConnectionCount() {
+        return this.clientPorts.size();
+    }
+
+    int getRequestCount() {
+        return this.requests.get();
+    }
+
+    /**
+     * Answers every request with 503 while unavailable.
+     */
+    void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    /**
+     * Delays every response by the given milliseconds.
+     */
+    void setResponseDelay(long responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    @JsonRpcService("calc")
+    public interface CalcService {
+
+        @JsonRpcIdempotent
+        int add(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+        @JsonRpcMethod("sleep")
+        String sleep(@JsonRpcParam("millis") long millis);
+
+        void fail(@JsonRpcParam("message") String message);
+    }
+
+    /**
+     * Client view of {@link CalcService} with non-blocking methods.
+     */
+    public interface AsyncCalcService {
+
+        CompletableFuture<Integer> add(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+        @JsonRpcMethod("sleep")
+        CompletableFuture<String> sleep(@JsonRpcParam("millis") long millis);
+
+        CompletableFuture<Void> fail(@JsonRpcParam("message") String message);
+    }
+
+    static class CalcServiceImpl implements CalcService {
+
+        @Override
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public String sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "awake";
+        }
+
+        @Override
+        public void fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+}
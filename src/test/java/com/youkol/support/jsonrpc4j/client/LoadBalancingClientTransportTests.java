@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class LoadBalancingClientTransportTests {
+
+    private JsonRpcTestServer first;
+
+    private JsonRpcTestServer second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.first = new JsonRpcTestServer();
+        this.second = new JsonRpcTestServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.first.close();
+        this.second.close();
+    }
+
+    @Test
+    void roundRobinSpreadsRequests() throws IOException {
+        try (LoadBalancingClientTransport transport = this.createTransport(new RoundRobinEndpointSelector())) {
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(transport);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(calc.add(i, i)).isEqualTo(2 * i);
+            }
+
+            assertThat(this.first.getRequestCount()).isEqualTo(5);
+            assertThat(this.second.getRequestCount()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void failingEndpointIsEjected() throws IOException {
+        this.second.setAvailable(false);
+        try (LoadBalancingClientTransport transport = this.createTransport(new RoundRobinEndpointSelector())) {
+            transport.setFailureThreshold(1);
+            JsonRpcTestServer.CalcService calc = this.first.createProxy(transport);
+
+            assertThat(calc.add(1, 1)).isEqualTo(2);
+            assertThatThrownBy(() -> calc.add(1, 1)).hasCauseInstanceOf(JsonRpcTransportException.class);
+            for (int i = 0; i < 5; i++) {
+                assertThat(calc.add(i, 1)).isEqualTo(i + 1);
+            }
+
+            assertThat(transport.getEndpoints().get(1).isEjected()).isTrue();
+            assertThat(this.first.getRequestCount()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void healthChecksEjectAndReinstate() throws Exception {
+        this.second.setAvailable(false);
+        try (LoadBalancingClientTransport transport = this.createTransport(new RoundRobinEndpointSelector())) {
+            JsonRpcEndpoint endpoint = transport.getEndpoints().get(1);
+            transport.startHealthChecks(Duration.ofMillis(20), "/jsonrpc");
+
+            awaitTrue(endpoint::isEjected);
+            this.second.setAvailable(true);
+            awaitTrue(() -> !endpoint.isEjected());
+            assertThat(transport.getEndpoints().get(0).isEjected()).isFalse();
+        }
+    }
+
+    @Test
+    void leastOutstandingAvoidsBusyEndpoint() throws Exception {
+        JsonRpcEndpoint busy = new JsonRpcEndpoint(new URL("http://127.0.0.1:1/"));
+        JsonRpcEndpoint idle = new JsonRpcEndpoint(new URL("http://127.0.0.1:2/"));
+        busy.requestStarted();
+
+        LeastOutstandingEndpointSelector selector = new LeastOutstandingEndpointSelector();
+        for (int i = 0; i < 20; i++) {
+            assertThat(selector.select(Arrays.asList(busy, idle))).isSameAs(idle);
+        }
+    }
+
+    @Test
+    void powerOfTwoChoicesPrefersFastEndpoint() throws Exception {
+        JsonRpcEndpoint slow = new JsonRpcEndpoint(new URL("http://127.0.0.1:1/"));
+        JsonRpcEndpoint fast = new JsonRpcEndpoint(new URL("http://127.0.0.1:2/"));
+        slow.requestStarted();
+        slow.requestSucceeded(Duration.ofMillis(100).toNanos());
+        fast.requestStarted();
+        fast.requestSucceeded(Duration.ofMillis(1).toNanos());
+
+        PowerOfTwoChoicesEndpointSelector selector = new PowerOfTwoChoicesEndpointSelector();
+        for (int i = 0; i < 20; i++) {
+            assertThat(selector.select(Arrays.asList(slow, fast))).isSameAs(fast);
+        }
+    }
+
+    private LoadBalancingClientTransport createTransport(JsonRpcEndpointSelector selector) {
+        return new LoadBalancingClientTransport(new HttpClient5ClientTransport(),
+                Arrays.asList(this.first.getBaseUrl(), this.second.getBaseUrl()), selector);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcServerMetricsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JsonRpcMultiServer server;
+
+    @BeforeEach
+    void setUp() {
+        JsonRpcServerMetrics metrics = new JsonRpcServerMetrics(this.meterRegistry, false);
+        this.server = new JsonRpcMultiServer(new ObjectMapper());
+        this.server.getRegistry().addListener(metrics);
+        this.server.setInvocationListener(metrics);
+        this.server.setInterceptorList(Collections.singletonList(metrics));
+        this.server.addExchangeListener(metrics);
+        this.server.addService("Echo", new EchoServiceImpl(), EchoService.class);
+    }
+
+    @Test
+    void timersAreRegisteredWithTheService() {
+        assertThat(this.meterRegistry.find(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Echo", "method", "echo").timers()).hasSize(2);
+
+        this.server.removeService("Echo");
+        this.server.addService("Other", new EchoServiceImpl(), EchoService.class);
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Other.echo\",\"params\":[\"a\"]}");
+
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Other", "method", "echo", "outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void servicesSharingAnInterfaceHaveTheirOwnTimers() {
+        this.server.addService("Other", new EchoServiceImpl(), EchoService.class);
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.echo\",\"params\":[\"a\"]}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Other.echo\",\"params\":[\"b\"]}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Other.echo\",\"params\":[\"c\"]}");
+
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Echo", "method", "echo", "outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Other", "method", "echo", "outcome", "SUCCESS").timer().count()).isEqualTo(2);
+
+        this.server.removeService("Other");
+
+        assertThat(this.meterRegistry.find(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tag("service", "Other").timers()).isEmpty();
+        assertThat(this.meterRegistry.find(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tag("service", "Echo").timers()).hasSize(4);
+    }
+
+    @Test
+    void recordsInvocationsAndErrors() {
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.echo\",\"params\":[\"a\"]}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Echo.fail\",\"params\":[]}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Echo.missing\",\"params\":[]}");
+
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Echo", "method", "echo", "outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.INVOCATIONS_METRIC_NAME)
+                .tags("service", "Echo", "method", "fail", "outcome", "ERROR").timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.ERRORS_METRIC_NAME)
+                .tag("code", "-32601").counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.ERRORS_METRIC_NAME)
+                .tag("code", "-32001").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsBatchAndPayloadSizes() {
+        String batch = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.echo\",\"params\":[\"a\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Echo.echo\",\"params\":[\"b\"]}]";
+        int responseSize = call(batch);
+
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.BATCH_SIZE_METRIC_NAME).summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.REQUEST_SIZE_METRIC_NAME).summary().totalAmount())
+                .isEqualTo(batch.length());
+        assertThat(this.meterRegistry.get(JsonRpcServerMetrics.RESPONSE_SIZE_METRIC_NAME).summary().totalAmount())
+                .isEqualTo(responseSize);
+    }
+
+    private int call(String request) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.server.handleRequest(new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), output);
+            return output.size();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public interface EchoService {
+
+        String echo(@JsonRpcParam("value") String value);
+
+        void fail();
+    }
+
+    static class EchoServiceImpl implements EchoService {
+
+        @Override
+        public String echo(String value) {
+            return value;
+        }
+
+        @Override
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.youkol.support.jsonrpc4j.server.JsonRpcServiceIndex;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcServiceIndexProcessorTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesServicesAndMethods() throws Exception {
+        Path classes = this.compile(
+                "package demo;\n"
+                        + "public interface CalcService {\n"
+                        + "    int add(int a, int b);\n"
+                        + "    @com.googlecode.jsonrpc4j.JsonRpcMethod(\"neg\")\n"
+                        + "    int negate(int value);\n"
+                        + "    @com.googlecode.jsonrpc4j.JsonRpcMethod(value = \"sum\", required = true)\n"
+                        + "    long total(long[] values, String label);\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName(\"Calc\")\n"
+                        + "public class CalcServiceImpl implements CalcService,\n"
+                        + "        com.youkol.support.jsonrpc4j.service.JsonRpcBaseService {\n"
+                        + "    public int add(int a, int b) { return a + b; }\n"
+                        + "    public int negate(int value) { return -value; }\n"
+                        + "    public long total(long[] values, String label) { return values.length; }\n"
+                        + "    public static class Inner implements Runnable {\n"
+                        + "        public void run() { }\n"
+                        + "    }\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName(\"Plain\")\n"
+                        + "public class PlainService implements com.youkol.support.jsonrpc4j.service.JsonRpcBaseService {\n"
+                        + "}\n");
+
+        List<String> lines = Files.readAllLines(classes.resolve(JsonRpcServiceIndex.LOCATION),
+                StandardCharsets.UTF_8);
+        assertThat(lines).contains(
+                "S\tdemo.CalcServiceImpl\tCalc\tdemo.CalcService\t" + JsonRpcServiceIndex.stamp(
+                        Arrays.asList("add(int,int)", "negate(int)", "total(long[],java.lang.String)")),
+                "M\tadd\tadd\tint,int",
+                "M\tneg\tnegate\tint",
+                "M\tnegate\tnegate\tint",
+                "M\tsum\ttotal\tlong[],java.lang.String",
+                "S\tdemo.PlainService\tPlain\t-");
+        assertThat(lines).noneMatch(line -> line.contains("\ttotal\ttotal"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            JsonRpcServiceIndex index = JsonRpcServiceIndex.load(classLoader);
+
+            Class<?> handlerClass = classLoader.loadClass("demo.CalcServiceImpl");
+            JsonRpcServiceIndex.Entry entry = index.getEntry(handlerClass);
+            assertThat(entry.getServiceName()).isEqualTo("Calc");
+            Class<?> remoteInterface = entry.resolveRemoteInterface(classLoader);
+            assertThat(remoteInterface.getName()).isEqualTo("demo.CalcService");
+
+            Map<String, List<Method>> methods = entry.resolveMethods(remoteInterface);
+            assertThat(methods).containsOnlyKeys("add", "neg", "negate", "sum");
+            assertThat(methods.get("sum").get(0))
+                    .isEqualTo(remoteInterface.getMethod("total", long[].class, String.class));
+
+            assertThat(index.getEntry(classLoader.loadClass("demo.PlainService")).getRemoteInterfaceName())
+                    .isNull();
+            assertThat(index.getEntry(classLoader.loadClass("demo.CalcServiceImpl$Inner"))).isNull();
+        }
+    }
+
+    @Test
+    void staleIndexIsNotResolved() throws Exception {
+        Path classes = this.compile(
+                "package demo;\n"
+                        + "public interface EchoService {\n"
+                        + "    String echo(String value);\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName(\"Echo\")\n"
+                        + "public class EchoServiceImpl implements EchoService {\n"
+                        + "    public String echo(String value) { return value; }\n"
+                        + "}\n");
+        Path index = classes.resolve(JsonRpcServiceIndex.LOCATION);
+        Files.write(index, new String(Files.readAllBytes(index), StandardCharsets.UTF_8)
+                .replace("java.lang.String", "java.lang.Integer").getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            JsonRpcServiceIndex.Entry entry = JsonRpcServiceIndex.load(classLoader)
+                    .getEntry(classLoader.loadClass("demo.EchoServiceImpl"));
+            assertThat(entry.resolveMethods(entry.resolveRemoteInterface(classLoader))).isNull();
+        }
+    }
+
+    @Test
+    void changedInterfaceIsNotResolved() throws Exception {
+        Path classes = this.compile(
+                "package demo;\n"
+                        + "public interface EchoService {\n"
+                        + "    String echo(String value);\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.youkol.support.jsonrpc4j.server.JsonRpcMultiServiceName(\"Echo\")\n"
+                        + "public class EchoServiceImpl implements EchoService {\n"
+                        + "    public String echo(String value) { return value; }\n"
+                        + "}\n");
+        // the stamp of the interface before a method was added
+        Path index = classes.resolve(JsonRpcServiceIndex.LOCATION);
+        Files.write(index, new String(Files.readAllBytes(index), StandardCharsets.UTF_8)
+                .replaceAll("(?m)^(S\t[^\t]+\t[^\t]+\t[^\t]+\t).*$", "$1" + JsonRpcServiceIndex.stamp(
+                        Collections.singletonList("other()")))
+                .getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                this.getClass().getClassLoader())) {
+            JsonRpcServiceIndex.Entry entry = JsonRpcServiceIndex.load(classLoader)
+                    .getEntry(classLoader.loadClass("demo.EchoServiceImpl"));
+            assertThat(entry.resolveMethods(entry.resolveRemoteInterface(classLoader))).isNull();
+        }
+    }
+
+    private Path compile(String... sources) throws IOException {
+        Path sourceDir = Files.createDirectories(this.tempDir.resolve("src/demo"));
+        Path classes = Files.createDirectories(this.tempDir.resolve("classes"));
+        List<File> files = new ArrayList<>();
+        for (String source : sources) {
+            String name = source.replaceAll("(?s).*public (?:interface|class) (\\w+).*", "$1");
+            files.add(Files.write(sourceDir.resolve(name + ".java"), source.getBytes(StandardCharsets.UTF_8))
+                    .toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-d", classes.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(Collections.singletonList(new JsonRpcServiceIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+        return classes;
+    }
+
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+import com.youkol.support.jsonrpc4j.server.JsonRpcCodec;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadline;
+import com.youkol.support.jsonrpc4j.server.JsonRpcDeadlineExceededException;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcHandlerFunctionTests {
+
+    private final JsonRpcCodec smile = new JsonRpcCodec("smile", new ObjectMapper(new SmileFactory()),
+            JsonRpcCodec.SMILE_MEDIA_TYPE);
+
+    private final EchoServiceImpl echoService = new EchoServiceImpl();
+
+    private JsonRpcMultiServer server;
+
+    private JsonRpcHandlerFunction handlerFunction;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        JsonRpcMultiServer server = new JsonRpcMultiServer(new ObjectMapper());
+        server.addService("Echo", this.echoService, EchoService.class);
+        server.addCodec(this.smile);
+        JsonRpcHandlerFunction handlerFunction = new JsonRpcHandlerFunction(server);
+        this.server = server;
+        this.handlerFunction = handlerFunction;
+        this.client = WebTestClient
+                .bindToRouterFunction(RouterFunctions.route(RequestPredicates.POST("/jsonrpc"), handlerFunction))
+                .build();
+    }
+
+    @Test
+    void resolvesAsyncResults() {
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.mono\",\"params\":[\"a\"]}")
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result").isEqualTo("mono:a");
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.flux\",\"params\":[\"a\"]}")
+                .expectBody().jsonPath("$.result[1]").isEqualTo("a2");
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.future\",\"params\":[\"a\"]}")
+                .expectBody().jsonPath("$.result").isEqualTo("future:a");
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\"a\"]}")
+                .expectBody().jsonPath("$.result").isEqualTo("plain:a");
+    }
+
+    @Test
+    void asyncErrorBecomesErrorResponse() {
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"Echo.fail\",\"params\":[\"boom\"]}")
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(7)
+                .jsonPath("$.error.message").isEqualTo("boom")
+                .jsonPath("$.result").doesNotExist();
+    }
+
+    @Test
+    void batchKeepsRequestOrder() {
+        this.post("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\"x\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"Echo.mono\",\"params\":[\"n\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Echo.mono\",\"params\":[\"y\"]}]")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].result").isEqualTo("plain:x")
+                .jsonPath("$[1].result").isEqualTo("mono:y");
+    }
+
+    @Test
+    void interceptorsSeeRequestsBeforeDispatch() {
+        List<JsonNode> requests = new ArrayList<>();
+        this.server.setInterceptorList(Collections.singletonList(new JsonRpcInterceptor() {
+
+            @Override
+            public void preHandleJson(JsonNode json) {
+                requests.add(json);
+            }
+
+            @Override
+            public void preHandle(Object target, Method method, List<JsonNode> params) {
+            }
+
+            @Override
+            public void postHandle(Object target, Method method, List<JsonNode> params, JsonNode result) {
+            }
+
+            @Override
+            public void postHandleJson(JsonNode json) {
+            }
+        }));
+
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.mono\",\"params\":[\"a\"]}")
+                .expectStatus().isOk();
+        this.post("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\"x\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Echo.mono\",\"params\":[\"y\"]}]")
+                .expectStatus().isOk();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).get("method").asText()).isEqualTo("Echo.mono");
+        assertThat(requests.get(1).isArray()).isTrue();
+        assertThat(requests.get(1)).hasSize(2);
+    }
+
+    @Test
+    void deadlineOfAsyncMethodTimesOutItsResult() {
+        this.client.post().uri("/jsonrpc")
+                .header(JsonRpcDeadline.HEADER, "50")
+                .bodyValue("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.pending\",\"params\":[\"100\"]}")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.error.code").isEqualTo(JsonRpcDeadlineExceededException.CODE);
+        // the invoking thread, an event loop outside of tests, is not interrupted
+        assertThat(this.echoService.pendingInterrupted).isFalse();
+    }
+
+    @Test
+    void batchOverMaxLengthIsRejected() {
+        this.server.setMaxBatchLength(2);
+
+        this.post("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\"x\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Echo.plain\",\"params\":[\"y\"]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Echo.plain\",\"params\":[\"z\"]}]")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo(-32600)
+                .jsonPath("$.error.message").isEqualTo("Batch exceeds 2 elements");
+        assertThat(this.echoService.maxConcurrentSlowCalls).hasValue(0);
+    }
+
+    @Test
+    void batchElementsRunAtMostMaxInFlight() {
+        this.handlerFunction.setMaxInFlightPerBatch(2);
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < 8; i++) {
+            batch.append(i == 0 ? "" : ",").append("{\"jsonrpc\":\"2.0\",\"id\":").append(i)
+                    .append(",\"method\":\"Echo.slow\",\"params\":[\"").append(i).append("\"]}");
+        }
+
+        this.post(batch.append("]").toString())
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(8)
+                .jsonPath("$[7].result").isEqualTo("slow:7");
+        assertThat(this.echoService.maxConcurrentSlowCalls.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void requestOverMaxSizeIsRejected() {
+        this.handlerFunction.setMaxRequestSize(64);
+
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\""
+                + String.join("", Collections.nCopies(100, "a")) + "\"]}")
+                .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        this.post("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.plain\",\"params\":[\"a\"]}")
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void invalidJsonReturnsParseError() {
+        this.post("{not json")
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error.code").isEqualTo(-32700);
+    }
+
+    @Test
+    void negotiatesSmile() throws IOException {
+        ObjectMapper mapper = this.smile.getObjectMapper();
+        byte[] body = mapper.writeValueAsBytes(new ObjectMapper()
+                .readTree("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.mono\",\"params\":[\"s\"]}"));
+
+        byte[] response = this.client.post().uri("/jsonrpc")
+                .contentType(MediaType.valueOf(JsonRpcCodec.SMILE_MEDIA_TYPE))
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(JsonRpcCodec.SMILE_MEDIA_TYPE)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        assertThat(mapper.readTree(response).get("result").asText()).isEqualTo("mono:s");
+    }
+
+    private WebTestClient.ResponseSpec post(String body) {
+        return this.client.post().uri("/jsonrpc").bodyValue(body).exchange();
+    }
+
+    public interface EchoService {
+
+        Mono<String> mono(@JsonRpcParam("value") String value);
+
+        Flux<String> flux(@JsonRpcParam("value") String value);
+
+        CompletableFuture<String> future(@JsonRpcParam("value") String value);
+
+        String plain(@JsonRpcParam("value") String value);
+
+        Mono<String> fail(@JsonRpcParam("value") String value);
+
+        String slow(@JsonRpcParam("value") String value);
+
+        Mono<String> pending(@JsonRpcParam("millis") String millis);
+    }
+
+    static class EchoServiceImpl implements EchoService {
+
+        private final AtomicInteger concurrentSlowCalls = new AtomicInteger();
+
+        private final AtomicInteger maxConcurrentSlowCalls = new AtomicInteger();
+
+        private volatile boolean pendingInterrupted;
+
+        @Override
+        public Mono<String> mono(String value) {
+            return Mono.just("mono:" + value);
+        }
+
+        @Override
+        public Flux<String> flux(String value) {
+            return Flux.just(value + "1", value + "2");
+        }
+
+        @Override
+        public CompletableFuture<String> future(String value) {
+            return CompletableFuture.supplyAsync(() -> "future:" + value);
+        }
+
+        @Override
+        public String plain(String value) {
+            return "plain:" + value;
+        }
+
+        @Override
+        public Mono<String> fail(String value) {
+            return Mono.error(new IllegalStateException(value));
+        }
+
+        @Override
+        public String slow(String value) {
+            this.maxConcurrentSlowCalls.accumulateAndGet(this.concurrentSlowCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.concurrentSlowCalls.decrementAndGet();
+            }
+            return "slow:" + value;
+        }
+
+        @Override
+        public Mono<String> pending(String millis) {
+            try {
+                Thread.sleep(Long.parseLong(millis));
+            } catch (InterruptedException ex) {
+                this.pendingInterrupted = true;
+            }
+            return Mono.never();
+        }
+    }
+
+}
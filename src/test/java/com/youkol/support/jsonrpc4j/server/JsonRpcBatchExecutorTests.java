@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcBatchExecutorTests {
+
+    private JsonRpcBatchExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void batchesTakeTurns() throws Exception {
+        this.executor = new JsonRpcBatchExecutor(1, 2);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(this.executor.submit(() -> {
+            release.await();
+            return null;
+        }));
+        for (int i = 1; i < 10; i++) {
+            futures.add(this.executor.submit(() -> order.add("large")));
+        }
+        Thread small = new Thread(() -> {
+            futures.add(this.executor.submit(() -> order.add("small")));
+            futures.add(this.executor.submit(() -> order.add("small")));
+        });
+        small.start();
+        small.join();
+
+        release.countDown();
+        for (Future<?> future : new ArrayList<>(futures)) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(order).hasSize(11);
+        assertThat(order.subList(0, 3)).containsExactly("large", "small", "small");
+        // a batch is retired after its last task completed
+        this.executor.shutdown();
+        assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.executor.getActiveBatchCount()).isZero();
+        assertThat(this.executor.getQueuedTaskCount()).isZero();
+    }
+
+    @Test
+    void batchRunsAtMostMaxInFlightTasks() throws Exception {
+        this.executor = new JsonRpcBatchExecutor(8, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return value;
+            });
+        }
+
+        List<Future<Integer>> results = this.executor.invokeAll(tasks, 5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(results.get(i).get()).isEqualTo(i);
+        }
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void countsQueuedAndRunningTasks() throws Exception {
+        this.executor = new JsonRpcBatchExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(this.executor.submit(() -> { }));
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(this.executor.getRunningTaskCount()).isEqualTo(1);
+        assertThat(this.executor.getQueuedTaskCount()).isEqualTo(3);
+        assertThat(this.executor.getActiveBatchCount()).isEqualTo(1);
+
+        release.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(this.executor.getQueuedTaskCount()).isZero();
+    }
+
+    @Test
+    void forkJoinPoolRunsTasks() throws Exception {
+        this.executor = new JsonRpcBatchExecutor(JsonRpcBatchExecutor.createForkJoinPool(2, "test-"), 4);
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(() -> Thread.currentThread().getName());
+        }
+
+        for (Future<String> result : this.executor.invokeAll(tasks, 5, TimeUnit.SECONDS)) {
+            assertThat(result.get()).startsWith("test-");
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcBufferPoolTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void reusesBuffersUpToMaxSize() {
+        JsonRpcBufferPool pool = new JsonRpcBufferPool(2, 16, 64);
+
+        JsonRpcBufferPool.Buffer buffer = pool.acquire();
+        buffer.write(new byte[10], 0, 10);
+        pool.release(buffer);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        JsonRpcBufferPool.Buffer reused = pool.acquire();
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.size()).isZero();
+
+        reused.write(new byte[100], 0, 100);
+        pool.release(reused);
+        assertThat(pool.getIdleCount()).isZero();
+
+        pool.release(pool.acquire());
+        pool.release(pool.acquire());
+        pool.release(new JsonRpcBufferPool(1, 16, 64).acquire());
+        pool.release(new JsonRpcBufferPool(1, 16, 64).acquire());
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void smallResponseHasContentLength() throws IOException {
+        JsonRpcMultiServer server = this.server(new JsonRpcBufferPool(4, 64, 1024));
+
+        MockHttpServletResponse response = this.post(server, 10);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(response.getContentType()).startsWith("application/json-rpc");
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).hasSize(10);
+        assertThat(server.getBufferPool().getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void largeResponseIsStreamed() throws IOException {
+        JsonRpcMultiServer server = this.server(new JsonRpcBufferPool(4, 64, 1024));
+
+        MockHttpServletResponse response = this.post(server, 5000);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Length")).isNull();
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).hasSize(5000);
+        assertThat(server.getBufferPool().getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void errorStatusAndEmptyBody() throws IOException {
+        JsonRpcMultiServer server = this.server(new JsonRpcBufferPool());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Text.missing\",\"params\":[]}"
+                .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        server.handle(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("error").get("code").asInt())
+                .isEqualTo(-32601);
+
+        request = new MockHttpServletRequest("POST", "/jsonrpc");
+        response = new MockHttpServletResponse();
+
+        server.handle(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private JsonRpcMultiServer server(JsonRpcBufferPool bufferPool) {
+        JsonRpcMultiServer server = new JsonRpcMultiServer(this.mapper);
+        server.addService("Text", new TextServiceImpl(), TextService.class);
+        server.setBufferPool(bufferPool);
+        return server;
+    }
+
+    private MockHttpServletResponse post(JsonRpcMultiServer server, int length) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent(("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Text.repeat\",\"params\":[" + length + "]}")
+                .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        server.handle(request, response);
+        return response;
+    }
+
+    public interface TextService {
+
+        String repeat(@JsonRpcParam("length") int length);
+    }
+
+    static class TextServiceImpl implements TextService {
+
+        @Override
+        public String repeat(int length) {
+            StringBuilder value = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                value.append('x');
+            }
+            return value.toString();
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcCoalescingTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final SlowServiceImpl slowService = new SlowServiceImpl();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(6);
+
+    private JsonRpcMultiServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Slow", this.slowService, SlowService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void identicalConcurrentCallsShareOneInvocation() throws Exception {
+        List<JsonNode> responses = callConcurrently("Slow.load", "\"k\"");
+
+        assertThat(this.slowService.calls).hasValue(1);
+        for (int i = 0; i < responses.size(); i++) {
+            assertThat(responses.get(i).get("id").asInt()).isEqualTo(i);
+            assertThat(responses.get(i).get("result").asText()).isEqualTo("k");
+        }
+
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.load\",\"params\":[\"k\"]}");
+        assertThat(this.slowService.calls).hasValue(2);
+    }
+
+    @Test
+    void interceptorsRunForEveryCoalescedCall() throws Exception {
+        AtomicInteger intercepted = new AtomicInteger();
+        this.server.setRequestInterceptor(request -> {
+            intercepted.incrementAndGet();
+            if (request.get("id").asInt() == 3) {
+                throw new JsonRpcErrorException(-32001, "Unauthorized");
+            }
+        });
+
+        List<JsonNode> responses = callConcurrently("Slow.load", "\"k\"");
+
+        assertThat(this.slowService.calls).hasValue(1);
+        assertThat(intercepted).hasValue(6);
+        assertThat(responses.get(3).get("error").get("code").asInt()).isEqualTo(-32001);
+        assertThat(responses.get(3).has("result")).isFalse();
+        for (int i : new int[] { 0, 1, 2, 4, 5 }) {
+            assertThat(responses.get(i).get("result").asText()).isEqualTo("k");
+        }
+    }
+
+    @Test
+    void errorsAreShared() throws Exception {
+        List<JsonNode> responses = callConcurrently("Slow.load", "\"fail\"");
+
+        assertThat(this.slowService.calls).hasValue(1);
+        assertThat(responses).allSatisfy(response -> assertThat(response.has("error")).isTrue());
+    }
+
+    @Test
+    void methodsMatchingPatternsAreCoalesced() throws Exception {
+        assertThat(this.server.getMethodDefinition("Slow.count").isCoalesced()).isFalse();
+        callConcurrently("Slow.count", "\"k\"");
+        assertThat(this.slowService.calls).hasValue(6);
+
+        this.slowService.calls.set(0);
+        this.server.setCoalescedMethodPatterns(Collections.singletonList("Slow.c*"));
+        callConcurrently("Slow.count", "\"k\"");
+        assertThat(this.slowService.calls).hasValue(1);
+    }
+
+    @Test
+    void waitingCallsGiveUpAtTheirDeadline() throws Exception {
+        this.slowService.entered = new CountDownLatch(1);
+        this.slowService.release = new CountDownLatch(1);
+        Future<JsonNode> first = this.executor.submit(() -> call(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.load\",\"params\":[\"k\"]}"));
+        assertThat(this.slowService.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<JsonNode> waiting = this.executor.submit(() -> {
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(JsonRpcDeadline.after(Duration.ofMillis(100)))) {
+                return call("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Slow.load\",\"params\":[\"k\"]}");
+            }
+        });
+        JsonNode response = waiting.get(2, TimeUnit.SECONDS);
+        this.slowService.release.countDown();
+
+        assertThat(response.path("error").path("code").asInt()).isEqualTo(JsonRpcDeadlineExceededException.CODE);
+        assertThat(first.get(5, TimeUnit.SECONDS).path("result").asText()).isEqualTo("k");
+        assertThat(this.slowService.calls).hasValue(1);
+    }
+
+    @Test
+    void deadlineErrorsAreNotShared() throws Exception {
+        this.slowService.entered = new CountDownLatch(1);
+        this.slowService.release = new CountDownLatch(1);
+        Future<JsonNode> first = this.executor.submit(() -> {
+            try (JsonRpcDeadline.Scope scope = JsonRpcDeadline.bind(JsonRpcDeadline.after(Duration.ofMillis(300)))) {
+                return call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.load\",\"params\":[\"k\"]}");
+            }
+        });
+        assertThat(this.slowService.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<JsonNode> waiting = this.executor.submit(() -> call(
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Slow.load\",\"params\":[\"k\"]}"));
+
+        JsonNode response = first.get(5, TimeUnit.SECONDS);
+        this.slowService.release.countDown();
+
+        assertThat(response.path("error").path("code").asInt()).isEqualTo(JsonRpcDeadlineExceededException.CODE);
+        assertThat(waiting.get(5, TimeUnit.SECONDS).path("result").asText()).isEqualTo("k");
+        assertThat(this.slowService.calls).hasValue(2);
+    }
+
+    /**
+     * Starts one call, waits until it is invoked and issues five identical
+     * calls while it is blocked.
+     */
+    private List<JsonNode> callConcurrently(String method, String param) throws Exception {
+        this.slowService.entered = new CountDownLatch(1);
+        this.slowService.release = new CountDownLatch(1);
+        List<Future<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String request = "{\"jsonrpc\":\"2.0\",\"id\":" + i + ",\"method\":\"" + method + "\",\"params\":["
+                    + param + "]}";
+            futures.add(this.executor.submit(() -> call(request)));
+            if (i == 0) {
+                assertThat(this.slowService.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        Thread.sleep(200);
+        this.slowService.release.countDown();
+
+        List<JsonNode> responses = new ArrayList<>();
+        for (Future<JsonNode> future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    private JsonNode call(String request) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.server.handleRequest(new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), output);
+            return this.mapper.readTree(output.toByteArray());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public interface SlowService {
+
+        @JsonRpcCoalesced
+        String load(@JsonRpcParam("key") String key);
+
+        String count(@JsonRpcParam("key") String key);
+    }
+
+    static class SlowServiceImpl implements SlowService {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        volatile CountDownLatch entered = new CountDownLatch(0);
+
+        volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        public String load(String key) {
+            this.calls.incrementAndGet();
+            this.entered.countDown();
+            try {
+                this.release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if ("fail".equals(key)) {
+                throw new IllegalArgumentException(key);
+            }
+            return key;
+        }
+
+        @Override
+        public String count(String key) {
+            return this.load(key);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcCodecTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final JsonRpcCodec smile = new JsonRpcCodec("smile", new ObjectMapper(new SmileFactory()),
+            JsonRpcCodec.SMILE_MEDIA_TYPE);
+
+    private final JsonRpcCodec cbor = new JsonRpcCodec("cbor", new ObjectMapper(new CBORFactory()),
+            JsonRpcCodec.CBOR_MEDIA_TYPE);
+
+    private JsonRpcMultiServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Bytes", new BytesServiceImpl(), BytesService.class);
+        this.server.addCodec(this.smile);
+        this.server.addCodec(this.cbor);
+    }
+
+    @Test
+    void requestCodecFollowsContentType() {
+        assertThat(this.server.resolveRequestCodec("application/x-jackson-smile")).isSameAs(this.smile);
+        assertThat(this.server.resolveRequestCodec("application/cbor; charset=UTF-8")).isSameAs(this.cbor);
+        assertThat(this.server.resolveRequestCodec("application/json")).isSameAs(this.server.getJsonCodec());
+        assertThat(this.server.resolveRequestCodec("text/plain")).isSameAs(this.server.getJsonCodec());
+        assertThat(this.server.resolveRequestCodec("not a type")).isSameAs(this.server.getJsonCodec());
+        assertThat(this.server.resolveRequestCodec(null)).isSameAs(this.server.getJsonCodec());
+    }
+
+    @Test
+    void responseCodecFollowsAccept() {
+        JsonRpcCodec json = this.server.getJsonCodec();
+        assertThat(this.server.resolveResponseCodec(null, this.smile)).isSameAs(this.smile);
+        assertThat(this.server.resolveResponseCodec("*/*", this.smile)).isSameAs(this.smile);
+        assertThat(this.server.resolveResponseCodec("application/cbor", json)).isSameAs(this.cbor);
+        assertThat(this.server.resolveResponseCodec("application/json;q=0.5, application/cbor", this.smile))
+                .isSameAs(this.cbor);
+        assertThat(this.server.resolveResponseCodec("application/cbor;q=0, application/json", this.smile))
+                .isSameAs(json);
+        assertThat(this.server.resolveResponseCodec("text/html", this.smile)).isSameAs(this.smile);
+    }
+
+    @Test
+    void binaryRequestAndResponse() throws IOException {
+        ObjectNode request = this.request(1, "Bytes.reverse", new byte[] { 1, 2, 3 });
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int code = this.server.handleRequest(new ByteArrayInputStream(this.smile.getObjectMapper()
+                .writeValueAsBytes(request)), output, this.smile, this.cbor);
+
+        assertThat(code).isEqualTo(0);
+        JsonNode response = this.cbor.getObjectMapper().readTree(output.toByteArray());
+        assertThat(response.get("result").binaryValue()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void binaryStreamingBatch() throws IOException {
+        this.server.setStreamingBatchEnabled(true);
+        byte[] batch = this.smile.getObjectMapper().writeValueAsBytes(this.mapper.createArrayNode()
+                .add(this.request(1, "Bytes.reverse", new byte[] { 1, 2 }))
+                .add(this.request(2, "Bytes.missing", new byte[0])));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.server.handleRequest(new ByteArrayInputStream(batch), output, this.smile, this.smile);
+
+        JsonNode response = this.smile.getObjectMapper().readTree(output.toByteArray());
+        assertThat(response).hasSize(2);
+        assertThat(response.get(0).get("result").binaryValue()).containsExactly(2, 1);
+        assertThat(response.get(1).get("error").get("code").asInt()).isEqualTo(-32601);
+    }
+
+    @Test
+    void malformedBinaryRequestReturnsParseError() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.server.handleRequest(new ByteArrayInputStream(new byte[] { ':', ')', 10, 3, (byte) 0xfa, 7 }), output,
+                this.smile, this.smile);
+
+        JsonNode response = this.smile.getObjectMapper().readTree(output.toByteArray());
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32700);
+    }
+
+    @Test
+    void servletNegotiatesContentType() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContentType(JsonRpcCodec.SMILE_MEDIA_TYPE);
+        request.setContent(this.smile.getObjectMapper()
+                .writeValueAsBytes(this.request(1, "Bytes.reverse", new byte[] { 4, 5 })));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.server.handle(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo(JsonRpcCodec.SMILE_MEDIA_TYPE);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(this.smile.getObjectMapper().readTree(response.getContentAsByteArray())
+                .get("result").binaryValue()).containsExactly(5, 4);
+
+        request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent(this.mapper.writeValueAsBytes(this.request(1, "Bytes.reverse", new byte[] { 6 })));
+        request.addHeader("Accept", JsonRpcCodec.CBOR_MEDIA_TYPE);
+        response = new MockHttpServletResponse();
+
+        this.server.handle(request, response);
+
+        assertThat(response.getContentType()).isEqualTo(JsonRpcCodec.CBOR_MEDIA_TYPE);
+        assertThat(this.cbor.getObjectMapper().readTree(response.getContentAsByteArray())
+                .get("result").binaryValue()).containsExactly(6);
+    }
+
+    private ObjectNode request(int id, String method, byte[] value) {
+        ObjectNode request = this.mapper.createObjectNode();
+        request.put("jsonrpc", "2.0");
+        request.put("id", id);
+        request.put("method", method);
+        request.putArray("params").add(value);
+        return request;
+    }
+
+    public interface BytesService {
+
+        byte[] reverse(@JsonRpcParam("value") byte[] value);
+    }
+
+    static class BytesServiceImpl implements BytesService {
+
+        @Override
+        public byte[] reverse(byte[] value) {
+            byte[] reversed = new byte[value.length];
+            for (int i = 0; i < value.length; i++) {
+                reversed[i] = value[value.length - 1 - i];
+            }
+            return reversed;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcConcurrencyLimiterTests {
+
+    @Test
+    void rejectsCallsOverLimit() {
+        JsonRpcConcurrencyLimiter limiter = new JsonRpcConcurrencyLimiter(2, 1, 10);
+        JsonRpcConcurrencyLimiter.Partition partition = limiter.getPartition("Calc.add");
+
+        assertThat(partition.tryAcquire()).isTrue();
+        assertThat(partition.tryAcquire()).isTrue();
+        assertThat(partition.tryAcquire()).isFalse();
+        assertThat(partition.getInFlight()).isEqualTo(2);
+        assertThat(partition.getRejectedCount()).isEqualTo(1);
+        assertThat(limiter.getPartition("Calc.neg").tryAcquire()).isTrue();
+
+        partition.release(0);
+        assertThat(partition.tryAcquire()).isTrue();
+        assertThat(limiter.getPartition("Calc.add")).isSameAs(partition);
+        assertThat(limiter.getPartitions()).hasSize(2);
+    }
+
+    @Test
+    void limitFollowsLatency() {
+        JsonRpcConcurrencyLimiter limiter = new JsonRpcConcurrencyLimiter(20, 5, 100);
+        JsonRpcConcurrencyLimiter.Partition partition = limiter.getPartition("Calc.add");
+
+        saturate(partition, 10, TimeUnit.MILLISECONDS.toNanos(1));
+        int grown = partition.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        saturate(partition, 2, TimeUnit.MILLISECONDS.toNanos(100));
+        int shrunk = partition.getLimit();
+        assertThat(shrunk).isLessThan(grown / 2);
+
+        // sustained latency becomes the new baseline
+        saturate(partition, 200, TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(partition.getLimit()).isGreaterThan(shrunk);
+    }
+
+    @Test
+    void limitDoesNotGrowWhenUnderused() {
+        JsonRpcConcurrencyLimiter limiter = new JsonRpcConcurrencyLimiter(20, 1, 100);
+        JsonRpcConcurrencyLimiter.Partition partition = limiter.getPartition("Calc.add");
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(partition.tryAcquire()).isTrue();
+            partition.release(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        assertThat(partition.getLimit()).isEqualTo(20);
+        assertThat(partition.getInFlight()).isZero();
+    }
+
+    @Test
+    void invalidLimits() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new JsonRpcConcurrencyLimiter(1, 0, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new JsonRpcConcurrencyLimiter(20, 1, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new JsonRpcConcurrencyLimiter().setTolerance(0.5));
+    }
+
+    /**
+     * Fills the partition up to its limit and releases every call with the
+     * given latency, the given number of times.
+     */
+    private static void saturate(JsonRpcConcurrencyLimiter.Partition partition, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (partition.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                partition.release(rttNanos);
+            }
+        }
+    }
+
+}
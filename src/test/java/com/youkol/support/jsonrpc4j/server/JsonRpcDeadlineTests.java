@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcDeadlineTests {
+
+    @Test
+    void parseHeader() {
+        assertThat(JsonRpcDeadline.parse(null)).isNull();
+        assertThat(JsonRpcDeadline.parse("soon")).isNull();
+        assertThat(JsonRpcDeadline.parse("-1")).isNull();
+        assertThat(JsonRpcDeadline.parse("0").isExpired()).isTrue();
+
+        JsonRpcDeadline deadline = JsonRpcDeadline.parse(" 60000 ");
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isBetween(59_000L, 60_000L);
+        assertThat(Long.parseLong(deadline.toHeader())).isBetween(59_000L, 60_000L);
+    }
+
+    @Test
+    void minReturnsEarlierDeadline() {
+        JsonRpcDeadline early = JsonRpcDeadline.after(Duration.ofSeconds(1));
+        JsonRpcDeadline late = JsonRpcDeadline.after(Duration.ofMinutes(1));
+
+        assertThat(early.min(late)).isSameAs(early);
+        assertThat(late.min(early)).isSameAs(early);
+        assertThat(late.min(null)).isSameAs(late);
+    }
+
+    @Test
+    void bindRestoresPreviousDeadline() {
+        JsonRpcDeadline outer = JsonRpcDeadline.after(Duration.ofMinutes(1));
+        JsonRpcDeadline inner = JsonRpcDeadline.after(Duration.ofSeconds(1));
+
+        try (JsonRpcDeadline.Scope outerScope = JsonRpcDeadline.bind(outer)) {
+            try (JsonRpcDeadline.Scope innerScope = JsonRpcDeadline.bind(inner)) {
+                assertThat(JsonRpcDeadline.current()).isSameAs(inner);
+            }
+            assertThat(JsonRpcDeadline.current()).isSameAs(outer);
+        }
+        assertThat(JsonRpcDeadline.current()).isNull();
+    }
+
+}
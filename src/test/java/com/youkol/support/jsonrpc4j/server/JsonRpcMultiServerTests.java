@@ -0,0 +1,531 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcMethod;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcMultiServerTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private JsonRpcMultiServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Calc", new CalcServiceImpl(), CalcService.class);
+    }
+
+    @Test
+    void dispatchTableContainsMethodsAndAliases() {
+        JsonRpcMethodDefinition add = this.server.getMethodDefinition("Calc.add");
+        assertThat(add).isNotNull();
+        assertThat(add.getServiceName()).isEqualTo("Calc");
+        assertThat(add.getMethodName()).isEqualTo("add");
+        assertThat(add.getCandidateMethods()).hasSize(2);
+
+        assertThat(this.server.getMethodDefinition("Calc.negate")).isNotNull();
+        assertThat(this.server.getMethodDefinition("Calc.neg")).isNotNull();
+        assertThat(this.server.getMethodDefinition("Calc.missing")).isNull();
+        assertThat(this.server.getMethodDefinition(null)).isNull();
+    }
+
+    @Test
+    void separatorChangeRebuildsDispatchTable() {
+        this.server.setSeparator(':');
+
+        assertThat(this.server.getMethodDefinition("Calc.add")).isNull();
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc:add\",\"params\":[1,2]}")
+                .get("result").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void invokeOverloadsAndAliases() {
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}")
+                .get("result").asInt()).isEqualTo(3);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2,3]}")
+                .get("result").asInt()).isEqualTo(6);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.neg\",\"params\":{\"value\":5}}")
+                .get("result").asInt()).isEqualTo(-5);
+    }
+
+    @Test
+    void unknownMethodReturnsError() {
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.missing\",\"params\":[]}")
+                .get("error").get("code").asInt()).isEqualTo(-32601);
+    }
+
+    @Test
+    void removeAndReplaceServiceAtRuntime() {
+        List<JsonRpcServiceRegistryEvent> events = new ArrayList<>();
+        this.server.getRegistry().addListener(events::add);
+
+        this.server.replaceService("Calc", new CalcServiceImpl() {
+            @Override
+            public int add(int a, int b) {
+                return a * b;
+            }
+        }, CalcService.class);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[2,5]}")
+                .get("result").asInt()).isEqualTo(10);
+
+        this.server.removeService("Calc");
+        assertThat(this.server.getMethodDefinition("Calc.add")).isNull();
+        assertThat(this.server.getRegistry().getServices()).isEmpty();
+
+        this.server.addService("Calc", new CalcServiceImpl(), CalcService.class);
+
+        assertThat(events).extracting(JsonRpcServiceRegistryEvent::getType).containsExactly(
+                JsonRpcServiceRegistryEvent.Type.REPLACED,
+                JsonRpcServiceRegistryEvent.Type.REMOVED,
+                JsonRpcServiceRegistryEvent.Type.ADDED);
+        assertThat(events.get(1).getCurrent()).isNull();
+        assertThat(events.get(2).getPrevious()).isNull();
+    }
+
+    @Test
+    void addServicesKeepsEntriesOfOtherServices() {
+        JsonRpcMethodDefinition add = this.server.getMethodDefinition("Calc.add");
+        List<JsonRpcServiceRegistryEvent> events = new ArrayList<>();
+        this.server.getRegistry().addListener(events::add);
+
+        this.server.addServices(Arrays.asList(
+                new JsonRpcServiceDefinition("First", new CalcServiceImpl(), CalcService.class),
+                new JsonRpcServiceDefinition("Second", new CalcServiceImpl(), CalcService.class)));
+
+        assertThat(this.server.getMethodDefinition("Calc.add")).isSameAs(add);
+        assertThat(this.server.getMethodDefinition("First.add")).isNotNull();
+        assertThat(this.server.getMethodDefinition("Second.neg")).isNotNull();
+        assertThat(events).extracting(JsonRpcServiceRegistryEvent::getServiceName)
+                .containsExactly("First", "Second");
+    }
+
+    @Test
+    void eventsFollowSnapshotOrder() {
+        List<JsonRpcServiceRegistryEvent> events = new ArrayList<>();
+        this.server.getRegistry().addListener(event -> {
+            if (event.getType() == JsonRpcServiceRegistryEvent.Type.ADDED) {
+                // a change made by a listener is delivered after the current event
+                this.server.removeService(event.getServiceName());
+            }
+        });
+        this.server.getRegistry().addListener(events::add);
+
+        this.server.addService("Temp", new CalcServiceImpl(), CalcService.class);
+
+        assertThat(events).extracting(JsonRpcServiceRegistryEvent::getType).containsExactly(
+                JsonRpcServiceRegistryEvent.Type.ADDED,
+                JsonRpcServiceRegistryEvent.Type.REMOVED);
+        assertThat(this.server.getRegistry().getService("Temp")).isNull();
+    }
+
+    @Test
+    void serversShareRegistry() {
+        JsonRpcMultiServer other = new JsonRpcMultiServer(this.mapper, this.server.getRegistry());
+
+        assertThat(other.getMethodDefinition("Calc.add")).isSameAs(this.server.getMethodDefinition("Calc.add"));
+    }
+
+    @Test
+    void indexedServiceIsNotScanned() throws NoSuchMethodException {
+        Method add = CalcService.class.getMethod("add", int.class, int.class);
+        this.server.addService(new JsonRpcServiceDefinition("Indexed", new CalcServiceImpl(), CalcService.class,
+                Collections.singletonMap("add", Collections.singletonList(add))));
+
+        assertThat(this.server.getMethodDefinition("Indexed.add").getCandidateMethods()).containsExactly(add);
+        assertThat(this.server.getMethodDefinition("Indexed.neg")).isNull();
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Indexed.add\",\"params\":[1,2]}")
+                .get("result").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void streamingBatchWritesEveryResponse() {
+        this.server.setStreamingBatchEnabled(true);
+
+        JsonNode response = call("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"Calc.add\",\"params\":[0,0]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Calc.missing\",\"params\":[]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Calc.neg\",\"params\":[4]}]");
+
+        assertThat(response.isArray()).isTrue();
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0).get("result").asInt()).isEqualTo(3);
+        assertThat(response.get(1).get("error").get("code").asInt()).isEqualTo(-32601);
+        assertThat(response.get(2).get("result").asInt()).isEqualTo(-4);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}")
+                .get("result").asInt()).isEqualTo(3);
+        assertThat(call("  []").get("error").get("code").asInt()).isEqualTo(-32600);
+    }
+
+    @Test
+    void streamingBatchWithExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            this.server.setStreamingBatchEnabled(true);
+            this.server.setStreamingBatchWindow(2);
+            this.server.setBatchExecutorService(executor);
+
+            StringBuilder batch = new StringBuilder("[");
+            for (int i = 0; i < 50; i++) {
+                batch.append(i == 0 ? "" : ",").append("{\"jsonrpc\":\"2.0\",\"id\":").append(i)
+                        .append(",\"method\":\"Calc.add\",\"params\":[").append(i).append(",1]}");
+            }
+            JsonNode response = call(batch.append("]").toString());
+
+            assertThat(response).hasSize(50);
+            response.forEach(node -> assertThat(node.get("result").asInt()).isEqualTo(node.get("id").asInt() + 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void streamingBatchTimeoutCancelsElementsInFlight() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            this.server.addService("Slow", new SlowServiceImpl(), SlowService.class);
+            this.server.setMethodTimeouts(Collections.singletonMap("Slow.*", Duration.ofSeconds(10)));
+            this.server.setStreamingBatchEnabled(true);
+            this.server.setStreamingBatchWindow(2);
+            this.server.setBatchExecutorService(executor);
+            this.server.setParallelBatchProcessingTimeout(200);
+
+            long start = System.nanoTime();
+            JsonNode response = call("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.sleep\",\"params\":[5000]},"
+                    + "{\"jsonrpc\":\"2.0\",\"method\":\"Slow.sleep\",\"params\":[5000]},"
+                    + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Calc.add\",\"params\":[1,2]}]");
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+            assertThat(response).hasSize(2);
+            assertThat(response.get(0).get("id").asInt()).isEqualTo(1);
+            assertThat(response.get(0).get("error").get("code").asInt())
+                    .isEqualTo(JsonRpcDeadlineExceededException.CODE);
+            assertThat(response.get(1).get("id").asInt()).isEqualTo(3);
+            assertThat(response.get(1).get("error").get("code").asInt())
+                    .isEqualTo(JsonRpcDeadlineExceededException.CODE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void streamingBatchOverServlet() throws IOException {
+        this.server.setStreamingBatchEnabled(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}]"
+                .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.server.handle(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get(0).get("result").asInt()).isEqualTo(3);
+
+        request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[2,2]}"
+                .getBytes(StandardCharsets.UTF_8));
+        response = new MockHttpServletResponse();
+
+        this.server.handle(request, response);
+
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asInt()).isEqualTo(4);
+    }
+
+    @Test
+    void maxBatchLengthRejectsLongerBatches() {
+        this.server.setMaxBatchLength(2);
+        String batch = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Calc.add\",\"params\":[1,2]}]";
+
+        JsonNode rejected = call(batch);
+        assertThat(rejected.get("error").get("code").asInt()).isEqualTo(-32600);
+
+        this.server.setStreamingBatchEnabled(true);
+        JsonNode streamed = call(batch);
+        assertThat(streamed).hasSize(3);
+        assertThat(streamed.get(1).get("result").asInt()).isEqualTo(3);
+        assertThat(streamed.get(2).get("error").get("code").asInt()).isEqualTo(-32600);
+    }
+
+    @Test
+    void concurrencyLimitRejectsCallsOverLimit() {
+        JsonRpcConcurrencyLimiter limiter = new JsonRpcConcurrencyLimiter(1, 1, 1);
+        this.server.setConcurrencyLimiter(limiter);
+        JsonRpcConcurrencyLimiter.Partition partition = limiter.getPartition("Calc.add");
+        assertThat(partition.tryAcquire()).isTrue();
+
+        JsonNode rejected = call("{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"Calc.add\",\"params\":[1,2]}");
+        assertThat(rejected.get("id").asInt()).isEqualTo(7);
+        assertThat(rejected.get("error").get("code").asInt()).isEqualTo(JsonRpcConcurrencyLimiter.LIMIT_EXCEEDED_CODE);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.neg\",\"params\":[4]}")
+                .get("result").asInt()).isEqualTo(-4);
+
+        partition.release(0);
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}")
+                .get("result").asInt()).isEqualTo(3);
+        assertThat(partition.getInFlight()).isZero();
+        assertThat(partition.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitCountsEveryBatchElement() {
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(null,
+                Collections.singletonMap("Calc.*", new JsonRpcRateLimit(1, 2)), Duration.ofMinutes(1));
+        this.server.setRequestInterceptor(new JsonRpcRateLimitInterceptor(limiter,
+                JsonRpcClientIdentityResolver.remoteAddress(), this.server.getRegistry()));
+
+        JsonNode response = call("[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Calc.add\",\"params\":[1,2]}]");
+
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0).get("result").asInt()).isEqualTo(3);
+        assertThat(response.get(1).get("result").asInt()).isEqualTo(3);
+        assertThat(response.get(2).get("error").get("code").asInt())
+                .isEqualTo(JsonRpcRateLimitExceededException.CODE);
+        assertThat(response.get(2).get("error").get("message").asText())
+                .isEqualTo(JsonRpcRateLimitExceededException.MESSAGE);
+    }
+
+    @Test
+    void rateLimitIdentifiesClientsOfParallelBatches() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            this.server.setBatchExecutorService(executor);
+            JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(null,
+                    Collections.singletonMap("Calc.*", new JsonRpcRateLimit(1, 2)), Duration.ofMinutes(1));
+            this.server.setRequestInterceptor(new JsonRpcRateLimitInterceptor(limiter,
+                    JsonRpcClientIdentityResolver.remoteAddress(), this.server.getRegistry()));
+            String batch = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]},"
+                    + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"Calc.add\",\"params\":[1,2]}]";
+
+            assertThat(clientCall("10.0.0.1", batch)).extracting(node -> node.get("result").asInt())
+                    .containsExactly(3, 3);
+            assertThat(clientCall("10.0.0.2", batch)).extracting(node -> node.get("result").asInt())
+                    .containsExactly(3, 3);
+            assertThat(clientCall("10.0.0.1", batch)).extracting(node -> node.get("error").get("code").asInt())
+                    .containsExactly(JsonRpcRateLimitExceededException.CODE, JsonRpcRateLimitExceededException.CODE);
+            assertThat(limiter.getBucketCount()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rateLimitCountsEndpointMethodsPerService() throws IOException {
+        this.server.addService(new JsonRpcServiceDefinition("/a", new CalcServiceImpl(), CalcService.class)
+                .endpointOnly());
+        this.server.addService(new JsonRpcServiceDefinition("/b", new CalcServiceImpl(), CalcService.class)
+                .endpointOnly());
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(new JsonRpcRateLimit(1, 1), Collections.emptyMap(),
+                Duration.ofMinutes(1));
+        this.server.setRequestInterceptor(new JsonRpcRateLimitInterceptor(limiter,
+                JsonRpcClientIdentityResolver.remoteAddress(), this.server.getRegistry()));
+        String add = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"add\",\"params\":[1,2]}";
+
+        assertThat(endpointCall("/a", add).get("result").asInt()).isEqualTo(3);
+        assertThat(endpointCall("/b", add).get("result").asInt()).isEqualTo(3);
+        assertThat(endpointCall("/a", add).get("error").get("code").asInt())
+                .isEqualTo(JsonRpcRateLimitExceededException.CODE);
+        assertThat(limiter.getMethodCount()).isEqualTo(2);
+    }
+
+    @Test
+    void timeoutInterruptsSlowCall() {
+        this.server.addService("Slow", new SlowServiceImpl(), SlowService.class);
+        long start = System.nanoTime();
+
+        JsonNode response = call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.sleep\",\"params\":[5000]}");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(response.get("id").asInt()).isEqualTo(1);
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(JsonRpcDeadlineExceededException.CODE);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.sleep\",\"params\":[0]}")
+                .get("result").asInt()).isZero();
+    }
+
+    @Test
+    void methodTimeoutsOverrideAnnotation() {
+        this.server.addService("Slow", new SlowServiceImpl(), SlowService.class);
+        this.server.setMethodTimeouts(Collections.singletonMap("Slow.*", Duration.ofSeconds(10)));
+
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Slow.sleep\",\"params\":[200]}")
+                .get("result").asInt()).isEqualTo(200);
+    }
+
+    @Test
+    void expiredDeadlineHeaderRejectsCall() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.server.handle(expiredAddRequest(), response);
+
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("error").get("code").asInt())
+                .isEqualTo(JsonRpcDeadlineExceededException.CODE);
+
+        this.server.setDeadlineHeaderEnabled(false);
+        response = new MockHttpServletResponse();
+        this.server.handle(expiredAddRequest(), response);
+
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void endpointServesItsServiceWithoutServiceName() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            this.server.setBatchExecutorService(executor);
+            this.server.addService(new JsonRpcServiceDefinition("/calc", new CalcServiceImpl(), CalcService.class)
+                    .endpointOnly());
+
+            assertThat(endpointCall("/calc", "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"add\",\"params\":[1,2]}")
+                    .get("result").asInt()).isEqualTo(3);
+            assertThat(endpointCall("Calc", "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"neg\",\"params\":[2]}")
+                    .get("result").asInt()).isEqualTo(-2);
+            JsonNode batch = endpointCall("/calc",
+                    "[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"add\",\"params\":[1,2]},"
+                    + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"neg\",\"params\":[4]}]");
+            assertThat(batch).extracting(node -> node.get("result").asInt()).containsExactlyInAnyOrder(3, -4);
+            assertThat(endpointCall("/calc", "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}")
+                    .get("error").get("code").asInt()).isEqualTo(-32601);
+
+            assertThatThrownBy(() -> call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"/calc.add\",\"params\":[1,2]}"))
+                    .hasMessageContaining("does not exist");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonNode endpointCall(String serviceName, String body) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", serviceName);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.server.handle(request, response, serviceName);
+        return this.mapper.readTree(response.getContentAsByteArray());
+    }
+
+    private JsonNode clientCall(String remoteAddress, String body) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setRemoteAddr(remoteAddress);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            this.server.handle(request, response);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        return this.mapper.readTree(response.getContentAsByteArray());
+    }
+
+    private static MockHttpServletRequest expiredAddRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.addHeader(JsonRpcDeadline.HEADER, "0");
+        request.setContent("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Calc.add\",\"params\":[1,2]}"
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private JsonNode call(String request) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.server.handleRequest(new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), output);
+            return this.mapper.readTree(output.toByteArray());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public interface CalcService {
+
+        int add(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+        int add(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b, @JsonRpcParam("c") int c);
+
+        @JsonRpcMethod("neg")
+        int negate(@JsonRpcParam("value") int value);
+    }
+
+    @JsonRpcTimeout(50)
+    public interface SlowService {
+
+        long sleep(@JsonRpcParam("millis") long millis);
+    }
+
+    static class SlowServiceImpl implements SlowService {
+
+        @Override
+        public long sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            return millis;
+        }
+    }
+
+    static class CalcServiceImpl implements CalcService {
+
+        @Override
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public int add(int a, int b, int c) {
+            return a + b + c;
+        }
+
+        @Override
+        public int negate(int value) {
+            return -value;
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcRateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void bucketAllowsBurstAndRefills() {
+        JsonRpcRateLimiter limiter = limiter(null, "Calc.add", new JsonRpcRateLimit(2, 3));
+        long now = System.nanoTime();
+
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isTrue();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isTrue();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isTrue();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isFalse();
+        assertThat(limiter.tryAcquire("b", "Calc.add", now)).isTrue();
+
+        assertThat(limiter.tryAcquire("a", "Calc.add", now + SECOND / 2)).isTrue();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now + SECOND / 2)).isFalse();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now + 10 * SECOND)).isTrue();
+    }
+
+    @Test
+    void limitsResolvedByPattern() {
+        Map<String, JsonRpcRateLimit> methodLimits = new LinkedHashMap<>();
+        methodLimits.put("Calc.add", new JsonRpcRateLimit(1));
+        methodLimits.put("Calc.*", new JsonRpcRateLimit(5));
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(null, methodLimits, Duration.ofMinutes(1));
+
+        assertThat(limiter.getLimit("Calc.add").getBurst()).isEqualTo(1);
+        assertThat(limiter.getLimit("Calc.neg").getBurst()).isEqualTo(5);
+        assertThat(limiter.getLimit("Other.get")).isNull();
+        long now = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire(null, "Other.get", now)).isTrue();
+        }
+        assertThat(limiter.getBucketCount()).isZero();
+
+        JsonRpcRateLimiter withDefault = new JsonRpcRateLimiter(new JsonRpcRateLimit(10), methodLimits,
+                Duration.ofMinutes(1));
+        assertThat(withDefault.getLimit("Other.get").getPermitsPerSecond()).isEqualTo(10);
+    }
+
+    @Test
+    void idleBucketsEvicted() {
+        JsonRpcRateLimiter limiter = limiter(new JsonRpcRateLimit(1), "Calc.add", new JsonRpcRateLimit(10));
+        long now = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("client-" + i, "Calc.add", now);
+        }
+        limiter.tryAcquire("busy", "Calc.neg", now + 59 * SECOND);
+        assertThat(limiter.getBucketCount()).isEqualTo(51);
+
+        limiter.evictIdle(now + 61 * SECOND);
+        assertThat(limiter.getBucketCount()).isEqualTo(1);
+
+        limiter.tryAcquire("client-0", "Calc.add", now + 200 * SECOND);
+        assertThat(limiter.getBucketCount()).isEqualTo(1);
+
+        limiter.evictIdle(now + 300 * SECOND);
+        assertThat(limiter.getBucketCount()).isZero();
+        assertThat(limiter.getMethodCount()).isZero();
+    }
+
+    @Test
+    void clientsBeyondMaxBucketsShareOne() {
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(null,
+                Collections.singletonMap("Calc.add", new JsonRpcRateLimit(1)), Duration.ofMinutes(1), 2);
+        long now = System.nanoTime();
+
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isTrue();
+        assertThat(limiter.tryAcquire("b", "Calc.add", now)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("rotated-" + i, "Calc.add", now)).isEqualTo(i == 0);
+        }
+        assertThat(limiter.tryAcquire(null, "Calc.add", now)).isFalse();
+        assertThat(limiter.getBucketCount()).isEqualTo(3);
+
+        limiter.evictIdle(now + 61 * SECOND);
+        assertThat(limiter.tryAcquire("rotated-99", "Calc.add", now + 61 * SECOND)).isTrue();
+        assertThat(limiter.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownMethodsShareDefaultLimit() {
+        JsonRpcRateLimiter limiter = limiter(new JsonRpcRateLimit(1, 2), "Calc.add", new JsonRpcRateLimit(10));
+        long now = System.nanoTime();
+
+        assertThat(limiter.tryAcquire("a", null, now)).isTrue();
+        assertThat(limiter.tryAcquire("a", null, now)).isTrue();
+        assertThat(limiter.tryAcquire("a", null, now)).isFalse();
+        assertThat(limiter.tryAcquire("b", null, now)).isTrue();
+        assertThat(limiter.tryAcquire("a", "Calc.add", now)).isTrue();
+        assertThat(limiter.getMethodCount()).isEqualTo(2);
+    }
+
+    @Test
+    void interceptorCountsUnknownMethodsTogether() {
+        JsonRpcServiceRegistry registry = new JsonRpcServiceRegistry();
+        registry.addService("Calc", new JsonRpcMultiServerTests.CalcServiceImpl(),
+                JsonRpcMultiServerTests.CalcService.class);
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(new JsonRpcRateLimit(100), Collections.emptyMap(),
+                Duration.ofMinutes(1));
+        JsonRpcRateLimitInterceptor interceptor = new JsonRpcRateLimitInterceptor(limiter,
+                JsonRpcClientIdentityResolver.remoteAddress(), registry);
+        ObjectMapper mapper = new ObjectMapper();
+
+        for (int i = 0; i < 20; i++) {
+            interceptor.interceptRequest(mapper.createObjectNode().put("method", "Calc.m" + i));
+        }
+        interceptor.interceptRequest(mapper.createObjectNode().put("method", "Calc.add"));
+
+        assertThat(limiter.getMethodCount()).isEqualTo(2);
+        assertThat(limiter.getBucketCount()).isEqualTo(2);
+    }
+
+    @Test
+    void clientIdentityResolvers() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Client-Id", "app-1");
+        request.setUserPrincipal(() -> "alice");
+
+        assertThat(JsonRpcClientIdentityResolver.remoteAddress().resolveClientIdentity(request))
+                .isEqualTo("10.0.0.1");
+        assertThat(JsonRpcClientIdentityResolver.header("X-Client-Id").resolveClientIdentity(request))
+                .isEqualTo("app-1");
+        assertThat(JsonRpcClientIdentityResolver.principal().resolveClientIdentity(request)).isEqualTo("alice");
+        assertThat(JsonRpcClientIdentityResolver.principal().resolveClientIdentity(new MockHttpServletRequest()))
+                .isNull();
+    }
+
+    private static JsonRpcRateLimiter limiter(JsonRpcRateLimit defaultLimit, String method, JsonRpcRateLimit limit) {
+        Map<String, JsonRpcRateLimit> methodLimits = new LinkedHashMap<>();
+        methodLimits.put(method, limit);
+        return new JsonRpcRateLimiter(defaultLimit, methodLimits, Duration.ofMinutes(1));
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.googlecode.jsonrpc4j.JsonRpcInterceptor;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcResponseCacheTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final LookupServiceImpl lookupService = new LookupServiceImpl();
+
+    private JsonRpcMultiServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Lookup", this.lookupService, LookupService.class);
+    }
+
+    @Test
+    void cacheableMethodIsInvokedOncePerParams() {
+        JsonNode first = call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"a\":\"x\",\"b\":1}}");
+        JsonNode second = call("{\"jsonrpc\":\"2.0\",\"id\":\"two\",\"method\":\"Lookup.find\",\"params\":{\"b\":1,\"a\":\"x\"}}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"Lookup.find\",\"params\":{\"a\":\"y\",\"b\":1}}");
+
+        assertThat(this.lookupService.calls).hasValue(2);
+        assertThat(second.get("result")).isEqualTo(first.get("result"));
+        assertThat(second.get("id").asText()).isEqualTo("two");
+
+        JsonRpcResponseCache cache = this.server.getMethodDefinition("Lookup.find").getResponseCache();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void errorsAndUncachedMethodsAreNotCached() {
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"a\":\"fail\",\"b\":1}}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"a\":\"fail\",\"b\":1}}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.next\",\"params\":[]}");
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.next\",\"params\":[]}");
+
+        assertThat(this.lookupService.calls).hasValue(4);
+        assertThat(this.server.getMethodDefinition("Lookup.next").getResponseCache()).isNull();
+    }
+
+    @Test
+    void interceptorsRunForCacheHits() {
+        List<String> preHandled = new ArrayList<>();
+        this.server.setInterceptorList(Collections.singletonList(new JsonRpcInterceptor() {
+
+            @Override
+            public void preHandleJson(JsonNode json) {
+            }
+
+            @Override
+            public void preHandle(Object target, Method method, List<JsonNode> params) {
+                preHandled.add(method.getName() + params);
+            }
+
+            @Override
+            public void postHandle(Object target, Method method, List<JsonNode> params, JsonNode result) {
+            }
+
+            @Override
+            public void postHandleJson(JsonNode json) {
+            }
+        }));
+        JsonRpcRateLimiter limiter = new JsonRpcRateLimiter(new JsonRpcRateLimit(1, 2), Collections.emptyMap(),
+                Duration.ofMinutes(1));
+        this.server.setRequestInterceptor(new JsonRpcRateLimitInterceptor(limiter,
+                JsonRpcClientIdentityResolver.remoteAddress(), this.server.getRegistry()));
+        String find = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"b\":1,\"a\":\"x\"}}";
+
+        assertThat(call(find).get("result").asText()).isEqualTo("x1");
+        assertThat(call(find).get("result").asText()).isEqualTo("x1");
+        JsonNode rejected = call(find);
+
+        assertThat(rejected.get("id").asInt()).isEqualTo(1);
+        assertThat(rejected.get("error").get("code").asInt()).isEqualTo(JsonRpcRateLimitExceededException.CODE);
+        assertThat(this.lookupService.calls).hasValue(1);
+        assertThat(preHandled).containsExactly("find[\"x\", 1]", "find[\"x\", 1]");
+    }
+
+    @Test
+    void replacingServiceDropsCachedResults() {
+        call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"a\":\"x\",\"b\":1}}");
+        this.server.replaceService("Lookup", new LookupServiceImpl() {
+            @Override
+            public String find(String a, int b) {
+                return "replaced";
+            }
+        }, LookupService.class);
+
+        assertThat(call("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Lookup.find\",\"params\":{\"a\":\"x\",\"b\":1}}")
+                .get("result").asText()).isEqualTo("replaced");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndExpiredEntries() throws Exception {
+        JsonRpcResponseCache cache = new JsonRpcResponseCache(TimeUnit.HOURS.toNanos(1), 2, 10);
+        cache.put("m", TextNode.valueOf("a"), bytes("\"1\""));
+        cache.put("m", TextNode.valueOf("b"), bytes("\"2\""));
+        cache.get("m", TextNode.valueOf("a"));
+        cache.put("m", TextNode.valueOf("c"), bytes("\"3\""));
+        cache.put("m", TextNode.valueOf("d"), bytes("\"123456789\""));
+
+        assertThat(cache.get("m", TextNode.valueOf("b"))).isNull();
+        assertThat(this.mapper.writeValueAsString(cache.get("m", TextNode.valueOf("a")))).isEqualTo("\"1\"");
+        assertThat(cache.get("m", TextNode.valueOf("d"))).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getBytes()).isEqualTo(6);
+
+        JsonRpcResponseCache expiring = new JsonRpcResponseCache(TimeUnit.MILLISECONDS.toNanos(1), 10, -1);
+        expiring.put("m", null, bytes("1"));
+        Thread.sleep(5);
+        assertThat(expiring.get("m", null)).isNull();
+        assertThat(expiring.size()).isZero();
+    }
+
+    @Test
+    void evictsBelowBoundsAtOnce() {
+        JsonRpcResponseCache cache = new JsonRpcResponseCache(TimeUnit.HOURS.toNanos(1), 20, -1);
+        for (int i = 0; i <= 20; i++) {
+            cache.put("m", IntNode.valueOf(i), bytes(Integer.toString(i)));
+        }
+
+        assertThat(cache.size()).isEqualTo(18);
+        assertThat(cache.getEvictionCount()).isEqualTo(3);
+        assertThat(cache.get("m", IntNode.valueOf(0))).isNull();
+        assertThat(cache.get("m", IntNode.valueOf(20))).isNotNull();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode call(String request) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.server.handleRequest(new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), output);
+            return this.mapper.readTree(output.toByteArray());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public interface LookupService {
+
+        @JsonRpcCacheable(ttl = 1, timeUnit = TimeUnit.HOURS, maxEntries = 10)
+        String find(@JsonRpcParam("a") String a, @JsonRpcParam("b") int b);
+
+        int next();
+    }
+
+    static class LookupServiceImpl implements LookupService {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String find(String a, int b) {
+            this.calls.incrementAndGet();
+            if ("fail".equals(a)) {
+                throw new IllegalArgumentException(a);
+            }
+            return a + b;
+        }
+
+        @Override
+        public int next() {
+            return this.calls.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.servlet.ServletException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcCompressionTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final JsonRpcCompression compression = new JsonRpcCompression();
+
+    private JsonRpcMultiServer server;
+
+    private JsonRpcServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Text", new TextServiceImpl(), TextService.class);
+        this.servlet = new JsonRpcServlet(this.server);
+        this.servlet.setCompression(this.compression);
+    }
+
+    @Test
+    void largeResponseIsCompressed() throws Exception {
+        MockHttpServletResponse response = post(repeat(5000), null, "deflate;q=0.5, gzip");
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Content-Length")).isNull();
+        assertThat(response.getHeaders("Vary")).contains("Accept-Encoding");
+        assertThat(result(decode(JsonRpcContentEncoding.GZIP, response)).asText()).hasSize(5000);
+        assertThat(response.getContentAsByteArray().length).isLessThan(1000);
+    }
+
+    @Test
+    void smallResponseIsNotCompressed() throws Exception {
+        MockHttpServletResponse response = post(repeat(10), null, "gzip");
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(result(response.getContentAsByteArray()).asText()).hasSize(10);
+    }
+
+    @Test
+    void compressedRequestIsDecoded() throws Exception {
+        MockHttpServletResponse response = post(repeat(3000), JsonRpcContentEncoding.DEFLATE, "identity");
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(result(response.getContentAsByteArray()).asText()).hasSize(3000);
+    }
+
+    @Test
+    void requestInflatingBeyondMaxDecodedSizeIsRejected() throws Exception {
+        this.compression.setMaxDecodedRequestSize(2048);
+
+        assertThat(post(repeat(1900), JsonRpcContentEncoding.GZIP, null).getStatus()).isEqualTo(200);
+        MockHttpServletResponse response = post(repeat(100_000), JsonRpcContentEncoding.GZIP, null);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void corruptRequestBodyIsRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(request(repeat(10)).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.servlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    void unsupportedRequestEncodingIsRejected() throws Exception {
+        this.compression.setEncodings(Collections.singletonList(JsonRpcContentEncoding.GZIP));
+        MockHttpServletResponse response = post(repeat(10), JsonRpcContentEncoding.DEFLATE, null);
+
+        assertThat(response.getStatus()).isEqualTo(415);
+    }
+
+    @Test
+    void streamedBatchIsCompressed() throws Exception {
+        this.server.setStreamingBatchEnabled(true);
+        String batch = "[" + request(repeat(2000)) + "," + request(repeat(2000)) + "]";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent(batch.getBytes(StandardCharsets.UTF_8));
+        request.addHeader("Accept-Encoding", "deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.servlet.service(request, response);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        assertThat(this.mapper.readTree(decode(JsonRpcContentEncoding.DEFLATE, response))).hasSize(2);
+    }
+
+    @Test
+    void negotiateHonorsQualityAndPreference() {
+        assertThat(this.compression.negotiate("deflate, gzip")).isEqualTo(JsonRpcContentEncoding.GZIP);
+        assertThat(this.compression.negotiate("gzip;q=0, deflate")).isEqualTo(JsonRpcContentEncoding.DEFLATE);
+        assertThat(this.compression.negotiate("*")).isEqualTo(JsonRpcContentEncoding.GZIP);
+        assertThat(this.compression.negotiate("*;q=0")).isNull();
+        assertThat(this.compression.negotiate("br")).isNull();
+        assertThat(this.compression.negotiate(null)).isNull();
+    }
+
+    private MockHttpServletResponse post(String value, JsonRpcContentEncoding requestEncoding, String acceptEncoding)
+            throws ServletException, IOException {
+        byte[] body = request(value).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        if (requestEncoding != null) {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (OutputStream output = requestEncoding.encode(encoded, 6)) {
+                output.write(body);
+            }
+            body = encoded.toByteArray();
+            request.addHeader("Content-Encoding", requestEncoding.getName());
+        }
+        request.setContent(body);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.servlet.service(request, response);
+        return response;
+    }
+
+    private static String request(String value) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Text.echo\",\"params\":[\"" + value + "\"]}";
+    }
+
+    private JsonNode result(byte[] response) throws IOException {
+        return this.mapper.readTree(response).get("result");
+    }
+
+    private static byte[] decode(JsonRpcContentEncoding encoding, MockHttpServletResponse response)
+            throws IOException {
+        try (InputStream input = encoding.decode(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            return StreamUtils.copyToByteArray(input);
+        }
+    }
+
+    private static String repeat(int length) {
+        StringBuilder value = new StringBuilder(length);
+        while (value.length() < length) {
+            value.append('a');
+        }
+        return value.toString();
+    }
+
+    public interface TextService {
+
+        String echo(@JsonRpcParam("value") String value);
+    }
+
+    static class TextServiceImpl implements TextService {
+
+        @Override
+        public String echo(String value) {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.youkol.support.jsonrpc4j.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.googlecode.jsonrpc4j.JsonRpcParam;
+import com.youkol.support.jsonrpc4j.server.JsonRpcBufferPool;
+import com.youkol.support.jsonrpc4j.server.JsonRpcMultiServer;
+
+/**
+ *
+ * @author jackiea
+ * @since 1.0.4
+ */
+class JsonRpcServletTests {
+
+    private static final String ECHO = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"Echo.echo\",\"params\":[\"hi\"]}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final EchoServiceImpl echoService = new EchoServiceImpl();
+
+    private JsonRpcMultiServer server;
+
+    private JsonRpcServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new JsonRpcMultiServer(this.mapper);
+        this.server.addService("Echo", this.echoService, EchoService.class);
+        this.servlet = new JsonRpcServlet(this.server);
+        this.servlet.setAsyncEnabled(true);
+        this.servlet.setAsyncExecutor(this.tasks::add);
+    }
+
+    @Test
+    void asyncRequestIsAnswered() throws Exception {
+        AsyncResponse response = new AsyncResponse();
+        this.servlet.service(new AsyncRequest(ECHO, -1), response);
+        assertThat(this.tasks).hasSize(1);
+
+        this.tasks.get(0).run();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).isEqualTo("hi");
+    }
+
+    @Test
+    void asyncResponseIsSerializedIntoOneBuffer() throws Exception {
+        AtomicInteger acquired = new AtomicInteger();
+        JsonRpcBufferPool bufferPool = new JsonRpcBufferPool() {
+
+            @Override
+            public Buffer acquire() {
+                acquired.incrementAndGet();
+                return super.acquire();
+            }
+        };
+        this.server.setBufferPool(bufferPool);
+        this.servlet.setBufferPool(bufferPool);
+        AsyncResponse response = new AsyncResponse();
+        this.servlet.service(new AsyncRequest(ECHO, -1), response);
+
+        this.tasks.get(0).run();
+
+        assertThat(acquired).hasValue(1);
+        assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).isEqualTo("hi");
+    }
+
+    @Test
+    void declaredBodyOverMaxSizeIsRejected() throws Exception {
+        AsyncResponse response = new AsyncResponse();
+        this.servlet.service(new AsyncRequest(ECHO, Integer.MAX_VALUE), response);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        assertThat(this.tasks).isEmpty();
+    }
+
+    @Test
+    void blockingRequestIsNotLimited() throws Exception {
+        this.servlet.setAsyncEnabled(false);
+        this.servlet.setMaxRequestSize(ECHO.length() - 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jsonrpc");
+        request.setContent(ECHO.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.servlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).isEqualTo("hi");
+    }
+
+    @Test
+    void asyncBodyOverMaxSizeIsRejected() throws Exception {
+        this.servlet.setMaxRequestSize(ECHO.length() - 1);
+        AsyncResponse response = new AsyncResponse();
+        AsyncRequest request = new AsyncRequest(ECHO, -1);
+        this.servlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(this.tasks).isEmpty();
+    }
+
+    @Test
+    void responseOverMaxBufferSizeIsStreamed() throws Exception {
+        this.servlet.setBufferPool(new JsonRpcBufferPool(1, 8, 16));
+        String text = String.join("", Collections.nCopies(100, "a"));
+        AsyncResponse response = new AsyncResponse();
+        AsyncRequest request = new AsyncRequest(ECHO.replace("hi", text), -1);
+        this.servlet.service(request, response);
+
+        this.tasks.get(0).run();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(this.mapper.readTree(response.getContentAsByteArray()).get("result").asText()).isEqualTo(text);
+        assertThat(this.servlet.getBufferPool().getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void requestTimedOutBeforeInvocationIsSkipped() throws Exception {
+        AsyncResponse response = new AsyncResponse();
+        AsyncRequest request = new AsyncRequest(ECHO, -1);
+        this.servlet.service(request, response);
+        timeout(request);
+
+        this.tasks.get(0).run();
+
+        assertThat(this.echoService.calls).isZero();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void responseOfTimedOutInvocationIsDropped() throws Exception {
+        this.servlet.service(new AsyncRequest(ECHO, -1), new AsyncResponse());
+        this.tasks.remove(0).run();
+        int idleBuffers = this.servlet.getBufferPool().getIdleCount();
+
+        AsyncResponse response = new AsyncResponse();
+        AsyncRequest request = new AsyncRequest(ECHO, -1);
+        this.servlet.service(request, response);
+        this.echoService.onEcho = () -> timeout(request);
+        this.tasks.get(0).run();
+
+        assertThat(this.echoService.calls).isEqualTo(2);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(this.servlet.getBufferPool().getIdleCount()).isEqualTo(idleBuffers);
+    }
+
+    private static void timeout(AsyncRequest request) {
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            try {
+                listener.onTimeout(new AsyncEvent(asyncContext));
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    public interface EchoService {
+
+        String echo(@JsonRpcParam("text") String text);
+
+    }
+
+    static class EchoServiceImpl implements EchoService {
+
+        private volatile Runnable onEcho = () -> { };
+
+        private volatile int calls;
+
+        @Override
+        public String echo(String text) {
+            this.calls++;
+            this.onEcho.run();
+            return text;
+        }
+
+    }
+
+    /**
+     * Request whose input stream delivers the body to its read listener in
+     * small chunks, declaring the given content length.
+     */
+    static class AsyncRequest extends MockHttpServletRequest {
+
+        private final byte[] body;
+
+        private final long contentLength;
+
+        AsyncRequest(String body, long contentLength) {
+            super("POST", "/jsonrpc");
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+            this.contentLength = contentLength;
+            setAsyncSupported(true);
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return this.contentLength;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, Math.min(len, 16));
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Response whose output stream is always ready for its write listener.
+     */
+    static class AsyncResponse extends MockHttpServletResponse {
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            ServletOutputStream output = super.getOutputStream();
+            return new ServletOutputStream() {
+
+                @Override
+                public void write(int b) throws IOException {
+                    output.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    output.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    try {
+                        writeListener.onWritePossible();
+                    } catch (IOException ex) {
+                        writeListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+    }
+
+}